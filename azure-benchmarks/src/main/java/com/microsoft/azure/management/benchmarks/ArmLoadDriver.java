@@ -0,0 +1,212 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.benchmarks;
+
+import com.microsoft.azure.AzureEnvironment;
+import com.microsoft.azure.credentials.AzureTokenCredentials;
+import com.microsoft.azure.management.Azure;
+import com.microsoft.azure.management.appservice.PricingTier;
+import com.microsoft.azure.management.compute.KnownLinuxVirtualMachineImage;
+import com.microsoft.azure.management.resources.fluentcore.arm.Region;
+import com.microsoft.azure.management.resources.fluentcore.utils.LatencyHistogram;
+import com.microsoft.azure.management.resources.fluentcore.utils.SdkContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs fluent workflows at high concurrency against an {@link ArmReplayServer} and reports their throughput
+ * and latency percentiles, to benchmark the SDK end to end without a subscription.
+ * <p>
+ * Run it from the azure-benchmarks folder after "mvn package", with optional "name=value" arguments, e.g.
+ * "java -cp target/benchmarks.jar com.microsoft.azure.management.benchmarks.ArmLoadDriver concurrency=64
+ * iterations=2000 latency=20-80 throttling=0.01 workflows=listResources,createVirtualMachine".
+ * <p>
+ * The SDK client is built by {@link Azure#configure()} with credentials pointing at the replay server, so the
+ * requests go through the same interceptors and throttling call adapter as against Azure: the throttled
+ * responses are paced and retried, and the recorded remaining quotas keep the rate governor in sync. The
+ * long running operations are not slowed down by their recorded "Retry-After" headers, which the replay
+ * server replaces by 0.
+ */
+public final class ArmLoadDriver {
+    private static final String TENANT_ID = "00000000-0000-0000-0000-000000000000";
+    private static final String SUBSCRIPTION_ID = "00000000-0000-0000-0000-000000000000";
+    private static final String[] MODULES = {
+        "azure-mgmt-resources", "azure-mgmt-compute", "azure-mgmt-network", "azure-mgmt-storage", "azure-mgmt-appservice"
+    };
+
+    /**
+     * The workflows the driver can run.
+     */
+    enum Workflow {
+        /** Lists the resource groups and the virtual machines of the subscription. */
+        LIST_RESOURCES("listResources") {
+            @Override
+            void run(Azure azure) {
+                azure.resourceGroups().list().loadAll();
+                azure.virtualMachines().list().loadAll();
+            }
+        },
+        /** Creates a Linux virtual machine with a new resource group and network. */
+        CREATE_VIRTUAL_MACHINE("createVirtualMachine") {
+            @Override
+            void run(Azure azure) {
+                azure.virtualMachines()
+                        .define(SdkContext.randomResourceName("vm", 15))
+                        .withRegion(Region.US_EAST)
+                        .withNewResourceGroup(SdkContext.randomResourceName("rg", 15))
+                        .withNewPrimaryNetwork("10.0.0.0/28")
+                        .withPrimaryPrivateIPAddressDynamic()
+                        .withoutPrimaryPublicIPAddress()
+                        .withPopularLinuxImage(KnownLinuxVirtualMachineImage.UBUNTU_SERVER_16_04_LTS)
+                        .withRootUsername("Foo12")
+                        .withRootPassword("abc!@#F0orL")
+                        .create();
+            }
+        },
+        /** Deploys a web app with a new resource group and App Service plan. */
+        DEPLOY_WEB_APP("deployWebApp") {
+            @Override
+            void run(Azure azure) {
+                azure.webApps()
+                        .define(SdkContext.randomResourceName("webapp", 20))
+                        .withRegion(Region.US_WEST)
+                        .withNewResourceGroup(SdkContext.randomResourceName("rg", 15))
+                        .withNewWindowsPlan(PricingTier.BASIC_B1)
+                        .create();
+            }
+        };
+
+        private final String argument;
+
+        Workflow(String argument) {
+            this.argument = argument;
+        }
+
+        abstract void run(Azure azure);
+
+        static Workflow fromArgument(String argument) {
+            for (Workflow workflow : values()) {
+                if (workflow.argument.equalsIgnoreCase(argument)) {
+                    return workflow;
+                }
+            }
+            throw new IllegalArgumentException("Unknown workflow " + argument);
+        }
+    }
+
+    private ArmLoadDriver() {
+    }
+
+    /**
+     * Runs the workflows.
+     *
+     * @param args the "name=value" options: concurrency (64), iterations per workflow (1000), latency of the
+     *             server in milliseconds as "min-max" (0-0), throttling ratio (0) and workflows (all)
+     * @throws Exception if the replay server cannot be started
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int index = arg.indexOf('=');
+            if (index <= 0) {
+                throw new IllegalArgumentException("Options are expected as name=value, got " + arg);
+            }
+            options.put(arg.substring(0, index).toLowerCase(Locale.ROOT), arg.substring(index + 1));
+        }
+        int concurrency = Integer.parseInt(option(options, "concurrency", "64"));
+        int iterations = Integer.parseInt(option(options, "iterations", "1000"));
+        String[] latency = option(options, "latency", "0-0").split("-");
+        double throttling = Double.parseDouble(option(options, "throttling", "0"));
+        List<Workflow> workflows = new ArrayList<>();
+        for (String workflow : option(options, "workflows", "listResources,createVirtualMachine,deployWebApp").split(",")) {
+            workflows.add(Workflow.fromArgument(workflow.trim()));
+        }
+
+        try (ArmReplayServer server = ArmReplayServer.fromModules(MODULES)
+                .withLatency(Integer.parseInt(latency[0]), Integer.parseInt(latency[latency.length - 1]))
+                .withThrottling(throttling, 1)
+                .start(0)) {
+            Azure azure = Azure.configure()
+                    .authenticate(credentials(server.baseUrl()))
+                    .withSubscription(SUBSCRIPTION_ID);
+            System.out.println(String.format("%-22s %10s %8s %10s %10s %10s %10s %10s %10s",
+                    "workflow", "iterations", "errors", "ops/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+            for (Workflow workflow : workflows) {
+                run(azure, workflow, concurrency, iterations);
+            }
+            System.out.println(String.format("requests: %d, throttled: %d, unmatched: %d",
+                    server.requestCount(), server.throttledCount(), server.unmatchedCount()));
+        }
+    }
+
+    private static void run(final Azure azure, final Workflow workflow, int concurrency, int iterations)
+            throws InterruptedException {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final AtomicInteger remaining = new AtomicInteger(iterations);
+        final AtomicLong errors = new AtomicLong();
+        final AtomicLong firstError = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        long start = System.nanoTime();
+        for (int i = 0; i < concurrency; i++) {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    while (remaining.getAndDecrement() > 0) {
+                        long iterationStart = System.nanoTime();
+                        try {
+                            workflow.run(azure);
+                            histogram.record(System.nanoTime() - iterationStart, TimeUnit.NANOSECONDS);
+                        } catch (RuntimeException e) {
+                            errors.incrementAndGet();
+                            if (firstError.compareAndSet(0, 1)) {
+                                System.err.println(workflow.argument + " failed: " + e);
+                            }
+                        }
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.DAYS);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.println(String.format("%-22s %10d %8d %10.1f %10.1f %10.1f %10.1f %10.1f %10.1f",
+                workflow.argument, iterations, errors.get(), histogram.count() / seconds,
+                histogram.percentileInMicros(50) / 1000.0,
+                histogram.percentileInMicros(90) / 1000.0,
+                histogram.percentileInMicros(99) / 1000.0,
+                histogram.percentileInMicros(99.9) / 1000.0,
+                histogram.maxInMicros() / 1000.0));
+    }
+
+    private static AzureTokenCredentials credentials(String baseUrl) {
+        Map<String, String> endpoints = new HashMap<>();
+        for (String endpoint : new String[] {"resourceManagerEndpointUrl", "managementEndpointUrl",
+                "activeDirectoryEndpointUrl", "activeDirectoryResourceId", "activeDirectoryGraphResourceId"}) {
+            endpoints.put(endpoint, baseUrl + "/");
+        }
+        return new AzureTokenCredentials(new AzureEnvironment(endpoints), TENANT_ID) {
+            @Override
+            public String getToken(String resource) {
+                return "replay";
+            }
+        };
+    }
+
+    private static String option(Map<String, String> options, String name, String defaultValue) {
+        String value = options.get(name);
+        return value == null ? defaultValue : value;
+    }
+}
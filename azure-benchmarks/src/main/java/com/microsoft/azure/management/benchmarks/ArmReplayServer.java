@@ -0,0 +1,386 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An embeddable HTTP server replaying the responses of the session-records recorded by the playback tests,
+ * so that fluent workflows can run at high concurrency without a subscription.
+ * <p>
+ * A request is matched by its method and path with query, and if no record has the exact same URL, by its
+ * method and route, i.e. the path with the resource names, subscription and query left out. The records of
+ * a key are replayed in order and in a loop, so a polled long running operation goes through its recorded
+ * states. The records are indexed in hash maps, requests are served concurrently and their responses are
+ * sent after a configurable latency without holding a thread, and a ratio of the requests can be answered
+ * with 429 to exercise the throttling handling of the SDK.
+ * <p>
+ * The recorded "Retry-After" headers are replaced by 0, so that polling a long running operation measures the
+ * SDK rather than the intervals of the recording; only the throttled responses ask to retry later.
+ */
+public final class ArmReplayServer implements Closeable {
+    private static final String RECORDED_BASE_URL = "http://localhost:1234";
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final byte[] THROTTLED_BODY = ("{\"error\":{\"code\":\"TooManyRequests\","
+            + "\"message\":\"The request is throttled by the replay server.\"}}").getBytes(UTF_8);
+    private static final byte[] NOT_FOUND_BODY = ("{\"error\":{\"code\":\"ReplayRecordNotFound\","
+            + "\"message\":\"No session record matches the request.\"}}").getBytes(UTF_8);
+
+    private final List<JsonNode> records;
+    private final Random random = new Random();
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong throttledCount = new AtomicLong();
+    private final AtomicLong unmatchedCount = new AtomicLong();
+    private int minLatencyInMillis;
+    private int maxLatencyInMillis;
+    private double throttlingRatio;
+    private int retryAfterInSeconds = 1;
+    private int workerThreads = Runtime.getRuntime().availableProcessors() * 4;
+
+    private Map<String, RecordedResponses> responsesByUrl;
+    private Map<String, RecordedResponses> responsesByRoute;
+    private HttpServer server;
+    private ExecutorService workers;
+    private ScheduledExecutorService timer;
+    private String baseUrl;
+
+    private ArmReplayServer(List<JsonNode> records) {
+        this.records = records;
+    }
+
+    /**
+     * Creates a server replaying the session-records of modules.
+     *
+     * @param modules the modules, e.g. "azure-mgmt-compute"
+     * @return the server, not started
+     */
+    public static ArmReplayServer fromModules(String... modules) {
+        List<JsonNode> records = new ArrayList<>();
+        for (String module : modules) {
+            records.addAll(SessionRecords.networkCallRecords(module));
+        }
+        return new ArmReplayServer(records);
+    }
+
+    /**
+     * Specifies the latency of the responses, uniformly distributed between the bounds.
+     *
+     * @param minInMillis the minimum latency in milliseconds
+     * @param maxInMillis the maximum latency in milliseconds
+     * @return the server itself
+     */
+    public ArmReplayServer withLatency(int minInMillis, int maxInMillis) {
+        if (minInMillis < 0 || maxInMillis < minInMillis) {
+            throw new IllegalArgumentException("The latency bounds must be positive and ordered.");
+        }
+        this.minLatencyInMillis = minInMillis;
+        this.maxLatencyInMillis = maxInMillis;
+        return this;
+    }
+
+    /**
+     * Specifies the ratio of the requests answered with 429.
+     *
+     * @param ratio the ratio of throttled requests, between 0 and 1
+     * @param retryAfterInSeconds the "Retry-After" header of the throttled responses
+     * @return the server itself
+     */
+    public ArmReplayServer withThrottling(double ratio, int retryAfterInSeconds) {
+        if (ratio < 0 || ratio > 1) {
+            throw new IllegalArgumentException("The throttling ratio must be between 0 and 1.");
+        }
+        this.throttlingRatio = ratio;
+        this.retryAfterInSeconds = retryAfterInSeconds;
+        return this;
+    }
+
+    /**
+     * Specifies the number of threads reading the requests, 4 per processor by default.
+     *
+     * @param workerThreads the number of threads
+     * @return the server itself
+     */
+    public ArmReplayServer withWorkerThreads(int workerThreads) {
+        this.workerThreads = workerThreads;
+        return this;
+    }
+
+    /**
+     * Starts the server on the loopback interface.
+     *
+     * @param port the port, 0 for any free port
+     * @return the server itself
+     * @throws IOException if the server cannot be started
+     */
+    public ArmReplayServer start(int port) throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("localhost", port), 1024);
+        this.baseUrl = "http://localhost:" + server.getAddress().getPort();
+        this.responsesByUrl = new HashMap<>();
+        this.responsesByRoute = new HashMap<>();
+        for (JsonNode record : records) {
+            RecordedResponse response = new RecordedResponse(record.path("Response"), baseUrl);
+            String method = record.path("Method").asText().toUpperCase(Locale.ROOT);
+            URI uri = URI.create(record.path("Uri").asText());
+            add(responsesByUrl, urlKey(method, uri.getRawPath(), uri.getRawQuery()), response);
+            add(responsesByRoute, routeKey(method, uri.getRawPath()), response);
+        }
+        this.workers = Executors.newFixedThreadPool(workerThreads);
+        this.timer = Executors.newSingleThreadScheduledExecutor();
+        server.setExecutor(workers);
+        server.createContext("/", new ReplayHandler());
+        server.start();
+        return this;
+    }
+
+    /**
+     * @return the base URL of the started server, to use as Azure Resource Manager endpoint
+     */
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * @return the number of requests received
+     */
+    public long requestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * @return the number of requests answered with 429
+     */
+    public long throttledCount() {
+        return throttledCount.get();
+    }
+
+    /**
+     * @return the number of requests no record matched, answered with 404
+     */
+    public long unmatchedCount() {
+        return unmatchedCount.get();
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+            timer.shutdownNow();
+            workers.shutdownNow();
+            server = null;
+        }
+    }
+
+    private static void add(Map<String, RecordedResponses> index, String key, RecordedResponse response) {
+        RecordedResponses responses = index.get(key);
+        if (responses == null) {
+            responses = new RecordedResponses();
+            index.put(key, responses);
+        }
+        responses.add(response);
+    }
+
+    private static String urlKey(String method, String path, String query) {
+        return method + " " + (path + "?" + query).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Gets the route of a request, e.g. "PUT /subscriptions/{}/resourcegroups/{}/providers/microsoft.compute/
+     * virtualmachines/{}" for the creation of any virtual machine in any resource group.
+     *
+     * @param method the method of the request
+     * @param path the path of the request
+     * @return the route key
+     */
+    static String routeKey(String method, String path) {
+        StringBuilder route = new StringBuilder(method).append(' ');
+        Iterator<String> segments = Arrays.asList(path.toLowerCase(Locale.ROOT).split("/")).iterator();
+        boolean isName = false;
+        while (segments.hasNext()) {
+            String segment = segments.next();
+            if (segment.isEmpty()) {
+                continue;
+            }
+            route.append('/');
+            if (isName) {
+                route.append("{}");
+                isName = false;
+            } else if ("providers".equals(segment) && segments.hasNext()) {
+                route.append(segment).append('/').append(segments.next());
+            } else {
+                route.append(segment);
+                isName = true;
+            }
+        }
+        return route.toString();
+    }
+
+    /**
+     * Serves a request, the response is sent by the timer after the latency.
+     */
+    private final class ReplayHandler implements HttpHandler {
+        @Override
+        public void handle(final HttpExchange exchange) throws IOException {
+            requestCount.incrementAndGet();
+            drain(exchange.getRequestBody());
+            final RecordedResponse response;
+            if (throttlingRatio > 0 && random.nextDouble() < throttlingRatio) {
+                throttledCount.incrementAndGet();
+                response = RecordedResponse.throttled(retryAfterInSeconds);
+            } else {
+                String method = exchange.getRequestMethod().toUpperCase(Locale.ROOT);
+                URI uri = exchange.getRequestURI();
+                RecordedResponses responses = responsesByUrl.get(urlKey(method, uri.getRawPath(), uri.getRawQuery()));
+                if (responses == null) {
+                    responses = responsesByRoute.get(routeKey(method, uri.getRawPath()));
+                }
+                if (responses == null) {
+                    unmatchedCount.incrementAndGet();
+                    response = RecordedResponse.notFound();
+                } else {
+                    response = responses.next();
+                }
+            }
+            int latency = minLatencyInMillis == maxLatencyInMillis
+                    ? minLatencyInMillis
+                    : minLatencyInMillis + random.nextInt(maxLatencyInMillis - minLatencyInMillis + 1);
+            if (latency == 0) {
+                response.send(exchange);
+            } else {
+                timer.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        workers.execute(new Runnable() {
+                            @Override
+                            public void run() {
+                                response.send(exchange);
+                            }
+                        });
+                    }
+                }, latency, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private void drain(InputStream body) throws IOException {
+            byte[] buffer = new byte[8192];
+            while (body.read(buffer) >= 0) {
+                // Discards the request body
+            }
+            body.close();
+        }
+    }
+
+    /**
+     * The recorded responses of a key, replayed in a loop.
+     */
+    private static final class RecordedResponses {
+        private final List<RecordedResponse> responses = new ArrayList<>();
+        private final AtomicInteger cursor = new AtomicInteger();
+
+        void add(RecordedResponse response) {
+            responses.add(response);
+        }
+
+        RecordedResponse next() {
+            return responses.get((cursor.getAndIncrement() & Integer.MAX_VALUE) % responses.size());
+        }
+    }
+
+    /**
+     * A response ready to be sent.
+     */
+    private static final class RecordedResponse {
+        private final int statusCode;
+        private final Map<String, String> headers;
+        private final byte[] body;
+
+        RecordedResponse(int statusCode, Map<String, String> headers, byte[] body) {
+            this.statusCode = statusCode;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        RecordedResponse(JsonNode recorded, String baseUrl) {
+            this.statusCode = recorded.path("StatusCode").asInt(200);
+            this.headers = new HashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = recorded.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                String name = field.getKey();
+                if ("StatusCode".equals(name) || "Body".equals(name)
+                        || "content-length".equalsIgnoreCase(name)
+                        || "content-encoding".equalsIgnoreCase(name)
+                        || "transfer-encoding".equalsIgnoreCase(name)
+                        || "retry-after".equalsIgnoreCase(name)) {
+                    continue;
+                }
+                headers.put(name, field.getValue().asText().replace(RECORDED_BASE_URL, baseUrl));
+            }
+            // As in playback, the recorded states of a long running operation are polled without waiting
+            headers.put("retry-after", "0");
+            JsonNode recordedBody = recorded.get("Body");
+            this.body = recordedBody == null
+                    ? new byte[0]
+                    : recordedBody.asText().replace(RECORDED_BASE_URL, baseUrl).getBytes(UTF_8);
+        }
+
+        static RecordedResponse throttled(int retryAfterInSeconds) {
+            Map<String, String> headers = new HashMap<>();
+            headers.put("content-type", "application/json; charset=utf-8");
+            headers.put("retry-after", String.valueOf(retryAfterInSeconds));
+            return new RecordedResponse(429, headers, THROTTLED_BODY);
+        }
+
+        static RecordedResponse notFound() {
+            Map<String, String> headers = new HashMap<>();
+            headers.put("content-type", "application/json; charset=utf-8");
+            return new RecordedResponse(404, headers, NOT_FOUND_BODY);
+        }
+
+        void send(HttpExchange exchange) {
+            try {
+                for (Map.Entry<String, String> header : headers.entrySet()) {
+                    exchange.getResponseHeaders().add(header.getKey(), header.getValue());
+                }
+                exchange.sendResponseHeaders(statusCode, body.length == 0 ? -1 : body.length);
+                if (body.length > 0) {
+                    OutputStream stream = exchange.getResponseBody();
+                    stream.write(body);
+                    stream.close();
+                }
+            } catch (IOException e) {
+                // The client went away, nothing to answer
+            } finally {
+                exchange.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.benchmarks;
+
+import com.microsoft.azure.AzureEnvironment;
+import com.microsoft.azure.AzureResponseBuilder;
+import com.microsoft.azure.credentials.ApplicationTokenCredentials;
+import com.microsoft.azure.management.Azure;
+import com.microsoft.azure.management.compute.VirtualMachines;
+import com.microsoft.azure.serializer.AzureJacksonAdapter;
+import com.microsoft.rest.RestClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the startup of the Azure entry point, from an authenticated REST client to the first
+ * collection of a single service. No request is sent.
+ * <p>
+ * The cold start benchmarks run once per fork, so that class loading and initialization are measured
+ * the way a short-lived process pays for them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AzureStartupBenchmarks {
+    private static final String TENANT_ID = "00000000-0000-0000-0000-000000000000";
+    private static final String SUBSCRIPTION_ID = "00000000-0000-0000-0000-000000000000";
+
+    private RestClient restClient;
+
+    /**
+     * Builds the REST client.
+     */
+    @Setup
+    public void setup() {
+        ApplicationTokenCredentials credentials = new ApplicationTokenCredentials(
+                "clientId", TENANT_ID, "secret", AzureEnvironment.AZURE);
+        this.restClient = new RestClient.Builder()
+                .withBaseUrl(credentials.environment(), AzureEnvironment.Endpoint.RESOURCE_MANAGER)
+                .withCredentials(credentials)
+                .withSerializerAdapter(new AzureJacksonAdapter())
+                .withResponseBuilderFactory(new AzureResponseBuilder.Factory())
+                .build();
+    }
+
+    /**
+     * @return the Azure entry point
+     */
+    @Benchmark
+    public Azure authenticate() {
+        return Azure.authenticate(restClient, TENANT_ID, SUBSCRIPTION_ID);
+    }
+
+    /**
+     * @return the virtual machines collection of a new Azure entry point
+     */
+    @Benchmark
+    public VirtualMachines authenticateAndGetVirtualMachines() {
+        return Azure.authenticate(restClient, TENANT_ID, SUBSCRIPTION_ID).virtualMachines();
+    }
+
+    /**
+     * @return the Azure entry point, created in a fresh JVM
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(20)
+    public Azure coldAuthenticate() {
+        return authenticate();
+    }
+
+    /**
+     * @return the virtual machines collection of an Azure entry point, created in a fresh JVM
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(20)
+    public VirtualMachines coldAuthenticateAndGetVirtualMachines() {
+        return authenticateAndGetVirtualMachines();
+    }
+}
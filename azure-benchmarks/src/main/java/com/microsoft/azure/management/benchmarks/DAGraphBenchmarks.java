@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.benchmarks;
+
+import com.microsoft.azure.management.resources.fluentcore.dag.DAGNode;
+import com.microsoft.azure.management.resources.fluentcore.dag.DAGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of building, preparing and enumerating the DAG backing a task group, as done for every
+ * create or update call with dependencies.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DAGraphBenchmarks {
+    /**
+     * The number of nodes in the graph.
+     */
+    @Param({ "10", "100", "1000", "10000" })
+    public int nodeCount;
+
+    /**
+     * The shape of the graph: "wide" is a root depending on all the other nodes, "deep" is a
+     * single dependency chain, "layered" is a chain of layers each with ten nodes depending on
+     * all the nodes of the previous layer.
+     */
+    @Param({ "wide", "deep", "layered" })
+    public String shape;
+
+    /**
+     * Builds the graph and prepares it for enumeration.
+     *
+     * @return the prepared graph
+     */
+    @Benchmark
+    public DAGraph<String, Node> buildAndPrepare() {
+        DAGraph<String, Node> graph = build();
+        graph.prepareForEnumeration();
+        return graph;
+    }
+
+    /**
+     * Builds the graph, prepares it and enumerates all the nodes in dependency order.
+     *
+     * @param blackhole the blackhole consuming the nodes
+     */
+    @Benchmark
+    public void buildPrepareAndEnumerate(Blackhole blackhole) {
+        DAGraph<String, Node> graph = build();
+        graph.prepareForEnumeration();
+        Node node = graph.getNext();
+        while (node != null) {
+            blackhole.consume(node);
+            graph.reportCompletion(node);
+            node = graph.getNext();
+        }
+    }
+
+    private DAGraph<String, Node> build() {
+        if ("deep".equals(shape)) {
+            DAGraph<String, Node> current = graph(0);
+            for (int i = 1; i < nodeCount; i++) {
+                DAGraph<String, Node> next = graph(i);
+                next.addDependencyGraph(current);
+                current = next;
+            }
+            return current;
+        } else if ("layered".equals(shape)) {
+            final int layerWidth = 10;
+            List<DAGraph<String, Node>> previous = new ArrayList<>();
+            int created = 0;
+            while (created < nodeCount - 1) {
+                List<DAGraph<String, Node>> layer = new ArrayList<>();
+                for (int i = 0; i < layerWidth && created < nodeCount - 1; i++) {
+                    DAGraph<String, Node> graph = graph(created++);
+                    for (DAGraph<String, Node> dependency : previous) {
+                        graph.addDependencyGraph(dependency);
+                    }
+                    layer.add(graph);
+                }
+                previous = layer;
+            }
+            DAGraph<String, Node> root = graph(created);
+            for (DAGraph<String, Node> dependency : previous) {
+                root.addDependencyGraph(dependency);
+            }
+            return root;
+        } else {
+            DAGraph<String, Node> root = graph(0);
+            for (int i = 1; i < nodeCount; i++) {
+                root.addDependencyGraph(graph(i));
+            }
+            return root;
+        }
+    }
+
+    private static DAGraph<String, Node> graph(int index) {
+        String key = "node" + index;
+        return new DAGraph<>(new Node(key, key));
+    }
+
+    /**
+     * A DAG node holding a string.
+     */
+    public static final class Node extends DAGNode<String, Node> {
+        Node(String key, String data) {
+            super(key, data);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.benchmarks;
+
+import com.microsoft.azure.management.compute.VirtualMachineSizeTypes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link com.microsoft.azure.management.resources.fluentcore.arm.ExpandableStringEnum}
+ * lookups, which happen for every enum-like property of every deserialized model.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpandableStringEnumBenchmarks {
+    private String[] knownNames;
+    private String[] upperCaseNames;
+    private int index;
+
+    /**
+     * Collects the names of the known values.
+     */
+    @Setup
+    public void setup() {
+        List<String> names = new ArrayList<>();
+        for (VirtualMachineSizeTypes value : VirtualMachineSizeTypes.values()) {
+            names.add(value.toString());
+        }
+        this.knownNames = names.toArray(new String[names.size()]);
+        this.upperCaseNames = new String[knownNames.length];
+        for (int i = 0; i < knownNames.length; i++) {
+            this.upperCaseNames[i] = knownNames[i].toUpperCase();
+        }
+    }
+
+    private int nextIndex() {
+        int current = index;
+        index = index + 1 == knownNames.length ? 0 : index + 1;
+        return current;
+    }
+
+    /**
+     * @return the value with the exact name
+     */
+    @Benchmark
+    public VirtualMachineSizeTypes fromStringExactCase() {
+        return VirtualMachineSizeTypes.fromString(knownNames[nextIndex()]);
+    }
+
+    /**
+     * @return the value with the name in a different case, as some services return it
+     */
+    @Benchmark
+    public VirtualMachineSizeTypes fromStringOtherCase() {
+        return VirtualMachineSizeTypes.fromString(upperCaseNames[nextIndex()]);
+    }
+}
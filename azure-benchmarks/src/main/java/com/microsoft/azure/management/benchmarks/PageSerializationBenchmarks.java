@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.benchmarks;
+
+import com.google.common.reflect.TypeToken;
+import com.microsoft.azure.management.compute.implementation.PageImpl1;
+import com.microsoft.azure.management.compute.implementation.VirtualMachineInner;
+import com.microsoft.azure.serializer.AzureJacksonAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the (de)serialization of list pages of virtual machines with the serializer adapter
+ * used by the management clients. The pages are built from the virtual machines recorded in the
+ * compute session-records.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageSerializationBenchmarks {
+    private static final Type PAGE_TYPE = new TypeToken<PageImpl1<VirtualMachineInner>>() { }.getType();
+
+    /**
+     * The number of virtual machines in the page.
+     */
+    @Param({ "1", "100", "1000" })
+    public int itemCount;
+
+    private AzureJacksonAdapter adapter;
+    private String pageJson;
+    private PageImpl1<VirtualMachineInner> page;
+
+    /**
+     * Builds the page from the session-records.
+     *
+     * @throws IOException if the page cannot be deserialized
+     */
+    @Setup
+    public void setup() throws IOException {
+        this.adapter = new AzureJacksonAdapter();
+        this.pageJson = SessionRecords.listPage("azure-mgmt-compute", "Microsoft.Compute/virtualMachines", itemCount);
+        this.page = adapter.deserialize(pageJson, PAGE_TYPE);
+    }
+
+    /**
+     * @return the deserialized page
+     * @throws IOException if the page cannot be deserialized
+     */
+    @Benchmark
+    public PageImpl1<VirtualMachineInner> deserializePage() throws IOException {
+        return adapter.deserialize(pageJson, PAGE_TYPE);
+    }
+
+    /**
+     * @return the serialized page
+     * @throws IOException if the page cannot be serialized
+     */
+    @Benchmark
+    public String serializePage() throws IOException {
+        return adapter.serialize(page);
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.benchmarks;
+
+import com.microsoft.azure.Page;
+import com.microsoft.azure.PagedList;
+import com.microsoft.azure.management.resources.fluentcore.utils.PagedListConverter;
+import com.microsoft.azure.management.resources.implementation.PageImpl;
+import com.microsoft.rest.RestException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import rx.Observable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link PagedListConverter}, which wraps every listed inner model into its fluent model.
+ * The source list is served from memory so only the conversion is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PagedListConverterBenchmarks {
+    /**
+     * The number of items in each page.
+     */
+    @Param({ "10", "100", "1000" })
+    public int pageSize;
+
+    /**
+     * The number of pages in the list.
+     */
+    @Param({ "1", "10" })
+    public int pageCount;
+
+    private List<String> items;
+    private PagedListConverter<String, Wrapper> converter;
+
+    /**
+     * Creates the converter and the page items.
+     */
+    @Setup
+    public void setup() {
+        this.items = new ArrayList<>();
+        for (int i = 0; i < pageSize; i++) {
+            this.items.add("item" + i);
+        }
+        this.converter = new PagedListConverter<String, Wrapper>() {
+            @Override
+            public Observable<Wrapper> typeConvertAsync(String inner) {
+                return Observable.just(new Wrapper(inner));
+            }
+        };
+    }
+
+    /**
+     * Converts only the first page, as listing a collection does.
+     *
+     * @return the converted list
+     */
+    @Benchmark
+    public PagedList<Wrapper> convertFirstPage() {
+        return converter.convert(sourceList());
+    }
+
+    /**
+     * Converts and iterates all the pages.
+     *
+     * @param blackhole the blackhole consuming the items
+     */
+    @Benchmark
+    public void convertAndIterate(Blackhole blackhole) {
+        for (Wrapper wrapper : converter.convert(sourceList())) {
+            blackhole.consume(wrapper);
+        }
+    }
+
+    private PagedList<String> sourceList() {
+        return new PagedList<String>(page(0)) {
+            @Override
+            public Page<String> nextPage(String nextPageLink) throws RestException, IOException {
+                return page(Integer.parseInt(nextPageLink));
+            }
+        };
+    }
+
+    private Page<String> page(int pageIndex) {
+        PageImpl<String> page = new PageImpl<>();
+        page.setItems(new ArrayList<>(items));
+        page.setNextPageLink(pageIndex + 1 < pageCount ? String.valueOf(pageIndex + 1) : null);
+        return page;
+    }
+
+    /**
+     * A stand-in for a fluent model wrapping an inner model.
+     */
+    public static final class Wrapper {
+        private final String inner;
+
+        Wrapper(String inner) {
+            this.inner = inner;
+        }
+
+        /**
+         * @return the wrapped inner model
+         */
+        public String inner() {
+            return inner;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.benchmarks;
+
+import com.microsoft.azure.management.resources.fluentcore.arm.ResourceId;
+import com.microsoft.azure.management.resources.fluentcore.arm.ResourceUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of resource id parsing, using the resource ids requested in the compute and network
+ * session-records.
+ * <p>
+ * These ids are few enough to stay in the cache of parsed ids, so most benchmarks measure cache hits. The cold
+ * benchmarks parse an id never seen before on each invocation, made unique by a counter appended to its name.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResourceIdBenchmarks {
+    private String[] ids;
+    private int index;
+    private long uniqueIdCount;
+
+    /**
+     * Loads the resource ids.
+     */
+    @Setup
+    public void setup() {
+        List<String> computeIds = SessionRecords.resourceIds("azure-mgmt-compute", 512);
+        List<String> networkIds = SessionRecords.resourceIds("azure-mgmt-network", 512);
+        computeIds.addAll(networkIds);
+        this.ids = computeIds.toArray(new String[computeIds.size()]);
+    }
+
+    private String nextId() {
+        String id = ids[index];
+        index = index + 1 == ids.length ? 0 : index + 1;
+        return id;
+    }
+
+    private String nextUniqueId() {
+        return nextId() + uniqueIdCount++;
+    }
+
+    /**
+     * @return the parsed resource id
+     */
+    @Benchmark
+    public ResourceId fromString() {
+        return ResourceId.fromString(nextId());
+    }
+
+    /**
+     * The cost of making the ids of the cold benchmarks unique, to subtract from their results.
+     *
+     * @return the unique id
+     */
+    @Benchmark
+    public String uniqueId() {
+        return nextUniqueId();
+    }
+
+    /**
+     * @return the parsed resource id, missing the cache of parsed ids
+     */
+    @Benchmark
+    public ResourceId fromStringCold() {
+        return ResourceId.fromString(nextUniqueId());
+    }
+
+    /**
+     * Parses a resource id missing the cache of parsed ids and reads all its parts.
+     *
+     * @param blackhole the blackhole consuming the parts
+     */
+    @Benchmark
+    public void fromStringAndPartsCold(Blackhole blackhole) {
+        ResourceId resourceId = ResourceId.fromString(nextUniqueId());
+        blackhole.consume(resourceId.subscriptionId());
+        blackhole.consume(resourceId.resourceGroupName());
+        blackhole.consume(resourceId.providerNamespace());
+        blackhole.consume(resourceId.fullResourceType());
+        blackhole.consume(resourceId.name());
+        blackhole.consume(resourceId.parent());
+    }
+
+    /**
+     * Parses a resource id and reads all its parts, as the fluent models do.
+     *
+     * @param blackhole the blackhole consuming the parts
+     */
+    @Benchmark
+    public void fromStringAndParts(Blackhole blackhole) {
+        ResourceId resourceId = ResourceId.fromString(nextId());
+        blackhole.consume(resourceId.subscriptionId());
+        blackhole.consume(resourceId.resourceGroupName());
+        blackhole.consume(resourceId.providerNamespace());
+        blackhole.consume(resourceId.fullResourceType());
+        blackhole.consume(resourceId.name());
+        blackhole.consume(resourceId.parent());
+    }
+
+    /**
+     * Calls the {@link ResourceUtils} helpers a fluent model typically calls on its id.
+     *
+     * @param blackhole the blackhole consuming the parts
+     */
+    @Benchmark
+    public void resourceUtils(Blackhole blackhole) {
+        String id = nextId();
+        blackhole.consume(ResourceUtils.subscriptionFromResourceId(id));
+        blackhole.consume(ResourceUtils.groupFromResourceId(id));
+        blackhole.consume(ResourceUtils.resourceProviderFromResourceId(id));
+        blackhole.consume(ResourceUtils.resourceTypeFromResourceId(id));
+        blackhole.consume(ResourceUtils.nameFromResourceId(id));
+        blackhole.consume(ResourceUtils.parentResourceIdFromResourceId(id));
+    }
+
+    /**
+     * @return the resource group name
+     */
+    @Benchmark
+    public String groupFromResourceId() {
+        return ResourceUtils.groupFromResourceId(nextId());
+    }
+
+    /**
+     * @return the resource name
+     */
+    @Benchmark
+    public String nameFromResourceId() {
+        return ResourceUtils.nameFromResourceId(nextId());
+    }
+}
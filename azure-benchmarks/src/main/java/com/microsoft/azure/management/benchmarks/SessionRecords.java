@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Loads canned responses from the session-records recorded by the playback tests of the modules,
+ * so that the benchmarks run against real Azure Resource Manager payloads.
+ * <p>
+ * The records are looked up under the repository root, which defaults to the parent of the working
+ * directory and can be changed with the "azure.benchmarks.root" system property.
+ */
+final class SessionRecords {
+    /**
+     * The system property holding the repository root.
+     */
+    static final String ROOT_PROPERTY = "azure.benchmarks.root";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private SessionRecords() {
+    }
+
+    /**
+     * Gets the network call records of all the session-records of a module.
+     *
+     * @param module the module, e.g. "azure-mgmt-compute"
+     * @return the network call records
+     */
+    static List<JsonNode> networkCallRecords(String module) {
+        File folder = new File(repositoryRoot(), module + "/src/test/resources/session-records");
+        File[] files = folder.listFiles();
+        if (files == null) {
+            throw new IllegalStateException("Session records not found in " + folder.getAbsolutePath()
+                    + ", set -D" + ROOT_PROPERTY + " to the repository root.");
+        }
+        Arrays.sort(files);
+        List<JsonNode> records = new ArrayList<>();
+        for (File file : files) {
+            if (!file.getName().endsWith(".json")) {
+                continue;
+            }
+            try {
+                for (JsonNode record : MAPPER.readTree(file).path("networkCallRecords")) {
+                    records.add(record);
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to read session record " + file.getAbsolutePath(), e);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Gets the distinct resource ids requested in the session-records of a module.
+     *
+     * @param module the module
+     * @param max the maximum number of ids to return
+     * @return the resource ids
+     */
+    static List<String> resourceIds(String module, int max) {
+        Set<String> ids = new LinkedHashSet<>();
+        for (JsonNode record : networkCallRecords(module)) {
+            String path = URI.create(record.path("Uri").asText()).getPath();
+            if (path == null || !path.contains("/providers/") || !path.startsWith("/subscriptions/")) {
+                continue;
+            }
+            // Only ids of the form /subscriptions/{s}/resourceGroups/{g}/providers/{ns}/{type}/{name}...
+            String[] segments = path.substring(1).split("/");
+            if (segments.length < 8 || segments.length % 2 == 1 || !"resourceGroups".equalsIgnoreCase(segments[2])) {
+                continue;
+            }
+            ids.add(path);
+            if (ids.size() >= max) {
+                break;
+            }
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("No resource ids found in the session records of " + module);
+        }
+        return new ArrayList<>(ids);
+    }
+
+    /**
+     * Builds a list page of the given size from the items of the list responses recorded for a
+     * resource type, items are repeated as needed to fill the page.
+     *
+     * @param module the module
+     * @param resourceTypePath the resource type path the list requests end with, e.g. "Microsoft.Compute/virtualMachines"
+     * @param itemCount the number of items in the page
+     * @return the page JSON, in the "value"/"nextLink" format returned by Azure Resource Manager
+     */
+    static String listPage(String module, String resourceTypePath, int itemCount) {
+        List<JsonNode> items = new ArrayList<>();
+        for (JsonNode record : networkCallRecords(module)) {
+            String path = URI.create(record.path("Uri").asText()).getPath();
+            if (!"GET".equals(record.path("Method").asText())
+                    || path == null
+                    || !path.endsWith(resourceTypePath)
+                    || !"200".equals(record.path("Response").path("StatusCode").asText())) {
+                continue;
+            }
+            try {
+                for (JsonNode item : MAPPER.readTree(record.path("Response").path("Body").asText()).path("value")) {
+                    items.add(item);
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to parse recorded response of " + path, e);
+            }
+        }
+        if (items.isEmpty()) {
+            throw new IllegalStateException("No list responses for " + resourceTypePath + " found in the session records of " + module);
+        }
+        ObjectNode page = MAPPER.createObjectNode();
+        ArrayNode value = page.putArray("value");
+        for (int i = 0; i < itemCount; i++) {
+            value.add(items.get(i % items.size()));
+        }
+        return page.toString();
+    }
+
+    private static File repositoryRoot() {
+        String root = System.getProperty(ROOT_PROPERTY);
+        if (root != null) {
+            return new File(root);
+        }
+        File current = new File("").getAbsoluteFile();
+        if (new File(current, "azure-mgmt-resources").isDirectory()) {
+            return current;
+        }
+        return current.getParentFile();
+    }
+}
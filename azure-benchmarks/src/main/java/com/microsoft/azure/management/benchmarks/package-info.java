@@ -0,0 +1,18 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT License. See License.txt in the project root for
+// license information.
+
+/**
+ * This package contains JMH benchmarks for the code paths that run on every management call.
+ * <p>
+ * Build the benchmarks jar with "mvn package" in the azure-benchmarks folder and run it from the
+ * same folder, e.g. "java -jar target/benchmarks.jar -prof gc" to also report allocation rates,
+ * or "java -jar target/benchmarks.jar ResourceIdBenchmarks -prof gc" to run a single suite.
+ * The benchmarks replay payloads from the session-records of the modules, pass
+ * "-Dazure.benchmarks.root=&lt;repository root&gt;" when running from a different folder.
+ * <p>
+ * The package also holds {@link com.microsoft.azure.management.benchmarks.ArmReplayServer}, a mock Azure
+ * Resource Manager serving the session-records, and {@link com.microsoft.azure.management.benchmarks.ArmLoadDriver},
+ * which runs fluent workflows against it at high concurrency and reports their throughput and tail latency.
+ */
+package com.microsoft.azure.management.benchmarks;
@@ -7,7 +7,6 @@
 package com.microsoft.azure.management.appservice.implementation;
 
 import com.microsoft.azure.AzureEnvironment;
-import com.microsoft.azure.AzureResponseBuilder;
 import com.microsoft.azure.credentials.AzureTokenCredentials;
 import com.microsoft.azure.management.apigeneration.Beta;
 import com.microsoft.azure.management.appservice.AppServiceCertificateOrders;
@@ -21,11 +20,17 @@ import com.microsoft.azure.management.keyvault.implementation.KeyVaultManager;
 import com.microsoft.azure.management.resources.fluentcore.arm.AzureConfigurable;
 import com.microsoft.azure.management.resources.fluentcore.arm.implementation.AzureConfigurableImpl;
 import com.microsoft.azure.management.resources.fluentcore.arm.implementation.Manager;
+import com.microsoft.azure.management.resources.fluentcore.utils.ConditionalRequestInterceptor;
 import com.microsoft.azure.management.resources.fluentcore.utils.ProviderRegistrationInterceptor;
-import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerThrottlingInterceptor;
+import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerMetricsInterceptor;
+import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerThrottlingCallAdapterFactory;
+import com.microsoft.azure.management.resources.fluentcore.utils.StreamingPageResponseBuilder;
 import com.microsoft.azure.management.storage.implementation.StorageManager;
 import com.microsoft.azure.serializer.AzureJacksonAdapter;
 import com.microsoft.rest.RestClient;
+import okhttp3.OkHttpClient;
+import retrofit2.Retrofit;
+import rx.Scheduler;
 
 /**
  * Entry point to Azure storage resource management.
@@ -62,13 +67,17 @@ public final class AppServiceManager extends Manager<AppServiceManager, WebSiteM
      * @return the StorageManager
      */
     public static AppServiceManager authenticate(AzureTokenCredentials credentials, String subscriptionId) {
-        return new AppServiceManager(new RestClient.Builder()
+        ResourceManagerThrottlingCallAdapterFactory throttling = new ResourceManagerThrottlingCallAdapterFactory();
+        return new AppServiceManager(new RestClient.Builder(new OkHttpClient.Builder(), new Retrofit.Builder()
+                        .addCallAdapterFactory(throttling))
                 .withBaseUrl(credentials.environment(), AzureEnvironment.Endpoint.RESOURCE_MANAGER)
                 .withCredentials(credentials)
                 .withSerializerAdapter(new AzureJacksonAdapter())
-                .withResponseBuilderFactory(new AzureResponseBuilder.Factory())
+                .withResponseBuilderFactory(new StreamingPageResponseBuilder.Factory())
+                .withInterceptor(new ResourceManagerMetricsInterceptor())
                 .withInterceptor(new ProviderRegistrationInterceptor(credentials))
-                .withInterceptor(new ResourceManagerThrottlingInterceptor())
+                .withInterceptor(throttling.interceptor())
+                .withInterceptor(new ConditionalRequestInterceptor())
                 .build(), credentials.domain(), subscriptionId);
     }
 
@@ -103,7 +112,7 @@ public final class AppServiceManager extends Manager<AppServiceManager, WebSiteM
      */
     private static final class ConfigurableImpl extends AzureConfigurableImpl<Configurable> implements Configurable {
         public AppServiceManager authenticate(AzureTokenCredentials credentials, String subscriptionId) {
-            return AppServiceManager.authenticate(buildRestClient(credentials), credentials.domain(), subscriptionId);
+            return configureManager(AppServiceManager.authenticate(buildRestClient(credentials), credentials.domain(), subscriptionId));
         }
     }
 
@@ -118,6 +127,13 @@ public final class AppServiceManager extends Manager<AppServiceManager, WebSiteM
         this.restClient = restClient;
     }
 
+    @Override
+    public void setRxScheduler(Scheduler rxScheduler) {
+        super.setRxScheduler(rxScheduler);
+        keyVaultManager.setRxScheduler(rxScheduler);
+        storageManager.setRxScheduler(rxScheduler);
+    }
+
     /**
      * @return the Graph RBAC manager instance.
      */
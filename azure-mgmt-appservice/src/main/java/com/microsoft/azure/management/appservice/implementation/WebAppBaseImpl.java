@@ -50,6 +50,7 @@ import com.microsoft.azure.management.resources.fluentcore.arm.models.implementa
 import com.microsoft.azure.management.resources.fluentcore.dag.FunctionalTaskItem;
 import com.microsoft.azure.management.resources.fluentcore.model.Creatable;
 import com.microsoft.azure.management.resources.fluentcore.model.Indexable;
+import com.microsoft.azure.management.resources.fluentcore.model.implementation.InnerChangeTracker;
 import com.microsoft.azure.management.resources.fluentcore.utils.SdkContext;
 import com.microsoft.azure.management.resources.fluentcore.utils.Utils;
 import com.microsoft.rest.RestException;
@@ -76,7 +77,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.concurrent.Callable;
 
 /**
  * The implementation for WebAppBase.
@@ -830,6 +830,12 @@ abstract class WebAppBaseImpl<
         }
     }
 
+    @Override
+    protected boolean tracksInnerChanges() {
+        // The site update only sends the properties changed by the update stages
+        return true;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public Observable<FluentT> createResourceAsync() {
@@ -845,6 +851,7 @@ abstract class WebAppBaseImpl<
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public Observable<FluentT> updateResourceAsync() {
         SiteInner siteInner = (SiteInner) this.inner();
         SitePatchResource siteUpdate = new SitePatchResource();
@@ -868,7 +875,18 @@ abstract class WebAppBaseImpl<
         siteUpdate.withRedundancyMode(siteInner.redundancyMode());
         siteUpdate.withGeoDistributions(siteInner.geoDistributions());
 
+        Set<String> changedProperties = changedInnerProperties();
+        if (changedProperties != null && this.webAppMsiHandler.hasPendingExternalIdentities()) {
+            changedProperties.add("identity");
+        }
         this.webAppMsiHandler.handleExternalIdentities(siteUpdate);
+        if (changedProperties != null) {
+            if (changedProperties.isEmpty()) {
+                // Only the post-run dependents, e.g. the site config and the app settings, have changes to submit
+                return Observable.just((FluentT) this);
+            }
+            siteUpdate = InnerChangeTracker.retainProperties(siteUpdate, changedProperties);
+        }
         return submitSite(siteUpdate).map(new Func1<SiteInner, FluentT>() {
             @Override
             public FluentT call(SiteInner siteInner) {
@@ -1126,16 +1144,10 @@ abstract class WebAppBaseImpl<
                         return createOrUpdateSourceControl(sourceControl.inner());
                     }
                 })
-                .delay(new Func1<SiteSourceControlInner, Observable<Long>>() {
+                .flatMap(new Func1<SiteSourceControlInner, Observable<SiteSourceControlInner>>() {
                     @Override
-                    public Observable<Long> call(SiteSourceControlInner siteSourceControlInner) {
-                        return Observable.fromCallable(new Callable<Long>() {
-                            @Override
-                            public Long call() throws Exception {
-                                SdkContext.sleep(30000);
-                                return 30000L;
-                            }
-                        });
+                    public Observable<SiteSourceControlInner> call(SiteSourceControlInner siteSourceControlInner) {
+                        return SdkContext.delayedEmitAsync(siteSourceControlInner, 30000);
                     }
                 })
                 .map(new Func1<SiteSourceControlInner, Indexable>() {
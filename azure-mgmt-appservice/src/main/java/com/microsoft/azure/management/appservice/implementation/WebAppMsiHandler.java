@@ -180,6 +180,13 @@ public class WebAppMsiHandler  extends RoleAssignmentHelper {
     }
 
 
+    /**
+     * @return true if user assigned identities are to be added to or removed from the web app
+     */
+    boolean hasPendingExternalIdentities() {
+        return !this.userAssignedIdentities.isEmpty();
+    }
+
     /**
      * Clear VirtualMachineMsiHandler post-run specific internal state.
      */
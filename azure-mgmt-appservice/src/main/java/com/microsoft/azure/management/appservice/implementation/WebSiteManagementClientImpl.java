@@ -170,182 +170,280 @@ public class WebSiteManagementClientImpl extends AzureServiceClient {
     /**
      * The AppServiceCertificateOrdersInner object to access its operations.
      */
-    private AppServiceCertificateOrdersInner appServiceCertificateOrders;
+    private volatile AppServiceCertificateOrdersInner appServiceCertificateOrders;
 
     /**
      * Gets the AppServiceCertificateOrdersInner object to access its operations.
      * @return the AppServiceCertificateOrdersInner object.
      */
     public AppServiceCertificateOrdersInner appServiceCertificateOrders() {
+        if (this.appServiceCertificateOrders == null) {
+            synchronized (this) {
+                if (this.appServiceCertificateOrders == null) {
+                    this.appServiceCertificateOrders = new AppServiceCertificateOrdersInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.appServiceCertificateOrders;
     }
 
     /**
      * The CertificateRegistrationProvidersInner object to access its operations.
      */
-    private CertificateRegistrationProvidersInner certificateRegistrationProviders;
+    private volatile CertificateRegistrationProvidersInner certificateRegistrationProviders;
 
     /**
      * Gets the CertificateRegistrationProvidersInner object to access its operations.
      * @return the CertificateRegistrationProvidersInner object.
      */
     public CertificateRegistrationProvidersInner certificateRegistrationProviders() {
+        if (this.certificateRegistrationProviders == null) {
+            synchronized (this) {
+                if (this.certificateRegistrationProviders == null) {
+                    this.certificateRegistrationProviders = new CertificateRegistrationProvidersInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.certificateRegistrationProviders;
     }
 
     /**
      * The DomainsInner object to access its operations.
      */
-    private DomainsInner domains;
+    private volatile DomainsInner domains;
 
     /**
      * Gets the DomainsInner object to access its operations.
      * @return the DomainsInner object.
      */
     public DomainsInner domains() {
+        if (this.domains == null) {
+            synchronized (this) {
+                if (this.domains == null) {
+                    this.domains = new DomainsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.domains;
     }
 
     /**
      * The TopLevelDomainsInner object to access its operations.
      */
-    private TopLevelDomainsInner topLevelDomains;
+    private volatile TopLevelDomainsInner topLevelDomains;
 
     /**
      * Gets the TopLevelDomainsInner object to access its operations.
      * @return the TopLevelDomainsInner object.
      */
     public TopLevelDomainsInner topLevelDomains() {
+        if (this.topLevelDomains == null) {
+            synchronized (this) {
+                if (this.topLevelDomains == null) {
+                    this.topLevelDomains = new TopLevelDomainsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.topLevelDomains;
     }
 
     /**
      * The DomainRegistrationProvidersInner object to access its operations.
      */
-    private DomainRegistrationProvidersInner domainRegistrationProviders;
+    private volatile DomainRegistrationProvidersInner domainRegistrationProviders;
 
     /**
      * Gets the DomainRegistrationProvidersInner object to access its operations.
      * @return the DomainRegistrationProvidersInner object.
      */
     public DomainRegistrationProvidersInner domainRegistrationProviders() {
+        if (this.domainRegistrationProviders == null) {
+            synchronized (this) {
+                if (this.domainRegistrationProviders == null) {
+                    this.domainRegistrationProviders = new DomainRegistrationProvidersInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.domainRegistrationProviders;
     }
 
     /**
      * The CertificatesInner object to access its operations.
      */
-    private CertificatesInner certificates;
+    private volatile CertificatesInner certificates;
 
     /**
      * Gets the CertificatesInner object to access its operations.
      * @return the CertificatesInner object.
      */
     public CertificatesInner certificates() {
+        if (this.certificates == null) {
+            synchronized (this) {
+                if (this.certificates == null) {
+                    this.certificates = new CertificatesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.certificates;
     }
 
     /**
      * The DeletedWebAppsInner object to access its operations.
      */
-    private DeletedWebAppsInner deletedWebApps;
+    private volatile DeletedWebAppsInner deletedWebApps;
 
     /**
      * Gets the DeletedWebAppsInner object to access its operations.
      * @return the DeletedWebAppsInner object.
      */
     public DeletedWebAppsInner deletedWebApps() {
+        if (this.deletedWebApps == null) {
+            synchronized (this) {
+                if (this.deletedWebApps == null) {
+                    this.deletedWebApps = new DeletedWebAppsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.deletedWebApps;
     }
 
     /**
      * The DiagnosticsInner object to access its operations.
      */
-    private DiagnosticsInner diagnostics;
+    private volatile DiagnosticsInner diagnostics;
 
     /**
      * Gets the DiagnosticsInner object to access its operations.
      * @return the DiagnosticsInner object.
      */
     public DiagnosticsInner diagnostics() {
+        if (this.diagnostics == null) {
+            synchronized (this) {
+                if (this.diagnostics == null) {
+                    this.diagnostics = new DiagnosticsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.diagnostics;
     }
 
     /**
      * The ProvidersInner object to access its operations.
      */
-    private ProvidersInner providers;
+    private volatile ProvidersInner providers;
 
     /**
      * Gets the ProvidersInner object to access its operations.
      * @return the ProvidersInner object.
      */
     public ProvidersInner providers() {
+        if (this.providers == null) {
+            synchronized (this) {
+                if (this.providers == null) {
+                    this.providers = new ProvidersInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.providers;
     }
 
     /**
      * The RecommendationsInner object to access its operations.
      */
-    private RecommendationsInner recommendations;
+    private volatile RecommendationsInner recommendations;
 
     /**
      * Gets the RecommendationsInner object to access its operations.
      * @return the RecommendationsInner object.
      */
     public RecommendationsInner recommendations() {
+        if (this.recommendations == null) {
+            synchronized (this) {
+                if (this.recommendations == null) {
+                    this.recommendations = new RecommendationsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.recommendations;
     }
 
     /**
      * The WebAppsInner object to access its operations.
      */
-    private WebAppsInner webApps;
+    private volatile WebAppsInner webApps;
 
     /**
      * Gets the WebAppsInner object to access its operations.
      * @return the WebAppsInner object.
      */
     public WebAppsInner webApps() {
+        if (this.webApps == null) {
+            synchronized (this) {
+                if (this.webApps == null) {
+                    this.webApps = new WebAppsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.webApps;
     }
 
     /**
      * The AppServiceEnvironmentsInner object to access its operations.
      */
-    private AppServiceEnvironmentsInner appServiceEnvironments;
+    private volatile AppServiceEnvironmentsInner appServiceEnvironments;
 
     /**
      * Gets the AppServiceEnvironmentsInner object to access its operations.
      * @return the AppServiceEnvironmentsInner object.
      */
     public AppServiceEnvironmentsInner appServiceEnvironments() {
+        if (this.appServiceEnvironments == null) {
+            synchronized (this) {
+                if (this.appServiceEnvironments == null) {
+                    this.appServiceEnvironments = new AppServiceEnvironmentsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.appServiceEnvironments;
     }
 
     /**
      * The AppServicePlansInner object to access its operations.
      */
-    private AppServicePlansInner appServicePlans;
+    private volatile AppServicePlansInner appServicePlans;
 
     /**
      * Gets the AppServicePlansInner object to access its operations.
      * @return the AppServicePlansInner object.
      */
     public AppServicePlansInner appServicePlans() {
+        if (this.appServicePlans == null) {
+            synchronized (this) {
+                if (this.appServicePlans == null) {
+                    this.appServicePlans = new AppServicePlansInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.appServicePlans;
     }
 
     /**
      * The ResourceHealthMetadatasInner object to access its operations.
      */
-    private ResourceHealthMetadatasInner resourceHealthMetadatas;
+    private volatile ResourceHealthMetadatasInner resourceHealthMetadatas;
 
     /**
      * Gets the ResourceHealthMetadatasInner object to access its operations.
      * @return the ResourceHealthMetadatasInner object.
      */
     public ResourceHealthMetadatasInner resourceHealthMetadatas() {
+        if (this.resourceHealthMetadatas == null) {
+            synchronized (this) {
+                if (this.resourceHealthMetadatas == null) {
+                    this.resourceHealthMetadatas = new ResourceHealthMetadatasInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.resourceHealthMetadatas;
     }
 
@@ -384,20 +482,6 @@ public class WebSiteManagementClientImpl extends AzureServiceClient {
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.appServiceCertificateOrders = new AppServiceCertificateOrdersInner(restClient().retrofit(), this);
-        this.certificateRegistrationProviders = new CertificateRegistrationProvidersInner(restClient().retrofit(), this);
-        this.domains = new DomainsInner(restClient().retrofit(), this);
-        this.topLevelDomains = new TopLevelDomainsInner(restClient().retrofit(), this);
-        this.domainRegistrationProviders = new DomainRegistrationProvidersInner(restClient().retrofit(), this);
-        this.certificates = new CertificatesInner(restClient().retrofit(), this);
-        this.deletedWebApps = new DeletedWebAppsInner(restClient().retrofit(), this);
-        this.diagnostics = new DiagnosticsInner(restClient().retrofit(), this);
-        this.providers = new ProvidersInner(restClient().retrofit(), this);
-        this.recommendations = new RecommendationsInner(restClient().retrofit(), this);
-        this.webApps = new WebAppsInner(restClient().retrofit(), this);
-        this.appServiceEnvironments = new AppServiceEnvironmentsInner(restClient().retrofit(), this);
-        this.appServicePlans = new AppServicePlansInner(restClient().retrofit(), this);
-        this.resourceHealthMetadatas = new ResourceHealthMetadatasInner(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
         initializeService();
     }
@@ -135,91 +135,140 @@ public class BatchManagementClientImpl extends AzureServiceClient {
     /**
      * The BatchAccountsInner object to access its operations.
      */
-    private BatchAccountsInner batchAccounts;
+    private volatile BatchAccountsInner batchAccounts;
 
     /**
      * Gets the BatchAccountsInner object to access its operations.
      * @return the BatchAccountsInner object.
      */
     public BatchAccountsInner batchAccounts() {
+        if (this.batchAccounts == null) {
+            synchronized (this) {
+                if (this.batchAccounts == null) {
+                    this.batchAccounts = new BatchAccountsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.batchAccounts;
     }
 
     /**
      * The ApplicationPackagesInner object to access its operations.
      */
-    private ApplicationPackagesInner applicationPackages;
+    private volatile ApplicationPackagesInner applicationPackages;
 
     /**
      * Gets the ApplicationPackagesInner object to access its operations.
      * @return the ApplicationPackagesInner object.
      */
     public ApplicationPackagesInner applicationPackages() {
+        if (this.applicationPackages == null) {
+            synchronized (this) {
+                if (this.applicationPackages == null) {
+                    this.applicationPackages = new ApplicationPackagesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.applicationPackages;
     }
 
     /**
      * The ApplicationsInner object to access its operations.
      */
-    private ApplicationsInner applications;
+    private volatile ApplicationsInner applications;
 
     /**
      * Gets the ApplicationsInner object to access its operations.
      * @return the ApplicationsInner object.
      */
     public ApplicationsInner applications() {
+        if (this.applications == null) {
+            synchronized (this) {
+                if (this.applications == null) {
+                    this.applications = new ApplicationsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.applications;
     }
 
     /**
      * The LocationsInner object to access its operations.
      */
-    private LocationsInner locations;
+    private volatile LocationsInner locations;
 
     /**
      * Gets the LocationsInner object to access its operations.
      * @return the LocationsInner object.
      */
     public LocationsInner locations() {
+        if (this.locations == null) {
+            synchronized (this) {
+                if (this.locations == null) {
+                    this.locations = new LocationsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.locations;
     }
 
     /**
      * The OperationsInner object to access its operations.
      */
-    private OperationsInner operations;
+    private volatile OperationsInner operations;
 
     /**
      * Gets the OperationsInner object to access its operations.
      * @return the OperationsInner object.
      */
     public OperationsInner operations() {
+        if (this.operations == null) {
+            synchronized (this) {
+                if (this.operations == null) {
+                    this.operations = new OperationsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.operations;
     }
 
     /**
      * The CertificatesInner object to access its operations.
      */
-    private CertificatesInner certificates;
+    private volatile CertificatesInner certificates;
 
     /**
      * Gets the CertificatesInner object to access its operations.
      * @return the CertificatesInner object.
      */
     public CertificatesInner certificates() {
+        if (this.certificates == null) {
+            synchronized (this) {
+                if (this.certificates == null) {
+                    this.certificates = new CertificatesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.certificates;
     }
 
     /**
      * The PoolsInner object to access its operations.
      */
-    private PoolsInner pools;
+    private volatile PoolsInner pools;
 
     /**
      * Gets the PoolsInner object to access its operations.
      * @return the PoolsInner object.
      */
     public PoolsInner pools() {
+        if (this.pools == null) {
+            synchronized (this) {
+                if (this.pools == null) {
+                    this.pools = new PoolsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.pools;
     }
 
@@ -258,13 +307,6 @@ public class BatchManagementClientImpl extends AzureServiceClient {
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.batchAccounts = new BatchAccountsInner(restClient().retrofit(), this);
-        this.applicationPackages = new ApplicationPackagesInner(restClient().retrofit(), this);
-        this.applications = new ApplicationsInner(restClient().retrofit(), this);
-        this.locations = new LocationsInner(restClient().retrofit(), this);
-        this.operations = new OperationsInner(restClient().retrofit(), this);
-        this.certificates = new CertificatesInner(restClient().retrofit(), this);
-        this.pools = new PoolsInner(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
     }
 
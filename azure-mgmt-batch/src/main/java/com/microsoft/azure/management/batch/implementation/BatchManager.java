@@ -7,17 +7,22 @@
 package com.microsoft.azure.management.batch.implementation;
 
 import com.microsoft.azure.AzureEnvironment;
-import com.microsoft.azure.AzureResponseBuilder;
 import com.microsoft.azure.credentials.AzureTokenCredentials;
 import com.microsoft.azure.management.batch.BatchAccounts;
 import com.microsoft.azure.management.resources.fluentcore.arm.AzureConfigurable;
 import com.microsoft.azure.management.resources.fluentcore.arm.implementation.AzureConfigurableImpl;
 import com.microsoft.azure.management.resources.fluentcore.arm.implementation.Manager;
+import com.microsoft.azure.management.resources.fluentcore.utils.ConditionalRequestInterceptor;
 import com.microsoft.azure.management.resources.fluentcore.utils.ProviderRegistrationInterceptor;
-import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerThrottlingInterceptor;
+import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerMetricsInterceptor;
+import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerThrottlingCallAdapterFactory;
+import com.microsoft.azure.management.resources.fluentcore.utils.StreamingPageResponseBuilder;
 import com.microsoft.azure.management.storage.implementation.StorageManager;
 import com.microsoft.azure.serializer.AzureJacksonAdapter;
 import com.microsoft.rest.RestClient;
+import okhttp3.OkHttpClient;
+import retrofit2.Retrofit;
+import rx.Scheduler;
 
 /**
  * Entry point to Azure Batch service management.
@@ -36,6 +41,12 @@ public class BatchManager extends Manager<BatchManager, BatchManagementClientImp
         storageManager = StorageManager.authenticate(restClient, subscriptionId);
     }
 
+    @Override
+    public void setRxScheduler(Scheduler rxScheduler) {
+        super.setRxScheduler(rxScheduler);
+        storageManager.setRxScheduler(rxScheduler);
+    }
+
     /**
      * Get a Configurable instance that can be used to create a BatchManager with optional configuration.
      *
@@ -53,13 +64,17 @@ public class BatchManager extends Manager<BatchManager, BatchManagementClientImp
      * @return the BatchManager
      */
     public static BatchManager authenticate(AzureTokenCredentials credentials, String subscriptionId) {
-        return new BatchManager(new RestClient.Builder()
+        ResourceManagerThrottlingCallAdapterFactory throttling = new ResourceManagerThrottlingCallAdapterFactory();
+        return new BatchManager(new RestClient.Builder(new OkHttpClient.Builder(), new Retrofit.Builder()
+                        .addCallAdapterFactory(throttling))
                 .withBaseUrl(credentials.environment(), AzureEnvironment.Endpoint.RESOURCE_MANAGER)
                 .withCredentials(credentials)
                 .withSerializerAdapter(new AzureJacksonAdapter())
-                .withResponseBuilderFactory(new AzureResponseBuilder.Factory())
+                .withResponseBuilderFactory(new StreamingPageResponseBuilder.Factory())
+                .withInterceptor(new ResourceManagerMetricsInterceptor())
                 .withInterceptor(new ProviderRegistrationInterceptor(credentials))
-                .withInterceptor(new ResourceManagerThrottlingInterceptor())
+                .withInterceptor(throttling.interceptor())
+                .withInterceptor(new ConditionalRequestInterceptor())
                 .build(), subscriptionId);
     }
 
@@ -94,7 +109,7 @@ public class BatchManager extends Manager<BatchManager, BatchManagementClientImp
     private static final class ConfigurableImpl extends AzureConfigurableImpl<Configurable> implements Configurable {
         @Override
         public BatchManager authenticate(AzureTokenCredentials credentials, String subscriptionId) {
-            return BatchManager.authenticate(buildRestClient(credentials), subscriptionId);
+            return configureManager(BatchManager.authenticate(buildRestClient(credentials), subscriptionId));
         }
     }
 
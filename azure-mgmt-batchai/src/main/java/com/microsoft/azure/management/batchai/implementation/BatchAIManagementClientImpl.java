@@ -135,91 +135,140 @@ public class BatchAIManagementClientImpl extends AzureServiceClient {
     /**
      * The OperationsInner object to access its operations.
      */
-    private OperationsInner operations;
+    private volatile OperationsInner operations;
 
     /**
      * Gets the OperationsInner object to access its operations.
      * @return the OperationsInner object.
      */
     public OperationsInner operations() {
+        if (this.operations == null) {
+            synchronized (this) {
+                if (this.operations == null) {
+                    this.operations = new OperationsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.operations;
     }
 
     /**
      * The UsagesInner object to access its operations.
      */
-    private UsagesInner usages;
+    private volatile UsagesInner usages;
 
     /**
      * Gets the UsagesInner object to access its operations.
      * @return the UsagesInner object.
      */
     public UsagesInner usages() {
+        if (this.usages == null) {
+            synchronized (this) {
+                if (this.usages == null) {
+                    this.usages = new UsagesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.usages;
     }
 
     /**
      * The WorkspacesInner object to access its operations.
      */
-    private WorkspacesInner workspaces;
+    private volatile WorkspacesInner workspaces;
 
     /**
      * Gets the WorkspacesInner object to access its operations.
      * @return the WorkspacesInner object.
      */
     public WorkspacesInner workspaces() {
+        if (this.workspaces == null) {
+            synchronized (this) {
+                if (this.workspaces == null) {
+                    this.workspaces = new WorkspacesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.workspaces;
     }
 
     /**
      * The ExperimentsInner object to access its operations.
      */
-    private ExperimentsInner experiments;
+    private volatile ExperimentsInner experiments;
 
     /**
      * Gets the ExperimentsInner object to access its operations.
      * @return the ExperimentsInner object.
      */
     public ExperimentsInner experiments() {
+        if (this.experiments == null) {
+            synchronized (this) {
+                if (this.experiments == null) {
+                    this.experiments = new ExperimentsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.experiments;
     }
 
     /**
      * The JobsInner object to access its operations.
      */
-    private JobsInner jobs;
+    private volatile JobsInner jobs;
 
     /**
      * Gets the JobsInner object to access its operations.
      * @return the JobsInner object.
      */
     public JobsInner jobs() {
+        if (this.jobs == null) {
+            synchronized (this) {
+                if (this.jobs == null) {
+                    this.jobs = new JobsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.jobs;
     }
 
     /**
      * The FileServersInner object to access its operations.
      */
-    private FileServersInner fileServers;
+    private volatile FileServersInner fileServers;
 
     /**
      * Gets the FileServersInner object to access its operations.
      * @return the FileServersInner object.
      */
     public FileServersInner fileServers() {
+        if (this.fileServers == null) {
+            synchronized (this) {
+                if (this.fileServers == null) {
+                    this.fileServers = new FileServersInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.fileServers;
     }
 
     /**
      * The ClustersInner object to access its operations.
      */
-    private ClustersInner clusters;
+    private volatile ClustersInner clusters;
 
     /**
      * Gets the ClustersInner object to access its operations.
      * @return the ClustersInner object.
      */
     public ClustersInner clusters() {
+        if (this.clusters == null) {
+            synchronized (this) {
+                if (this.clusters == null) {
+                    this.clusters = new ClustersInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.clusters;
     }
 
@@ -258,13 +307,6 @@ public class BatchAIManagementClientImpl extends AzureServiceClient {
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.operations = new OperationsInner(restClient().retrofit(), this);
-        this.usages = new UsagesInner(restClient().retrofit(), this);
-        this.workspaces = new WorkspacesInner(restClient().retrofit(), this);
-        this.experiments = new ExperimentsInner(restClient().retrofit(), this);
-        this.jobs = new JobsInner(restClient().retrofit(), this);
-        this.fileServers = new FileServersInner(restClient().retrofit(), this);
-        this.clusters = new ClustersInner(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
     }
 
@@ -155,91 +155,140 @@ public class CdnManagementClientImpl extends AzureServiceClient {
     /**
      * The ProfilesInner object to access its operations.
      */
-    private ProfilesInner profiles;
+    private volatile ProfilesInner profiles;
 
     /**
      * Gets the ProfilesInner object to access its operations.
      * @return the ProfilesInner object.
      */
     public ProfilesInner profiles() {
+        if (this.profiles == null) {
+            synchronized (this) {
+                if (this.profiles == null) {
+                    this.profiles = new ProfilesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.profiles;
     }
 
     /**
      * The EndpointsInner object to access its operations.
      */
-    private EndpointsInner endpoints;
+    private volatile EndpointsInner endpoints;
 
     /**
      * Gets the EndpointsInner object to access its operations.
      * @return the EndpointsInner object.
      */
     public EndpointsInner endpoints() {
+        if (this.endpoints == null) {
+            synchronized (this) {
+                if (this.endpoints == null) {
+                    this.endpoints = new EndpointsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.endpoints;
     }
 
     /**
      * The OriginsInner object to access its operations.
      */
-    private OriginsInner origins;
+    private volatile OriginsInner origins;
 
     /**
      * Gets the OriginsInner object to access its operations.
      * @return the OriginsInner object.
      */
     public OriginsInner origins() {
+        if (this.origins == null) {
+            synchronized (this) {
+                if (this.origins == null) {
+                    this.origins = new OriginsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.origins;
     }
 
     /**
      * The CustomDomainsInner object to access its operations.
      */
-    private CustomDomainsInner customDomains;
+    private volatile CustomDomainsInner customDomains;
 
     /**
      * Gets the CustomDomainsInner object to access its operations.
      * @return the CustomDomainsInner object.
      */
     public CustomDomainsInner customDomains() {
+        if (this.customDomains == null) {
+            synchronized (this) {
+                if (this.customDomains == null) {
+                    this.customDomains = new CustomDomainsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.customDomains;
     }
 
     /**
      * The ResourceUsagesInner object to access its operations.
      */
-    private ResourceUsagesInner resourceUsages;
+    private volatile ResourceUsagesInner resourceUsages;
 
     /**
      * Gets the ResourceUsagesInner object to access its operations.
      * @return the ResourceUsagesInner object.
      */
     public ResourceUsagesInner resourceUsages() {
+        if (this.resourceUsages == null) {
+            synchronized (this) {
+                if (this.resourceUsages == null) {
+                    this.resourceUsages = new ResourceUsagesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.resourceUsages;
     }
 
     /**
      * The OperationsInner object to access its operations.
      */
-    private OperationsInner operations;
+    private volatile OperationsInner operations;
 
     /**
      * Gets the OperationsInner object to access its operations.
      * @return the OperationsInner object.
      */
     public OperationsInner operations() {
+        if (this.operations == null) {
+            synchronized (this) {
+                if (this.operations == null) {
+                    this.operations = new OperationsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.operations;
     }
 
     /**
      * The EdgeNodesInner object to access its operations.
      */
-    private EdgeNodesInner edgeNodes;
+    private volatile EdgeNodesInner edgeNodes;
 
     /**
      * Gets the EdgeNodesInner object to access its operations.
      * @return the EdgeNodesInner object.
      */
     public EdgeNodesInner edgeNodes() {
+        if (this.edgeNodes == null) {
+            synchronized (this) {
+                if (this.edgeNodes == null) {
+                    this.edgeNodes = new EdgeNodesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.edgeNodes;
     }
 
@@ -278,13 +327,6 @@ public class CdnManagementClientImpl extends AzureServiceClient {
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.profiles = new ProfilesInner(restClient().retrofit(), this);
-        this.endpoints = new EndpointsInner(restClient().retrofit(), this);
-        this.origins = new OriginsInner(restClient().retrofit(), this);
-        this.customDomains = new CustomDomainsInner(restClient().retrofit(), this);
-        this.resourceUsages = new ResourceUsagesInner(restClient().retrofit(), this);
-        this.operations = new OperationsInner(restClient().retrofit(), this);
-        this.edgeNodes = new EdgeNodesInner(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
         initializeService();
     }
@@ -7,16 +7,20 @@
 package com.microsoft.azure.management.cdn.implementation;
 
 import com.microsoft.azure.AzureEnvironment;
-import com.microsoft.azure.AzureResponseBuilder;
 import com.microsoft.azure.credentials.AzureTokenCredentials;
 import com.microsoft.azure.management.cdn.CdnProfiles;
 import com.microsoft.azure.management.resources.fluentcore.arm.AzureConfigurable;
 import com.microsoft.azure.management.resources.fluentcore.arm.implementation.AzureConfigurableImpl;
 import com.microsoft.azure.management.resources.fluentcore.arm.implementation.Manager;
+import com.microsoft.azure.management.resources.fluentcore.utils.ConditionalRequestInterceptor;
 import com.microsoft.azure.management.resources.fluentcore.utils.ProviderRegistrationInterceptor;
-import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerThrottlingInterceptor;
+import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerMetricsInterceptor;
+import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerThrottlingCallAdapterFactory;
+import com.microsoft.azure.management.resources.fluentcore.utils.StreamingPageResponseBuilder;
 import com.microsoft.azure.serializer.AzureJacksonAdapter;
 import com.microsoft.rest.RestClient;
+import okhttp3.OkHttpClient;
+import retrofit2.Retrofit;
 
 /**
  * Entry point to Azure CDN management.
@@ -43,13 +47,17 @@ public final class CdnManager extends Manager<CdnManager, CdnManagementClientImp
      * @return the CDN Manager
      */
     public static CdnManager authenticate(AzureTokenCredentials credentials, String subscriptionId) {
-        return new CdnManager(new RestClient.Builder()
+        ResourceManagerThrottlingCallAdapterFactory throttling = new ResourceManagerThrottlingCallAdapterFactory();
+        return new CdnManager(new RestClient.Builder(new OkHttpClient.Builder(), new Retrofit.Builder()
+                        .addCallAdapterFactory(throttling))
                 .withBaseUrl(credentials.environment(), AzureEnvironment.Endpoint.RESOURCE_MANAGER)
                 .withCredentials(credentials)
                 .withSerializerAdapter(new AzureJacksonAdapter())
-                .withResponseBuilderFactory(new AzureResponseBuilder.Factory())
+                .withResponseBuilderFactory(new StreamingPageResponseBuilder.Factory())
+                .withInterceptor(new ResourceManagerMetricsInterceptor())
                 .withInterceptor(new ProviderRegistrationInterceptor(credentials))
-                .withInterceptor(new ResourceManagerThrottlingInterceptor())
+                .withInterceptor(throttling.interceptor())
+                .withInterceptor(new ConditionalRequestInterceptor())
                 .build(), subscriptionId);
     }
 
@@ -86,7 +94,7 @@ public final class CdnManager extends Manager<CdnManager, CdnManagementClientImp
             implements Configurable {
 
         public CdnManager authenticate(AzureTokenCredentials credentials, String subscriptionId) {
-            return CdnManager.authenticate(buildRestClient(credentials), subscriptionId);
+            return configureManager(CdnManager.authenticate(buildRestClient(credentials), subscriptionId));
         }
     }
 
@@ -123,286 +123,440 @@ public class ComputeManagementClientImpl extends AzureServiceClient {
     /**
      * The OperationsInner object to access its operations.
      */
-    private OperationsInner operations;
+    private volatile OperationsInner operations;
 
     /**
      * Gets the OperationsInner object to access its operations.
      * @return the OperationsInner object.
      */
     public OperationsInner operations() {
+        if (this.operations == null) {
+            synchronized (this) {
+                if (this.operations == null) {
+                    this.operations = new OperationsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.operations;
     }
 
     /**
      * The AvailabilitySetsInner object to access its operations.
      */
-    private AvailabilitySetsInner availabilitySets;
+    private volatile AvailabilitySetsInner availabilitySets;
 
     /**
      * Gets the AvailabilitySetsInner object to access its operations.
      * @return the AvailabilitySetsInner object.
      */
     public AvailabilitySetsInner availabilitySets() {
+        if (this.availabilitySets == null) {
+            synchronized (this) {
+                if (this.availabilitySets == null) {
+                    this.availabilitySets = new AvailabilitySetsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.availabilitySets;
     }
 
     /**
      * The VirtualMachineExtensionImagesInner object to access its operations.
      */
-    private VirtualMachineExtensionImagesInner virtualMachineExtensionImages;
+    private volatile VirtualMachineExtensionImagesInner virtualMachineExtensionImages;
 
     /**
      * Gets the VirtualMachineExtensionImagesInner object to access its operations.
      * @return the VirtualMachineExtensionImagesInner object.
      */
     public VirtualMachineExtensionImagesInner virtualMachineExtensionImages() {
+        if (this.virtualMachineExtensionImages == null) {
+            synchronized (this) {
+                if (this.virtualMachineExtensionImages == null) {
+                    this.virtualMachineExtensionImages = new VirtualMachineExtensionImagesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.virtualMachineExtensionImages;
     }
 
     /**
      * The VirtualMachineExtensionsInner object to access its operations.
      */
-    private VirtualMachineExtensionsInner virtualMachineExtensions;
+    private volatile VirtualMachineExtensionsInner virtualMachineExtensions;
 
     /**
      * Gets the VirtualMachineExtensionsInner object to access its operations.
      * @return the VirtualMachineExtensionsInner object.
      */
     public VirtualMachineExtensionsInner virtualMachineExtensions() {
+        if (this.virtualMachineExtensions == null) {
+            synchronized (this) {
+                if (this.virtualMachineExtensions == null) {
+                    this.virtualMachineExtensions = new VirtualMachineExtensionsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.virtualMachineExtensions;
     }
 
     /**
      * The VirtualMachineImagesInner object to access its operations.
      */
-    private VirtualMachineImagesInner virtualMachineImages;
+    private volatile VirtualMachineImagesInner virtualMachineImages;
 
     /**
      * Gets the VirtualMachineImagesInner object to access its operations.
      * @return the VirtualMachineImagesInner object.
      */
     public VirtualMachineImagesInner virtualMachineImages() {
+        if (this.virtualMachineImages == null) {
+            synchronized (this) {
+                if (this.virtualMachineImages == null) {
+                    this.virtualMachineImages = new VirtualMachineImagesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.virtualMachineImages;
     }
 
     /**
      * The UsagesInner object to access its operations.
      */
-    private UsagesInner usages;
+    private volatile UsagesInner usages;
 
     /**
      * Gets the UsagesInner object to access its operations.
      * @return the UsagesInner object.
      */
     public UsagesInner usages() {
+        if (this.usages == null) {
+            synchronized (this) {
+                if (this.usages == null) {
+                    this.usages = new UsagesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.usages;
     }
 
     /**
      * The VirtualMachinesInner object to access its operations.
      */
-    private VirtualMachinesInner virtualMachines;
+    private volatile VirtualMachinesInner virtualMachines;
 
     /**
      * Gets the VirtualMachinesInner object to access its operations.
      * @return the VirtualMachinesInner object.
      */
     public VirtualMachinesInner virtualMachines() {
+        if (this.virtualMachines == null) {
+            synchronized (this) {
+                if (this.virtualMachines == null) {
+                    this.virtualMachines = new VirtualMachinesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.virtualMachines;
     }
 
     /**
      * The VirtualMachineSizesInner object to access its operations.
      */
-    private VirtualMachineSizesInner virtualMachineSizes;
+    private volatile VirtualMachineSizesInner virtualMachineSizes;
 
     /**
      * Gets the VirtualMachineSizesInner object to access its operations.
      * @return the VirtualMachineSizesInner object.
      */
     public VirtualMachineSizesInner virtualMachineSizes() {
+        if (this.virtualMachineSizes == null) {
+            synchronized (this) {
+                if (this.virtualMachineSizes == null) {
+                    this.virtualMachineSizes = new VirtualMachineSizesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.virtualMachineSizes;
     }
 
     /**
      * The ImagesInner object to access its operations.
      */
-    private ImagesInner images;
+    private volatile ImagesInner images;
 
     /**
      * Gets the ImagesInner object to access its operations.
      * @return the ImagesInner object.
      */
     public ImagesInner images() {
+        if (this.images == null) {
+            synchronized (this) {
+                if (this.images == null) {
+                    this.images = new ImagesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.images;
     }
 
     /**
      * The VirtualMachineScaleSetsInner object to access its operations.
      */
-    private VirtualMachineScaleSetsInner virtualMachineScaleSets;
+    private volatile VirtualMachineScaleSetsInner virtualMachineScaleSets;
 
     /**
      * Gets the VirtualMachineScaleSetsInner object to access its operations.
      * @return the VirtualMachineScaleSetsInner object.
      */
     public VirtualMachineScaleSetsInner virtualMachineScaleSets() {
+        if (this.virtualMachineScaleSets == null) {
+            synchronized (this) {
+                if (this.virtualMachineScaleSets == null) {
+                    this.virtualMachineScaleSets = new VirtualMachineScaleSetsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.virtualMachineScaleSets;
     }
 
     /**
      * The VirtualMachineScaleSetExtensionsInner object to access its operations.
      */
-    private VirtualMachineScaleSetExtensionsInner virtualMachineScaleSetExtensions;
+    private volatile VirtualMachineScaleSetExtensionsInner virtualMachineScaleSetExtensions;
 
     /**
      * Gets the VirtualMachineScaleSetExtensionsInner object to access its operations.
      * @return the VirtualMachineScaleSetExtensionsInner object.
      */
     public VirtualMachineScaleSetExtensionsInner virtualMachineScaleSetExtensions() {
+        if (this.virtualMachineScaleSetExtensions == null) {
+            synchronized (this) {
+                if (this.virtualMachineScaleSetExtensions == null) {
+                    this.virtualMachineScaleSetExtensions = new VirtualMachineScaleSetExtensionsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.virtualMachineScaleSetExtensions;
     }
 
     /**
      * The VirtualMachineScaleSetRollingUpgradesInner object to access its operations.
      */
-    private VirtualMachineScaleSetRollingUpgradesInner virtualMachineScaleSetRollingUpgrades;
+    private volatile VirtualMachineScaleSetRollingUpgradesInner virtualMachineScaleSetRollingUpgrades;
 
     /**
      * Gets the VirtualMachineScaleSetRollingUpgradesInner object to access its operations.
      * @return the VirtualMachineScaleSetRollingUpgradesInner object.
      */
     public VirtualMachineScaleSetRollingUpgradesInner virtualMachineScaleSetRollingUpgrades() {
+        if (this.virtualMachineScaleSetRollingUpgrades == null) {
+            synchronized (this) {
+                if (this.virtualMachineScaleSetRollingUpgrades == null) {
+                    this.virtualMachineScaleSetRollingUpgrades = new VirtualMachineScaleSetRollingUpgradesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.virtualMachineScaleSetRollingUpgrades;
     }
 
     /**
      * The VirtualMachineScaleSetVMsInner object to access its operations.
      */
-    private VirtualMachineScaleSetVMsInner virtualMachineScaleSetVMs;
+    private volatile VirtualMachineScaleSetVMsInner virtualMachineScaleSetVMs;
 
     /**
      * Gets the VirtualMachineScaleSetVMsInner object to access its operations.
      * @return the VirtualMachineScaleSetVMsInner object.
      */
     public VirtualMachineScaleSetVMsInner virtualMachineScaleSetVMs() {
+        if (this.virtualMachineScaleSetVMs == null) {
+            synchronized (this) {
+                if (this.virtualMachineScaleSetVMs == null) {
+                    this.virtualMachineScaleSetVMs = new VirtualMachineScaleSetVMsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.virtualMachineScaleSetVMs;
     }
 
     /**
      * The LogAnalyticsInner object to access its operations.
      */
-    private LogAnalyticsInner logAnalytics;
+    private volatile LogAnalyticsInner logAnalytics;
 
     /**
      * Gets the LogAnalyticsInner object to access its operations.
      * @return the LogAnalyticsInner object.
      */
     public LogAnalyticsInner logAnalytics() {
+        if (this.logAnalytics == null) {
+            synchronized (this) {
+                if (this.logAnalytics == null) {
+                    this.logAnalytics = new LogAnalyticsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.logAnalytics;
     }
 
     /**
      * The VirtualMachineRunCommandsInner object to access its operations.
      */
-    private VirtualMachineRunCommandsInner virtualMachineRunCommands;
+    private volatile VirtualMachineRunCommandsInner virtualMachineRunCommands;
 
     /**
      * Gets the VirtualMachineRunCommandsInner object to access its operations.
      * @return the VirtualMachineRunCommandsInner object.
      */
     public VirtualMachineRunCommandsInner virtualMachineRunCommands() {
+        if (this.virtualMachineRunCommands == null) {
+            synchronized (this) {
+                if (this.virtualMachineRunCommands == null) {
+                    this.virtualMachineRunCommands = new VirtualMachineRunCommandsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.virtualMachineRunCommands;
     }
 
     /**
      * The ResourceSkusInner object to access its operations.
      */
-    private ResourceSkusInner resourceSkus;
+    private volatile ResourceSkusInner resourceSkus;
 
     /**
      * Gets the ResourceSkusInner object to access its operations.
      * @return the ResourceSkusInner object.
      */
     public ResourceSkusInner resourceSkus() {
+        if (this.resourceSkus == null) {
+            synchronized (this) {
+                if (this.resourceSkus == null) {
+                    this.resourceSkus = new ResourceSkusInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.resourceSkus;
     }
 
     /**
      * The DisksInner object to access its operations.
      */
-    private DisksInner disks;
+    private volatile DisksInner disks;
 
     /**
      * Gets the DisksInner object to access its operations.
      * @return the DisksInner object.
      */
     public DisksInner disks() {
+        if (this.disks == null) {
+            synchronized (this) {
+                if (this.disks == null) {
+                    this.disks = new DisksInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.disks;
     }
 
     /**
      * The SnapshotsInner object to access its operations.
      */
-    private SnapshotsInner snapshots;
+    private volatile SnapshotsInner snapshots;
 
     /**
      * Gets the SnapshotsInner object to access its operations.
      * @return the SnapshotsInner object.
      */
     public SnapshotsInner snapshots() {
+        if (this.snapshots == null) {
+            synchronized (this) {
+                if (this.snapshots == null) {
+                    this.snapshots = new SnapshotsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.snapshots;
     }
 
     /**
      * The GalleriesInner object to access its operations.
      */
-    private GalleriesInner galleries;
+    private volatile GalleriesInner galleries;
 
     /**
      * Gets the GalleriesInner object to access its operations.
      * @return the GalleriesInner object.
      */
     public GalleriesInner galleries() {
+        if (this.galleries == null) {
+            synchronized (this) {
+                if (this.galleries == null) {
+                    this.galleries = new GalleriesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.galleries;
     }
 
     /**
      * The GalleryImagesInner object to access its operations.
      */
-    private GalleryImagesInner galleryImages;
+    private volatile GalleryImagesInner galleryImages;
 
     /**
      * Gets the GalleryImagesInner object to access its operations.
      * @return the GalleryImagesInner object.
      */
     public GalleryImagesInner galleryImages() {
+        if (this.galleryImages == null) {
+            synchronized (this) {
+                if (this.galleryImages == null) {
+                    this.galleryImages = new GalleryImagesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.galleryImages;
     }
 
     /**
      * The GalleryImageVersionsInner object to access its operations.
      */
-    private GalleryImageVersionsInner galleryImageVersions;
+    private volatile GalleryImageVersionsInner galleryImageVersions;
 
     /**
      * Gets the GalleryImageVersionsInner object to access its operations.
      * @return the GalleryImageVersionsInner object.
      */
     public GalleryImageVersionsInner galleryImageVersions() {
+        if (this.galleryImageVersions == null) {
+            synchronized (this) {
+                if (this.galleryImageVersions == null) {
+                    this.galleryImageVersions = new GalleryImageVersionsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.galleryImageVersions;
     }
 
     /**
      * The ContainerServicesInner object to access its operations.
      */
-    private ContainerServicesInner containerServices;
+    private volatile ContainerServicesInner containerServices;
 
     /**
      * Gets the ContainerServicesInner object to access its operations.
      * @return the ContainerServicesInner object.
      */
     public ContainerServicesInner containerServices() {
+        if (this.containerServices == null) {
+            synchronized (this) {
+                if (this.containerServices == null) {
+                    this.containerServices = new ContainerServicesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.containerServices;
     }
 
@@ -440,28 +594,6 @@ public class ComputeManagementClientImpl extends AzureServiceClient {
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.operations = new OperationsInner(restClient().retrofit(), this);
-        this.availabilitySets = new AvailabilitySetsInner(restClient().retrofit(), this);
-        this.virtualMachineExtensionImages = new VirtualMachineExtensionImagesInner(restClient().retrofit(), this);
-        this.virtualMachineExtensions = new VirtualMachineExtensionsInner(restClient().retrofit(), this);
-        this.virtualMachineImages = new VirtualMachineImagesInner(restClient().retrofit(), this);
-        this.usages = new UsagesInner(restClient().retrofit(), this);
-        this.virtualMachines = new VirtualMachinesInner(restClient().retrofit(), this);
-        this.virtualMachineSizes = new VirtualMachineSizesInner(restClient().retrofit(), this);
-        this.images = new ImagesInner(restClient().retrofit(), this);
-        this.virtualMachineScaleSets = new VirtualMachineScaleSetsInner(restClient().retrofit(), this);
-        this.virtualMachineScaleSetExtensions = new VirtualMachineScaleSetExtensionsInner(restClient().retrofit(), this);
-        this.virtualMachineScaleSetRollingUpgrades = new VirtualMachineScaleSetRollingUpgradesInner(restClient().retrofit(), this);
-        this.virtualMachineScaleSetVMs = new VirtualMachineScaleSetVMsInner(restClient().retrofit(), this);
-        this.logAnalytics = new LogAnalyticsInner(restClient().retrofit(), this);
-        this.virtualMachineRunCommands = new VirtualMachineRunCommandsInner(restClient().retrofit(), this);
-        this.resourceSkus = new ResourceSkusInner(restClient().retrofit(), this);
-        this.disks = new DisksInner(restClient().retrofit(), this);
-        this.snapshots = new SnapshotsInner(restClient().retrofit(), this);
-        this.galleries = new GalleriesInner(restClient().retrofit(), this);
-        this.galleryImages = new GalleryImagesInner(restClient().retrofit(), this);
-        this.galleryImageVersions = new GalleryImageVersionsInner(restClient().retrofit(), this);
-        this.containerServices = new ContainerServicesInner(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
     }
 
@@ -7,7 +7,6 @@
 package com.microsoft.azure.management.compute.implementation;
 
 import com.microsoft.azure.AzureEnvironment;
-import com.microsoft.azure.AzureResponseBuilder;
 import com.microsoft.azure.credentials.AzureTokenCredentials;
 import com.microsoft.azure.management.apigeneration.Beta;
 import com.microsoft.azure.management.compute.AvailabilitySets;
@@ -28,11 +27,17 @@ import com.microsoft.azure.management.network.implementation.NetworkManager;
 import com.microsoft.azure.management.resources.fluentcore.arm.AzureConfigurable;
 import com.microsoft.azure.management.resources.fluentcore.arm.implementation.AzureConfigurableImpl;
 import com.microsoft.azure.management.resources.fluentcore.arm.implementation.Manager;
+import com.microsoft.azure.management.resources.fluentcore.utils.ConditionalRequestInterceptor;
 import com.microsoft.azure.management.resources.fluentcore.utils.ProviderRegistrationInterceptor;
-import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerThrottlingInterceptor;
+import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerMetricsInterceptor;
+import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerThrottlingCallAdapterFactory;
+import com.microsoft.azure.management.resources.fluentcore.utils.StreamingPageResponseBuilder;
 import com.microsoft.azure.management.storage.implementation.StorageManager;
 import com.microsoft.azure.serializer.AzureJacksonAdapter;
 import com.microsoft.rest.RestClient;
+import okhttp3.OkHttpClient;
+import retrofit2.Retrofit;
+import rx.Scheduler;
 
 /**
  * Entry point to Azure compute resource management.
@@ -75,13 +80,17 @@ public final class ComputeManager extends Manager<ComputeManager, ComputeManagem
      * @return the ComputeManager
      */
     public static ComputeManager authenticate(AzureTokenCredentials credentials, String subscriptionId) {
-        return new ComputeManager(new RestClient.Builder()
+        ResourceManagerThrottlingCallAdapterFactory throttling = new ResourceManagerThrottlingCallAdapterFactory();
+        return new ComputeManager(new RestClient.Builder(new OkHttpClient.Builder(), new Retrofit.Builder()
+                        .addCallAdapterFactory(throttling))
                 .withBaseUrl(credentials.environment(), AzureEnvironment.Endpoint.RESOURCE_MANAGER)
                 .withCredentials(credentials)
                 .withSerializerAdapter(new AzureJacksonAdapter())
-                .withResponseBuilderFactory(new AzureResponseBuilder.Factory())
+                .withResponseBuilderFactory(new StreamingPageResponseBuilder.Factory())
+                .withInterceptor(new ResourceManagerMetricsInterceptor())
                 .withInterceptor(new ProviderRegistrationInterceptor(credentials))
-                .withInterceptor(new ResourceManagerThrottlingInterceptor())
+                .withInterceptor(throttling.interceptor())
+                .withInterceptor(new ConditionalRequestInterceptor())
                 .build(), subscriptionId);
     }
 
@@ -116,7 +125,7 @@ public final class ComputeManager extends Manager<ComputeManager, ComputeManagem
     private static final class ConfigurableImpl extends AzureConfigurableImpl<Configurable> implements  Configurable {
         @Override
         public ComputeManager authenticate(AzureTokenCredentials credentials, String subscriptionId) {
-            return ComputeManager.authenticate(buildRestClient(credentials), subscriptionId);
+            return configureManager(ComputeManager.authenticate(buildRestClient(credentials), subscriptionId));
         }
     }
 
@@ -130,6 +139,13 @@ public final class ComputeManager extends Manager<ComputeManager, ComputeManagem
         rbacManager = GraphRbacManager.authenticate(restClient, ((AzureTokenCredentials) (restClient.credentials())).domain());
     }
 
+    @Override
+    public void setRxScheduler(Scheduler rxScheduler) {
+        super.setRxScheduler(rxScheduler);
+        storageManager.setRxScheduler(rxScheduler);
+        networkManager.setRxScheduler(rxScheduler);
+    }
+
     /**
      * @return the availability set resource management API entry point
      */
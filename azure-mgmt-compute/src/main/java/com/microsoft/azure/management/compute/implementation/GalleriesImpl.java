@@ -12,6 +12,8 @@ import com.microsoft.azure.management.apigeneration.LangDefinition;
 import com.microsoft.azure.management.compute.Galleries;
 import com.microsoft.azure.management.compute.Gallery;
 import com.microsoft.azure.management.resources.fluentcore.arm.ResourceUtils;
+import com.microsoft.azure.management.resources.fluentcore.arm.collection.BulkDeletionResult;
+import com.microsoft.azure.management.resources.fluentcore.arm.collection.implementation.BulkDeletion;
 import com.microsoft.azure.management.resources.fluentcore.arm.collection.implementation.GroupableResourcesImpl;
 import com.microsoft.azure.management.resources.fluentcore.utils.RXMapper;
 import rx.Completable;
@@ -21,6 +23,7 @@ import rx.functions.Func1;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * The implementation for Galleries.
@@ -58,6 +61,21 @@ class GalleriesImpl extends GroupableResourcesImpl<Gallery, GalleryImpl, Gallery
         return Observable.mergeDelayError(observables);
     }
 
+    @Override
+    public Observable<BulkDeletionResult> bulkDeleteByIdsAsync(Collection<String> ids, int maxConcurrency) {
+        return new BulkDeletion(new Func1<String, Completable>() {
+            @Override
+            public Completable call(String id) {
+                return deleteByIdAsync(id);
+            }
+        }).withMaxConcurrency(maxConcurrency).deleteAsync(ids);
+    }
+
+    @Override
+    public List<BulkDeletionResult> bulkDeleteByIds(Collection<String> ids, int maxConcurrency) {
+        return bulkDeleteByIdsAsync(ids, maxConcurrency).toList().toBlocking().single();
+    }
+
     @Override
     public Observable<String> deleteByIdsAsync(String...ids) {
         return this.deleteByIdsAsync(new ArrayList<String>(Arrays.asList(ids)));
@@ -68,6 +68,7 @@ import com.microsoft.azure.management.resources.fluentcore.arm.AvailabilityZoneI
 import com.microsoft.azure.management.resources.fluentcore.arm.ResourceUtils;
 import com.microsoft.azure.management.resources.fluentcore.arm.models.implementation.GroupableParentResourceImpl;
 import com.microsoft.azure.management.resources.fluentcore.model.Creatable;
+import com.microsoft.azure.management.resources.fluentcore.model.implementation.InnerChangeTracker;
 import com.microsoft.azure.management.resources.fluentcore.utils.PagedListConverter;
 import com.microsoft.azure.management.resources.fluentcore.utils.ResourceNamer;
 import com.microsoft.azure.management.resources.fluentcore.utils.SdkContext;
@@ -1486,6 +1487,12 @@ public class VirtualMachineScaleSetImpl
         this.virtualMachineScaleSetMsiHandler.clear();
     }
 
+    @Override
+    protected boolean tracksInnerChanges() {
+        // The scale set patch only sends the properties changed by the update stages
+        return true;
+    }
+
     @Override
     public Observable<VirtualMachineScaleSet> updateResourceAsync() {
         if (this.extensions.size() > 0) {
@@ -1512,8 +1519,22 @@ public class VirtualMachineScaleSetImpl
         //
         VirtualMachineScaleSetUpdate updateParameter = VMSSPatchPayload.preparePatchPayload(this);
         //
+        Set<String> changedProperties = changedInnerProperties();
+        if (changedProperties != null && this.virtualMachineScaleSetMsiHandler.hasPendingExternalIdentities()) {
+            changedProperties.add("identity");
+        }
         this.virtualMachineScaleSetMsiHandler.handleExternalIdentities(updateParameter);
         //
+        if (changedProperties != null) {
+            if (changedProperties.isEmpty()) {
+                this.clearCachedProperties();
+                this.initializeChildrenFromInner();
+                this.virtualMachineScaleSetMsiHandler.clear();
+                return Observable.<VirtualMachineScaleSet>just(this);
+            }
+            updateParameter = InnerChangeTracker.retainProperties(updateParameter, changedProperties);
+        }
+        //
         final VirtualMachineScaleSetImpl self = this;
         return this.manager().inner().virtualMachineScaleSets()
                 .updateAsync(resourceGroupName(), name(), updateParameter)
@@ -174,6 +174,13 @@ class VirtualMachineScaleSetMsiHandler extends RoleAssignmentHelper {
         }
     }
 
+    /**
+     * @return true if user assigned identities are to be added to or removed from the virtual machine scale set
+     */
+    boolean hasPendingExternalIdentities() {
+        return !this.userAssignedIdentities.isEmpty();
+    }
+
     /**
      * Clear VirtualMachineScaleSetMsiHandler post-run specific internal state.
      */
@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.compute;
+
+import com.microsoft.azure.AzureResponseBuilder;
+import com.microsoft.azure.management.compute.implementation.ComputeManager;
+import com.microsoft.azure.serializer.AzureJacksonAdapter;
+import com.microsoft.rest.RestClient;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.ResponseBody;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class VirtualMachineScaleSetUpdateTests {
+    private static final String SCALE_SET = "{"
+            + "\"id\":\"/subscriptions/sub/resourceGroups/rg/providers/Microsoft.Compute/virtualMachineScaleSets/vmss1\","
+            + "\"name\":\"vmss1\","
+            + "\"type\":\"Microsoft.Compute/virtualMachineScaleSets\","
+            + "\"location\":\"westus\","
+            + "\"tags\":{\"env\":\"test\"},"
+            + "\"sku\":{\"name\":\"Standard_A1\",\"tier\":\"Standard\",\"capacity\":2},"
+            + "\"properties\":{"
+            + "\"upgradePolicy\":{\"mode\":\"Manual\"},"
+            + "\"overprovision\":true,"
+            + "\"provisioningState\":\"Succeeded\","
+            + "\"virtualMachineProfile\":{"
+            + "\"osProfile\":{\"computerNamePrefix\":\"vmss1\",\"adminUsername\":\"azureuser\","
+            + "\"linuxConfiguration\":{\"disablePasswordAuthentication\":false}},"
+            + "\"storageProfile\":{"
+            + "\"imageReference\":{\"publisher\":\"Canonical\",\"offer\":\"UbuntuServer\",\"sku\":\"16.04-LTS\",\"version\":\"latest\"},"
+            + "\"osDisk\":{\"createOption\":\"FromImage\",\"caching\":\"ReadWrite\",\"managedDisk\":{\"storageAccountType\":\"Standard_LRS\"}},"
+            + "\"dataDisks\":[]},"
+            + "\"networkProfile\":{\"networkInterfaceConfigurations\":[{\"name\":\"primary-nic\",\"properties\":{"
+            + "\"primary\":true,\"ipConfigurations\":[{\"name\":\"primary-nic-ip\",\"properties\":{"
+            + "\"subnet\":{\"id\":\"/subscriptions/sub/resourceGroups/rg/providers/Microsoft.Network/virtualNetworks/vnet1/subnets/subnet1\"},"
+            + "\"loadBalancerBackendAddressPools\":[],\"loadBalancerInboundNatPools\":[]}}]}}]}}}}";
+
+    @Test
+    public void canSkipEmptyUpdate() {
+        final List<String> requests = new CopyOnWriteArrayList<>();
+        ComputeManager manager = ComputeManager.authenticate(new RestClient.Builder()
+                .withBaseUrl("https://management.azure.com/")
+                .withSerializerAdapter(new AzureJacksonAdapter())
+                .withResponseBuilderFactory(new AzureResponseBuilder.Factory())
+                .withInterceptor(new Interceptor() {
+                    @Override
+                    public okhttp3.Response intercept(Chain chain) throws IOException {
+                        requests.add(chain.request().method());
+                        return new okhttp3.Response.Builder()
+                                .request(chain.request())
+                                .protocol(Protocol.HTTP_1_1)
+                                .code(200)
+                                .message("")
+                                .body(ResponseBody.create(MediaType.parse("application/json"), SCALE_SET))
+                                .build();
+                    }
+                })
+                .build(), "sub");
+
+        VirtualMachineScaleSet scaleSet = manager.virtualMachineScaleSets().getByResourceGroup("rg", "vmss1");
+        Assert.assertEquals(Arrays.asList("GET"), requests);
+
+        VirtualMachineScaleSet updated = scaleSet.update().apply();
+
+        Assert.assertSame(scaleSet, updated);
+        Assert.assertEquals(Arrays.asList("GET"), requests);
+        Assert.assertEquals(2, updated.capacity());
+    }
+}
@@ -152,65 +152,100 @@ public class ContainerInstanceManagementClientImpl extends AzureServiceClient {
     /**
      * The ContainerGroupsInner object to access its operations.
      */
-    private ContainerGroupsInner containerGroups;
+    private volatile ContainerGroupsInner containerGroups;
 
     /**
      * Gets the ContainerGroupsInner object to access its operations.
      * @return the ContainerGroupsInner object.
      */
     public ContainerGroupsInner containerGroups() {
+        if (this.containerGroups == null) {
+            synchronized (this) {
+                if (this.containerGroups == null) {
+                    this.containerGroups = new ContainerGroupsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.containerGroups;
     }
 
     /**
      * The OperationsInner object to access its operations.
      */
-    private OperationsInner operations;
+    private volatile OperationsInner operations;
 
     /**
      * Gets the OperationsInner object to access its operations.
      * @return the OperationsInner object.
      */
     public OperationsInner operations() {
+        if (this.operations == null) {
+            synchronized (this) {
+                if (this.operations == null) {
+                    this.operations = new OperationsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.operations;
     }
 
     /**
      * The ContainerGroupUsagesInner object to access its operations.
      */
-    private ContainerGroupUsagesInner containerGroupUsages;
+    private volatile ContainerGroupUsagesInner containerGroupUsages;
 
     /**
      * Gets the ContainerGroupUsagesInner object to access its operations.
      * @return the ContainerGroupUsagesInner object.
      */
     public ContainerGroupUsagesInner containerGroupUsages() {
+        if (this.containerGroupUsages == null) {
+            synchronized (this) {
+                if (this.containerGroupUsages == null) {
+                    this.containerGroupUsages = new ContainerGroupUsagesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.containerGroupUsages;
     }
 
     /**
      * The ContainersInner object to access its operations.
      */
-    private ContainersInner containers;
+    private volatile ContainersInner containers;
 
     /**
      * Gets the ContainersInner object to access its operations.
      * @return the ContainersInner object.
      */
     public ContainersInner containers() {
+        if (this.containers == null) {
+            synchronized (this) {
+                if (this.containers == null) {
+                    this.containers = new ContainersInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.containers;
     }
 
     /**
      * The ServiceAssociationLinksInner object to access its operations.
      */
-    private ServiceAssociationLinksInner serviceAssociationLinks;
+    private volatile ServiceAssociationLinksInner serviceAssociationLinks;
 
     /**
      * Gets the ServiceAssociationLinksInner object to access its operations.
      * @return the ServiceAssociationLinksInner object.
      */
     public ServiceAssociationLinksInner serviceAssociationLinks() {
+        if (this.serviceAssociationLinks == null) {
+            synchronized (this) {
+                if (this.serviceAssociationLinks == null) {
+                    this.serviceAssociationLinks = new ServiceAssociationLinksInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.serviceAssociationLinks;
     }
 
@@ -249,11 +284,6 @@ public class ContainerInstanceManagementClientImpl extends AzureServiceClient {
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.containerGroups = new ContainerGroupsInner(restClient().retrofit(), this);
-        this.operations = new OperationsInner(restClient().retrofit(), this);
-        this.containerGroupUsages = new ContainerGroupUsagesInner(restClient().retrofit(), this);
-        this.containers = new ContainersInner(restClient().retrofit(), this);
-        this.serviceAssociationLinks = new ServiceAssociationLinksInner(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
         initializeService();
     }
@@ -7,7 +7,6 @@
 package com.microsoft.azure.management.containerinstance.implementation;
 
 import com.microsoft.azure.AzureEnvironment;
-import com.microsoft.azure.AzureResponseBuilder;
 import com.microsoft.azure.credentials.AzureTokenCredentials;
 import com.microsoft.azure.management.apigeneration.Beta;
 import com.microsoft.azure.management.apigeneration.Beta.SinceVersion;
@@ -17,11 +16,17 @@ import com.microsoft.azure.management.graphrbac.implementation.GraphRbacManager;
 import com.microsoft.azure.management.resources.fluentcore.arm.AzureConfigurable;
 import com.microsoft.azure.management.resources.fluentcore.arm.implementation.AzureConfigurableImpl;
 import com.microsoft.azure.management.resources.fluentcore.arm.implementation.Manager;
+import com.microsoft.azure.management.resources.fluentcore.utils.ConditionalRequestInterceptor;
 import com.microsoft.azure.management.resources.fluentcore.utils.ProviderRegistrationInterceptor;
-import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerThrottlingInterceptor;
+import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerMetricsInterceptor;
+import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerThrottlingCallAdapterFactory;
+import com.microsoft.azure.management.resources.fluentcore.utils.StreamingPageResponseBuilder;
 import com.microsoft.azure.management.storage.implementation.StorageManager;
 import com.microsoft.azure.serializer.AzureJacksonAdapter;
 import com.microsoft.rest.RestClient;
+import okhttp3.OkHttpClient;
+import retrofit2.Retrofit;
+import rx.Scheduler;
 
 /**
  * Entry point to Azure container instance management.
@@ -52,13 +57,17 @@ public final class ContainerInstanceManager extends Manager<ContainerInstanceMan
      * @return the ContainerInstanceManager
      */
     public static ContainerInstanceManager authenticate(AzureTokenCredentials credentials, String subscriptionId) {
-        return new ContainerInstanceManager(new RestClient.Builder()
+        ResourceManagerThrottlingCallAdapterFactory throttling = new ResourceManagerThrottlingCallAdapterFactory();
+        return new ContainerInstanceManager(new RestClient.Builder(new OkHttpClient.Builder(), new Retrofit.Builder()
+                    .addCallAdapterFactory(throttling))
             .withBaseUrl(credentials.environment(), AzureEnvironment.Endpoint.RESOURCE_MANAGER)
             .withCredentials(credentials)
             .withSerializerAdapter(new AzureJacksonAdapter())
-            .withResponseBuilderFactory(new AzureResponseBuilder.Factory())
+            .withResponseBuilderFactory(new StreamingPageResponseBuilder.Factory())
+            .withInterceptor(new ResourceManagerMetricsInterceptor())
             .withInterceptor(new ProviderRegistrationInterceptor(credentials))
-            .withInterceptor(new ResourceManagerThrottlingInterceptor())
+            .withInterceptor(throttling.interceptor())
+            .withInterceptor(new ConditionalRequestInterceptor())
             .build(), subscriptionId);
     }
 
@@ -93,7 +102,7 @@ public final class ContainerInstanceManager extends Manager<ContainerInstanceMan
     private static final class ConfigurableImpl extends AzureConfigurableImpl<Configurable> implements  Configurable {
         @Override
         public ContainerInstanceManager authenticate(AzureTokenCredentials credentials, String subscriptionId) {
-            return ContainerInstanceManager.authenticate(buildRestClient(credentials), subscriptionId);
+            return configureManager(ContainerInstanceManager.authenticate(buildRestClient(credentials), subscriptionId));
         }
     }
 
@@ -107,6 +116,12 @@ public final class ContainerInstanceManager extends Manager<ContainerInstanceMan
         this.rbacManager = GraphRbacManager.authenticate(restClient, ((AzureTokenCredentials) (restClient.credentials())).domain());
     }
 
+    @Override
+    public void setRxScheduler(Scheduler rxScheduler) {
+        super.setRxScheduler(rxScheduler);
+        storageManager.setRxScheduler(rxScheduler);
+    }
+
     /**
      * @return the resource management API entry point
      */
@@ -123,78 +123,120 @@ public class ContainerRegistryManagementClientImpl extends AzureServiceClient {
     /**
      * The RegistriesInner object to access its operations.
      */
-    private RegistriesInner registries;
+    private volatile RegistriesInner registries;
 
     /**
      * Gets the RegistriesInner object to access its operations.
      * @return the RegistriesInner object.
      */
     public RegistriesInner registries() {
+        if (this.registries == null) {
+            synchronized (this) {
+                if (this.registries == null) {
+                    this.registries = new RegistriesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.registries;
     }
 
     /**
      * The OperationsInner object to access its operations.
      */
-    private OperationsInner operations;
+    private volatile OperationsInner operations;
 
     /**
      * Gets the OperationsInner object to access its operations.
      * @return the OperationsInner object.
      */
     public OperationsInner operations() {
+        if (this.operations == null) {
+            synchronized (this) {
+                if (this.operations == null) {
+                    this.operations = new OperationsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.operations;
     }
 
     /**
      * The ReplicationsInner object to access its operations.
      */
-    private ReplicationsInner replications;
+    private volatile ReplicationsInner replications;
 
     /**
      * Gets the ReplicationsInner object to access its operations.
      * @return the ReplicationsInner object.
      */
     public ReplicationsInner replications() {
+        if (this.replications == null) {
+            synchronized (this) {
+                if (this.replications == null) {
+                    this.replications = new ReplicationsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.replications;
     }
 
     /**
      * The WebhooksInner object to access its operations.
      */
-    private WebhooksInner webhooks;
+    private volatile WebhooksInner webhooks;
 
     /**
      * Gets the WebhooksInner object to access its operations.
      * @return the WebhooksInner object.
      */
     public WebhooksInner webhooks() {
+        if (this.webhooks == null) {
+            synchronized (this) {
+                if (this.webhooks == null) {
+                    this.webhooks = new WebhooksInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.webhooks;
     }
 
     /**
      * The RunsInner object to access its operations.
      */
-    private RunsInner runs;
+    private volatile RunsInner runs;
 
     /**
      * Gets the RunsInner object to access its operations.
      * @return the RunsInner object.
      */
     public RunsInner runs() {
+        if (this.runs == null) {
+            synchronized (this) {
+                if (this.runs == null) {
+                    this.runs = new RunsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.runs;
     }
 
     /**
      * The TasksInner object to access its operations.
      */
-    private TasksInner tasks;
+    private volatile TasksInner tasks;
 
     /**
      * Gets the TasksInner object to access its operations.
      * @return the TasksInner object.
      */
     public TasksInner tasks() {
+        if (this.tasks == null) {
+            synchronized (this) {
+                if (this.tasks == null) {
+                    this.tasks = new TasksInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.tasks;
     }
 
@@ -232,12 +274,6 @@ public class ContainerRegistryManagementClientImpl extends AzureServiceClient {
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.registries = new RegistriesInner(restClient().retrofit(), this);
-        this.operations = new OperationsInner(restClient().retrofit(), this);
-        this.replications = new ReplicationsInner(restClient().retrofit(), this);
-        this.webhooks = new WebhooksInner(restClient().retrofit(), this);
-        this.runs = new RunsInner(restClient().retrofit(), this);
-        this.tasks = new TasksInner(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
     }
 
@@ -7,7 +7,6 @@
 package com.microsoft.azure.management.containerregistry.implementation;
 
 import com.microsoft.azure.AzureEnvironment;
-import com.microsoft.azure.AzureResponseBuilder;
 import com.microsoft.azure.credentials.AzureTokenCredentials;
 import com.microsoft.azure.management.apigeneration.Beta;
 import com.microsoft.azure.management.apigeneration.Beta.SinceVersion;
@@ -17,11 +16,17 @@ import com.microsoft.azure.management.containerregistry.RegistryTasks;
 import com.microsoft.azure.management.resources.fluentcore.arm.AzureConfigurable;
 import com.microsoft.azure.management.resources.fluentcore.arm.implementation.AzureConfigurableImpl;
 import com.microsoft.azure.management.resources.fluentcore.arm.implementation.Manager;
+import com.microsoft.azure.management.resources.fluentcore.utils.ConditionalRequestInterceptor;
 import com.microsoft.azure.management.resources.fluentcore.utils.ProviderRegistrationInterceptor;
-import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerThrottlingInterceptor;
+import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerMetricsInterceptor;
+import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerThrottlingCallAdapterFactory;
+import com.microsoft.azure.management.resources.fluentcore.utils.StreamingPageResponseBuilder;
 import com.microsoft.azure.management.storage.implementation.StorageManager;
 import com.microsoft.azure.serializer.AzureJacksonAdapter;
 import com.microsoft.rest.RestClient;
+import okhttp3.OkHttpClient;
+import retrofit2.Retrofit;
+import rx.Scheduler;
 
 /**
  * Entry point to Azure container registry management.
@@ -51,13 +56,17 @@ public final class ContainerRegistryManager extends Manager<ContainerRegistryMan
      * @return the ContainerRegistryManager
      */
     public static ContainerRegistryManager authenticate(AzureTokenCredentials credentials, String subscriptionId) {
-        return new ContainerRegistryManager(new RestClient.Builder()
+        ResourceManagerThrottlingCallAdapterFactory throttling = new ResourceManagerThrottlingCallAdapterFactory();
+        return new ContainerRegistryManager(new RestClient.Builder(new OkHttpClient.Builder(), new Retrofit.Builder()
+                        .addCallAdapterFactory(throttling))
                 .withBaseUrl(credentials.environment(), AzureEnvironment.Endpoint.RESOURCE_MANAGER)
                 .withCredentials(credentials)
                 .withSerializerAdapter(new AzureJacksonAdapter())
-                .withResponseBuilderFactory(new AzureResponseBuilder.Factory())
+                .withResponseBuilderFactory(new StreamingPageResponseBuilder.Factory())
+                .withInterceptor(new ResourceManagerMetricsInterceptor())
                 .withInterceptor(new ProviderRegistrationInterceptor(credentials))
-                .withInterceptor(new ResourceManagerThrottlingInterceptor())
+                .withInterceptor(throttling.interceptor())
+                .withInterceptor(new ConditionalRequestInterceptor())
                 .build(), subscriptionId);
     }
 
@@ -92,7 +101,7 @@ public final class ContainerRegistryManager extends Manager<ContainerRegistryMan
     private static final class ConfigurableImpl extends AzureConfigurableImpl<Configurable> implements  Configurable {
         @Override
         public ContainerRegistryManager authenticate(AzureTokenCredentials credentials, String subscriptionId) {
-            return ContainerRegistryManager.authenticate(buildRestClient(credentials), subscriptionId);
+            return configureManager(ContainerRegistryManager.authenticate(buildRestClient(credentials), subscriptionId));
         }
     }
 
@@ -111,6 +120,12 @@ public final class ContainerRegistryManager extends Manager<ContainerRegistryMan
         this.storageManager = StorageManager.authenticate(restClient, subscriptionId);
     }
 
+    @Override
+    public void setRxScheduler(Scheduler rxScheduler) {
+        super.setRxScheduler(rxScheduler);
+        storageManager.setRxScheduler(rxScheduler);
+    }
+
 
     /**
      * @return the availability set resource management API entry point
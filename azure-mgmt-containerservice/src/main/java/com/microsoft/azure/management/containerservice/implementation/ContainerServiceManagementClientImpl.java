@@ -123,39 +123,60 @@ public class ContainerServiceManagementClientImpl extends AzureServiceClient {
     /**
      * The ContainerServicesInner object to access its operations.
      */
-    private ContainerServicesInner containerServices;
+    private volatile ContainerServicesInner containerServices;
 
     /**
      * Gets the ContainerServicesInner object to access its operations.
      * @return the ContainerServicesInner object.
      */
     public ContainerServicesInner containerServices() {
+        if (this.containerServices == null) {
+            synchronized (this) {
+                if (this.containerServices == null) {
+                    this.containerServices = new ContainerServicesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.containerServices;
     }
 
     /**
      * The OperationsInner object to access its operations.
      */
-    private OperationsInner operations;
+    private volatile OperationsInner operations;
 
     /**
      * Gets the OperationsInner object to access its operations.
      * @return the OperationsInner object.
      */
     public OperationsInner operations() {
+        if (this.operations == null) {
+            synchronized (this) {
+                if (this.operations == null) {
+                    this.operations = new OperationsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.operations;
     }
 
     /**
      * The ManagedClustersInner object to access its operations.
      */
-    private ManagedClustersInner managedClusters;
+    private volatile ManagedClustersInner managedClusters;
 
     /**
      * Gets the ManagedClustersInner object to access its operations.
      * @return the ManagedClustersInner object.
      */
     public ManagedClustersInner managedClusters() {
+        if (this.managedClusters == null) {
+            synchronized (this) {
+                if (this.managedClusters == null) {
+                    this.managedClusters = new ManagedClustersInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.managedClusters;
     }
 
@@ -193,9 +214,6 @@ public class ContainerServiceManagementClientImpl extends AzureServiceClient {
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.containerServices = new ContainerServicesInner(restClient().retrofit(), this);
-        this.operations = new OperationsInner(restClient().retrofit(), this);
-        this.managedClusters = new ManagedClustersInner(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
     }
 
@@ -135,169 +135,260 @@ public class CosmosDBImpl extends AzureServiceClient {
     /**
      * The DatabaseAccountsInner object to access its operations.
      */
-    private DatabaseAccountsInner databaseAccounts;
+    private volatile DatabaseAccountsInner databaseAccounts;
 
     /**
      * Gets the DatabaseAccountsInner object to access its operations.
      * @return the DatabaseAccountsInner object.
      */
     public DatabaseAccountsInner databaseAccounts() {
+        if (this.databaseAccounts == null) {
+            synchronized (this) {
+                if (this.databaseAccounts == null) {
+                    this.databaseAccounts = new DatabaseAccountsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.databaseAccounts;
     }
 
     /**
      * The OperationsInner object to access its operations.
      */
-    private OperationsInner operations;
+    private volatile OperationsInner operations;
 
     /**
      * Gets the OperationsInner object to access its operations.
      * @return the OperationsInner object.
      */
     public OperationsInner operations() {
+        if (this.operations == null) {
+            synchronized (this) {
+                if (this.operations == null) {
+                    this.operations = new OperationsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.operations;
     }
 
     /**
      * The DatabasesInner object to access its operations.
      */
-    private DatabasesInner databases;
+    private volatile DatabasesInner databases;
 
     /**
      * Gets the DatabasesInner object to access its operations.
      * @return the DatabasesInner object.
      */
     public DatabasesInner databases() {
+        if (this.databases == null) {
+            synchronized (this) {
+                if (this.databases == null) {
+                    this.databases = new DatabasesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.databases;
     }
 
     /**
      * The CollectionsInner object to access its operations.
      */
-    private CollectionsInner collections;
+    private volatile CollectionsInner collections;
 
     /**
      * Gets the CollectionsInner object to access its operations.
      * @return the CollectionsInner object.
      */
     public CollectionsInner collections() {
+        if (this.collections == null) {
+            synchronized (this) {
+                if (this.collections == null) {
+                    this.collections = new CollectionsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.collections;
     }
 
     /**
      * The CollectionRegionsInner object to access its operations.
      */
-    private CollectionRegionsInner collectionRegions;
+    private volatile CollectionRegionsInner collectionRegions;
 
     /**
      * Gets the CollectionRegionsInner object to access its operations.
      * @return the CollectionRegionsInner object.
      */
     public CollectionRegionsInner collectionRegions() {
+        if (this.collectionRegions == null) {
+            synchronized (this) {
+                if (this.collectionRegions == null) {
+                    this.collectionRegions = new CollectionRegionsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.collectionRegions;
     }
 
     /**
      * The DatabaseAccountRegionsInner object to access its operations.
      */
-    private DatabaseAccountRegionsInner databaseAccountRegions;
+    private volatile DatabaseAccountRegionsInner databaseAccountRegions;
 
     /**
      * Gets the DatabaseAccountRegionsInner object to access its operations.
      * @return the DatabaseAccountRegionsInner object.
      */
     public DatabaseAccountRegionsInner databaseAccountRegions() {
+        if (this.databaseAccountRegions == null) {
+            synchronized (this) {
+                if (this.databaseAccountRegions == null) {
+                    this.databaseAccountRegions = new DatabaseAccountRegionsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.databaseAccountRegions;
     }
 
     /**
      * The PercentileSourceTargetsInner object to access its operations.
      */
-    private PercentileSourceTargetsInner percentileSourceTargets;
+    private volatile PercentileSourceTargetsInner percentileSourceTargets;
 
     /**
      * Gets the PercentileSourceTargetsInner object to access its operations.
      * @return the PercentileSourceTargetsInner object.
      */
     public PercentileSourceTargetsInner percentileSourceTargets() {
+        if (this.percentileSourceTargets == null) {
+            synchronized (this) {
+                if (this.percentileSourceTargets == null) {
+                    this.percentileSourceTargets = new PercentileSourceTargetsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.percentileSourceTargets;
     }
 
     /**
      * The PercentileTargetsInner object to access its operations.
      */
-    private PercentileTargetsInner percentileTargets;
+    private volatile PercentileTargetsInner percentileTargets;
 
     /**
      * Gets the PercentileTargetsInner object to access its operations.
      * @return the PercentileTargetsInner object.
      */
     public PercentileTargetsInner percentileTargets() {
+        if (this.percentileTargets == null) {
+            synchronized (this) {
+                if (this.percentileTargets == null) {
+                    this.percentileTargets = new PercentileTargetsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.percentileTargets;
     }
 
     /**
      * The PercentilesInner object to access its operations.
      */
-    private PercentilesInner percentiles;
+    private volatile PercentilesInner percentiles;
 
     /**
      * Gets the PercentilesInner object to access its operations.
      * @return the PercentilesInner object.
      */
     public PercentilesInner percentiles() {
+        if (this.percentiles == null) {
+            synchronized (this) {
+                if (this.percentiles == null) {
+                    this.percentiles = new PercentilesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.percentiles;
     }
 
     /**
      * The CollectionPartitionRegionsInner object to access its operations.
      */
-    private CollectionPartitionRegionsInner collectionPartitionRegions;
+    private volatile CollectionPartitionRegionsInner collectionPartitionRegions;
 
     /**
      * Gets the CollectionPartitionRegionsInner object to access its operations.
      * @return the CollectionPartitionRegionsInner object.
      */
     public CollectionPartitionRegionsInner collectionPartitionRegions() {
+        if (this.collectionPartitionRegions == null) {
+            synchronized (this) {
+                if (this.collectionPartitionRegions == null) {
+                    this.collectionPartitionRegions = new CollectionPartitionRegionsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.collectionPartitionRegions;
     }
 
     /**
      * The CollectionPartitionsInner object to access its operations.
      */
-    private CollectionPartitionsInner collectionPartitions;
+    private volatile CollectionPartitionsInner collectionPartitions;
 
     /**
      * Gets the CollectionPartitionsInner object to access its operations.
      * @return the CollectionPartitionsInner object.
      */
     public CollectionPartitionsInner collectionPartitions() {
+        if (this.collectionPartitions == null) {
+            synchronized (this) {
+                if (this.collectionPartitions == null) {
+                    this.collectionPartitions = new CollectionPartitionsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.collectionPartitions;
     }
 
     /**
      * The PartitionKeyRangeIdsInner object to access its operations.
      */
-    private PartitionKeyRangeIdsInner partitionKeyRangeIds;
+    private volatile PartitionKeyRangeIdsInner partitionKeyRangeIds;
 
     /**
      * Gets the PartitionKeyRangeIdsInner object to access its operations.
      * @return the PartitionKeyRangeIdsInner object.
      */
     public PartitionKeyRangeIdsInner partitionKeyRangeIds() {
+        if (this.partitionKeyRangeIds == null) {
+            synchronized (this) {
+                if (this.partitionKeyRangeIds == null) {
+                    this.partitionKeyRangeIds = new PartitionKeyRangeIdsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.partitionKeyRangeIds;
     }
 
     /**
      * The PartitionKeyRangeIdRegionsInner object to access its operations.
      */
-    private PartitionKeyRangeIdRegionsInner partitionKeyRangeIdRegions;
+    private volatile PartitionKeyRangeIdRegionsInner partitionKeyRangeIdRegions;
 
     /**
      * Gets the PartitionKeyRangeIdRegionsInner object to access its operations.
      * @return the PartitionKeyRangeIdRegionsInner object.
      */
     public PartitionKeyRangeIdRegionsInner partitionKeyRangeIdRegions() {
+        if (this.partitionKeyRangeIdRegions == null) {
+            synchronized (this) {
+                if (this.partitionKeyRangeIdRegions == null) {
+                    this.partitionKeyRangeIdRegions = new PartitionKeyRangeIdRegionsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.partitionKeyRangeIdRegions;
     }
 
@@ -336,19 +427,6 @@ public class CosmosDBImpl extends AzureServiceClient {
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.databaseAccounts = new DatabaseAccountsInner(restClient().retrofit(), this);
-        this.operations = new OperationsInner(restClient().retrofit(), this);
-        this.databases = new DatabasesInner(restClient().retrofit(), this);
-        this.collections = new CollectionsInner(restClient().retrofit(), this);
-        this.collectionRegions = new CollectionRegionsInner(restClient().retrofit(), this);
-        this.databaseAccountRegions = new DatabaseAccountRegionsInner(restClient().retrofit(), this);
-        this.percentileSourceTargets = new PercentileSourceTargetsInner(restClient().retrofit(), this);
-        this.percentileTargets = new PercentileTargetsInner(restClient().retrofit(), this);
-        this.percentiles = new PercentilesInner(restClient().retrofit(), this);
-        this.collectionPartitionRegions = new CollectionPartitionRegionsInner(restClient().retrofit(), this);
-        this.collectionPartitions = new CollectionPartitionsInner(restClient().retrofit(), this);
-        this.partitionKeyRangeIds = new PartitionKeyRangeIdsInner(restClient().retrofit(), this);
-        this.partitionKeyRangeIdRegions = new PartitionKeyRangeIdRegionsInner(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
     }
 
@@ -143,91 +143,140 @@ public class DataLakeAnalyticsAccountManagementClientImpl extends AzureServiceCl
     /**
      * The Accounts object to access its operations.
      */
-    private Accounts accounts;
+    private volatile Accounts accounts;
 
     /**
      * Gets the Accounts object to access its operations.
      * @return the Accounts object.
      */
     public Accounts accounts() {
+        if (this.accounts == null) {
+            synchronized (this) {
+                if (this.accounts == null) {
+                    this.accounts = new AccountsImpl(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.accounts;
     }
 
     /**
      * The DataLakeStoreAccounts object to access its operations.
      */
-    private DataLakeStoreAccounts dataLakeStoreAccounts;
+    private volatile DataLakeStoreAccounts dataLakeStoreAccounts;
 
     /**
      * Gets the DataLakeStoreAccounts object to access its operations.
      * @return the DataLakeStoreAccounts object.
      */
     public DataLakeStoreAccounts dataLakeStoreAccounts() {
+        if (this.dataLakeStoreAccounts == null) {
+            synchronized (this) {
+                if (this.dataLakeStoreAccounts == null) {
+                    this.dataLakeStoreAccounts = new DataLakeStoreAccountsImpl(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.dataLakeStoreAccounts;
     }
 
     /**
      * The StorageAccounts object to access its operations.
      */
-    private StorageAccounts storageAccounts;
+    private volatile StorageAccounts storageAccounts;
 
     /**
      * Gets the StorageAccounts object to access its operations.
      * @return the StorageAccounts object.
      */
     public StorageAccounts storageAccounts() {
+        if (this.storageAccounts == null) {
+            synchronized (this) {
+                if (this.storageAccounts == null) {
+                    this.storageAccounts = new StorageAccountsImpl(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.storageAccounts;
     }
 
     /**
      * The ComputePolicies object to access its operations.
      */
-    private ComputePolicies computePolicies;
+    private volatile ComputePolicies computePolicies;
 
     /**
      * Gets the ComputePolicies object to access its operations.
      * @return the ComputePolicies object.
      */
     public ComputePolicies computePolicies() {
+        if (this.computePolicies == null) {
+            synchronized (this) {
+                if (this.computePolicies == null) {
+                    this.computePolicies = new ComputePoliciesImpl(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.computePolicies;
     }
 
     /**
      * The FirewallRules object to access its operations.
      */
-    private FirewallRules firewallRules;
+    private volatile FirewallRules firewallRules;
 
     /**
      * Gets the FirewallRules object to access its operations.
      * @return the FirewallRules object.
      */
     public FirewallRules firewallRules() {
+        if (this.firewallRules == null) {
+            synchronized (this) {
+                if (this.firewallRules == null) {
+                    this.firewallRules = new FirewallRulesImpl(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.firewallRules;
     }
 
     /**
      * The Operations object to access its operations.
      */
-    private Operations operations;
+    private volatile Operations operations;
 
     /**
      * Gets the Operations object to access its operations.
      * @return the Operations object.
      */
     public Operations operations() {
+        if (this.operations == null) {
+            synchronized (this) {
+                if (this.operations == null) {
+                    this.operations = new OperationsImpl(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.operations;
     }
 
     /**
      * The Locations object to access its operations.
      */
-    private Locations locations;
+    private volatile Locations locations;
 
     /**
      * Gets the Locations object to access its operations.
      * @return the Locations object.
      */
     public Locations locations() {
+        if (this.locations == null) {
+            synchronized (this) {
+                if (this.locations == null) {
+                    this.locations = new LocationsImpl(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.locations;
     }
 
@@ -266,13 +315,6 @@ public class DataLakeAnalyticsAccountManagementClientImpl extends AzureServiceCl
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.accounts = new AccountsImpl(restClient().retrofit(), this);
-        this.dataLakeStoreAccounts = new DataLakeStoreAccountsImpl(restClient().retrofit(), this);
-        this.storageAccounts = new StorageAccountsImpl(restClient().retrofit(), this);
-        this.computePolicies = new ComputePoliciesImpl(restClient().retrofit(), this);
-        this.firewallRules = new FirewallRulesImpl(restClient().retrofit(), this);
-        this.operations = new OperationsImpl(restClient().retrofit(), this);
-        this.locations = new LocationsImpl(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
     }
 
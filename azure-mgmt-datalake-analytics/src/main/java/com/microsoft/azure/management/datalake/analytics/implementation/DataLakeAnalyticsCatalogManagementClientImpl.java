@@ -137,13 +137,20 @@ public class DataLakeAnalyticsCatalogManagementClientImpl extends AzureServiceCl
     /**
      * The Catalogs object to access its operations.
      */
-    private Catalogs catalogs;
+    private volatile Catalogs catalogs;
 
     /**
      * Gets the Catalogs object to access its operations.
      * @return the Catalogs object.
      */
     public Catalogs catalogs() {
+        if (this.catalogs == null) {
+            synchronized (this) {
+                if (this.catalogs == null) {
+                    this.catalogs = new CatalogsImpl(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.catalogs;
     }
 
@@ -183,7 +190,6 @@ public class DataLakeAnalyticsCatalogManagementClientImpl extends AzureServiceCl
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.catalogs = new CatalogsImpl(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
     }
 
@@ -139,39 +139,60 @@ public class DataLakeAnalyticsJobManagementClientImpl extends AzureServiceClient
     /**
      * The Jobs object to access its operations.
      */
-    private Jobs jobs;
+    private volatile Jobs jobs;
 
     /**
      * Gets the Jobs object to access its operations.
      * @return the Jobs object.
      */
     public Jobs jobs() {
+        if (this.jobs == null) {
+            synchronized (this) {
+                if (this.jobs == null) {
+                    this.jobs = new JobsImpl(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.jobs;
     }
 
     /**
      * The Pipelines object to access its operations.
      */
-    private Pipelines pipelines;
+    private volatile Pipelines pipelines;
 
     /**
      * Gets the Pipelines object to access its operations.
      * @return the Pipelines object.
      */
     public Pipelines pipelines() {
+        if (this.pipelines == null) {
+            synchronized (this) {
+                if (this.pipelines == null) {
+                    this.pipelines = new PipelinesImpl(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.pipelines;
     }
 
     /**
      * The Recurrences object to access its operations.
      */
-    private Recurrences recurrences;
+    private volatile Recurrences recurrences;
 
     /**
      * Gets the Recurrences object to access its operations.
      * @return the Recurrences object.
      */
     public Recurrences recurrences() {
+        if (this.recurrences == null) {
+            synchronized (this) {
+                if (this.recurrences == null) {
+                    this.recurrences = new RecurrencesImpl(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.recurrences;
     }
 
@@ -211,9 +232,6 @@ public class DataLakeAnalyticsJobManagementClientImpl extends AzureServiceClient
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.jobs = new JobsImpl(restClient().retrofit(), this);
-        this.pipelines = new PipelinesImpl(restClient().retrofit(), this);
-        this.recurrences = new RecurrencesImpl(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
     }
 
@@ -141,65 +141,100 @@ public class DataLakeStoreAccountManagementClientImpl extends AzureServiceClient
     /**
      * The Accounts object to access its operations.
      */
-    private Accounts accounts;
+    private volatile Accounts accounts;
 
     /**
      * Gets the Accounts object to access its operations.
      * @return the Accounts object.
      */
     public Accounts accounts() {
+        if (this.accounts == null) {
+            synchronized (this) {
+                if (this.accounts == null) {
+                    this.accounts = new AccountsImpl(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.accounts;
     }
 
     /**
      * The FirewallRules object to access its operations.
      */
-    private FirewallRules firewallRules;
+    private volatile FirewallRules firewallRules;
 
     /**
      * Gets the FirewallRules object to access its operations.
      * @return the FirewallRules object.
      */
     public FirewallRules firewallRules() {
+        if (this.firewallRules == null) {
+            synchronized (this) {
+                if (this.firewallRules == null) {
+                    this.firewallRules = new FirewallRulesImpl(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.firewallRules;
     }
 
     /**
      * The TrustedIdProviders object to access its operations.
      */
-    private TrustedIdProviders trustedIdProviders;
+    private volatile TrustedIdProviders trustedIdProviders;
 
     /**
      * Gets the TrustedIdProviders object to access its operations.
      * @return the TrustedIdProviders object.
      */
     public TrustedIdProviders trustedIdProviders() {
+        if (this.trustedIdProviders == null) {
+            synchronized (this) {
+                if (this.trustedIdProviders == null) {
+                    this.trustedIdProviders = new TrustedIdProvidersImpl(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.trustedIdProviders;
     }
 
     /**
      * The Operations object to access its operations.
      */
-    private Operations operations;
+    private volatile Operations operations;
 
     /**
      * Gets the Operations object to access its operations.
      * @return the Operations object.
      */
     public Operations operations() {
+        if (this.operations == null) {
+            synchronized (this) {
+                if (this.operations == null) {
+                    this.operations = new OperationsImpl(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.operations;
     }
 
     /**
      * The Locations object to access its operations.
      */
-    private Locations locations;
+    private volatile Locations locations;
 
     /**
      * Gets the Locations object to access its operations.
      * @return the Locations object.
      */
     public Locations locations() {
+        if (this.locations == null) {
+            synchronized (this) {
+                if (this.locations == null) {
+                    this.locations = new LocationsImpl(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.locations;
     }
 
@@ -238,11 +273,6 @@ public class DataLakeStoreAccountManagementClientImpl extends AzureServiceClient
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.accounts = new AccountsImpl(restClient().retrofit(), this);
-        this.firewallRules = new FirewallRulesImpl(restClient().retrofit(), this);
-        this.trustedIdProviders = new TrustedIdProvidersImpl(restClient().retrofit(), this);
-        this.operations = new OperationsImpl(restClient().retrofit(), this);
-        this.locations = new LocationsImpl(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
     }
 
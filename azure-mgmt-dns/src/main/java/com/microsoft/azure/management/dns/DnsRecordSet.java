@@ -10,6 +10,7 @@ import com.microsoft.azure.management.apigeneration.Fluent;
 import com.microsoft.azure.management.dns.implementation.RecordSetInner;
 import com.microsoft.azure.management.resources.fluentcore.arm.models.ExternalChildResource;
 import com.microsoft.azure.management.resources.fluentcore.model.Attachable;
+import com.microsoft.azure.management.resources.fluentcore.model.ConditionallyRefreshable;
 import com.microsoft.azure.management.resources.fluentcore.model.Settable;
 import com.microsoft.azure.management.resources.fluentcore.model.HasInner;
 
@@ -22,6 +23,7 @@ import java.util.Map;
 @Fluent
 public interface DnsRecordSet extends
     ExternalChildResource<DnsRecordSet, DnsZone>,
+    ConditionallyRefreshable,
     HasInner<RecordSetInner> {
 
     /**
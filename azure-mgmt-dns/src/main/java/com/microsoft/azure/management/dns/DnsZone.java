@@ -14,6 +14,7 @@ import com.microsoft.azure.management.dns.implementation.ZoneInner;
 import com.microsoft.azure.management.resources.fluentcore.arm.models.GroupableResource;
 import com.microsoft.azure.management.resources.fluentcore.arm.models.Resource;
 import com.microsoft.azure.management.resources.fluentcore.model.Appliable;
+import com.microsoft.azure.management.resources.fluentcore.model.ConditionallyRefreshable;
 import com.microsoft.azure.management.resources.fluentcore.model.Creatable;
 import com.microsoft.azure.management.resources.fluentcore.model.Refreshable;
 import com.microsoft.azure.management.resources.fluentcore.model.Updatable;
@@ -27,6 +28,7 @@ import java.util.List;
 public interface DnsZone extends
         GroupableResource<DnsZoneManager, ZoneInner>,
         Refreshable<DnsZone>,
+        ConditionallyRefreshable,
         Updatable<DnsZone.Update> {
     /**
      * @return the maximum number of record sets that can be created in this zone.
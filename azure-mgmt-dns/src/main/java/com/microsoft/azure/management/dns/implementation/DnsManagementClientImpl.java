@@ -135,26 +135,40 @@ public class DnsManagementClientImpl extends AzureServiceClient {
     /**
      * The RecordSetsInner object to access its operations.
      */
-    private RecordSetsInner recordSets;
+    private volatile RecordSetsInner recordSets;
 
     /**
      * Gets the RecordSetsInner object to access its operations.
      * @return the RecordSetsInner object.
      */
     public RecordSetsInner recordSets() {
+        if (this.recordSets == null) {
+            synchronized (this) {
+                if (this.recordSets == null) {
+                    this.recordSets = new RecordSetsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.recordSets;
     }
 
     /**
      * The ZonesInner object to access its operations.
      */
-    private ZonesInner zones;
+    private volatile ZonesInner zones;
 
     /**
      * Gets the ZonesInner object to access its operations.
      * @return the ZonesInner object.
      */
     public ZonesInner zones() {
+        if (this.zones == null) {
+            synchronized (this) {
+                if (this.zones == null) {
+                    this.zones = new ZonesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.zones;
     }
 
@@ -193,8 +207,6 @@ public class DnsManagementClientImpl extends AzureServiceClient {
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.recordSets = new RecordSetsInner(restClient().retrofit(), this);
-        this.zones = new ZonesInner(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
     }
 
@@ -20,6 +20,7 @@ import com.microsoft.azure.management.dns.RecordType;
 import com.microsoft.azure.management.dns.SrvRecord;
 import com.microsoft.azure.management.dns.TxtRecord;
 import com.microsoft.azure.management.resources.fluentcore.arm.models.implementation.ExternalChildResourceImpl;
+import com.microsoft.azure.management.resources.fluentcore.utils.ConditionalRequestInterceptor;
 import rx.Observable;
 import rx.functions.Func1;
 
@@ -374,6 +375,12 @@ class DnsRecordSetImpl extends ExternalChildResourceImpl<DnsRecordSet,
                 this.recordType());
     }
 
+    @Override
+    protected Observable<RecordSetInner> getInnerIfChangedAsync(String etag) {
+        return ConditionalRequestInterceptor.getIfNoneMatchAsync(this.parent().manager().inner(), this.inner().id(),
+                this.parent().manager().inner().apiVersion(), etag, RecordSetInner.class);
+    }
+
     private Observable<DnsRecordSet> createOrUpdateAsync(RecordSetInner resource) {
         final DnsRecordSetImpl self = this;
         return this.parent().manager().inner().recordSets().createOrUpdateAsync(this.parent().resourceGroupName(),
@@ -23,6 +23,7 @@ import com.microsoft.azure.management.dns.SubResource;
 import com.microsoft.azure.management.dns.TxtRecordSets;
 import com.microsoft.azure.management.dns.ZoneType;
 import com.microsoft.azure.management.resources.fluentcore.arm.models.implementation.GroupableResourceImpl;
+import com.microsoft.azure.management.resources.fluentcore.utils.ConditionalRequestInterceptor;
 import com.microsoft.azure.management.resources.fluentcore.utils.PagedListConverter;
 import com.microsoft.azure.management.resources.fluentcore.utils.Utils;
 import rx.Completable;
@@ -456,11 +457,30 @@ public class DnsZoneImpl
         });
     }
 
+    @Override
+    public Observable<Boolean> refreshIfChangedAsync() {
+        final DnsZoneImpl self = this;
+        return super.refreshIfChangedAsync().map(new Func1<Boolean, Boolean>() {
+            @Override
+            public Boolean call(Boolean changed) {
+                if (changed) {
+                    self.initRecordSets();
+                }
+                return changed;
+            }
+        });
+    }
+
     @Override
     protected Observable<ZoneInner> getInnerAsync() {
         return this.manager().inner().zones().getByResourceGroupAsync(this.resourceGroupName(), this.name());
     }
 
+    @Override
+    protected Observable<ZoneInner> getInnerIfChangedAsync(String etag) {
+        return ConditionalRequestInterceptor.getIfNoneMatchAsync(this.manager().inner(), this.id(), this.manager().inner().apiVersion(), etag, ZoneInner.class);
+    }
+
     private void initRecordSets() {
         this.aRecordSets = new ARecordSetsImpl(this);
         this.aaaaRecordSets = new AaaaRecordSetsImpl(this);
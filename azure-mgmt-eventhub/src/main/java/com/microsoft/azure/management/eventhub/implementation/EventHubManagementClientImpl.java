@@ -135,78 +135,120 @@ public class EventHubManagementClientImpl extends AzureServiceClient {
     /**
      * The OperationsInner object to access its operations.
      */
-    private OperationsInner operations;
+    private volatile OperationsInner operations;
 
     /**
      * Gets the OperationsInner object to access its operations.
      * @return the OperationsInner object.
      */
     public OperationsInner operations() {
+        if (this.operations == null) {
+            synchronized (this) {
+                if (this.operations == null) {
+                    this.operations = new OperationsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.operations;
     }
 
     /**
      * The NamespacesInner object to access its operations.
      */
-    private NamespacesInner namespaces;
+    private volatile NamespacesInner namespaces;
 
     /**
      * Gets the NamespacesInner object to access its operations.
      * @return the NamespacesInner object.
      */
     public NamespacesInner namespaces() {
+        if (this.namespaces == null) {
+            synchronized (this) {
+                if (this.namespaces == null) {
+                    this.namespaces = new NamespacesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.namespaces;
     }
 
     /**
      * The DisasterRecoveryConfigsInner object to access its operations.
      */
-    private DisasterRecoveryConfigsInner disasterRecoveryConfigs;
+    private volatile DisasterRecoveryConfigsInner disasterRecoveryConfigs;
 
     /**
      * Gets the DisasterRecoveryConfigsInner object to access its operations.
      * @return the DisasterRecoveryConfigsInner object.
      */
     public DisasterRecoveryConfigsInner disasterRecoveryConfigs() {
+        if (this.disasterRecoveryConfigs == null) {
+            synchronized (this) {
+                if (this.disasterRecoveryConfigs == null) {
+                    this.disasterRecoveryConfigs = new DisasterRecoveryConfigsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.disasterRecoveryConfigs;
     }
 
     /**
      * The EventHubsInner object to access its operations.
      */
-    private EventHubsInner eventHubs;
+    private volatile EventHubsInner eventHubs;
 
     /**
      * Gets the EventHubsInner object to access its operations.
      * @return the EventHubsInner object.
      */
     public EventHubsInner eventHubs() {
+        if (this.eventHubs == null) {
+            synchronized (this) {
+                if (this.eventHubs == null) {
+                    this.eventHubs = new EventHubsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.eventHubs;
     }
 
     /**
      * The ConsumerGroupsInner object to access its operations.
      */
-    private ConsumerGroupsInner consumerGroups;
+    private volatile ConsumerGroupsInner consumerGroups;
 
     /**
      * Gets the ConsumerGroupsInner object to access its operations.
      * @return the ConsumerGroupsInner object.
      */
     public ConsumerGroupsInner consumerGroups() {
+        if (this.consumerGroups == null) {
+            synchronized (this) {
+                if (this.consumerGroups == null) {
+                    this.consumerGroups = new ConsumerGroupsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.consumerGroups;
     }
 
     /**
      * The RegionsInner object to access its operations.
      */
-    private RegionsInner regions;
+    private volatile RegionsInner regions;
 
     /**
      * Gets the RegionsInner object to access its operations.
      * @return the RegionsInner object.
      */
     public RegionsInner regions() {
+        if (this.regions == null) {
+            synchronized (this) {
+                if (this.regions == null) {
+                    this.regions = new RegionsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.regions;
     }
 
@@ -245,12 +287,6 @@ public class EventHubManagementClientImpl extends AzureServiceClient {
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.operations = new OperationsInner(restClient().retrofit(), this);
-        this.namespaces = new NamespacesInner(restClient().retrofit(), this);
-        this.disasterRecoveryConfigs = new DisasterRecoveryConfigsInner(restClient().retrofit(), this);
-        this.eventHubs = new EventHubsInner(restClient().retrofit(), this);
-        this.consumerGroups = new ConsumerGroupsInner(restClient().retrofit(), this);
-        this.regions = new RegionsInner(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
     }
 
@@ -123,65 +123,100 @@ public class AuthorizationManagementClientImpl extends AzureServiceClient {
     /**
      * The ClassicAdministratorsInner object to access its operations.
      */
-    private ClassicAdministratorsInner classicAdministrators;
+    private volatile ClassicAdministratorsInner classicAdministrators;
 
     /**
      * Gets the ClassicAdministratorsInner object to access its operations.
      * @return the ClassicAdministratorsInner object.
      */
     public ClassicAdministratorsInner classicAdministrators() {
+        if (this.classicAdministrators == null) {
+            synchronized (this) {
+                if (this.classicAdministrators == null) {
+                    this.classicAdministrators = new ClassicAdministratorsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.classicAdministrators;
     }
 
     /**
      * The ProviderOperationsMetadatasInner object to access its operations.
      */
-    private ProviderOperationsMetadatasInner providerOperationsMetadatas;
+    private volatile ProviderOperationsMetadatasInner providerOperationsMetadatas;
 
     /**
      * Gets the ProviderOperationsMetadatasInner object to access its operations.
      * @return the ProviderOperationsMetadatasInner object.
      */
     public ProviderOperationsMetadatasInner providerOperationsMetadatas() {
+        if (this.providerOperationsMetadatas == null) {
+            synchronized (this) {
+                if (this.providerOperationsMetadatas == null) {
+                    this.providerOperationsMetadatas = new ProviderOperationsMetadatasInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.providerOperationsMetadatas;
     }
 
     /**
      * The PermissionsInner object to access its operations.
      */
-    private PermissionsInner permissions;
+    private volatile PermissionsInner permissions;
 
     /**
      * Gets the PermissionsInner object to access its operations.
      * @return the PermissionsInner object.
      */
     public PermissionsInner permissions() {
+        if (this.permissions == null) {
+            synchronized (this) {
+                if (this.permissions == null) {
+                    this.permissions = new PermissionsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.permissions;
     }
 
     /**
      * The RoleAssignmentsInner object to access its operations.
      */
-    private RoleAssignmentsInner roleAssignments;
+    private volatile RoleAssignmentsInner roleAssignments;
 
     /**
      * Gets the RoleAssignmentsInner object to access its operations.
      * @return the RoleAssignmentsInner object.
      */
     public RoleAssignmentsInner roleAssignments() {
+        if (this.roleAssignments == null) {
+            synchronized (this) {
+                if (this.roleAssignments == null) {
+                    this.roleAssignments = new RoleAssignmentsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.roleAssignments;
     }
 
     /**
      * The RoleDefinitionsInner object to access its operations.
      */
-    private RoleDefinitionsInner roleDefinitions;
+    private volatile RoleDefinitionsInner roleDefinitions;
 
     /**
      * Gets the RoleDefinitionsInner object to access its operations.
      * @return the RoleDefinitionsInner object.
      */
     public RoleDefinitionsInner roleDefinitions() {
+        if (this.roleDefinitions == null) {
+            synchronized (this) {
+                if (this.roleDefinitions == null) {
+                    this.roleDefinitions = new RoleDefinitionsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.roleDefinitions;
     }
 
@@ -219,11 +254,6 @@ public class AuthorizationManagementClientImpl extends AzureServiceClient {
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.classicAdministrators = new ClassicAdministratorsInner(restClient().retrofit(), this);
-        this.providerOperationsMetadatas = new ProviderOperationsMetadatasInner(restClient().retrofit(), this);
-        this.permissions = new PermissionsInner(restClient().retrofit(), this);
-        this.roleAssignments = new RoleAssignmentsInner(restClient().retrofit(), this);
-        this.roleDefinitions = new RoleDefinitionsInner(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
     }
 
@@ -135,78 +135,120 @@ public class GraphRbacManagementClientImpl extends AzureServiceClient {
     /**
      * The ObjectsInner object to access its operations.
      */
-    private ObjectsInner objects;
+    private volatile ObjectsInner objects;
 
     /**
      * Gets the ObjectsInner object to access its operations.
      * @return the ObjectsInner object.
      */
     public ObjectsInner objects() {
+        if (this.objects == null) {
+            synchronized (this) {
+                if (this.objects == null) {
+                    this.objects = new ObjectsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.objects;
     }
 
     /**
      * The ApplicationsInner object to access its operations.
      */
-    private ApplicationsInner applications;
+    private volatile ApplicationsInner applications;
 
     /**
      * Gets the ApplicationsInner object to access its operations.
      * @return the ApplicationsInner object.
      */
     public ApplicationsInner applications() {
+        if (this.applications == null) {
+            synchronized (this) {
+                if (this.applications == null) {
+                    this.applications = new ApplicationsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.applications;
     }
 
     /**
      * The GroupsInner object to access its operations.
      */
-    private GroupsInner groups;
+    private volatile GroupsInner groups;
 
     /**
      * Gets the GroupsInner object to access its operations.
      * @return the GroupsInner object.
      */
     public GroupsInner groups() {
+        if (this.groups == null) {
+            synchronized (this) {
+                if (this.groups == null) {
+                    this.groups = new GroupsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.groups;
     }
 
     /**
      * The ServicePrincipalsInner object to access its operations.
      */
-    private ServicePrincipalsInner servicePrincipals;
+    private volatile ServicePrincipalsInner servicePrincipals;
 
     /**
      * Gets the ServicePrincipalsInner object to access its operations.
      * @return the ServicePrincipalsInner object.
      */
     public ServicePrincipalsInner servicePrincipals() {
+        if (this.servicePrincipals == null) {
+            synchronized (this) {
+                if (this.servicePrincipals == null) {
+                    this.servicePrincipals = new ServicePrincipalsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.servicePrincipals;
     }
 
     /**
      * The UsersInner object to access its operations.
      */
-    private UsersInner users;
+    private volatile UsersInner users;
 
     /**
      * Gets the UsersInner object to access its operations.
      * @return the UsersInner object.
      */
     public UsersInner users() {
+        if (this.users == null) {
+            synchronized (this) {
+                if (this.users == null) {
+                    this.users = new UsersInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.users;
     }
 
     /**
      * The DomainsInner object to access its operations.
      */
-    private DomainsInner domains;
+    private volatile DomainsInner domains;
 
     /**
      * Gets the DomainsInner object to access its operations.
      * @return the DomainsInner object.
      */
     public DomainsInner domains() {
+        if (this.domains == null) {
+            synchronized (this) {
+                if (this.domains == null) {
+                    this.domains = new DomainsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.domains;
     }
 
@@ -245,12 +287,6 @@ public class GraphRbacManagementClientImpl extends AzureServiceClient {
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.objects = new ObjectsInner(restClient().retrofit(), this);
-        this.applications = new ApplicationsInner(restClient().retrofit(), this);
-        this.groups = new GroupsInner(restClient().retrofit(), this);
-        this.servicePrincipals = new ServicePrincipalsInner(restClient().retrofit(), this);
-        this.users = new UsersInner(restClient().retrofit(), this);
-        this.domains = new DomainsInner(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
     }
 
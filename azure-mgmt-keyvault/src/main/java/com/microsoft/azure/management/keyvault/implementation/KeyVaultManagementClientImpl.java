@@ -135,26 +135,40 @@ public class KeyVaultManagementClientImpl extends AzureServiceClient {
     /**
      * The VaultsInner object to access its operations.
      */
-    private VaultsInner vaults;
+    private volatile VaultsInner vaults;
 
     /**
      * Gets the VaultsInner object to access its operations.
      * @return the VaultsInner object.
      */
     public VaultsInner vaults() {
+        if (this.vaults == null) {
+            synchronized (this) {
+                if (this.vaults == null) {
+                    this.vaults = new VaultsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.vaults;
     }
 
     /**
      * The OperationsInner object to access its operations.
      */
-    private OperationsInner operations;
+    private volatile OperationsInner operations;
 
     /**
      * Gets the OperationsInner object to access its operations.
      * @return the OperationsInner object.
      */
     public OperationsInner operations() {
+        if (this.operations == null) {
+            synchronized (this) {
+                if (this.operations == null) {
+                    this.operations = new OperationsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.operations;
     }
 
@@ -193,8 +207,6 @@ public class KeyVaultManagementClientImpl extends AzureServiceClient {
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.vaults = new VaultsInner(restClient().retrofit(), this);
-        this.operations = new OperationsInner(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
     }
 
@@ -9,7 +9,6 @@
 package com.microsoft.azure.management.locks.implementation;
 
 import com.microsoft.azure.AzureEnvironment;
-import com.microsoft.azure.AzureResponseBuilder;
 import com.microsoft.azure.credentials.AzureTokenCredentials;
 import com.microsoft.azure.management.apigeneration.Beta;
 import com.microsoft.azure.management.apigeneration.Beta.SinceVersion;
@@ -18,6 +17,7 @@ import com.microsoft.azure.management.resources.fluentcore.arm.AzureConfigurable
 import com.microsoft.azure.management.resources.fluentcore.arm.implementation.AzureConfigurableImpl;
 import com.microsoft.azure.management.resources.fluentcore.arm.implementation.Manager;
 import com.microsoft.azure.management.resources.fluentcore.utils.ProviderRegistrationInterceptor;
+import com.microsoft.azure.management.resources.fluentcore.utils.StreamingPageResponseBuilder;
 import com.microsoft.azure.serializer.AzureJacksonAdapter;
 import com.microsoft.rest.RestClient;
 
@@ -49,7 +49,7 @@ public final class AuthorizationManager extends Manager<AuthorizationManager, Ma
             .withBaseUrl(credentials.environment(), AzureEnvironment.Endpoint.RESOURCE_MANAGER)
             .withCredentials(credentials)
             .withSerializerAdapter(new AzureJacksonAdapter())
-            .withResponseBuilderFactory(new AzureResponseBuilder.Factory())
+            .withResponseBuilderFactory(new StreamingPageResponseBuilder.Factory())
             .withInterceptor(new ProviderRegistrationInterceptor(credentials))
             .build(), subscriptionId);
     }
@@ -81,7 +81,7 @@ public final class AuthorizationManager extends Manager<AuthorizationManager, Ma
     */
     private static final class ConfigurableImpl extends AzureConfigurableImpl<Configurable> implements Configurable {
         public AuthorizationManager authenticate(AzureTokenCredentials credentials, String subscriptionId) {
-           return AuthorizationManager.authenticate(buildRestClient(credentials), subscriptionId);
+           return configureManager(AuthorizationManager.authenticate(buildRestClient(credentials), subscriptionId));
         }
      }
     private AuthorizationManager(RestClient restClient, String subscriptionId) {
@@ -135,13 +135,20 @@ public class ManagementLockClientImpl extends AzureServiceClient {
     /**
      * The ManagementLocksInner object to access its operations.
      */
-    private ManagementLocksInner managementLocks;
+    private volatile ManagementLocksInner managementLocks;
 
     /**
      * Gets the ManagementLocksInner object to access its operations.
      * @return the ManagementLocksInner object.
      */
     public ManagementLocksInner managementLocks() {
+        if (this.managementLocks == null) {
+            synchronized (this) {
+                if (this.managementLocks == null) {
+                    this.managementLocks = new ManagementLocksInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.managementLocks;
     }
 
@@ -180,7 +187,6 @@ public class ManagementLockClientImpl extends AzureServiceClient {
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.managementLocks = new ManagementLocksInner(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
     }
 
@@ -8,12 +8,15 @@ package com.microsoft.azure.management.locks.implementation;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
 import com.microsoft.azure.PagedList;
 import com.microsoft.azure.management.apigeneration.LangDefinition;
 import com.microsoft.azure.management.locks.ManagementLock;
 import com.microsoft.azure.management.locks.ManagementLocks;
 import com.microsoft.azure.management.resources.fluentcore.arm.ResourceUtils;
+import com.microsoft.azure.management.resources.fluentcore.arm.collection.BulkDeletionResult;
+import com.microsoft.azure.management.resources.fluentcore.arm.collection.implementation.BulkDeletion;
 import com.microsoft.azure.management.resources.fluentcore.arm.collection.implementation.CreatableResourcesImpl;
 import com.microsoft.azure.management.resources.fluentcore.utils.RXMapper;
 import com.microsoft.rest.ServiceCallback;
@@ -217,6 +220,21 @@ class ManagementLocksImpl
         return Observable.mergeDelayError(observables);
     }
 
+    @Override
+    public Observable<BulkDeletionResult> bulkDeleteByIdsAsync(Collection<String> ids, int maxConcurrency) {
+        return new BulkDeletion(new Func1<String, Completable>() {
+            @Override
+            public Completable call(String id) {
+                return deleteByIdAsync(id);
+            }
+        }).withoutDependencyOrdering().withMaxConcurrency(maxConcurrency).deleteAsync(ids);
+    }
+
+    @Override
+    public List<BulkDeletionResult> bulkDeleteByIds(Collection<String> ids, int maxConcurrency) {
+        return bulkDeleteByIdsAsync(ids, maxConcurrency).toList().toBlocking().single();
+    }
+
     @Override
     public Observable<String> deleteByIdsAsync(String... ids) {
         return this.deleteByIdsAsync(new ArrayList<String>(Arrays.asList(ids)));
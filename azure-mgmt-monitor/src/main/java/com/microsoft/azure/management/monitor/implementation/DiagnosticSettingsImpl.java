@@ -10,6 +10,8 @@ import com.microsoft.azure.management.apigeneration.LangDefinition;
 import com.microsoft.azure.management.monitor.DiagnosticSetting;
 import com.microsoft.azure.management.monitor.DiagnosticSettings;
 import com.microsoft.azure.management.monitor.DiagnosticSettingsCategory;
+import com.microsoft.azure.management.resources.fluentcore.arm.collection.BulkDeletionResult;
+import com.microsoft.azure.management.resources.fluentcore.arm.collection.implementation.BulkDeletion;
 import com.microsoft.azure.management.resources.fluentcore.arm.collection.implementation.CreatableResourcesImpl;
 import com.microsoft.azure.management.resources.fluentcore.utils.RXMapper;
 import com.microsoft.rest.ServiceCallback;
@@ -192,6 +194,21 @@ class DiagnosticSettingsImpl
         return Observable.mergeDelayError(observables);
     }
 
+    @Override
+    public Observable<BulkDeletionResult> bulkDeleteByIdsAsync(Collection<String> ids, int maxConcurrency) {
+        return new BulkDeletion(new Func1<String, Completable>() {
+            @Override
+            public Completable call(String id) {
+                return deleteByIdAsync(id);
+            }
+        }).withoutDependencyOrdering().withMaxConcurrency(maxConcurrency).deleteAsync(ids);
+    }
+
+    @Override
+    public List<BulkDeletionResult> bulkDeleteByIds(Collection<String> ids, int maxConcurrency) {
+        return bulkDeleteByIdsAsync(ids, maxConcurrency).toList().toBlocking().single();
+    }
+
     @Override
     public Observable<String> deleteByIdsAsync(String... ids) {
         return this.deleteByIdsAsync(new ArrayList<String>(Arrays.asList(ids)));
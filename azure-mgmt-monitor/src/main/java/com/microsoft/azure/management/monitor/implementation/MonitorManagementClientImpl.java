@@ -123,234 +123,360 @@ public class MonitorManagementClientImpl extends AzureServiceClient {
     /**
      * The AutoscaleSettingsInner object to access its operations.
      */
-    private AutoscaleSettingsInner autoscaleSettings;
+    private volatile AutoscaleSettingsInner autoscaleSettings;
 
     /**
      * Gets the AutoscaleSettingsInner object to access its operations.
      * @return the AutoscaleSettingsInner object.
      */
     public AutoscaleSettingsInner autoscaleSettings() {
+        if (this.autoscaleSettings == null) {
+            synchronized (this) {
+                if (this.autoscaleSettings == null) {
+                    this.autoscaleSettings = new AutoscaleSettingsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.autoscaleSettings;
     }
 
     /**
      * The OperationsInner object to access its operations.
      */
-    private OperationsInner operations;
+    private volatile OperationsInner operations;
 
     /**
      * Gets the OperationsInner object to access its operations.
      * @return the OperationsInner object.
      */
     public OperationsInner operations() {
+        if (this.operations == null) {
+            synchronized (this) {
+                if (this.operations == null) {
+                    this.operations = new OperationsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.operations;
     }
 
     /**
      * The AlertRuleIncidentsInner object to access its operations.
      */
-    private AlertRuleIncidentsInner alertRuleIncidents;
+    private volatile AlertRuleIncidentsInner alertRuleIncidents;
 
     /**
      * Gets the AlertRuleIncidentsInner object to access its operations.
      * @return the AlertRuleIncidentsInner object.
      */
     public AlertRuleIncidentsInner alertRuleIncidents() {
+        if (this.alertRuleIncidents == null) {
+            synchronized (this) {
+                if (this.alertRuleIncidents == null) {
+                    this.alertRuleIncidents = new AlertRuleIncidentsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.alertRuleIncidents;
     }
 
     /**
      * The AlertRulesInner object to access its operations.
      */
-    private AlertRulesInner alertRules;
+    private volatile AlertRulesInner alertRules;
 
     /**
      * Gets the AlertRulesInner object to access its operations.
      * @return the AlertRulesInner object.
      */
     public AlertRulesInner alertRules() {
+        if (this.alertRules == null) {
+            synchronized (this) {
+                if (this.alertRules == null) {
+                    this.alertRules = new AlertRulesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.alertRules;
     }
 
     /**
      * The LogProfilesInner object to access its operations.
      */
-    private LogProfilesInner logProfiles;
+    private volatile LogProfilesInner logProfiles;
 
     /**
      * Gets the LogProfilesInner object to access its operations.
      * @return the LogProfilesInner object.
      */
     public LogProfilesInner logProfiles() {
+        if (this.logProfiles == null) {
+            synchronized (this) {
+                if (this.logProfiles == null) {
+                    this.logProfiles = new LogProfilesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.logProfiles;
     }
 
     /**
      * The DiagnosticSettingsInner object to access its operations.
      */
-    private DiagnosticSettingsInner diagnosticSettings;
+    private volatile DiagnosticSettingsInner diagnosticSettings;
 
     /**
      * Gets the DiagnosticSettingsInner object to access its operations.
      * @return the DiagnosticSettingsInner object.
      */
     public DiagnosticSettingsInner diagnosticSettings() {
+        if (this.diagnosticSettings == null) {
+            synchronized (this) {
+                if (this.diagnosticSettings == null) {
+                    this.diagnosticSettings = new DiagnosticSettingsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.diagnosticSettings;
     }
 
     /**
      * The DiagnosticSettingsCategorysInner object to access its operations.
      */
-    private DiagnosticSettingsCategorysInner diagnosticSettingsCategorys;
+    private volatile DiagnosticSettingsCategorysInner diagnosticSettingsCategorys;
 
     /**
      * Gets the DiagnosticSettingsCategorysInner object to access its operations.
      * @return the DiagnosticSettingsCategorysInner object.
      */
     public DiagnosticSettingsCategorysInner diagnosticSettingsCategorys() {
+        if (this.diagnosticSettingsCategorys == null) {
+            synchronized (this) {
+                if (this.diagnosticSettingsCategorys == null) {
+                    this.diagnosticSettingsCategorys = new DiagnosticSettingsCategorysInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.diagnosticSettingsCategorys;
     }
 
     /**
      * The ActionGroupsInner object to access its operations.
      */
-    private ActionGroupsInner actionGroups;
+    private volatile ActionGroupsInner actionGroups;
 
     /**
      * Gets the ActionGroupsInner object to access its operations.
      * @return the ActionGroupsInner object.
      */
     public ActionGroupsInner actionGroups() {
+        if (this.actionGroups == null) {
+            synchronized (this) {
+                if (this.actionGroups == null) {
+                    this.actionGroups = new ActionGroupsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.actionGroups;
     }
 
     /**
      * The ActivityLogAlertsInner object to access its operations.
      */
-    private ActivityLogAlertsInner activityLogAlerts;
+    private volatile ActivityLogAlertsInner activityLogAlerts;
 
     /**
      * Gets the ActivityLogAlertsInner object to access its operations.
      * @return the ActivityLogAlertsInner object.
      */
     public ActivityLogAlertsInner activityLogAlerts() {
+        if (this.activityLogAlerts == null) {
+            synchronized (this) {
+                if (this.activityLogAlerts == null) {
+                    this.activityLogAlerts = new ActivityLogAlertsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.activityLogAlerts;
     }
 
     /**
      * The ActivityLogsInner object to access its operations.
      */
-    private ActivityLogsInner activityLogs;
+    private volatile ActivityLogsInner activityLogs;
 
     /**
      * Gets the ActivityLogsInner object to access its operations.
      * @return the ActivityLogsInner object.
      */
     public ActivityLogsInner activityLogs() {
+        if (this.activityLogs == null) {
+            synchronized (this) {
+                if (this.activityLogs == null) {
+                    this.activityLogs = new ActivityLogsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.activityLogs;
     }
 
     /**
      * The EventCategoriesInner object to access its operations.
      */
-    private EventCategoriesInner eventCategories;
+    private volatile EventCategoriesInner eventCategories;
 
     /**
      * Gets the EventCategoriesInner object to access its operations.
      * @return the EventCategoriesInner object.
      */
     public EventCategoriesInner eventCategories() {
+        if (this.eventCategories == null) {
+            synchronized (this) {
+                if (this.eventCategories == null) {
+                    this.eventCategories = new EventCategoriesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.eventCategories;
     }
 
     /**
      * The TenantActivityLogsInner object to access its operations.
      */
-    private TenantActivityLogsInner tenantActivityLogs;
+    private volatile TenantActivityLogsInner tenantActivityLogs;
 
     /**
      * Gets the TenantActivityLogsInner object to access its operations.
      * @return the TenantActivityLogsInner object.
      */
     public TenantActivityLogsInner tenantActivityLogs() {
+        if (this.tenantActivityLogs == null) {
+            synchronized (this) {
+                if (this.tenantActivityLogs == null) {
+                    this.tenantActivityLogs = new TenantActivityLogsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.tenantActivityLogs;
     }
 
     /**
      * The MetricDefinitionsInner object to access its operations.
      */
-    private MetricDefinitionsInner metricDefinitions;
+    private volatile MetricDefinitionsInner metricDefinitions;
 
     /**
      * Gets the MetricDefinitionsInner object to access its operations.
      * @return the MetricDefinitionsInner object.
      */
     public MetricDefinitionsInner metricDefinitions() {
+        if (this.metricDefinitions == null) {
+            synchronized (this) {
+                if (this.metricDefinitions == null) {
+                    this.metricDefinitions = new MetricDefinitionsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.metricDefinitions;
     }
 
     /**
      * The MetricsInner object to access its operations.
      */
-    private MetricsInner metrics;
+    private volatile MetricsInner metrics;
 
     /**
      * Gets the MetricsInner object to access its operations.
      * @return the MetricsInner object.
      */
     public MetricsInner metrics() {
+        if (this.metrics == null) {
+            synchronized (this) {
+                if (this.metrics == null) {
+                    this.metrics = new MetricsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.metrics;
     }
 
     /**
      * The MetricBaselinesInner object to access its operations.
      */
-    private MetricBaselinesInner metricBaselines;
+    private volatile MetricBaselinesInner metricBaselines;
 
     /**
      * Gets the MetricBaselinesInner object to access its operations.
      * @return the MetricBaselinesInner object.
      */
     public MetricBaselinesInner metricBaselines() {
+        if (this.metricBaselines == null) {
+            synchronized (this) {
+                if (this.metricBaselines == null) {
+                    this.metricBaselines = new MetricBaselinesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.metricBaselines;
     }
 
     /**
      * The MetricAlertsInner object to access its operations.
      */
-    private MetricAlertsInner metricAlerts;
+    private volatile MetricAlertsInner metricAlerts;
 
     /**
      * Gets the MetricAlertsInner object to access its operations.
      * @return the MetricAlertsInner object.
      */
     public MetricAlertsInner metricAlerts() {
+        if (this.metricAlerts == null) {
+            synchronized (this) {
+                if (this.metricAlerts == null) {
+                    this.metricAlerts = new MetricAlertsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.metricAlerts;
     }
 
     /**
      * The MetricAlertsStatusInner object to access its operations.
      */
-    private MetricAlertsStatusInner metricAlertsStatus;
+    private volatile MetricAlertsStatusInner metricAlertsStatus;
 
     /**
      * Gets the MetricAlertsStatusInner object to access its operations.
      * @return the MetricAlertsStatusInner object.
      */
     public MetricAlertsStatusInner metricAlertsStatus() {
+        if (this.metricAlertsStatus == null) {
+            synchronized (this) {
+                if (this.metricAlertsStatus == null) {
+                    this.metricAlertsStatus = new MetricAlertsStatusInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.metricAlertsStatus;
     }
 
     /**
      * The ScheduledQueryRulesInner object to access its operations.
      */
-    private ScheduledQueryRulesInner scheduledQueryRules;
+    private volatile ScheduledQueryRulesInner scheduledQueryRules;
 
     /**
      * Gets the ScheduledQueryRulesInner object to access its operations.
      * @return the ScheduledQueryRulesInner object.
      */
     public ScheduledQueryRulesInner scheduledQueryRules() {
+        if (this.scheduledQueryRules == null) {
+            synchronized (this) {
+                if (this.scheduledQueryRules == null) {
+                    this.scheduledQueryRules = new ScheduledQueryRulesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.scheduledQueryRules;
     }
 
@@ -388,24 +514,6 @@ public class MonitorManagementClientImpl extends AzureServiceClient {
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.autoscaleSettings = new AutoscaleSettingsInner(restClient().retrofit(), this);
-        this.operations = new OperationsInner(restClient().retrofit(), this);
-        this.alertRuleIncidents = new AlertRuleIncidentsInner(restClient().retrofit(), this);
-        this.alertRules = new AlertRulesInner(restClient().retrofit(), this);
-        this.logProfiles = new LogProfilesInner(restClient().retrofit(), this);
-        this.diagnosticSettings = new DiagnosticSettingsInner(restClient().retrofit(), this);
-        this.diagnosticSettingsCategorys = new DiagnosticSettingsCategorysInner(restClient().retrofit(), this);
-        this.actionGroups = new ActionGroupsInner(restClient().retrofit(), this);
-        this.activityLogAlerts = new ActivityLogAlertsInner(restClient().retrofit(), this);
-        this.activityLogs = new ActivityLogsInner(restClient().retrofit(), this);
-        this.eventCategories = new EventCategoriesInner(restClient().retrofit(), this);
-        this.tenantActivityLogs = new TenantActivityLogsInner(restClient().retrofit(), this);
-        this.metricDefinitions = new MetricDefinitionsInner(restClient().retrofit(), this);
-        this.metrics = new MetricsInner(restClient().retrofit(), this);
-        this.metricBaselines = new MetricBaselinesInner(restClient().retrofit(), this);
-        this.metricAlerts = new MetricAlertsInner(restClient().retrofit(), this);
-        this.metricAlertsStatus = new MetricAlertsStatusInner(restClient().retrofit(), this);
-        this.scheduledQueryRules = new ScheduledQueryRulesInner(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
     }
 
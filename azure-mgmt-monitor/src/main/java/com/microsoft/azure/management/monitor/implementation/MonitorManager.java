@@ -8,7 +8,6 @@
 package com.microsoft.azure.management.monitor.implementation;
 
 import com.microsoft.azure.AzureEnvironment;
-import com.microsoft.azure.AzureResponseBuilder;
 import com.microsoft.azure.credentials.AzureTokenCredentials;
 import com.microsoft.azure.management.apigeneration.Beta;
 import com.microsoft.azure.management.apigeneration.Beta.SinceVersion;
@@ -22,6 +21,7 @@ import com.microsoft.azure.management.resources.fluentcore.arm.AzureConfigurable
 import com.microsoft.azure.management.resources.fluentcore.arm.implementation.AzureConfigurableImpl;
 import com.microsoft.azure.management.resources.fluentcore.arm.implementation.Manager;
 import com.microsoft.azure.management.resources.fluentcore.utils.ProviderRegistrationInterceptor;
+import com.microsoft.azure.management.resources.fluentcore.utils.StreamingPageResponseBuilder;
 import com.microsoft.azure.serializer.AzureJacksonAdapter;
 import com.microsoft.rest.RestClient;
 
@@ -58,7 +58,7 @@ public final class MonitorManager extends Manager<MonitorManager, MonitorManagem
             .withBaseUrl(credentials.environment(), AzureEnvironment.Endpoint.RESOURCE_MANAGER)
             .withCredentials(credentials)
             .withSerializerAdapter(new AzureJacksonAdapter())
-            .withResponseBuilderFactory(new AzureResponseBuilder.Factory())
+            .withResponseBuilderFactory(new StreamingPageResponseBuilder.Factory())
             .withInterceptor(new ProviderRegistrationInterceptor(credentials))
             .build(), subscriptionId);
     }
@@ -155,7 +155,7 @@ public final class MonitorManager extends Manager<MonitorManager, MonitorManagem
     */
     private static final class ConfigurableImpl extends AzureConfigurableImpl<Configurable> implements Configurable {
         public MonitorManager authenticate(AzureTokenCredentials credentials, String subscriptionId) {
-           return MonitorManager.authenticate(buildRestClient(credentials), subscriptionId);
+           return configureManager(MonitorManager.authenticate(buildRestClient(credentials), subscriptionId));
         }
     }
 
@@ -135,26 +135,40 @@ public class ManagedServiceIdentityClientImpl extends AzureServiceClient {
     /**
      * The OperationsInner object to access its operations.
      */
-    private OperationsInner operations;
+    private volatile OperationsInner operations;
 
     /**
      * Gets the OperationsInner object to access its operations.
      * @return the OperationsInner object.
      */
     public OperationsInner operations() {
+        if (this.operations == null) {
+            synchronized (this) {
+                if (this.operations == null) {
+                    this.operations = new OperationsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.operations;
     }
 
     /**
      * The UserAssignedIdentitiesInner object to access its operations.
      */
-    private UserAssignedIdentitiesInner userAssignedIdentities;
+    private volatile UserAssignedIdentitiesInner userAssignedIdentities;
 
     /**
      * Gets the UserAssignedIdentitiesInner object to access its operations.
      * @return the UserAssignedIdentitiesInner object.
      */
     public UserAssignedIdentitiesInner userAssignedIdentities() {
+        if (this.userAssignedIdentities == null) {
+            synchronized (this) {
+                if (this.userAssignedIdentities == null) {
+                    this.userAssignedIdentities = new UserAssignedIdentitiesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.userAssignedIdentities;
     }
 
@@ -193,8 +207,6 @@ public class ManagedServiceIdentityClientImpl extends AzureServiceClient {
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.operations = new OperationsInner(restClient().retrofit(), this);
-        this.userAssignedIdentities = new UserAssignedIdentitiesInner(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
     }
 
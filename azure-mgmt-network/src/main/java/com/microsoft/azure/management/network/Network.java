@@ -18,6 +18,7 @@ import com.microsoft.azure.management.network.model.UpdatableWithTags;
 import com.microsoft.azure.management.resources.fluentcore.arm.models.GroupableResource;
 import com.microsoft.azure.management.resources.fluentcore.arm.models.Resource;
 import com.microsoft.azure.management.resources.fluentcore.model.Appliable;
+import com.microsoft.azure.management.resources.fluentcore.model.ConditionallyRefreshable;
 import com.microsoft.azure.management.resources.fluentcore.model.Creatable;
 import com.microsoft.azure.management.resources.fluentcore.model.Refreshable;
 import com.microsoft.azure.management.resources.fluentcore.model.Updatable;
@@ -29,6 +30,7 @@ import com.microsoft.azure.management.resources.fluentcore.model.Updatable;
 public interface Network extends
         GroupableResource<NetworkManager, VirtualNetworkInner>,
         Refreshable<Network>,
+        ConditionallyRefreshable,
         Updatable<Network.Update>,
         UpdatableWithTags<Network> {
 
@@ -17,6 +17,7 @@ import com.microsoft.azure.management.resources.fluentcore.arm.models.GroupableR
 import com.microsoft.azure.management.resources.fluentcore.arm.models.Resource;
 import com.microsoft.azure.management.resources.fluentcore.model.Appliable;
 import com.microsoft.azure.management.resources.fluentcore.model.Attachable;
+import com.microsoft.azure.management.resources.fluentcore.model.ConditionallyRefreshable;
 import com.microsoft.azure.management.resources.fluentcore.model.Creatable;
 import com.microsoft.azure.management.resources.fluentcore.model.Refreshable;
 import com.microsoft.azure.management.resources.fluentcore.model.Updatable;
@@ -28,6 +29,7 @@ import com.microsoft.azure.management.resources.fluentcore.model.Updatable;
 public interface NetworkSecurityGroup extends
         GroupableResource<NetworkManager, NetworkSecurityGroupInner>,
         Refreshable<NetworkSecurityGroup>,
+        ConditionallyRefreshable,
         Updatable<NetworkSecurityGroup.Update>,
         UpdatableWithTags<NetworkSecurityGroup>,
         HasAssociatedSubnets {
@@ -35,6 +35,7 @@ import com.microsoft.azure.management.resources.fluentcore.arm.AvailabilityZoneI
 import com.microsoft.azure.management.resources.fluentcore.arm.ResourceUtils;
 import com.microsoft.azure.management.resources.fluentcore.arm.models.Resource;
 import com.microsoft.azure.management.resources.fluentcore.model.Creatable;
+import com.microsoft.azure.management.resources.fluentcore.utils.ConditionalRequestInterceptor;
 import com.microsoft.azure.management.resources.fluentcore.utils.SdkContext;
 
 import java.lang.reflect.InvocationTargetException;
@@ -72,6 +73,8 @@ class ApplicationGatewayImpl
         ApplicationGateway,
         ApplicationGateway.Definition,
         ApplicationGateway.Update {
+    // The API version of the generated client, used by the conditional refreshes
+    private static final String API_VERSION = "2018-06-01";
 
     private Map<String, ApplicationGatewayIPConfiguration> ipConfigs;
     private Map<String, ApplicationGatewayFrontend> frontends;
@@ -112,11 +115,30 @@ class ApplicationGatewayImpl
         });
     }
 
+    @Override
+    public Observable<Boolean> refreshIfChangedAsync() {
+        final ApplicationGatewayImpl self = this;
+        return super.refreshIfChangedAsync().map(new Func1<Boolean, Boolean>() {
+            @Override
+            public Boolean call(Boolean changed) {
+                if (changed) {
+                    self.initializeChildrenFromInner();
+                }
+                return changed;
+            }
+        });
+    }
+
     @Override
     protected Observable<ApplicationGatewayInner> getInnerAsync() {
         return this.manager().inner().applicationGateways().getByResourceGroupAsync(this.resourceGroupName(), this.name());
     }
 
+    @Override
+    protected Observable<ApplicationGatewayInner> getInnerIfChangedAsync(String etag) {
+        return ConditionalRequestInterceptor.getIfNoneMatchAsync(this.manager().inner(), this.id(), API_VERSION, etag, ApplicationGatewayInner.class);
+    }
+
     @Override
     protected Observable<ApplicationGatewayInner> applyTagsToInnerAsync() {
         return this.manager().inner().applicationGateways().updateTagsAsync(resourceGroupName(), name(), inner().getTags());
@@ -17,6 +17,7 @@ import com.microsoft.azure.management.network.Subnet;
 import com.microsoft.azure.management.network.model.GroupableParentResourceWithTagsImpl;
 
 import com.microsoft.azure.management.resources.fluentcore.model.Creatable;
+import com.microsoft.azure.management.resources.fluentcore.utils.ConditionalRequestInterceptor;
 import com.microsoft.azure.management.resources.fluentcore.utils.SdkContext;
 import com.microsoft.azure.management.resources.fluentcore.utils.Utils;
 import rx.Observable;
@@ -43,6 +44,8 @@ class NetworkImpl
         Network,
         Network.Definition,
         Network.Update {
+    // The API version of the generated client, used by the conditional refreshes
+    private static final String API_VERSION = "2018-06-01";
 
     private Map<String, Subnet> subnets;
     private NetworkPeeringsImpl peerings;
@@ -83,11 +86,30 @@ class NetworkImpl
         });
     }
 
+    @Override
+    public Observable<Boolean> refreshIfChangedAsync() {
+        final NetworkImpl self = this;
+        return super.refreshIfChangedAsync().map(new Func1<Boolean, Boolean>() {
+            @Override
+            public Boolean call(Boolean changed) {
+                if (changed) {
+                    self.initializeChildrenFromInner();
+                }
+                return changed;
+            }
+        });
+    }
+
     @Override
     protected Observable<VirtualNetworkInner> getInnerAsync() {
         return this.manager().inner().virtualNetworks().getByResourceGroupAsync(this.resourceGroupName(), this.name());
     }
 
+    @Override
+    protected Observable<VirtualNetworkInner> getInnerIfChangedAsync(String etag) {
+        return ConditionalRequestInterceptor.getIfNoneMatchAsync(this.manager().inner(), this.id(), API_VERSION, etag, VirtualNetworkInner.class);
+    }
+
     @Override
     protected Observable<VirtualNetworkInner> applyTagsToInnerAsync() {
         return this.manager().inner().virtualNetworks().updateTagsAsync(resourceGroupName(), name(), inner().getTags());
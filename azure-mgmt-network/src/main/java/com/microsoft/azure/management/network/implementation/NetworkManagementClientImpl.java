@@ -140,637 +140,980 @@ public class NetworkManagementClientImpl extends AzureServiceClient {
     /**
      * The AzureFirewallsInner object to access its operations.
      */
-    private AzureFirewallsInner azureFirewalls;
+    private volatile AzureFirewallsInner azureFirewalls;
 
     /**
      * Gets the AzureFirewallsInner object to access its operations.
      * @return the AzureFirewallsInner object.
      */
     public AzureFirewallsInner azureFirewalls() {
+        if (this.azureFirewalls == null) {
+            synchronized (this) {
+                if (this.azureFirewalls == null) {
+                    this.azureFirewalls = new AzureFirewallsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.azureFirewalls;
     }
 
     /**
      * The ApplicationGatewaysInner object to access its operations.
      */
-    private ApplicationGatewaysInner applicationGateways;
+    private volatile ApplicationGatewaysInner applicationGateways;
 
     /**
      * Gets the ApplicationGatewaysInner object to access its operations.
      * @return the ApplicationGatewaysInner object.
      */
     public ApplicationGatewaysInner applicationGateways() {
+        if (this.applicationGateways == null) {
+            synchronized (this) {
+                if (this.applicationGateways == null) {
+                    this.applicationGateways = new ApplicationGatewaysInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.applicationGateways;
     }
 
     /**
      * The ApplicationSecurityGroupsInner object to access its operations.
      */
-    private ApplicationSecurityGroupsInner applicationSecurityGroups;
+    private volatile ApplicationSecurityGroupsInner applicationSecurityGroups;
 
     /**
      * Gets the ApplicationSecurityGroupsInner object to access its operations.
      * @return the ApplicationSecurityGroupsInner object.
      */
     public ApplicationSecurityGroupsInner applicationSecurityGroups() {
+        if (this.applicationSecurityGroups == null) {
+            synchronized (this) {
+                if (this.applicationSecurityGroups == null) {
+                    this.applicationSecurityGroups = new ApplicationSecurityGroupsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.applicationSecurityGroups;
     }
 
     /**
      * The DdosProtectionPlansInner object to access its operations.
      */
-    private DdosProtectionPlansInner ddosProtectionPlans;
+    private volatile DdosProtectionPlansInner ddosProtectionPlans;
 
     /**
      * Gets the DdosProtectionPlansInner object to access its operations.
      * @return the DdosProtectionPlansInner object.
      */
     public DdosProtectionPlansInner ddosProtectionPlans() {
+        if (this.ddosProtectionPlans == null) {
+            synchronized (this) {
+                if (this.ddosProtectionPlans == null) {
+                    this.ddosProtectionPlans = new DdosProtectionPlansInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.ddosProtectionPlans;
     }
 
     /**
      * The AvailableEndpointServicesInner object to access its operations.
      */
-    private AvailableEndpointServicesInner availableEndpointServices;
+    private volatile AvailableEndpointServicesInner availableEndpointServices;
 
     /**
      * Gets the AvailableEndpointServicesInner object to access its operations.
      * @return the AvailableEndpointServicesInner object.
      */
     public AvailableEndpointServicesInner availableEndpointServices() {
+        if (this.availableEndpointServices == null) {
+            synchronized (this) {
+                if (this.availableEndpointServices == null) {
+                    this.availableEndpointServices = new AvailableEndpointServicesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.availableEndpointServices;
     }
 
     /**
      * The ExpressRouteCircuitAuthorizationsInner object to access its operations.
      */
-    private ExpressRouteCircuitAuthorizationsInner expressRouteCircuitAuthorizations;
+    private volatile ExpressRouteCircuitAuthorizationsInner expressRouteCircuitAuthorizations;
 
     /**
      * Gets the ExpressRouteCircuitAuthorizationsInner object to access its operations.
      * @return the ExpressRouteCircuitAuthorizationsInner object.
      */
     public ExpressRouteCircuitAuthorizationsInner expressRouteCircuitAuthorizations() {
+        if (this.expressRouteCircuitAuthorizations == null) {
+            synchronized (this) {
+                if (this.expressRouteCircuitAuthorizations == null) {
+                    this.expressRouteCircuitAuthorizations = new ExpressRouteCircuitAuthorizationsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.expressRouteCircuitAuthorizations;
     }
 
     /**
      * The ExpressRouteCircuitPeeringsInner object to access its operations.
      */
-    private ExpressRouteCircuitPeeringsInner expressRouteCircuitPeerings;
+    private volatile ExpressRouteCircuitPeeringsInner expressRouteCircuitPeerings;
 
     /**
      * Gets the ExpressRouteCircuitPeeringsInner object to access its operations.
      * @return the ExpressRouteCircuitPeeringsInner object.
      */
     public ExpressRouteCircuitPeeringsInner expressRouteCircuitPeerings() {
+        if (this.expressRouteCircuitPeerings == null) {
+            synchronized (this) {
+                if (this.expressRouteCircuitPeerings == null) {
+                    this.expressRouteCircuitPeerings = new ExpressRouteCircuitPeeringsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.expressRouteCircuitPeerings;
     }
 
     /**
      * The ExpressRouteCircuitConnectionsInner object to access its operations.
      */
-    private ExpressRouteCircuitConnectionsInner expressRouteCircuitConnections;
+    private volatile ExpressRouteCircuitConnectionsInner expressRouteCircuitConnections;
 
     /**
      * Gets the ExpressRouteCircuitConnectionsInner object to access its operations.
      * @return the ExpressRouteCircuitConnectionsInner object.
      */
     public ExpressRouteCircuitConnectionsInner expressRouteCircuitConnections() {
+        if (this.expressRouteCircuitConnections == null) {
+            synchronized (this) {
+                if (this.expressRouteCircuitConnections == null) {
+                    this.expressRouteCircuitConnections = new ExpressRouteCircuitConnectionsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.expressRouteCircuitConnections;
     }
 
     /**
      * The ExpressRouteCircuitsInner object to access its operations.
      */
-    private ExpressRouteCircuitsInner expressRouteCircuits;
+    private volatile ExpressRouteCircuitsInner expressRouteCircuits;
 
     /**
      * Gets the ExpressRouteCircuitsInner object to access its operations.
      * @return the ExpressRouteCircuitsInner object.
      */
     public ExpressRouteCircuitsInner expressRouteCircuits() {
+        if (this.expressRouteCircuits == null) {
+            synchronized (this) {
+                if (this.expressRouteCircuits == null) {
+                    this.expressRouteCircuits = new ExpressRouteCircuitsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.expressRouteCircuits;
     }
 
     /**
      * The ExpressRouteServiceProvidersInner object to access its operations.
      */
-    private ExpressRouteServiceProvidersInner expressRouteServiceProviders;
+    private volatile ExpressRouteServiceProvidersInner expressRouteServiceProviders;
 
     /**
      * Gets the ExpressRouteServiceProvidersInner object to access its operations.
      * @return the ExpressRouteServiceProvidersInner object.
      */
     public ExpressRouteServiceProvidersInner expressRouteServiceProviders() {
+        if (this.expressRouteServiceProviders == null) {
+            synchronized (this) {
+                if (this.expressRouteServiceProviders == null) {
+                    this.expressRouteServiceProviders = new ExpressRouteServiceProvidersInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.expressRouteServiceProviders;
     }
 
     /**
      * The ExpressRouteCrossConnectionsInner object to access its operations.
      */
-    private ExpressRouteCrossConnectionsInner expressRouteCrossConnections;
+    private volatile ExpressRouteCrossConnectionsInner expressRouteCrossConnections;
 
     /**
      * Gets the ExpressRouteCrossConnectionsInner object to access its operations.
      * @return the ExpressRouteCrossConnectionsInner object.
      */
     public ExpressRouteCrossConnectionsInner expressRouteCrossConnections() {
+        if (this.expressRouteCrossConnections == null) {
+            synchronized (this) {
+                if (this.expressRouteCrossConnections == null) {
+                    this.expressRouteCrossConnections = new ExpressRouteCrossConnectionsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.expressRouteCrossConnections;
     }
 
     /**
      * The ExpressRouteCrossConnectionPeeringsInner object to access its operations.
      */
-    private ExpressRouteCrossConnectionPeeringsInner expressRouteCrossConnectionPeerings;
+    private volatile ExpressRouteCrossConnectionPeeringsInner expressRouteCrossConnectionPeerings;
 
     /**
      * Gets the ExpressRouteCrossConnectionPeeringsInner object to access its operations.
      * @return the ExpressRouteCrossConnectionPeeringsInner object.
      */
     public ExpressRouteCrossConnectionPeeringsInner expressRouteCrossConnectionPeerings() {
+        if (this.expressRouteCrossConnectionPeerings == null) {
+            synchronized (this) {
+                if (this.expressRouteCrossConnectionPeerings == null) {
+                    this.expressRouteCrossConnectionPeerings = new ExpressRouteCrossConnectionPeeringsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.expressRouteCrossConnectionPeerings;
     }
 
     /**
      * The LoadBalancersInner object to access its operations.
      */
-    private LoadBalancersInner loadBalancers;
+    private volatile LoadBalancersInner loadBalancers;
 
     /**
      * Gets the LoadBalancersInner object to access its operations.
      * @return the LoadBalancersInner object.
      */
     public LoadBalancersInner loadBalancers() {
+        if (this.loadBalancers == null) {
+            synchronized (this) {
+                if (this.loadBalancers == null) {
+                    this.loadBalancers = new LoadBalancersInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.loadBalancers;
     }
 
     /**
      * The LoadBalancerBackendAddressPoolsInner object to access its operations.
      */
-    private LoadBalancerBackendAddressPoolsInner loadBalancerBackendAddressPools;
+    private volatile LoadBalancerBackendAddressPoolsInner loadBalancerBackendAddressPools;
 
     /**
      * Gets the LoadBalancerBackendAddressPoolsInner object to access its operations.
      * @return the LoadBalancerBackendAddressPoolsInner object.
      */
     public LoadBalancerBackendAddressPoolsInner loadBalancerBackendAddressPools() {
+        if (this.loadBalancerBackendAddressPools == null) {
+            synchronized (this) {
+                if (this.loadBalancerBackendAddressPools == null) {
+                    this.loadBalancerBackendAddressPools = new LoadBalancerBackendAddressPoolsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.loadBalancerBackendAddressPools;
     }
 
     /**
      * The LoadBalancerFrontendIPConfigurationsInner object to access its operations.
      */
-    private LoadBalancerFrontendIPConfigurationsInner loadBalancerFrontendIPConfigurations;
+    private volatile LoadBalancerFrontendIPConfigurationsInner loadBalancerFrontendIPConfigurations;
 
     /**
      * Gets the LoadBalancerFrontendIPConfigurationsInner object to access its operations.
      * @return the LoadBalancerFrontendIPConfigurationsInner object.
      */
     public LoadBalancerFrontendIPConfigurationsInner loadBalancerFrontendIPConfigurations() {
+        if (this.loadBalancerFrontendIPConfigurations == null) {
+            synchronized (this) {
+                if (this.loadBalancerFrontendIPConfigurations == null) {
+                    this.loadBalancerFrontendIPConfigurations = new LoadBalancerFrontendIPConfigurationsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.loadBalancerFrontendIPConfigurations;
     }
 
     /**
      * The InboundNatRulesInner object to access its operations.
      */
-    private InboundNatRulesInner inboundNatRules;
+    private volatile InboundNatRulesInner inboundNatRules;
 
     /**
      * Gets the InboundNatRulesInner object to access its operations.
      * @return the InboundNatRulesInner object.
      */
     public InboundNatRulesInner inboundNatRules() {
+        if (this.inboundNatRules == null) {
+            synchronized (this) {
+                if (this.inboundNatRules == null) {
+                    this.inboundNatRules = new InboundNatRulesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.inboundNatRules;
     }
 
     /**
      * The LoadBalancerLoadBalancingRulesInner object to access its operations.
      */
-    private LoadBalancerLoadBalancingRulesInner loadBalancerLoadBalancingRules;
+    private volatile LoadBalancerLoadBalancingRulesInner loadBalancerLoadBalancingRules;
 
     /**
      * Gets the LoadBalancerLoadBalancingRulesInner object to access its operations.
      * @return the LoadBalancerLoadBalancingRulesInner object.
      */
     public LoadBalancerLoadBalancingRulesInner loadBalancerLoadBalancingRules() {
+        if (this.loadBalancerLoadBalancingRules == null) {
+            synchronized (this) {
+                if (this.loadBalancerLoadBalancingRules == null) {
+                    this.loadBalancerLoadBalancingRules = new LoadBalancerLoadBalancingRulesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.loadBalancerLoadBalancingRules;
     }
 
     /**
      * The LoadBalancerNetworkInterfacesInner object to access its operations.
      */
-    private LoadBalancerNetworkInterfacesInner loadBalancerNetworkInterfaces;
+    private volatile LoadBalancerNetworkInterfacesInner loadBalancerNetworkInterfaces;
 
     /**
      * Gets the LoadBalancerNetworkInterfacesInner object to access its operations.
      * @return the LoadBalancerNetworkInterfacesInner object.
      */
     public LoadBalancerNetworkInterfacesInner loadBalancerNetworkInterfaces() {
+        if (this.loadBalancerNetworkInterfaces == null) {
+            synchronized (this) {
+                if (this.loadBalancerNetworkInterfaces == null) {
+                    this.loadBalancerNetworkInterfaces = new LoadBalancerNetworkInterfacesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.loadBalancerNetworkInterfaces;
     }
 
     /**
      * The LoadBalancerProbesInner object to access its operations.
      */
-    private LoadBalancerProbesInner loadBalancerProbes;
+    private volatile LoadBalancerProbesInner loadBalancerProbes;
 
     /**
      * Gets the LoadBalancerProbesInner object to access its operations.
      * @return the LoadBalancerProbesInner object.
      */
     public LoadBalancerProbesInner loadBalancerProbes() {
+        if (this.loadBalancerProbes == null) {
+            synchronized (this) {
+                if (this.loadBalancerProbes == null) {
+                    this.loadBalancerProbes = new LoadBalancerProbesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.loadBalancerProbes;
     }
 
     /**
      * The NetworkInterfacesInner object to access its operations.
      */
-    private NetworkInterfacesInner networkInterfaces;
+    private volatile NetworkInterfacesInner networkInterfaces;
 
     /**
      * Gets the NetworkInterfacesInner object to access its operations.
      * @return the NetworkInterfacesInner object.
      */
     public NetworkInterfacesInner networkInterfaces() {
+        if (this.networkInterfaces == null) {
+            synchronized (this) {
+                if (this.networkInterfaces == null) {
+                    this.networkInterfaces = new NetworkInterfacesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.networkInterfaces;
     }
 
     /**
      * The NetworkInterfaceIPConfigurationsInner object to access its operations.
      */
-    private NetworkInterfaceIPConfigurationsInner networkInterfaceIPConfigurations;
+    private volatile NetworkInterfaceIPConfigurationsInner networkInterfaceIPConfigurations;
 
     /**
      * Gets the NetworkInterfaceIPConfigurationsInner object to access its operations.
      * @return the NetworkInterfaceIPConfigurationsInner object.
      */
     public NetworkInterfaceIPConfigurationsInner networkInterfaceIPConfigurations() {
+        if (this.networkInterfaceIPConfigurations == null) {
+            synchronized (this) {
+                if (this.networkInterfaceIPConfigurations == null) {
+                    this.networkInterfaceIPConfigurations = new NetworkInterfaceIPConfigurationsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.networkInterfaceIPConfigurations;
     }
 
     /**
      * The NetworkInterfaceLoadBalancersInner object to access its operations.
      */
-    private NetworkInterfaceLoadBalancersInner networkInterfaceLoadBalancers;
+    private volatile NetworkInterfaceLoadBalancersInner networkInterfaceLoadBalancers;
 
     /**
      * Gets the NetworkInterfaceLoadBalancersInner object to access its operations.
      * @return the NetworkInterfaceLoadBalancersInner object.
      */
     public NetworkInterfaceLoadBalancersInner networkInterfaceLoadBalancers() {
+        if (this.networkInterfaceLoadBalancers == null) {
+            synchronized (this) {
+                if (this.networkInterfaceLoadBalancers == null) {
+                    this.networkInterfaceLoadBalancers = new NetworkInterfaceLoadBalancersInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.networkInterfaceLoadBalancers;
     }
 
     /**
      * The NetworkSecurityGroupsInner object to access its operations.
      */
-    private NetworkSecurityGroupsInner networkSecurityGroups;
+    private volatile NetworkSecurityGroupsInner networkSecurityGroups;
 
     /**
      * Gets the NetworkSecurityGroupsInner object to access its operations.
      * @return the NetworkSecurityGroupsInner object.
      */
     public NetworkSecurityGroupsInner networkSecurityGroups() {
+        if (this.networkSecurityGroups == null) {
+            synchronized (this) {
+                if (this.networkSecurityGroups == null) {
+                    this.networkSecurityGroups = new NetworkSecurityGroupsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.networkSecurityGroups;
     }
 
     /**
      * The SecurityRulesInner object to access its operations.
      */
-    private SecurityRulesInner securityRules;
+    private volatile SecurityRulesInner securityRules;
 
     /**
      * Gets the SecurityRulesInner object to access its operations.
      * @return the SecurityRulesInner object.
      */
     public SecurityRulesInner securityRules() {
+        if (this.securityRules == null) {
+            synchronized (this) {
+                if (this.securityRules == null) {
+                    this.securityRules = new SecurityRulesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.securityRules;
     }
 
     /**
      * The DefaultSecurityRulesInner object to access its operations.
      */
-    private DefaultSecurityRulesInner defaultSecurityRules;
+    private volatile DefaultSecurityRulesInner defaultSecurityRules;
 
     /**
      * Gets the DefaultSecurityRulesInner object to access its operations.
      * @return the DefaultSecurityRulesInner object.
      */
     public DefaultSecurityRulesInner defaultSecurityRules() {
+        if (this.defaultSecurityRules == null) {
+            synchronized (this) {
+                if (this.defaultSecurityRules == null) {
+                    this.defaultSecurityRules = new DefaultSecurityRulesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.defaultSecurityRules;
     }
 
     /**
      * The NetworkWatchersInner object to access its operations.
      */
-    private NetworkWatchersInner networkWatchers;
+    private volatile NetworkWatchersInner networkWatchers;
 
     /**
      * Gets the NetworkWatchersInner object to access its operations.
      * @return the NetworkWatchersInner object.
      */
     public NetworkWatchersInner networkWatchers() {
+        if (this.networkWatchers == null) {
+            synchronized (this) {
+                if (this.networkWatchers == null) {
+                    this.networkWatchers = new NetworkWatchersInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.networkWatchers;
     }
 
     /**
      * The PacketCapturesInner object to access its operations.
      */
-    private PacketCapturesInner packetCaptures;
+    private volatile PacketCapturesInner packetCaptures;
 
     /**
      * Gets the PacketCapturesInner object to access its operations.
      * @return the PacketCapturesInner object.
      */
     public PacketCapturesInner packetCaptures() {
+        if (this.packetCaptures == null) {
+            synchronized (this) {
+                if (this.packetCaptures == null) {
+                    this.packetCaptures = new PacketCapturesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.packetCaptures;
     }
 
     /**
      * The ConnectionMonitorsInner object to access its operations.
      */
-    private ConnectionMonitorsInner connectionMonitors;
+    private volatile ConnectionMonitorsInner connectionMonitors;
 
     /**
      * Gets the ConnectionMonitorsInner object to access its operations.
      * @return the ConnectionMonitorsInner object.
      */
     public ConnectionMonitorsInner connectionMonitors() {
+        if (this.connectionMonitors == null) {
+            synchronized (this) {
+                if (this.connectionMonitors == null) {
+                    this.connectionMonitors = new ConnectionMonitorsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.connectionMonitors;
     }
 
     /**
      * The OperationsInner object to access its operations.
      */
-    private OperationsInner operations;
+    private volatile OperationsInner operations;
 
     /**
      * Gets the OperationsInner object to access its operations.
      * @return the OperationsInner object.
      */
     public OperationsInner operations() {
+        if (this.operations == null) {
+            synchronized (this) {
+                if (this.operations == null) {
+                    this.operations = new OperationsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.operations;
     }
 
     /**
      * The PublicIPAddressesInner object to access its operations.
      */
-    private PublicIPAddressesInner publicIPAddresses;
+    private volatile PublicIPAddressesInner publicIPAddresses;
 
     /**
      * Gets the PublicIPAddressesInner object to access its operations.
      * @return the PublicIPAddressesInner object.
      */
     public PublicIPAddressesInner publicIPAddresses() {
+        if (this.publicIPAddresses == null) {
+            synchronized (this) {
+                if (this.publicIPAddresses == null) {
+                    this.publicIPAddresses = new PublicIPAddressesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.publicIPAddresses;
     }
 
     /**
      * The RouteFiltersInner object to access its operations.
      */
-    private RouteFiltersInner routeFilters;
+    private volatile RouteFiltersInner routeFilters;
 
     /**
      * Gets the RouteFiltersInner object to access its operations.
      * @return the RouteFiltersInner object.
      */
     public RouteFiltersInner routeFilters() {
+        if (this.routeFilters == null) {
+            synchronized (this) {
+                if (this.routeFilters == null) {
+                    this.routeFilters = new RouteFiltersInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.routeFilters;
     }
 
     /**
      * The RouteFilterRulesInner object to access its operations.
      */
-    private RouteFilterRulesInner routeFilterRules;
+    private volatile RouteFilterRulesInner routeFilterRules;
 
     /**
      * Gets the RouteFilterRulesInner object to access its operations.
      * @return the RouteFilterRulesInner object.
      */
     public RouteFilterRulesInner routeFilterRules() {
+        if (this.routeFilterRules == null) {
+            synchronized (this) {
+                if (this.routeFilterRules == null) {
+                    this.routeFilterRules = new RouteFilterRulesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.routeFilterRules;
     }
 
     /**
      * The RouteTablesInner object to access its operations.
      */
-    private RouteTablesInner routeTables;
+    private volatile RouteTablesInner routeTables;
 
     /**
      * Gets the RouteTablesInner object to access its operations.
      * @return the RouteTablesInner object.
      */
     public RouteTablesInner routeTables() {
+        if (this.routeTables == null) {
+            synchronized (this) {
+                if (this.routeTables == null) {
+                    this.routeTables = new RouteTablesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.routeTables;
     }
 
     /**
      * The RoutesInner object to access its operations.
      */
-    private RoutesInner routes;
+    private volatile RoutesInner routes;
 
     /**
      * Gets the RoutesInner object to access its operations.
      * @return the RoutesInner object.
      */
     public RoutesInner routes() {
+        if (this.routes == null) {
+            synchronized (this) {
+                if (this.routes == null) {
+                    this.routes = new RoutesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.routes;
     }
 
     /**
      * The BgpServiceCommunitiesInner object to access its operations.
      */
-    private BgpServiceCommunitiesInner bgpServiceCommunities;
+    private volatile BgpServiceCommunitiesInner bgpServiceCommunities;
 
     /**
      * Gets the BgpServiceCommunitiesInner object to access its operations.
      * @return the BgpServiceCommunitiesInner object.
      */
     public BgpServiceCommunitiesInner bgpServiceCommunities() {
+        if (this.bgpServiceCommunities == null) {
+            synchronized (this) {
+                if (this.bgpServiceCommunities == null) {
+                    this.bgpServiceCommunities = new BgpServiceCommunitiesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.bgpServiceCommunities;
     }
 
     /**
      * The UsagesInner object to access its operations.
      */
-    private UsagesInner usages;
+    private volatile UsagesInner usages;
 
     /**
      * Gets the UsagesInner object to access its operations.
      * @return the UsagesInner object.
      */
     public UsagesInner usages() {
+        if (this.usages == null) {
+            synchronized (this) {
+                if (this.usages == null) {
+                    this.usages = new UsagesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.usages;
     }
 
     /**
      * The VirtualNetworksInner object to access its operations.
      */
-    private VirtualNetworksInner virtualNetworks;
+    private volatile VirtualNetworksInner virtualNetworks;
 
     /**
      * Gets the VirtualNetworksInner object to access its operations.
      * @return the VirtualNetworksInner object.
      */
     public VirtualNetworksInner virtualNetworks() {
+        if (this.virtualNetworks == null) {
+            synchronized (this) {
+                if (this.virtualNetworks == null) {
+                    this.virtualNetworks = new VirtualNetworksInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.virtualNetworks;
     }
 
     /**
      * The SubnetsInner object to access its operations.
      */
-    private SubnetsInner subnets;
+    private volatile SubnetsInner subnets;
 
     /**
      * Gets the SubnetsInner object to access its operations.
      * @return the SubnetsInner object.
      */
     public SubnetsInner subnets() {
+        if (this.subnets == null) {
+            synchronized (this) {
+                if (this.subnets == null) {
+                    this.subnets = new SubnetsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.subnets;
     }
 
     /**
      * The VirtualNetworkPeeringsInner object to access its operations.
      */
-    private VirtualNetworkPeeringsInner virtualNetworkPeerings;
+    private volatile VirtualNetworkPeeringsInner virtualNetworkPeerings;
 
     /**
      * Gets the VirtualNetworkPeeringsInner object to access its operations.
      * @return the VirtualNetworkPeeringsInner object.
      */
     public VirtualNetworkPeeringsInner virtualNetworkPeerings() {
+        if (this.virtualNetworkPeerings == null) {
+            synchronized (this) {
+                if (this.virtualNetworkPeerings == null) {
+                    this.virtualNetworkPeerings = new VirtualNetworkPeeringsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.virtualNetworkPeerings;
     }
 
     /**
      * The VirtualNetworkGatewaysInner object to access its operations.
      */
-    private VirtualNetworkGatewaysInner virtualNetworkGateways;
+    private volatile VirtualNetworkGatewaysInner virtualNetworkGateways;
 
     /**
      * Gets the VirtualNetworkGatewaysInner object to access its operations.
      * @return the VirtualNetworkGatewaysInner object.
      */
     public VirtualNetworkGatewaysInner virtualNetworkGateways() {
+        if (this.virtualNetworkGateways == null) {
+            synchronized (this) {
+                if (this.virtualNetworkGateways == null) {
+                    this.virtualNetworkGateways = new VirtualNetworkGatewaysInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.virtualNetworkGateways;
     }
 
     /**
      * The VirtualNetworkGatewayConnectionsInner object to access its operations.
      */
-    private VirtualNetworkGatewayConnectionsInner virtualNetworkGatewayConnections;
+    private volatile VirtualNetworkGatewayConnectionsInner virtualNetworkGatewayConnections;
 
     /**
      * Gets the VirtualNetworkGatewayConnectionsInner object to access its operations.
      * @return the VirtualNetworkGatewayConnectionsInner object.
      */
     public VirtualNetworkGatewayConnectionsInner virtualNetworkGatewayConnections() {
+        if (this.virtualNetworkGatewayConnections == null) {
+            synchronized (this) {
+                if (this.virtualNetworkGatewayConnections == null) {
+                    this.virtualNetworkGatewayConnections = new VirtualNetworkGatewayConnectionsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.virtualNetworkGatewayConnections;
     }
 
     /**
      * The LocalNetworkGatewaysInner object to access its operations.
      */
-    private LocalNetworkGatewaysInner localNetworkGateways;
+    private volatile LocalNetworkGatewaysInner localNetworkGateways;
 
     /**
      * Gets the LocalNetworkGatewaysInner object to access its operations.
      * @return the LocalNetworkGatewaysInner object.
      */
     public LocalNetworkGatewaysInner localNetworkGateways() {
+        if (this.localNetworkGateways == null) {
+            synchronized (this) {
+                if (this.localNetworkGateways == null) {
+                    this.localNetworkGateways = new LocalNetworkGatewaysInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.localNetworkGateways;
     }
 
     /**
      * The VirtualWANsInner object to access its operations.
      */
-    private VirtualWANsInner virtualWANs;
+    private volatile VirtualWANsInner virtualWANs;
 
     /**
      * Gets the VirtualWANsInner object to access its operations.
      * @return the VirtualWANsInner object.
      */
     public VirtualWANsInner virtualWANs() {
+        if (this.virtualWANs == null) {
+            synchronized (this) {
+                if (this.virtualWANs == null) {
+                    this.virtualWANs = new VirtualWANsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.virtualWANs;
     }
 
     /**
      * The VpnSitesInner object to access its operations.
      */
-    private VpnSitesInner vpnSites;
+    private volatile VpnSitesInner vpnSites;
 
     /**
      * Gets the VpnSitesInner object to access its operations.
      * @return the VpnSitesInner object.
      */
     public VpnSitesInner vpnSites() {
+        if (this.vpnSites == null) {
+            synchronized (this) {
+                if (this.vpnSites == null) {
+                    this.vpnSites = new VpnSitesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.vpnSites;
     }
 
     /**
      * The VpnSitesConfigurationsInner object to access its operations.
      */
-    private VpnSitesConfigurationsInner vpnSitesConfigurations;
+    private volatile VpnSitesConfigurationsInner vpnSitesConfigurations;
 
     /**
      * Gets the VpnSitesConfigurationsInner object to access its operations.
      * @return the VpnSitesConfigurationsInner object.
      */
     public VpnSitesConfigurationsInner vpnSitesConfigurations() {
+        if (this.vpnSitesConfigurations == null) {
+            synchronized (this) {
+                if (this.vpnSitesConfigurations == null) {
+                    this.vpnSitesConfigurations = new VpnSitesConfigurationsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.vpnSitesConfigurations;
     }
 
     /**
      * The VirtualHubsInner object to access its operations.
      */
-    private VirtualHubsInner virtualHubs;
+    private volatile VirtualHubsInner virtualHubs;
 
     /**
      * Gets the VirtualHubsInner object to access its operations.
      * @return the VirtualHubsInner object.
      */
     public VirtualHubsInner virtualHubs() {
+        if (this.virtualHubs == null) {
+            synchronized (this) {
+                if (this.virtualHubs == null) {
+                    this.virtualHubs = new VirtualHubsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.virtualHubs;
     }
 
     /**
      * The HubVirtualNetworkConnectionsInner object to access its operations.
      */
-    private HubVirtualNetworkConnectionsInner hubVirtualNetworkConnections;
+    private volatile HubVirtualNetworkConnectionsInner hubVirtualNetworkConnections;
 
     /**
      * Gets the HubVirtualNetworkConnectionsInner object to access its operations.
      * @return the HubVirtualNetworkConnectionsInner object.
      */
     public HubVirtualNetworkConnectionsInner hubVirtualNetworkConnections() {
+        if (this.hubVirtualNetworkConnections == null) {
+            synchronized (this) {
+                if (this.hubVirtualNetworkConnections == null) {
+                    this.hubVirtualNetworkConnections = new HubVirtualNetworkConnectionsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.hubVirtualNetworkConnections;
     }
 
     /**
      * The VpnGatewaysInner object to access its operations.
      */
-    private VpnGatewaysInner vpnGateways;
+    private volatile VpnGatewaysInner vpnGateways;
 
     /**
      * Gets the VpnGatewaysInner object to access its operations.
      * @return the VpnGatewaysInner object.
      */
     public VpnGatewaysInner vpnGateways() {
+        if (this.vpnGateways == null) {
+            synchronized (this) {
+                if (this.vpnGateways == null) {
+                    this.vpnGateways = new VpnGatewaysInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.vpnGateways;
     }
 
     /**
      * The VpnConnectionsInner object to access its operations.
      */
-    private VpnConnectionsInner vpnConnections;
+    private volatile VpnConnectionsInner vpnConnections;
 
     /**
      * Gets the VpnConnectionsInner object to access its operations.
      * @return the VpnConnectionsInner object.
      */
     public VpnConnectionsInner vpnConnections() {
+        if (this.vpnConnections == null) {
+            synchronized (this) {
+                if (this.vpnConnections == null) {
+                    this.vpnConnections = new VpnConnectionsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.vpnConnections;
     }
 
@@ -808,55 +1151,6 @@ public class NetworkManagementClientImpl extends AzureServiceClient {
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.azureFirewalls = new AzureFirewallsInner(restClient().retrofit(), this);
-        this.applicationGateways = new ApplicationGatewaysInner(restClient().retrofit(), this);
-        this.applicationSecurityGroups = new ApplicationSecurityGroupsInner(restClient().retrofit(), this);
-        this.ddosProtectionPlans = new DdosProtectionPlansInner(restClient().retrofit(), this);
-        this.availableEndpointServices = new AvailableEndpointServicesInner(restClient().retrofit(), this);
-        this.expressRouteCircuitAuthorizations = new ExpressRouteCircuitAuthorizationsInner(restClient().retrofit(), this);
-        this.expressRouteCircuitPeerings = new ExpressRouteCircuitPeeringsInner(restClient().retrofit(), this);
-        this.expressRouteCircuitConnections = new ExpressRouteCircuitConnectionsInner(restClient().retrofit(), this);
-        this.expressRouteCircuits = new ExpressRouteCircuitsInner(restClient().retrofit(), this);
-        this.expressRouteServiceProviders = new ExpressRouteServiceProvidersInner(restClient().retrofit(), this);
-        this.expressRouteCrossConnections = new ExpressRouteCrossConnectionsInner(restClient().retrofit(), this);
-        this.expressRouteCrossConnectionPeerings = new ExpressRouteCrossConnectionPeeringsInner(restClient().retrofit(), this);
-        this.loadBalancers = new LoadBalancersInner(restClient().retrofit(), this);
-        this.loadBalancerBackendAddressPools = new LoadBalancerBackendAddressPoolsInner(restClient().retrofit(), this);
-        this.loadBalancerFrontendIPConfigurations = new LoadBalancerFrontendIPConfigurationsInner(restClient().retrofit(), this);
-        this.inboundNatRules = new InboundNatRulesInner(restClient().retrofit(), this);
-        this.loadBalancerLoadBalancingRules = new LoadBalancerLoadBalancingRulesInner(restClient().retrofit(), this);
-        this.loadBalancerNetworkInterfaces = new LoadBalancerNetworkInterfacesInner(restClient().retrofit(), this);
-        this.loadBalancerProbes = new LoadBalancerProbesInner(restClient().retrofit(), this);
-        this.networkInterfaces = new NetworkInterfacesInner(restClient().retrofit(), this);
-        this.networkInterfaceIPConfigurations = new NetworkInterfaceIPConfigurationsInner(restClient().retrofit(), this);
-        this.networkInterfaceLoadBalancers = new NetworkInterfaceLoadBalancersInner(restClient().retrofit(), this);
-        this.networkSecurityGroups = new NetworkSecurityGroupsInner(restClient().retrofit(), this);
-        this.securityRules = new SecurityRulesInner(restClient().retrofit(), this);
-        this.defaultSecurityRules = new DefaultSecurityRulesInner(restClient().retrofit(), this);
-        this.networkWatchers = new NetworkWatchersInner(restClient().retrofit(), this);
-        this.packetCaptures = new PacketCapturesInner(restClient().retrofit(), this);
-        this.connectionMonitors = new ConnectionMonitorsInner(restClient().retrofit(), this);
-        this.operations = new OperationsInner(restClient().retrofit(), this);
-        this.publicIPAddresses = new PublicIPAddressesInner(restClient().retrofit(), this);
-        this.routeFilters = new RouteFiltersInner(restClient().retrofit(), this);
-        this.routeFilterRules = new RouteFilterRulesInner(restClient().retrofit(), this);
-        this.routeTables = new RouteTablesInner(restClient().retrofit(), this);
-        this.routes = new RoutesInner(restClient().retrofit(), this);
-        this.bgpServiceCommunities = new BgpServiceCommunitiesInner(restClient().retrofit(), this);
-        this.usages = new UsagesInner(restClient().retrofit(), this);
-        this.virtualNetworks = new VirtualNetworksInner(restClient().retrofit(), this);
-        this.subnets = new SubnetsInner(restClient().retrofit(), this);
-        this.virtualNetworkPeerings = new VirtualNetworkPeeringsInner(restClient().retrofit(), this);
-        this.virtualNetworkGateways = new VirtualNetworkGatewaysInner(restClient().retrofit(), this);
-        this.virtualNetworkGatewayConnections = new VirtualNetworkGatewayConnectionsInner(restClient().retrofit(), this);
-        this.localNetworkGateways = new LocalNetworkGatewaysInner(restClient().retrofit(), this);
-        this.virtualWANs = new VirtualWANsInner(restClient().retrofit(), this);
-        this.vpnSites = new VpnSitesInner(restClient().retrofit(), this);
-        this.vpnSitesConfigurations = new VpnSitesConfigurationsInner(restClient().retrofit(), this);
-        this.virtualHubs = new VirtualHubsInner(restClient().retrofit(), this);
-        this.hubVirtualNetworkConnections = new HubVirtualNetworkConnectionsInner(restClient().retrofit(), this);
-        this.vpnGateways = new VpnGatewaysInner(restClient().retrofit(), this);
-        this.vpnConnections = new VpnConnectionsInner(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
         initializeService();
     }
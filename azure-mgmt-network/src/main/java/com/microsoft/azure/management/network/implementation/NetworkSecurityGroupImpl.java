@@ -10,6 +10,7 @@ import com.microsoft.azure.management.network.NetworkSecurityGroup;
 import com.microsoft.azure.management.network.NetworkSecurityRule;
 import com.microsoft.azure.management.network.Subnet;
 import com.microsoft.azure.management.network.model.GroupableParentResourceWithTagsImpl;
+import com.microsoft.azure.management.resources.fluentcore.utils.ConditionalRequestInterceptor;
 import rx.Observable;
 import rx.functions.Func1;
 
@@ -34,6 +35,8 @@ class NetworkSecurityGroupImpl
         NetworkSecurityGroup,
         NetworkSecurityGroup.Definition,
         NetworkSecurityGroup.Update {
+    // The API version of the generated client, used by the conditional refreshes
+    private static final String API_VERSION = "2018-06-01";
 
     private Map<String, NetworkSecurityRule> rules;
     private Map<String, NetworkSecurityRule> defaultRules;
@@ -92,11 +95,30 @@ class NetworkSecurityGroupImpl
         });
     }
 
+    @Override
+    public Observable<Boolean> refreshIfChangedAsync() {
+        final NetworkSecurityGroupImpl self = this;
+        return super.refreshIfChangedAsync().map(new Func1<Boolean, Boolean>() {
+            @Override
+            public Boolean call(Boolean changed) {
+                if (changed) {
+                    self.initializeChildrenFromInner();
+                }
+                return changed;
+            }
+        });
+    }
+
     @Override
     protected Observable<NetworkSecurityGroupInner> getInnerAsync() {
         return this.manager().inner().networkSecurityGroups().getByResourceGroupAsync(this.resourceGroupName(), this.name());
     }
 
+    @Override
+    protected Observable<NetworkSecurityGroupInner> getInnerIfChangedAsync(String etag) {
+        return ConditionalRequestInterceptor.getIfNoneMatchAsync(this.manager().inner(), this.id(), API_VERSION, etag, NetworkSecurityGroupInner.class);
+    }
+
     @Override
     protected Observable<NetworkSecurityGroupInner> applyTagsToInnerAsync() {
         return this.manager().inner().networkSecurityGroups().updateTagsAsync(resourceGroupName(), name(), inner().getTags());
@@ -11,6 +11,7 @@ import java.util.Map;
 import com.microsoft.azure.management.apigeneration.Beta;
 import com.microsoft.azure.management.apigeneration.Fluent;
 import com.microsoft.azure.management.apigeneration.Method;
+import rx.Completable;
 
 /**
  * An immutable client-side representation of an Azure Redis cache with Premium SKU.
@@ -90,6 +91,15 @@ public interface RedisCachePremium extends RedisCache {
     @Beta(Beta.SinceVersion.V1_12_0)
     void removeLinkedServer(String linkedServerName);
 
+    /**
+     * Removes the linked server from the current Redis cache instance asynchronously.
+     *
+     * @param linkedServerName the name of the linked server.
+     * @return a completable completing once both Redis instances are updated.
+     */
+    @Beta(Beta.SinceVersion.V1_23_0)
+    Completable removeLinkedServerAsync(String linkedServerName);
+
     /**
      * Gets the role for the linked server of the current Redis cache instance.
      *
@@ -32,13 +32,15 @@ import com.microsoft.azure.management.redis.TlsVersion;
 import com.microsoft.azure.management.resources.fluentcore.arm.ResourceUtils;
 import com.microsoft.azure.management.resources.fluentcore.arm.models.HasId;
 import com.microsoft.azure.management.resources.fluentcore.arm.models.implementation.GroupableResourceImpl;
-import com.microsoft.azure.management.resources.fluentcore.utils.SdkContext;
+import com.microsoft.azure.management.resources.fluentcore.utils.LongRunningOperationPoller;
 import com.microsoft.azure.management.resources.fluentcore.utils.Utils;
+import com.microsoft.rest.ServiceResponse;
 import org.joda.time.Period;
 import rx.Completable;
 import rx.Observable;
-import rx.functions.Action1;
+import rx.functions.Func0;
 import rx.functions.Func1;
+import rx.functions.Func2;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -61,6 +63,7 @@ class RedisCacheImpl
             RedisCachePremium,
             RedisCache.Definition,
             RedisCache.Update {
+
     private RedisAccessKeys cachedAccessKeys;
     private RedisCreateParameters createParameters;
     private RedisUpdateParameters updateParameters;
@@ -590,17 +593,35 @@ class RedisCacheImpl
         final RedisCacheImpl self = this;
         return this.manager().inner().redis().updateAsync(resourceGroupName(), name(), updateParameters)
                 .map(innerToFluentMap(this))
-                .doOnNext(new Action1<RedisCache>() {
+                .flatMap(new Func1<RedisCache, Observable<RedisCache>>() {
                     @Override
-                    public void call(RedisCache redisCache) {
-                        while (!redisCache.provisioningState().equalsIgnoreCase("Succeeded")) {
-                            SdkContext.sleep(30 * 1000);
-
-                            RedisResourceInner innerResource = self.manager().inner().redis().getByResourceGroup(resourceGroupName(), name());
-                            ((RedisCacheImpl) redisCache).setInner(innerResource);
-                            self.setInner(innerResource);
-                            self.patchScheduleAdded = false;
+                    public Observable<RedisCache> call(final RedisCache redisCache) {
+                        if (redisCache.provisioningState().equalsIgnoreCase("Succeeded")) {
+                            return Observable.just(redisCache);
                         }
+                        return LongRunningOperationPoller.shared().pollUntilAsync("Microsoft.Cache/redis/update",
+                                new Func0<Observable<ServiceResponse<RedisResourceInner>>>() {
+                                    @Override
+                                    public Observable<ServiceResponse<RedisResourceInner>> call() {
+                                        return self.manager().inner().redis()
+                                                .getByResourceGroupWithServiceResponseAsync(resourceGroupName(), name());
+                                    }
+                                },
+                                new Func1<ServiceResponse<RedisResourceInner>, Boolean>() {
+                                    @Override
+                                    public Boolean call(ServiceResponse<RedisResourceInner> response) {
+                                        return response.body().provisioningState() == ProvisioningState.SUCCEEDED;
+                                    }
+                                }).map(new Func1<ServiceResponse<RedisResourceInner>, RedisCache>() {
+                            @Override
+                            public RedisCache call(ServiceResponse<RedisResourceInner> response) {
+                                RedisResourceInner innerResource = response.body();
+                                ((RedisCacheImpl) redisCache).setInner(innerResource);
+                                self.setInner(innerResource);
+                                self.patchScheduleAdded = false;
+                                return redisCache;
+                            }
+                        });
                     }
                 })
                 .flatMap(new Func1<RedisCache, Observable<RedisCache>>() {
@@ -655,27 +676,59 @@ class RedisCacheImpl
 
     @Override
     public void removeLinkedServer(String linkedServerName) {
-        RedisLinkedServerWithPropertiesInner linkedServer = this.manager().inner().linkedServers().get(this.resourceGroupName(), this.name(), linkedServerName);
-
-        this.manager().inner().linkedServers().delete(
-                this.resourceGroupName(),
-                this.name(),
-                linkedServerName);
+        this.removeLinkedServerAsync(linkedServerName).await();
+    }
 
-        RedisResourceInner innerLinkedResource = null;
-        RedisResourceInner innerResource = null;
-        while (innerLinkedResource == null
-                || innerLinkedResource.provisioningState() != ProvisioningState.SUCCEEDED
-                || innerResource == null
-                || innerResource.provisioningState() != ProvisioningState.SUCCEEDED) {
-            SdkContext.sleep(30 * 1000);
+    @Override
+    public Completable removeLinkedServerAsync(final String linkedServerName) {
+        final RedisManagementClientImpl client = this.manager().inner();
+        return client.linkedServers().getAsync(this.resourceGroupName(), this.name(), linkedServerName)
+                .flatMap(new Func1<RedisLinkedServerWithPropertiesInner, Observable<ServiceResponse<Boolean>>>() {
+                    @Override
+                    public Observable<ServiceResponse<Boolean>> call(final RedisLinkedServerWithPropertiesInner linkedServer) {
+                        return client.linkedServers().deleteAsync(resourceGroupName(), name(), linkedServerName)
+                                .toCompletable()
+                                .andThen(pollLinkedServersAsync(client, linkedServer));
+                    }
+                })
+                .toCompletable();
+    }
 
-            innerLinkedResource = this.manager().inner().redis().getByResourceGroup(
-                    ResourceUtils.groupFromResourceId(linkedServer.id()),
-                    ResourceUtils.nameFromResourceId(linkedServer.id()));
+    private Observable<ServiceResponse<Boolean>> pollLinkedServersAsync(final RedisManagementClientImpl client,
+                                                                        final RedisLinkedServerWithPropertiesInner linkedServer) {
+        // Both caches are polled, the response of a cache still updating is kept for its "Retry-After" header
+        //
+        return LongRunningOperationPoller.shared().pollUntilAsync("Microsoft.Cache/redis/linkedServers/delete",
+                new Func0<Observable<ServiceResponse<Boolean>>>() {
+                    @Override
+                    public Observable<ServiceResponse<Boolean>> call() {
+                        return Observable.zip(
+                                client.redis().getByResourceGroupWithServiceResponseAsync(
+                                        ResourceUtils.groupFromResourceId(linkedServer.id()),
+                                        ResourceUtils.nameFromResourceId(linkedServer.id())),
+                                client.redis().getByResourceGroupWithServiceResponseAsync(resourceGroupName(), name()),
+                                new Func2<ServiceResponse<RedisResourceInner>, ServiceResponse<RedisResourceInner>, ServiceResponse<Boolean>>() {
+                                    @Override
+                                    public ServiceResponse<Boolean> call(ServiceResponse<RedisResourceInner> linkedResponse,
+                                                                         ServiceResponse<RedisResourceInner> response) {
+                                        if (!isSucceeded(linkedResponse.body())) {
+                                            return new ServiceResponse<Boolean>(false, linkedResponse.response());
+                                        }
+                                        return new ServiceResponse<Boolean>(isSucceeded(response.body()), response.response());
+                                    }
+                                });
+                    }
+                },
+                new Func1<ServiceResponse<Boolean>, Boolean>() {
+                    @Override
+                    public Boolean call(ServiceResponse<Boolean> response) {
+                        return response.body();
+                    }
+                });
+    }
 
-            innerResource = this.manager().inner().redis().getByResourceGroup(resourceGroupName(), name());
-        }
+    private static boolean isSucceeded(RedisResourceInner innerResource) {
+        return innerResource != null && innerResource.provisioningState() == ProvisioningState.SUCCEEDED;
     }
 
     @Override
@@ -135,65 +135,100 @@ public class RedisManagementClientImpl extends AzureServiceClient {
     /**
      * The OperationsInner object to access its operations.
      */
-    private OperationsInner operations;
+    private volatile OperationsInner operations;
 
     /**
      * Gets the OperationsInner object to access its operations.
      * @return the OperationsInner object.
      */
     public OperationsInner operations() {
+        if (this.operations == null) {
+            synchronized (this) {
+                if (this.operations == null) {
+                    this.operations = new OperationsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.operations;
     }
 
     /**
      * The RedisInner object to access its operations.
      */
-    private RedisInner redis;
+    private volatile RedisInner redis;
 
     /**
      * Gets the RedisInner object to access its operations.
      * @return the RedisInner object.
      */
     public RedisInner redis() {
+        if (this.redis == null) {
+            synchronized (this) {
+                if (this.redis == null) {
+                    this.redis = new RedisInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.redis;
     }
 
     /**
      * The FirewallRulesInner object to access its operations.
      */
-    private FirewallRulesInner firewallRules;
+    private volatile FirewallRulesInner firewallRules;
 
     /**
      * Gets the FirewallRulesInner object to access its operations.
      * @return the FirewallRulesInner object.
      */
     public FirewallRulesInner firewallRules() {
+        if (this.firewallRules == null) {
+            synchronized (this) {
+                if (this.firewallRules == null) {
+                    this.firewallRules = new FirewallRulesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.firewallRules;
     }
 
     /**
      * The PatchSchedulesInner object to access its operations.
      */
-    private PatchSchedulesInner patchSchedules;
+    private volatile PatchSchedulesInner patchSchedules;
 
     /**
      * Gets the PatchSchedulesInner object to access its operations.
      * @return the PatchSchedulesInner object.
      */
     public PatchSchedulesInner patchSchedules() {
+        if (this.patchSchedules == null) {
+            synchronized (this) {
+                if (this.patchSchedules == null) {
+                    this.patchSchedules = new PatchSchedulesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.patchSchedules;
     }
 
     /**
      * The LinkedServersInner object to access its operations.
      */
-    private LinkedServersInner linkedServers;
+    private volatile LinkedServersInner linkedServers;
 
     /**
      * Gets the LinkedServersInner object to access its operations.
      * @return the LinkedServersInner object.
      */
     public LinkedServersInner linkedServers() {
+        if (this.linkedServers == null) {
+            synchronized (this) {
+                if (this.linkedServers == null) {
+                    this.linkedServers = new LinkedServersInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.linkedServers;
     }
 
@@ -232,11 +267,6 @@ public class RedisManagementClientImpl extends AzureServiceClient {
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.operations = new OperationsInner(restClient().retrofit(), this);
-        this.redis = new RedisInner(restClient().retrofit(), this);
-        this.firewallRules = new FirewallRulesInner(restClient().retrofit(), this);
-        this.patchSchedules = new PatchSchedulesInner(restClient().retrofit(), this);
-        this.linkedServers = new LinkedServersInner(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
     }
 
@@ -6,6 +6,7 @@
 
 package com.microsoft.azure.management.resources;
 
+import com.microsoft.azure.management.apigeneration.Beta;
 import com.microsoft.azure.management.apigeneration.Fluent;
 import com.microsoft.azure.management.resources.fluentcore.arm.collection.SupportsGettingById;
 import com.microsoft.azure.management.resources.fluentcore.arm.collection.SupportsListingByResourceGroup;
@@ -18,6 +19,8 @@ import com.microsoft.azure.management.resources.implementation.ResourceManager;
 import com.microsoft.rest.ServiceCallback;
 import com.microsoft.rest.ServiceFuture;
 import rx.Completable;
+import rx.Observable;
+import rx.functions.Func1;
 
 import java.util.List;
 
@@ -166,4 +169,53 @@ public interface GenericResources extends
      * @return a handle to cancel the request
      */
     ServiceFuture<Void> deleteAsync(String resourceGroupName, String resourceProviderNamespace, String parentResourcePath, String resourceType, String resourceName, String apiVersion, ServiceCallback<Void> callback);
+
+    /**
+     * Applies tag mutations to the resources of the subscription matching a predicate, with a bounded
+     * number of tag updates in flight. The resources whose tags already match are not updated.
+     *
+     * @param predicate the predicate selecting the resources, evaluated as the resources are listed
+     * @param mutations the tag mutations
+     * @param maxConcurrency the maximum number of tag updates in flight
+     * @return an observable emitting the outcome of each selected resource as it completes
+     */
+    @Beta(Beta.SinceVersion.V1_23_0)
+    Observable<TagMutationResult> updateTagsAsync(Func1<GenericResource, Boolean> predicate, TagMutations mutations, int maxConcurrency);
+
+    /**
+     * Applies tag mutations to the resources of the subscription matching a predicate, with a bounded
+     * number of tag updates in flight. The resources whose tags already match are not updated.
+     *
+     * @param predicate the predicate selecting the resources, evaluated as the resources are listed
+     * @param mutations the tag mutations
+     * @param maxConcurrency the maximum number of tag updates in flight
+     * @return the outcome of each selected resource
+     */
+    @Beta(Beta.SinceVersion.V1_23_0)
+    List<TagMutationResult> updateTags(Func1<GenericResource, Boolean> predicate, TagMutations mutations, int maxConcurrency);
+
+    /**
+     * Applies tag mutations to the resources of an inventory query, with a bounded number of tag updates
+     * in flight. The resources whose tags already match, as loaded in the inventory, are not updated.
+     * The query runs on subscription.
+     *
+     * @param filter the inventory query selecting the resources
+     * @param mutations the tag mutations
+     * @param maxConcurrency the maximum number of tag updates in flight
+     * @return an observable emitting the outcome of each selected resource as it completes
+     */
+    @Beta(Beta.SinceVersion.V1_23_0)
+    Observable<TagMutationResult> updateTagsAsync(ResourceInventory.Filter filter, TagMutations mutations, int maxConcurrency);
+
+    /**
+     * Applies tag mutations to the resources of an inventory query, with a bounded number of tag updates
+     * in flight. The resources whose tags already match, as loaded in the inventory, are not updated.
+     *
+     * @param filter the inventory query selecting the resources
+     * @param mutations the tag mutations
+     * @param maxConcurrency the maximum number of tag updates in flight
+     * @return the outcome of each selected resource
+     */
+    @Beta(Beta.SinceVersion.V1_23_0)
+    List<TagMutationResult> updateTags(ResourceInventory.Filter filter, TagMutations mutations, int maxConcurrency);
 }
@@ -9,6 +9,7 @@ package com.microsoft.azure.management.resources;
 import com.microsoft.azure.management.apigeneration.Beta;
 import com.microsoft.azure.management.apigeneration.Beta.SinceVersion;
 import com.microsoft.azure.management.apigeneration.Fluent;
+import com.microsoft.azure.management.resources.fluentcore.arm.collection.BulkDeletionResult;
 import com.microsoft.azure.management.resources.fluentcore.arm.collection.SupportsGettingByName;
 import com.microsoft.azure.management.resources.fluentcore.collection.SupportsBatchCreation;
 import com.microsoft.azure.management.resources.fluentcore.collection.SupportsBeginDeletingByName;
@@ -16,6 +17,10 @@ import com.microsoft.azure.management.resources.fluentcore.collection.SupportsCr
 import com.microsoft.azure.management.resources.fluentcore.collection.SupportsDeletingByName;
 import com.microsoft.azure.management.resources.fluentcore.collection.SupportsListing;
 import com.microsoft.azure.management.resources.fluentcore.collection.SupportsListingByTag;
+import rx.Observable;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Entry point to resource group management API.
@@ -47,4 +52,26 @@ public interface ResourceGroups extends
      */
     @Beta(SinceVersion.V1_4_0)
     boolean contain(String name);
+
+    /**
+     * Deletes resource groups with a bounded number of deletions in flight, retrying the deletions
+     * that are throttled or conflict with another operation.
+     *
+     * @param names the names of the resource groups to delete
+     * @param maxConcurrency the maximum number of deletions in flight
+     * @return an observable emitting the outcome of each deletion
+     */
+    @Beta(SinceVersion.V1_23_0)
+    Observable<BulkDeletionResult> bulkDeleteByNamesAsync(Collection<String> names, int maxConcurrency);
+
+    /**
+     * Deletes resource groups with a bounded number of deletions in flight, retrying the deletions
+     * that are throttled or conflict with another operation.
+     *
+     * @param names the names of the resource groups to delete
+     * @param maxConcurrency the maximum number of deletions in flight
+     * @return the outcome of each deletion
+     */
+    @Beta(SinceVersion.V1_23_0)
+    List<BulkDeletionResult> bulkDeleteByNames(Collection<String> names, int maxConcurrency);
 }
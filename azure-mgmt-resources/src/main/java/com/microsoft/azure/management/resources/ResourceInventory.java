@@ -0,0 +1,221 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources;
+
+import com.microsoft.azure.management.apigeneration.Beta;
+import com.microsoft.azure.management.apigeneration.Fluent;
+import com.microsoft.azure.management.resources.fluentcore.arm.Region;
+import com.microsoft.azure.management.resources.fluentcore.arm.ResourceId;
+import rx.Observable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An in-memory inventory of the resources of a subscription, indexed by resource type, resource group,
+ * region and tag, so that filters are answered without listing the resources from Azure again.
+ * <p>
+ * The inventory is loaded by {@link #load()}, which lists the resource groups and then the resources of
+ * several resource groups in parallel. Only the identity, location and tags of the resources are kept, with
+ * their strings interned. It can be kept up to date incrementally by reloading some resource groups through
+ * {@link #refreshResourceGroups(String...)}, or by tracking the resources created or deleted by the
+ * application through {@link #upsert(GenericResource)} and {@link #remove(String)}.
+ * <p>
+ * Lookups by id, type, resource group, region and tag name are case insensitive; tag values are matched exactly.
+ */
+@Fluent
+@Beta(Beta.SinceVersion.V1_23_0)
+public interface ResourceInventory {
+    /**
+     * Sets the number of resource groups listed concurrently, 8 by default.
+     *
+     * @param parallelism the number of resource groups listed concurrently
+     * @return the inventory itself
+     */
+    ResourceInventory withParallelism(int parallelism);
+
+    /**
+     * Loads all the resources of the subscription, replacing the current content once loaded.
+     *
+     * @return an observable emitting the inventory once loaded
+     */
+    Observable<ResourceInventory> loadAsync();
+
+    /**
+     * Loads all the resources of the subscription, replacing the current content once loaded.
+     *
+     * @return the inventory itself
+     */
+    ResourceInventory load();
+
+    /**
+     * Reloads the resources of some resource groups, the resources of the deleted resource groups are removed.
+     *
+     * @param resourceGroupNames the names of the resource groups
+     * @return an observable emitting the inventory once the resource groups are reloaded
+     */
+    Observable<ResourceInventory> refreshResourceGroupsAsync(String... resourceGroupNames);
+
+    /**
+     * Reloads the resources of some resource groups, the resources of the deleted resource groups are removed.
+     *
+     * @param resourceGroupNames the names of the resource groups
+     * @return the inventory itself
+     */
+    ResourceInventory refreshResourceGroups(String... resourceGroupNames);
+
+    /**
+     * Adds a resource to the inventory, or replaces it if already present.
+     *
+     * @param resource the resource
+     * @return the inventory itself
+     */
+    ResourceInventory upsert(GenericResource resource);
+
+    /**
+     * Removes a resource from the inventory.
+     *
+     * @param id the resource ID
+     * @return true if the resource was in the inventory
+     */
+    boolean remove(String id);
+
+    /**
+     * Gets a resource of the inventory.
+     *
+     * @param id the resource ID
+     * @return the resource, or null if it is not in the inventory
+     */
+    Item getById(String id);
+
+    /**
+     * @return the number of resources in the inventory
+     */
+    int size();
+
+    /**
+     * Starts a filter of the resources, the resources must match all the conditions of the filter.
+     *
+     * @return the filter
+     */
+    Filter filter();
+
+    /**
+     * A resource of the inventory.
+     */
+    @Fluent
+    interface Item {
+        /**
+         * @return the resource ID
+         */
+        String id();
+
+        /**
+         * @return the parsed resource ID
+         */
+        ResourceId resourceId();
+
+        /**
+         * @return the name of the resource
+         */
+        String name();
+
+        /**
+         * @return the type of the resource, including its provider namespace
+         */
+        String type();
+
+        /**
+         * @return the name of the resource group of the resource
+         */
+        String resourceGroupName();
+
+        /**
+         * @return the name of the region of the resource
+         */
+        String regionName();
+
+        /**
+         * @return the tags of the resource
+         */
+        Map<String, String> tags();
+    }
+
+    /**
+     * A filter of the resources of the inventory.
+     */
+    @Fluent
+    interface Filter {
+        /**
+         * Keeps the resources of a type.
+         *
+         * @param type the type of the resources, including its provider namespace
+         * @return the filter itself
+         */
+        Filter withType(String type);
+
+        /**
+         * Keeps the resources of a region.
+         *
+         * @param region the region of the resources
+         * @return the filter itself
+         */
+        Filter withRegion(Region region);
+
+        /**
+         * Keeps the resources of a region.
+         *
+         * @param regionName the name of the region of the resources
+         * @return the filter itself
+         */
+        Filter withRegion(String regionName);
+
+        /**
+         * Keeps the resources of some resource groups.
+         *
+         * @param resourceGroupNames the names of the resource groups
+         * @return the filter itself
+         */
+        Filter withResourceGroups(String... resourceGroupNames);
+
+        /**
+         * Keeps the resources of some resource groups.
+         *
+         * @param resourceGroupNames the names of the resource groups
+         * @return the filter itself
+         */
+        Filter withResourceGroups(Collection<String> resourceGroupNames);
+
+        /**
+         * Keeps the resources with a tag.
+         *
+         * @param name the name of the tag
+         * @return the filter itself
+         */
+        Filter withTag(String name);
+
+        /**
+         * Keeps the resources with a tag value.
+         *
+         * @param name the name of the tag
+         * @param value the value of the tag
+         * @return the filter itself
+         */
+        Filter withTag(String name, String value);
+
+        /**
+         * @return the resources matching the filter
+         */
+        List<Item> list();
+
+        /**
+         * @return the number of resources matching the filter
+         */
+        int count();
+    }
+}
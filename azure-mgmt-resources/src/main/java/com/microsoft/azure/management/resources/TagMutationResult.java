@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources;
+
+import com.microsoft.azure.management.apigeneration.Beta;
+import com.microsoft.azure.management.apigeneration.LangDefinition;
+
+import java.util.Map;
+
+/**
+ * The outcome of the tag mutations of one resource in a bulk tag update.
+ */
+@LangDefinition(ContainerName = "CollectionActions")
+@Beta(Beta.SinceVersion.V1_23_0)
+public interface TagMutationResult {
+    /**
+     * @return the ID of the resource
+     */
+    String id();
+
+    /**
+     * @return the tags of the resource after the mutations
+     */
+    Map<String, String> tags();
+
+    /**
+     * @return true if the tags of the resource were updated
+     */
+    boolean isUpdated();
+
+    /**
+     * @return true if the tags of the resource already matched, so no request was sent
+     */
+    boolean isUnchanged();
+
+    /**
+     * @return the error of the update if it failed, null otherwise
+     */
+    Throwable error();
+}
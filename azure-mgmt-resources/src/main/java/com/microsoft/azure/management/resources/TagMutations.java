@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources;
+
+import com.microsoft.azure.management.apigeneration.Beta;
+import com.microsoft.azure.management.apigeneration.LangDefinition;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A set of changes to the tags of resources, applied in the order they are added.
+ * <p>
+ * Tag names are case insensitive, as in Azure: setting a tag replaces the tag with the same name in
+ * any case, and removing a tag removes it in any case.
+ */
+@LangDefinition(ContainerName = "CollectionActions")
+@Beta(Beta.SinceVersion.V1_23_0)
+public final class TagMutations {
+    private final List<Mutation> mutations = new ArrayList<>();
+
+    /**
+     * Sets a tag, adding it or replacing its current value.
+     *
+     * @param name the name of the tag
+     * @param value the value of the tag
+     * @return the tag mutations themselves
+     */
+    public TagMutations withTag(String name, String value) {
+        mutations.add(new Mutation(name, value, true));
+        return this;
+    }
+
+    /**
+     * Adds a tag to the resources that do not have it, keeping the current value of the others.
+     *
+     * @param name the name of the tag
+     * @param value the value of the tag
+     * @return the tag mutations themselves
+     */
+    public TagMutations withTagIfAbsent(String name, String value) {
+        mutations.add(new Mutation(name, value, false));
+        return this;
+    }
+
+    /**
+     * Removes a tag.
+     *
+     * @param name the name of the tag
+     * @return the tag mutations themselves
+     */
+    public TagMutations withoutTag(String name) {
+        mutations.add(new Mutation(name, null, true));
+        return this;
+    }
+
+    /**
+     * @return true if no change was added
+     */
+    public boolean isEmpty() {
+        return mutations.isEmpty();
+    }
+
+    /**
+     * Applies the changes to tags.
+     *
+     * @param tags the current tags, null if the resource has no tags
+     * @return the new tags, the given tags are not modified
+     */
+    public Map<String, String> applyTo(Map<String, String> tags) {
+        Map<String, String> result = tags == null
+                ? new LinkedHashMap<String, String>()
+                : new LinkedHashMap<>(tags);
+        for (Mutation mutation : mutations) {
+            String existingName = null;
+            for (Iterator<String> names = result.keySet().iterator(); names.hasNext();) {
+                String name = names.next();
+                if (name.equalsIgnoreCase(mutation.name)) {
+                    existingName = name;
+                    if (mutation.replace) {
+                        names.remove();
+                    }
+                    break;
+                }
+            }
+            if (mutation.value != null && (mutation.replace || existingName == null)) {
+                result.put(mutation.name, mutation.value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * A change to one tag.
+     */
+    private static final class Mutation {
+        private final String name;
+        private final String value;
+        private final boolean replace;
+
+        Mutation(String name, String value, boolean replace) {
+            if (name == null || name.isEmpty()) {
+                throw new IllegalArgumentException("The name of the tag is required.");
+            }
+            this.name = name;
+            this.value = value;
+            this.replace = replace;
+        }
+    }
+}
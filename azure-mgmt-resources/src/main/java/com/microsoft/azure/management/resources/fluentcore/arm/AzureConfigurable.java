@@ -6,11 +6,13 @@
 
 package com.microsoft.azure.management.resources.fluentcore.arm;
 
+import com.microsoft.azure.management.apigeneration.Beta;
 import com.microsoft.rest.LogLevel;
 import okhttp3.Authenticator;
 import okhttp3.ConnectionPool;
 import okhttp3.Dispatcher;
 import okhttp3.Interceptor;
+import rx.Scheduler;
 
 import java.net.Proxy;
 import java.util.concurrent.Executor;
@@ -105,6 +107,27 @@ public interface AzureConfigurable<T extends AzureConfigurable<T>> {
      */
     T withCallbackExecutor(Executor executor);
 
+    /**
+     * Sets the Rx Scheduler the managers and resources of the client run their work on, instead of the
+     * Rx Scheduler shared by all the clients in the SDK framework. A dedicated executor can be plugged in
+     * with {@link rx.schedulers.Schedulers#from(Executor)}.
+     *
+     * @param scheduler the Rx Scheduler to use
+     * @return the configurable object itself for chaining
+     */
+    @Beta(Beta.SinceVersion.V1_23_0)
+    T withScheduler(Scheduler scheduler);
+
+    /**
+     * Merges the identical GET requests in flight at the same time into a single call, through a
+     * {@link com.microsoft.azure.management.resources.fluentcore.utils.RequestCoalescingInterceptor}
+     * dedicated to the REST client being built.
+     *
+     * @return the configurable object itself for chaining
+     */
+    @Beta(Beta.SinceVersion.V1_23_0)
+    T withRequestCoalescing();
+
     /**
      * Sets the proxy for the HTTP client.
      *
@@ -8,99 +8,171 @@ package com.microsoft.azure.management.resources.fluentcore.arm;
 
 import com.microsoft.azure.management.apigeneration.LangDefinition;
 import java.security.InvalidParameterException;
-import org.apache.commons.lang3.StringUtils;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Instantiate itself from a resource id, and give easy access to resource information like subscription, resourceGroup,
  * resource name.
+ * <p>
+ * The id is parsed in a single pass that only records the offsets of its segments, the parts are extracted
+ * on first access. Parsed ids are kept in a small bounded cache, so that the repeated lookups done by the
+ * fluent models on the same id string do not parse it again.
  */
 @LangDefinition
 public final class ResourceId {
+    /**
+     * the number of slots in the cache of parsed ids, must be a power of two.
+     */
+    private static final int CACHE_SIZE = 4096;
+    /**
+     * direct mapped cache of parsed ids, a slot holds the last id parsed with its hash.
+     */
+    private static final AtomicReferenceArray<ResourceId> CACHE = new AtomicReferenceArray<>(CACHE_SIZE);
+
+    private final String id;
+    // Offsets of the parts in the id, start is inclusive and end exclusive, -1 if the part is absent
+    private final int subscriptionStart;
+    private final int subscriptionEnd;
+    private final int resourceGroupStart;
+    private final int resourceGroupEnd;
+    private final int providerStart;
+    private final int providerEnd;
+    private final int resourceTypeStart;
+    private final int resourceTypeEnd;
+    private final int nameStart;
+    private final int nameEnd;
+    private final boolean hasParent;
 
-    private String subscriptionId = null;
-    private String resourceGroupName = null;
-    private String name = null;
-    private String providerNamespace = null;
-    private String resourceType = null;
-    private String id = null;
-    private String parentId = null;
+    // Parts extracted on first access, races only lead to extracting the same part twice
+    private String subscriptionId;
+    private String resourceGroupName;
+    private String providerNamespace;
+    private String resourceType;
+    private String name;
+    private String parentId;
+    private ResourceId parent;
 
     private static String badIdErrorText(String id) {
         return String.format("The specified ID `%s` is not a valid Azure resource ID.", id);
     }
 
-    private ResourceId(final String id) {
-        if (id == null) {
-            // Protect against NPEs from null IDs, preserving legacy behavior for null IDs
-            return;
-        } else {
-            // Skip the first '/' if any, and then split using '/'
-            String[] splits = (id.startsWith("/")) ? id.substring(1).split("/") : id.split("/");
-            if (splits.length % 2 == 1) {
-                throw new InvalidParameterException(badIdErrorText(id));
-            }
-
-            // Save the ID itself
-            this.id = id;
+    private ResourceId() {
+        this.id = null;
+        this.subscriptionStart = -1;
+        this.subscriptionEnd = -1;
+        this.resourceGroupStart = -1;
+        this.resourceGroupEnd = -1;
+        this.providerStart = -1;
+        this.providerEnd = -1;
+        this.resourceTypeStart = -1;
+        this.resourceTypeEnd = -1;
+        this.nameStart = -1;
+        this.nameEnd = -1;
+        this.hasParent = false;
+    }
 
-            // Format of id:
-            // /subscriptions/<subscriptionId>/resourceGroups/<resourceGroupName>/providers/<providerNamespace>(/<parentResourceType>/<parentName>)*/<resourceType>/<name>
-            //  0             1                2              3                   4         5                                                        N-2            N-1
+    private ResourceId(final String id, final int[] offsets, final boolean hasParent) {
+        this.id = id;
+        this.subscriptionStart = offsets[0];
+        this.subscriptionEnd = offsets[1];
+        this.resourceGroupStart = offsets[2];
+        this.resourceGroupEnd = offsets[3];
+        this.providerStart = offsets[4];
+        this.providerEnd = offsets[5];
+        this.resourceTypeStart = offsets[6];
+        this.resourceTypeEnd = offsets[7];
+        this.nameStart = offsets[8];
+        this.nameEnd = offsets[9];
+        this.hasParent = hasParent;
+    }
 
-            // Extract resource type and name
-            if (splits.length < 2) {
-                throw new InvalidParameterException(badIdErrorText(id));
-            } else {
-                this.name = splits[splits.length - 1];
-                this.resourceType = splits[splits.length - 2];
-            }
+    /**
+     * Parses a resource id.
+     * <p>
+     * Format of id:
+     * /subscriptions/&lt;subscriptionId&gt;/resourceGroups/&lt;resourceGroupName&gt;/providers/&lt;providerNamespace&gt;(/&lt;parentResourceType&gt;/&lt;parentName&gt;)*&#47;&lt;resourceType&gt;/&lt;name&gt;
+     * with segments numbered from 0 (subscriptions) to N-1 (name). A leading '/' and trailing '/' are ignored.
+     *
+     * @param id the resource id
+     * @return the parsed resource id
+     */
+    private static ResourceId parse(final String id) {
+        final int start = id.startsWith("/") ? 1 : 0;
+        int end = id.length();
+        while (end > start && id.charAt(end - 1) == '/') {
+            end--;
+        }
 
-            // Extract parent ID
-            if (splits.length < 10) {
-                this.parentId = null;
-            } else {
-                String[] parentSplits = new String[splits.length - 2];
-                System.arraycopy(splits, 0, parentSplits, 0, splits.length - 2);
-                this.parentId = "/" + StringUtils.join(parentSplits, "/");
+        // subscription, resource group, provider, type and name offsets
+        final int[] offsets = {-1, -1, -1, -1, -1, -1, -1, -1, -1, -1};
+        int segmentCount = 0;
+        int segmentStart = start;
+        int lastStart = -1;
+        int lastEnd = -1;
+        int previousStart = -1;
+        int previousEnd = -1;
+        for (int i = start; i <= end; i++) {
+            if (i < end && id.charAt(i) != '/') {
+                continue;
             }
-
-            for (int i = 0; i < splits.length && i < 6; i++) {
-                switch (i) {
-                case 0:
-                    // Ensure "subscriptions"
-                    if (!splits[i].equalsIgnoreCase("subscriptions")) {
-                        throw new InvalidParameterException(badIdErrorText(id));
-                    }
-                    break;
-                case 1:
-                    // Extract subscription ID
-                    this.subscriptionId = splits[i];
-                    break;
-                case 2:
-                    // Ensure "resourceGroups"
-                    if (!splits[i].equalsIgnoreCase("resourceGroups")) {
-                        throw new InvalidParameterException(badIdErrorText(id));
-                    }
-                    break;
-                case 3:
-                    // Extract resource group name
-                    this.resourceGroupName = splits[i];
-                    break;
-                case 4:
-                    // Ensure "providers"
-                    if (!splits[i].equalsIgnoreCase("providers")) {
-                        throw new InvalidParameterException(badIdErrorText(id));
-                    }
-                    break;
-                case 5:
-                    // Extract provider namespace
-                    this.providerNamespace = splits[i];
-                    break;
-                default:
-                    break;
+            switch (segmentCount) {
+            case 0:
+                // Ensure "subscriptions"
+                if (!segmentEqualsIgnoreCase(id, segmentStart, i, "subscriptions")) {
+                    throw new InvalidParameterException(badIdErrorText(id));
+                }
+                break;
+            case 1:
+                // Extract subscription ID
+                offsets[0] = segmentStart;
+                offsets[1] = i;
+                break;
+            case 2:
+                // Ensure "resourceGroups"
+                if (!segmentEqualsIgnoreCase(id, segmentStart, i, "resourceGroups")) {
+                    throw new InvalidParameterException(badIdErrorText(id));
                 }
+                break;
+            case 3:
+                // Extract resource group name
+                offsets[2] = segmentStart;
+                offsets[3] = i;
+                break;
+            case 4:
+                // Ensure "providers"
+                if (!segmentEqualsIgnoreCase(id, segmentStart, i, "providers")) {
+                    throw new InvalidParameterException(badIdErrorText(id));
+                }
+                break;
+            case 5:
+                // Extract provider namespace
+                offsets[4] = segmentStart;
+                offsets[5] = i;
+                break;
+            default:
+                break;
             }
+            previousStart = lastStart;
+            previousEnd = lastEnd;
+            lastStart = segmentStart;
+            lastEnd = i;
+            segmentCount++;
+            segmentStart = i + 1;
         }
+
+        if (segmentCount % 2 == 1 || segmentCount < 2) {
+            throw new InvalidParameterException(badIdErrorText(id));
+        }
+        // Extract resource type and name
+        offsets[6] = previousStart;
+        offsets[7] = previousEnd;
+        offsets[8] = lastStart;
+        offsets[9] = lastEnd;
+        return new ResourceId(id, offsets, segmentCount >= 10);
+    }
+
+    private static boolean segmentEqualsIgnoreCase(String id, int start, int end, String expected) {
+        return end - start == expected.length() && id.regionMatches(true, start, expected, 0, expected.length());
     }
 
     /**
@@ -109,13 +181,28 @@ public final class ResourceId {
      * @return ResourceId object
      */
     public static ResourceId fromString(String id) {
-        return new ResourceId(id);
+        if (id == null) {
+            // Protect against NPEs from null IDs, preserving legacy behavior for null IDs
+            return new ResourceId();
+        }
+        int hash = id.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & (CACHE_SIZE - 1);
+        ResourceId cached = CACHE.get(slot);
+        if (cached != null && (cached.id == id || cached.id.equals(id))) {
+            return cached;
+        }
+        ResourceId resourceId = parse(id);
+        CACHE.set(slot, resourceId);
+        return resourceId;
     }
 
     /**
      * @return subscriptionId of the resource.
      */
     public String subscriptionId() {
+        if (this.subscriptionId == null && this.subscriptionStart >= 0) {
+            this.subscriptionId = this.id.substring(this.subscriptionStart, this.subscriptionEnd);
+        }
         return this.subscriptionId;
     }
 
@@ -123,6 +210,9 @@ public final class ResourceId {
      * @return resourceGroupName of the resource.
      */
     public String resourceGroupName() {
+        if (this.resourceGroupName == null && this.resourceGroupStart >= 0) {
+            this.resourceGroupName = this.id.substring(this.resourceGroupStart, this.resourceGroupEnd);
+        }
         return this.resourceGroupName;
     }
 
@@ -130,6 +220,9 @@ public final class ResourceId {
      * @return name of the resource.
      */
     public String name() {
+        if (this.name == null && this.nameStart >= 0) {
+            this.name = this.id.substring(this.nameStart, this.nameEnd);
+        }
         return this.name;
     }
 
@@ -137,17 +230,34 @@ public final class ResourceId {
      * @return parent resource id of the resource if any, otherwise null.
      */
     public ResourceId parent() {
-        if (this.id == null || this.parentId == null) {
+        if (this.id == null || !this.hasParent) {
             return null;
-        } else {
-            return fromString(this.parentId);
         }
+        if (this.parent == null) {
+            this.parent = fromString(this.parentId());
+        }
+        return this.parent;
+    }
+
+    /**
+     * @return the id of the parent resource if any, otherwise null.
+     */
+    String parentId() {
+        if (this.parentId == null && this.hasParent) {
+            // The parent id always starts with '/' and ends before the separator of the resource type
+            String parentId = this.id.substring(0, this.resourceTypeStart - 1);
+            this.parentId = parentId.startsWith("/") ? parentId : "/" + parentId;
+        }
+        return this.parentId;
     }
 
     /**
      * @return name of the provider.
      */
     public String providerNamespace() {
+        if (this.providerNamespace == null && this.providerStart >= 0) {
+            this.providerNamespace = this.id.substring(this.providerStart, this.providerEnd);
+        }
         return this.providerNamespace;
     }
 
@@ -155,6 +265,9 @@ public final class ResourceId {
      * @return type of the resource.
      */
     public String resourceType() {
+        if (this.resourceType == null && this.resourceTypeStart >= 0) {
+            this.resourceType = this.id.substring(this.resourceTypeStart, this.resourceTypeEnd);
+        }
         return this.resourceType;
     }
 
@@ -162,10 +275,10 @@ public final class ResourceId {
      * @return full type of the resource.
      */
     public String fullResourceType() {
-        if (this.parentId == null) {
-            return this.providerNamespace + "/" + this.resourceType;
+        if (!this.hasParent) {
+            return this.providerNamespace() + "/" + this.resourceType();
         } else {
-            return this.parent().fullResourceType() + "/" + this.resourceType;
+            return this.parent().fullResourceType() + "/" + this.resourceType();
         }
     }
 
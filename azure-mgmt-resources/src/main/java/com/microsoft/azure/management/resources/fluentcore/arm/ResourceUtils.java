@@ -9,6 +9,8 @@ package com.microsoft.azure.management.resources.fluentcore.arm;
 import com.microsoft.azure.management.resources.Provider;
 import com.microsoft.azure.management.resources.ProviderResourceType;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -16,6 +18,9 @@ import java.util.regex.Pattern;
  * Utility methods for Azure resource IDs.
  */
 public final class ResourceUtils {
+    private static final int MAX_IDENTIFIER_PATTERNS = 256;
+    private static final ConcurrentMap<String, Pattern> IDENTIFIER_PATTERNS = new ConcurrentHashMap<>();
+
     private ResourceUtils() { }
 
     /**
@@ -66,12 +71,7 @@ public final class ResourceUtils {
         if (id == null) {
             return null;
         }
-        ResourceId resourceId = ResourceId.fromString(id);
-        if (resourceId != null && resourceId.parent() != null) {
-            return ResourceId.fromString(id).parent().id();
-        }
-
-        return null;
+        return ResourceId.fromString(id).parentId();
     }
 
     /**
@@ -105,11 +105,12 @@ public final class ResourceUtils {
         if (id == null) {
             return null;
         }
-        String[] paths = id.split("/providers/" + resourceProviderFromResourceId(id) + "/", 2);
-        if (paths.length == 1) {
+        String providerPath = "/providers/" + resourceProviderFromResourceId(id) + "/";
+        int index = id.indexOf(providerPath);
+        if (index < 0) {
             return "";
         } else {
-            return paths[1];
+            return id.substring(index + providerPath.length());
         }
     }
 
@@ -125,7 +126,14 @@ public final class ResourceUtils {
         if (id == null || identifier == null) {
             return id;
         }
-        Pattern pattern = Pattern.compile(identifier + "/[-\\w._]+");
+        Pattern pattern = IDENTIFIER_PATTERNS.get(identifier);
+        if (pattern == null) {
+            if (IDENTIFIER_PATTERNS.size() >= MAX_IDENTIFIER_PATTERNS) {
+                IDENTIFIER_PATTERNS.clear();
+            }
+            pattern = Pattern.compile(identifier + "/[-\\w._]+");
+            IDENTIFIER_PATTERNS.put(identifier, pattern);
+        }
         Matcher matcher = pattern.matcher(id);
         if (matcher.find()) {
             return matcher.group().split("/")[1];
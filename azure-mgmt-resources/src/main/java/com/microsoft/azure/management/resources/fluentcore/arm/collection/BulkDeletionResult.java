@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources.fluentcore.arm.collection;
+
+import com.microsoft.azure.management.apigeneration.Beta;
+import com.microsoft.azure.management.apigeneration.LangDefinition;
+
+/**
+ * The outcome of the deletion of one resource in a bulk deletion.
+ */
+@LangDefinition(ContainerName = "CollectionActions")
+@Beta(Beta.SinceVersion.V1_23_0)
+public interface BulkDeletionResult {
+    /**
+     * @return the ID, or the name, of the resource
+     */
+    String id();
+
+    /**
+     * @return true if the resource was deleted
+     */
+    boolean isDeleted();
+
+    /**
+     * @return the error of the last attempt if the resource was not deleted, null otherwise
+     */
+    Throwable error();
+
+    /**
+     * @return the number of deletion attempts, more than one if transient errors were retried
+     */
+    int attempts();
+}
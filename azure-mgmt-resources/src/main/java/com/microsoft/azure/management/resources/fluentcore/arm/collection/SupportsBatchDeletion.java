@@ -18,7 +18,7 @@ import rx.Observable;
  * (Note this interface is not intended to be implemented by user code.)
  */
 @LangDefinition(ContainerName = "CollectionActions", CreateAsyncMethods = true, MethodConversionType = MethodConversion.OnlyMethod)
-public interface SupportsBatchDeletion {
+public interface SupportsBatchDeletion extends SupportsBulkDeletion {
     /**
      * Deletes the specified resources from Azure asynchronously and in parallel.
      * @param ids resource IDs of the resources to be deleted
@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources.fluentcore.arm.collection;
+
+import com.microsoft.azure.management.apigeneration.Beta;
+import com.microsoft.azure.management.apigeneration.LangDefinition;
+import rx.Observable;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Provides access to deleting a large number of resources from Azure, identifying them by their IDs.
+ * <p>
+ * At most the given number of deletions are in flight at any time, resources are deleted after the
+ * resources that typically depend on them (e.g. network interfaces after virtual machines, public IP
+ * addresses after network interfaces) and the deletions failing with a transient conflict or throttling
+ * error are retried. Each deletion reports its own outcome, a failed deletion does not stop the others.
+ * <p>
+ * (Note this interface is not intended to be implemented by user code.)
+ */
+@LangDefinition(ContainerName = "CollectionActions", CreateAsyncMethods = true, MethodConversionType = LangDefinition.MethodConversion.OnlyMethod)
+@Beta(Beta.SinceVersion.V1_23_0)
+public interface SupportsBulkDeletion {
+    /**
+     * Deletes the specified resources from Azure asynchronously, with a bounded number of deletions in flight.
+     *
+     * @param ids resource IDs of the resources to be deleted
+     * @param maxConcurrency the maximum number of deletions in flight
+     * @return a representation of the deferred computation of this call emitting the outcome of each deletion
+     * as it completes
+     */
+    Observable<BulkDeletionResult> bulkDeleteByIdsAsync(Collection<String> ids, int maxConcurrency);
+
+    /**
+     * Deletes the specified resources from Azure, with a bounded number of deletions in flight.
+     *
+     * @param ids resource IDs of the resources to be deleted
+     * @param maxConcurrency the maximum number of deletions in flight
+     * @return the outcome of each deletion
+     */
+    List<BulkDeletionResult> bulkDeleteByIds(Collection<String> ids, int maxConcurrency);
+}
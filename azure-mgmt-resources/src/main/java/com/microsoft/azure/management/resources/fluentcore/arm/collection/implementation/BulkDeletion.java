@@ -0,0 +1,243 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources.fluentcore.arm.collection.implementation;
+
+import com.microsoft.azure.CloudException;
+import com.microsoft.azure.management.apigeneration.LangDefinition;
+import com.microsoft.azure.management.resources.fluentcore.arm.ResourceId;
+import com.microsoft.azure.management.resources.fluentcore.arm.collection.BulkDeletionResult;
+import com.microsoft.azure.management.resources.fluentcore.utils.SdkContext;
+import rx.Completable;
+import rx.Observable;
+import rx.functions.Func0;
+import rx.functions.Func1;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Deletes a large number of resources with a bounded number of deletions in flight.
+ * <p>
+ * Resources are deleted in waves inferred from their resource type, so that a resource is deleted after
+ * the resources that typically depend on it: first the resources not listed below (e.g. virtual machines,
+ * web apps), then network interfaces, load balancers, application gateways, disks and availability sets,
+ * then public IP addresses, then virtual networks, network security groups and route tables. Within a wave
+ * the deletions run concurrently up to the limit.
+ * <p>
+ * Deletions failing with a conflict (409), throttling (429) or server error (5xx) are retried with an
+ * exponential delay, a resource that no longer exists (404) is reported as deleted.
+ */
+@LangDefinition
+public final class BulkDeletion {
+    private static final int DEFAULT_MAX_CONCURRENCY = 10;
+    private static final int DEFAULT_MAX_RETRIES = 5;
+    private static final int DEFAULT_RETRY_DELAY_IN_MILLIS = 5 * 1000;
+    private static final int MAX_RETRY_DELAY_IN_MILLIS = 60 * 1000;
+    private static final Map<String, Integer> WAVES = new HashMap<>();
+
+    static {
+        WAVES.put("microsoft.network/networkinterfaces", 1);
+        WAVES.put("microsoft.network/loadbalancers", 1);
+        WAVES.put("microsoft.network/applicationgateways", 1);
+        WAVES.put("microsoft.compute/disks", 1);
+        WAVES.put("microsoft.compute/availabilitysets", 1);
+        WAVES.put("microsoft.web/serverfarms", 1);
+        WAVES.put("microsoft.network/publicipaddresses", 2);
+        WAVES.put("microsoft.network/virtualnetworks", 3);
+        WAVES.put("microsoft.network/networksecuritygroups", 3);
+        WAVES.put("microsoft.network/routetables", 3);
+    }
+
+    private final Func1<String, Completable> deleteOperation;
+    private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+    private int maxRetries = DEFAULT_MAX_RETRIES;
+    private int retryDelayInMillis = DEFAULT_RETRY_DELAY_IN_MILLIS;
+    private boolean orderByDependency = true;
+
+    /**
+     * Creates a bulk deletion.
+     *
+     * @param deleteOperation the operation deleting one resource, given its ID
+     */
+    public BulkDeletion(Func1<String, Completable> deleteOperation) {
+        this.deleteOperation = deleteOperation;
+    }
+
+    /**
+     * Specifies the maximum number of deletions in flight, 10 by default.
+     *
+     * @param maxConcurrency the maximum number of deletions in flight
+     * @return the bulk deletion itself
+     */
+    public BulkDeletion withMaxConcurrency(int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The maximum concurrency must be at least 1.");
+        }
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * Specifies how transient errors are retried, by default 5 retries after 5 seconds, doubling up to a minute.
+     *
+     * @param maxRetries the maximum number of retries of a deletion
+     * @param retryDelayInMillis the delay before the first retry in milliseconds
+     * @return the bulk deletion itself
+     */
+    public BulkDeletion withRetries(int maxRetries, int retryDelayInMillis) {
+        if (maxRetries < 0 || retryDelayInMillis < 0) {
+            throw new IllegalArgumentException("The retries and their delay cannot be negative.");
+        }
+        this.maxRetries = maxRetries;
+        this.retryDelayInMillis = retryDelayInMillis;
+        return this;
+    }
+
+    /**
+     * Specifies that all the deletions are in the same wave, for keys that are not resource IDs.
+     *
+     * @return the bulk deletion itself
+     */
+    public BulkDeletion withoutDependencyOrdering() {
+        this.orderByDependency = false;
+        return this;
+    }
+
+    /**
+     * Deletes the resources.
+     *
+     * @param ids the IDs of the resources, duplicates are deleted once
+     * @return an observable emitting the outcome of each deletion as it completes
+     */
+    public Observable<BulkDeletionResult> deleteAsync(Collection<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Observable.empty();
+        }
+        TreeMap<Integer, List<String>> waves = new TreeMap<>();
+        for (String id : new LinkedHashSet<>(ids)) {
+            int wave = orderByDependency ? waveOf(id) : 0;
+            List<String> waveIds = waves.get(wave);
+            if (waveIds == null) {
+                waveIds = new ArrayList<>();
+                waves.put(wave, waveIds);
+            }
+            waveIds.add(id);
+        }
+        List<Observable<BulkDeletionResult>> observables = new ArrayList<>();
+        for (List<String> waveIds : waves.values()) {
+            observables.add(Observable.from(waveIds)
+                    .flatMap(new Func1<String, Observable<BulkDeletionResult>>() {
+                        @Override
+                        public Observable<BulkDeletionResult> call(String id) {
+                            return deleteAsync(id, 1, retryDelayInMillis);
+                        }
+                    }, maxConcurrency));
+        }
+        return Observable.concat(Observable.from(observables));
+    }
+
+    /**
+     * Deletes the resources.
+     *
+     * @param ids the IDs of the resources, duplicates are deleted once
+     * @return the outcome of each deletion
+     */
+    public List<BulkDeletionResult> delete(Collection<String> ids) {
+        return deleteAsync(ids).toList().toBlocking().single();
+    }
+
+    private Observable<BulkDeletionResult> deleteAsync(final String id, final int attempt, final int delayInMillis) {
+        return Completable.defer(new Func0<Completable>() {
+            @Override
+            public Completable call() {
+                return deleteOperation.call(id);
+            }
+        })
+                .andThen(Observable.<BulkDeletionResult>just(new Result(id, attempt, null)))
+                .onErrorResumeNext(new Func1<Throwable, Observable<BulkDeletionResult>>() {
+                    @Override
+                    public Observable<BulkDeletionResult> call(Throwable throwable) {
+                        int statusCode = statusCodeOf(throwable);
+                        if (statusCode == 404) {
+                            return Observable.<BulkDeletionResult>just(new Result(id, attempt, null));
+                        }
+                        if (attempt > maxRetries || !isTransient(statusCode)) {
+                            return Observable.<BulkDeletionResult>just(new Result(id, attempt, throwable));
+                        }
+                        return SdkContext.delayedEmitAsync(id, delayInMillis)
+                                .flatMap(new Func1<String, Observable<BulkDeletionResult>>() {
+                                    @Override
+                                    public Observable<BulkDeletionResult> call(String ignored) {
+                                        return deleteAsync(id, attempt + 1,
+                                                Math.min(MAX_RETRY_DELAY_IN_MILLIS, delayInMillis * 2));
+                                    }
+                                });
+                    }
+                });
+    }
+
+    private static int waveOf(String id) {
+        try {
+            Integer wave = WAVES.get(ResourceId.fromString(id).fullResourceType().toLowerCase(Locale.ROOT));
+            return wave == null ? 0 : wave;
+        } catch (RuntimeException e) {
+            return 0;
+        }
+    }
+
+    private static int statusCodeOf(Throwable throwable) {
+        if (throwable instanceof CloudException && ((CloudException) throwable).response() != null) {
+            return ((CloudException) throwable).response().code();
+        }
+        return -1;
+    }
+
+    private static boolean isTransient(int statusCode) {
+        return statusCode == 409 || statusCode == 429 || statusCode >= 500;
+    }
+
+    /**
+     * The outcome of a deletion.
+     */
+    private static final class Result implements BulkDeletionResult {
+        private final String id;
+        private final int attempts;
+        private final Throwable error;
+
+        Result(String id, int attempts, Throwable error) {
+            this.id = id;
+            this.attempts = attempts;
+            this.error = error;
+        }
+
+        @Override
+        public String id() {
+            return id;
+        }
+
+        @Override
+        public boolean isDeleted() {
+            return error == null;
+        }
+
+        @Override
+        public Throwable error() {
+            return error;
+        }
+
+        @Override
+        public int attempts() {
+            return attempts;
+        }
+    }
+}
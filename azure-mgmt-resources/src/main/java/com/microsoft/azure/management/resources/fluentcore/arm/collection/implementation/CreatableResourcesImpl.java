@@ -7,6 +7,13 @@
 package com.microsoft.azure.management.resources.fluentcore.arm.collection.implementation;
 
 import com.microsoft.azure.management.resources.fluentcore.collection.SupportsBatchCreation;
+import com.microsoft.azure.management.resources.fluentcore.dag.TaskGroup;
+import com.microsoft.azure.management.resources.fluentcore.dag.TaskGroupSchedulingPolicy;
+import com.microsoft.azure.management.resources.fluentcore.dag.TaskGroupTerminateOnErrorStrategy;
+import com.microsoft.azure.management.resources.fluentcore.dag.TaskGroupTrace;
+import com.microsoft.azure.management.resources.fluentcore.dag.TaskTrace;
+import com.microsoft.azure.management.resources.fluentcore.dag.TaskTraceListener;
+import com.microsoft.azure.management.resources.fluentcore.model.BatchCreationResult;
 import com.microsoft.azure.management.resources.fluentcore.model.Creatable;
 import com.microsoft.azure.management.resources.fluentcore.model.CreatedResources;
 import com.microsoft.azure.management.resources.fluentcore.model.Indexable;
@@ -15,13 +22,22 @@ import com.microsoft.azure.management.resources.fluentcore.utils.Utils;
 import com.microsoft.rest.ServiceFuture;
 import com.microsoft.rest.ServiceCallback;
 import rx.Observable;
+import rx.exceptions.CompositeException;
+import rx.functions.Action0;
+import rx.functions.Func0;
 import rx.functions.Func1;
+import rx.subjects.PublishSubject;
+import rx.subjects.Subject;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Base class for creatable resource collection, i.e. those where the member of the collection is of <code>Resource</code>
@@ -81,6 +97,118 @@ public abstract class CreatableResourcesImpl<T extends Indexable, ImplT extends
         return ServiceFuture.fromBody(createAsyncNonStream(creatables), callback);
     }
 
+    @Override
+    public final Observable<BatchCreationResult<T>> createWindowedAsync(final List<Creatable<T>> creatables, final int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("The window size must be at least 1.");
+        }
+        return Observable.defer(new Func0<Observable<BatchCreationResult<T>>>() {
+            @Override
+            public Observable<BatchCreationResult<T>> call() {
+                final CreatableUpdatableResourcesRootImpl<T> rootResource = new CreatableUpdatableResourcesRootImpl<>();
+                rootResource.addCreatableDependencies(creatables);
+                final Set<String> keys = new HashSet<>(rootResource.keys);
+                final Subject<BatchCreationResult<T>, BatchCreationResult<T>> results =
+                        PublishSubject.<BatchCreationResult<T>>create().toSerialized();
+                final Set<Throwable> reportedErrors =
+                        Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<Throwable, Boolean>()));
+                final Map<String, Throwable> taskErrors = new ConcurrentHashMap<>();
+                // The outcome of each creatable is reported by the trace of its task, the dependents of a
+                // failed task are skipped while the other tasks keep running until the root of the batch.
+                // The errors of the tasks are reported through the results of the creatables, directly or
+                // as the cause of the failure of a dependency, only the other errors of the group are propagated
+                //
+                TaskGroup taskGroup = rootResource.taskGroup();
+                TaskGroup.InvocationContext context = taskGroup.newInvocationContext()
+                        .withTerminateOnErrorStrategy(TaskGroupTerminateOnErrorStrategy.TERMINATE_ON_HITTING_LCA_TASK)
+                        .withSchedulingPolicy(new TaskGroupSchedulingPolicy().withMaxInFlight(windowSize))
+                        .withTraceListener(new TaskTraceListener() {
+                            @SuppressWarnings("unchecked")
+                            @Override
+                            public void onTaskCompleted(TaskTrace trace) {
+                                if (trace.error() != null) {
+                                    reportedErrors.add(trace.error());
+                                }
+                                Throwable error = null;
+                                if (trace.outcome() != TaskTrace.Outcome.SUCCEEDED) {
+                                    error = errorOf(trace);
+                                    taskErrors.put(trace.key(), error);
+                                }
+                                if (keys.contains(trace.key())) {
+                                    T resource = error == null
+                                            ? (T) rootResource.createdRelatedResource(trace.key())
+                                            : null;
+                                    results.onNext(new BatchCreationResultImpl<>(trace.key(), resource, error));
+                                }
+                            }
+
+                            private Throwable errorOf(TaskTrace trace) {
+                                if (trace.outcome() == TaskTrace.Outcome.FAILED) {
+                                    return trace.error();
+                                } else if (trace.outcome() == TaskTrace.Outcome.SKIPPED) {
+                                    for (String dependencyKey : trace.dependencyKeys()) {
+                                        Throwable dependencyError = taskErrors.get(dependencyKey);
+                                        if (dependencyError != null) {
+                                            return new IllegalStateException(String.format(
+                                                    "'%s' was not created because its dependency '%s' failed.",
+                                                    trace.key(), dependencyKey), dependencyError);
+                                        }
+                                    }
+                                    return new IllegalStateException(String.format(
+                                            "'%s' was not created because one of its dependencies failed.", trace.key()));
+                                } else {
+                                    return new IllegalStateException(String.format(
+                                            "'%s' was not created because the batch was cancelled.", trace.key()));
+                                }
+                            }
+
+                            @Override
+                            public void onGroupCompleted(TaskGroupTrace trace) {
+                            }
+                        });
+                Observable<BatchCreationResult<T>> invocation = taskGroup.invokeAsync(context)
+                        .onErrorResumeNext(new Func1<Throwable, Observable<Indexable>>() {
+                            @Override
+                            public Observable<Indexable> call(Throwable throwable) {
+                                List<Throwable> errors = throwable instanceof CompositeException
+                                        ? ((CompositeException) throwable).getExceptions()
+                                        : Collections.singletonList(throwable);
+                                List<Throwable> unreportedErrors = new ArrayList<>();
+                                for (Throwable error : errors) {
+                                    if (!reportedErrors.contains(error)) {
+                                        unreportedErrors.add(error);
+                                    }
+                                }
+                                if (unreportedErrors.isEmpty()) {
+                                    return Observable.empty();
+                                } else if (unreportedErrors.size() == 1) {
+                                    return Observable.error(unreportedErrors.get(0));
+                                } else {
+                                    return Observable.error(new CompositeException(unreportedErrors));
+                                }
+                            }
+                        })
+                        .toCompletable()
+                        .doOnCompleted(new Action0() {
+                            @Override
+                            public void call() {
+                                results.onCompleted();
+                            }
+                        })
+                        .toObservable();
+                return results.mergeWith(invocation);
+            }
+        });
+    }
+
+    @Override
+    public final List<BatchCreationResult<T>> createWindowed(List<Creatable<T>> creatables, int windowSize) {
+        return createWindowedAsync(creatables, windowSize)
+                .toList()
+                .toBlocking()
+                .single();
+    }
+
 
     private Observable<CreatedResources<T>> createAsyncNonStream(List<Creatable<T>> creatables) {
         return Utils.<CreatableUpdatableResourcesRoot<T>>rootResource(this.createAsync(creatables))
@@ -146,6 +274,43 @@ public abstract class CreatableResourcesImpl<T extends Indexable, ImplT extends
         }
     }
 
+    /**
+     * Implements BatchCreationResult.
+     * @param <ResourceT> the type of the resources in the batch.
+     */
+    private static final class BatchCreationResultImpl<ResourceT extends Indexable>
+            implements BatchCreationResult<ResourceT> {
+        private final String key;
+        private final ResourceT resource;
+        private final Throwable error;
+
+        BatchCreationResultImpl(String key, ResourceT resource, Throwable error) {
+            this.key = key;
+            this.resource = resource;
+            this.error = error;
+        }
+
+        @Override
+        public String key() {
+            return this.key;
+        }
+
+        @Override
+        public boolean isCreated() {
+            return this.error == null;
+        }
+
+        @Override
+        public ResourceT resource() {
+            return this.resource;
+        }
+
+        @Override
+        public Throwable error() {
+            return this.error;
+        }
+    }
+
      /**
      * The local root resource that is used as dummy parent resource for the batch creatable resources
      * added via <code>SupportsBatchCreation.create()</code> or <code>CreatableResourcesImpl#createAsync</code>.
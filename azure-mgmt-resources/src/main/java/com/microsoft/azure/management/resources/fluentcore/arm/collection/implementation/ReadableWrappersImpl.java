@@ -8,8 +8,10 @@ package com.microsoft.azure.management.resources.fluentcore.arm.collection.imple
 import com.microsoft.azure.Page;
 import com.microsoft.azure.PagedList;
 import com.microsoft.azure.management.resources.fluentcore.utils.PagedListConverter;
+import com.microsoft.azure.management.resources.fluentcore.utils.SdkContext;
 import com.microsoft.azure.management.resources.implementation.PageImpl;
 import rx.Observable;
+import rx.Scheduler;
 import rx.functions.Func1;
 
 import java.util.List;
@@ -67,7 +69,37 @@ public abstract class ReadableWrappersImpl<
 
 
     protected Observable<T> wrapPageAsync(Observable<Page<InnerT>> innerPage) {
-        return wrapModelAsync(convertPageToInnerAsync(innerPage));
+        return wrapModelAsync(convertPageToInnerAsync(prefetchPagesAsync(innerPage, converter.prefetchDepth())));
+    }
+
+    /**
+     * Decouples the fetching of pages from their consumption, so that up to the given number of
+     * pages are fetched while a page is consumed.
+     * @param innerPage the pages to fetch ahead
+     * @param prefetchDepth the maximum number of pages fetched ahead, 0 to fetch pages only when needed
+     * @param <InnerT> type of inner.
+     * @return Observable for the pages, emitted on the SDK rx scheduler if prefetching
+     */
+    public static <InnerT> Observable<Page<InnerT>> prefetchPagesAsync(Observable<Page<InnerT>> innerPage, int prefetchDepth) {
+        return prefetchPagesAsync(innerPage, prefetchDepth, SdkContext.getRxScheduler());
+    }
+
+    /**
+     * Decouples the fetching of pages from their consumption, so that up to the given number of
+     * pages are fetched while a page is consumed.
+     * @param innerPage the pages to fetch ahead
+     * @param prefetchDepth the maximum number of pages fetched ahead, 0 to fetch pages only when needed
+     * @param scheduler the scheduler the pages are emitted on
+     * @param <InnerT> type of inner.
+     * @return Observable for the pages, emitted on the given scheduler if prefetching
+     */
+    public static <InnerT> Observable<Page<InnerT>> prefetchPagesAsync(Observable<Page<InnerT>> innerPage, int prefetchDepth, Scheduler scheduler) {
+        if (prefetchDepth <= 0) {
+            return innerPage;
+        }
+        // observeOn requests at most prefetchDepth pages from upstream, the generated list
+        // operations request the next page as soon as the previous one is emitted
+        return innerPage.observeOn(scheduler, prefetchDepth);
     }
 
     protected Observable<T> wrapListAsync(Observable<List<InnerT>> innerList) {
@@ -8,6 +8,7 @@ package com.microsoft.azure.management.resources.fluentcore.arm.collection.imple
 import com.microsoft.azure.PagedList;
 import com.microsoft.azure.Resource;
 import com.microsoft.azure.management.resources.fluentcore.arm.ResourceUtils;
+import com.microsoft.azure.management.resources.fluentcore.arm.collection.BulkDeletionResult;
 import com.microsoft.azure.management.resources.fluentcore.arm.collection.SupportsBatchDeletion;
 import com.microsoft.azure.management.resources.fluentcore.arm.collection.SupportsDeletingByResourceGroup;
 import com.microsoft.azure.management.resources.fluentcore.arm.collection.SupportsGettingById;
@@ -24,10 +25,12 @@ import com.microsoft.azure.management.resources.fluentcore.model.HasInner;
 import com.microsoft.azure.management.resources.fluentcore.utils.RXMapper;
 import rx.Completable;
 import rx.Observable;
+import rx.functions.Func1;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Base class for resource collection classes.
@@ -69,6 +72,21 @@ public abstract class TopLevelModifiableResourcesImpl<
         return inner().deleteAsync(resourceGroupName, name).toCompletable();
     }
 
+    @Override
+    public Observable<BulkDeletionResult> bulkDeleteByIdsAsync(Collection<String> ids, int maxConcurrency) {
+        return new BulkDeletion(new Func1<String, Completable>() {
+            @Override
+            public Completable call(String id) {
+                return deleteByIdAsync(id);
+            }
+        }).withMaxConcurrency(maxConcurrency).deleteAsync(ids);
+    }
+
+    @Override
+    public List<BulkDeletionResult> bulkDeleteByIds(Collection<String> ids, int maxConcurrency) {
+        return bulkDeleteByIdsAsync(ids, maxConcurrency).toList().toBlocking().single();
+    }
+
     @Override
     public Observable<String> deleteByIdsAsync(String...ids) {
         return this.deleteByIdsAsync(new ArrayList<String>(Arrays.asList(ids)));
@@ -7,11 +7,14 @@
 package com.microsoft.azure.management.resources.fluentcore.arm.implementation;
 
 import com.microsoft.azure.AzureEnvironment;
-import com.microsoft.azure.AzureResponseBuilder;
 import com.microsoft.azure.credentials.AzureTokenCredentials;
 import com.microsoft.azure.management.resources.fluentcore.arm.AzureConfigurable;
+import com.microsoft.azure.management.resources.fluentcore.utils.ConditionalRequestInterceptor;
 import com.microsoft.azure.management.resources.fluentcore.utils.ProviderRegistrationInterceptor;
-import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerThrottlingInterceptor;
+import com.microsoft.azure.management.resources.fluentcore.utils.RequestCoalescingInterceptor;
+import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerMetricsInterceptor;
+import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerThrottlingCallAdapterFactory;
+import com.microsoft.azure.management.resources.fluentcore.utils.StreamingPageResponseBuilder;
 import com.microsoft.azure.serializer.AzureJacksonAdapter;
 import com.microsoft.rest.LogLevel;
 import com.microsoft.rest.RestClient;
@@ -19,6 +22,9 @@ import okhttp3.Authenticator;
 import okhttp3.ConnectionPool;
 import okhttp3.Dispatcher;
 import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import retrofit2.Retrofit;
+import rx.Scheduler;
 
 import java.net.Proxy;
 import java.util.concurrent.Executor;
@@ -33,11 +39,15 @@ import java.util.concurrent.TimeUnit;
 public class AzureConfigurableImpl<T extends AzureConfigurable<T>>
         implements AzureConfigurable<T> {
     protected RestClient.Builder restClientBuilder;
+    private final ResourceManagerThrottlingCallAdapterFactory throttling = new ResourceManagerThrottlingCallAdapterFactory();
+    private Scheduler scheduler;
+    private boolean requestCoalescing;
 
     protected AzureConfigurableImpl() {
-        this.restClientBuilder = new RestClient.Builder()
+        this.restClientBuilder = new RestClient.Builder(new OkHttpClient.Builder(), new Retrofit.Builder()
+                    .addCallAdapterFactory(throttling))
             .withSerializerAdapter(new AzureJacksonAdapter())
-            .withResponseBuilderFactory(new AzureResponseBuilder.Factory());
+            .withResponseBuilderFactory(new StreamingPageResponseBuilder.Factory());
     }
 
     @SuppressWarnings("unchecked")
@@ -124,12 +134,32 @@ public class AzureConfigurableImpl<T extends AzureConfigurable<T>>
         return (T) this;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public T withScheduler(Scheduler scheduler) {
+        this.scheduler = scheduler;
+        return (T) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T withRequestCoalescing() {
+        this.requestCoalescing = true;
+        return (T) this;
+    }
+
     protected RestClient buildRestClient(AzureTokenCredentials credentials, AzureEnvironment.Endpoint endpoint) {
+        if (this.requestCoalescing) {
+            // One interceptor per REST client, as it cannot tell the credentials of the requests apart
+            restClientBuilder = restClientBuilder.withInterceptor(new RequestCoalescingInterceptor());
+        }
         RestClient client =  restClientBuilder
                 .withBaseUrl(credentials.environment(), endpoint)
                 .withCredentials(credentials)
+                .withInterceptor(new ResourceManagerMetricsInterceptor())
                 .withInterceptor(new ProviderRegistrationInterceptor(credentials))
-                .withInterceptor(new ResourceManagerThrottlingInterceptor())
+                .withInterceptor(throttling.interceptor())
+                .withInterceptor(new ConditionalRequestInterceptor())
                 .build();
         if (client.httpClient().proxy() != null) {
             credentials.withProxy(client.httpClient().proxy());
@@ -137,6 +167,28 @@ public class AzureConfigurableImpl<T extends AzureConfigurable<T>>
         return client;
     }
 
+    /**
+     * @return the Rx Scheduler of the managers built by the configurable, null to use the Rx Scheduler of
+     * the SDK framework
+     */
+    protected Scheduler scheduler() {
+        return this.scheduler;
+    }
+
+    /**
+     * Applies the configuration not carried by the REST client to a manager built by the configurable.
+     *
+     * @param manager the manager
+     * @param <M> the type of the manager
+     * @return the manager
+     */
+    protected <M extends ManagerBase> M configureManager(M manager) {
+        if (this.scheduler != null) {
+            manager.setRxScheduler(this.scheduler);
+        }
+        return manager;
+    }
+
     protected RestClient buildRestClient(AzureTokenCredentials credentials) {
         return buildRestClient(credentials, AzureEnvironment.Endpoint.RESOURCE_MANAGER);
     }
@@ -6,21 +6,25 @@
 
 package com.microsoft.azure.management.resources.fluentcore.arm.implementation;
 
+import com.microsoft.azure.management.apigeneration.Beta;
+import com.microsoft.azure.management.resources.fluentcore.utils.SdkContext;
 import com.microsoft.azure.management.resources.implementation.ResourceManager;
 import com.microsoft.rest.RestClient;
+import rx.Scheduler;
 
 /**
  * Base class for Azure resource managers.
  */
 public abstract class ManagerBase {
 
-    private ResourceManager resourceManager;
+    private volatile ResourceManager resourceManager;
+    private volatile Scheduler rxScheduler;
+    private final RestClient restClient;
     private final String subscriptionId;
 
     protected ManagerBase(RestClient restClient, String subscriptionId) {
-        if (restClient != null) {
-            this.resourceManager = ResourceManager.authenticate(restClient).withSubscription(subscriptionId);
-        }
+        // The resource manager is created on first use, and shared with the other managers of the subscription
+        this.restClient = restClient;
         this.subscriptionId = subscriptionId;
     }
 
@@ -31,6 +35,37 @@ public abstract class ManagerBase {
         return this.subscriptionId;
     }
 
+    /**
+     * @return the Rx Scheduler the resources of the manager run their work on
+     */
+    @Beta(Beta.SinceVersion.V1_23_0)
+    public Scheduler rxScheduler() {
+        Scheduler scheduler = this.rxScheduler;
+        return scheduler == null ? SdkContext.getRxScheduler() : scheduler;
+    }
+
+    /**
+     * Sets the Rx Scheduler the resources of the manager run their work on. The manager then works with the
+     * {@link ResourceManager} shared by the managers with the same scheduler, the one shared by the managers
+     * with another scheduler is left unchanged.
+     * <p>
+     * The process-wide timers keep running on the Rx Scheduler of {@link SdkContext}: the polls of
+     * {@link com.microsoft.azure.management.resources.fluentcore.utils.LongRunningOperationPoller#shared()},
+     * the pacing of the requests by
+     * {@link com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerRateGovernor#defaultGovernor()}
+     * and the prefetching of the pages of the lists.
+     *
+     * @param rxScheduler the Rx Scheduler, null to use the Rx Scheduler of the SDK framework
+     */
+    @Beta(Beta.SinceVersion.V1_23_0)
+    public void setRxScheduler(Scheduler rxScheduler) {
+        this.rxScheduler = rxScheduler;
+        if (this.restClient != null && this.resourceManager != this) {
+            // The shared resource manager of the new scheduler is looked up on next use
+            this.resourceManager = null;
+        }
+    }
+
     protected final void setResourceManager(ResourceManager resourceManager) {
         this.resourceManager = resourceManager;
     }
@@ -39,6 +74,9 @@ public abstract class ManagerBase {
      * @return the {@link ResourceManager} associated with this manager
      */
     public ResourceManager resourceManager() {
+        if (this.resourceManager == null && this.restClient != null) {
+            this.resourceManager = ResourceManager.sharedInstance(this.restClient, this.subscriptionId, this.rxScheduler);
+        }
         return this.resourceManager;
     }
 }
@@ -14,6 +14,7 @@ import com.microsoft.azure.management.resources.fluentcore.model.Creatable;
 import com.microsoft.azure.management.resources.fluentcore.model.Executable;
 import com.microsoft.azure.management.resources.fluentcore.model.Indexable;
 import com.microsoft.azure.management.resources.fluentcore.model.Refreshable;
+import com.microsoft.azure.management.resources.fluentcore.utils.ConditionalRequestInterceptor;
 import com.microsoft.azure.management.resources.fluentcore.utils.Utils;
 import com.microsoft.rest.ServiceCallback;
 import com.microsoft.rest.ServiceFuture;
@@ -192,6 +193,45 @@ public abstract class ExternalChildResourceImpl<FluentModelT extends Indexable,
         });
     }
 
+    /**
+     * Refreshes the child resource if it changed in Azure, based on the etag of the wrapped inner model.
+     * Models without etag, or without a conditional get, are always refreshed.
+     *
+     * @return true if the child resource changed and was refreshed, false if it did not change
+     */
+    public boolean refreshIfChanged() {
+        return refreshIfChangedAsync().toBlocking().last();
+    }
+
+    /**
+     * Refreshes the child resource if it changed in Azure, based on the etag of the wrapped inner model.
+     * Models without etag, or without a conditional get, are always refreshed.
+     *
+     * @return an observable emitting true if the child resource changed and was refreshed, false if it did not change
+     */
+    public Observable<Boolean> refreshIfChangedAsync() {
+        final ExternalChildResourceImpl<FluentModelT, InnerModelT, ParentImplT, ParentT> self = this;
+        String etag = ConditionalRequestInterceptor.etagOf(this.inner());
+        Observable<InnerModelT> innerObservable = etag == null
+                ? this.getInnerAsync()
+                : this.getInnerIfChangedAsync(etag);
+        return innerObservable.map(new Func1<InnerModelT, Boolean>() {
+            @Override
+            public Boolean call(InnerModelT innerModelT) {
+                self.setInner(innerModelT);
+                return true;
+            }
+        }).onErrorResumeNext(new Func1<Throwable, Observable<Boolean>>() {
+            @Override
+            public Observable<Boolean> call(Throwable throwable) {
+                if (ConditionalRequestInterceptor.isNotModified(throwable)) {
+                    return Observable.just(false);
+                }
+                return Observable.error(throwable);
+            }
+        });
+    }
+
     /**
      * Add a dependency task item for this model.
      *
@@ -362,6 +402,17 @@ public abstract class ExternalChildResourceImpl<FluentModelT extends Indexable,
 
     protected abstract Observable<InnerModelT> getInnerAsync();
 
+    /**
+     * Gets the inner model if it does not match the given etag, sending it in the "If-None-Match" header.
+     * The default implementation does not send the etag, so that the resource is always refreshed.
+     *
+     * @param etag the etag of the current inner model
+     * @return the observable emitting the inner model, failing with a 304 error if it did not change
+     */
+    protected Observable<InnerModelT> getInnerIfChangedAsync(String etag) {
+        return getInnerAsync();
+    }
+
     protected Completable afterPostRunAsync(boolean isGroupFaulted) {
         return Completable.complete();
     }
@@ -13,6 +13,7 @@ import com.microsoft.azure.management.resources.fluentcore.arm.implementation.Ma
 import com.microsoft.azure.management.resources.fluentcore.arm.models.GroupableResource;
 import com.microsoft.azure.management.resources.fluentcore.arm.models.Resource;
 import com.microsoft.azure.management.resources.fluentcore.model.Creatable;
+import rx.Scheduler;
 
 /**
  * The implementation for {@link GroupableResource}.
@@ -47,6 +48,11 @@ public abstract class GroupableResourceImpl<
 
     // Helpers
 
+    @Override
+    protected Scheduler rxScheduler() {
+        return this.myManager == null ? null : this.myManager.rxScheduler();
+    }
+
     protected String resourceIdBase() {
         return new StringBuilder()
                 .append("/subscriptions/").append(this.myManager.subscriptionId())
@@ -6,8 +6,10 @@
 
 package com.microsoft.azure.management.resources.fluentcore.collection;
 
+import com.microsoft.azure.management.apigeneration.Beta;
 import com.microsoft.azure.management.apigeneration.LangDefinition;
 import com.microsoft.azure.management.apigeneration.LangDefinition.MethodConversion;
+import com.microsoft.azure.management.resources.fluentcore.model.BatchCreationResult;
 import com.microsoft.azure.management.resources.fluentcore.model.Creatable;
 import com.microsoft.azure.management.resources.fluentcore.model.CreatedResources;
 import com.microsoft.azure.management.resources.fluentcore.model.Indexable;
@@ -78,4 +80,31 @@ public interface SupportsBatchCreation<ResourceT extends Indexable> {
      * @return a handle to cancel the request
      */
     ServiceFuture<CreatedResources<ResourceT>> createAsync(final ServiceCallback<CreatedResources<ResourceT>> callback, List<Creatable<ResourceT>> creatables);
-}
\ No newline at end of file
+
+    /**
+     * Executes the create requests on a batch of resources, with at most the given number of tasks in flight.
+     * <p>
+     * A failed creation does not stop the others: the resources not depending on it are still created, and the
+     * outcome of each creatable is emitted as soon as it is known. Dependencies shared by the creatables in the
+     * batch are created once.
+     *
+     * @param creatables the list of creatables in the batch
+     * @param windowSize the maximum number of tasks in flight, dependencies included
+     * @return an observable emitting the outcome of each creatable in the order they finish
+     */
+    @Beta(Beta.SinceVersion.V1_23_0)
+    Observable<BatchCreationResult<ResourceT>> createWindowedAsync(List<Creatable<ResourceT>> creatables, int windowSize);
+
+    /**
+     * Executes the create requests on a batch of resources, with at most the given number of tasks in flight.
+     * <p>
+     * A failed creation does not stop the others: the resources not depending on it are still created. Dependencies
+     * shared by the creatables in the batch are created once.
+     *
+     * @param creatables the list of creatables in the batch
+     * @param windowSize the maximum number of tasks in flight, dependencies included
+     * @return the outcome of each creatable, in the order they finished
+     */
+    @Beta(Beta.SinceVersion.V1_23_0)
+    List<BatchCreationResult<ResourceT>> createWindowed(List<Creatable<ResourceT>> creatables, int windowSize);
+}
@@ -8,16 +8,28 @@ package com.microsoft.azure.management.resources.fluentcore.dag;
 
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Type representing a DAG (directed acyclic graph).
  * <p>
  * each node in a DAG is represented by {@link DAGNode}
+ * <p>
+ * DAGs merged through {@link DAGraph#addDependencyGraph(DAGraph)} share a single node registry,
+ * merging two DAGs is a union of their registries and does not copy node tables into every
+ * ancestor. The node table of a DAG is materialized from the registry, by walking the nodes
+ * reachable from its root, only when it is read after a change.
  *
  * @param <DataT> the type of the data stored in the graph nodes
  * @param <NodeT> the type of the nodes in the graph
@@ -38,6 +50,26 @@ public class DAGraph<DataT, NodeT extends DAGNode<DataT, NodeT>> extends Graph<D
      * are ready to invoke.
      */
     protected ConcurrentLinkedQueue<String> queue;
+    /**
+     * the registry of nodes shared with all the DAGs this DAG is merged with.
+     */
+    private NodeRegistry<NodeT> registry;
+    /**
+     * the node table of this DAG, same as {@link this#nodeTable}.
+     */
+    private final NodeTable<DataT, NodeT> materializedNodeTable;
+    /**
+     * the registry {@link this#nodeTable} was last materialized from.
+     */
+    private volatile NodeRegistry<NodeT> syncedRegistry;
+    /**
+     * the number of changes of the registry {@link this#nodeTable} was last materialized from.
+     */
+    private volatile int syncedChangeCount;
+    /**
+     * the number of nodes visited while materializing {@link this#nodeTable}.
+     */
+    long materializedNodeVisits;
 
     /**
      * Creates a new DAG.
@@ -48,10 +80,21 @@ public class DAGraph<DataT, NodeT extends DAGNode<DataT, NodeT>> extends Graph<D
         this.parentDAGs = new ArrayList<>();
         this.rootNode = rootNode;
         this.queue = new ConcurrentLinkedQueue<>();
+        this.registry = new NodeRegistry<>();
+        this.materializedNodeTable = new NodeTable<>(this);
+        this.nodeTable = this.materializedNodeTable;
         this.rootNode.setPreparer(true);
         this.addNode(rootNode);
     }
 
+    @Override
+    public void addNode(NodeT node) {
+        super.addNode(node);
+        NodeRegistry<NodeT> root = this.registry.find();
+        root.register(node);
+        root.changedKeys.add(node.key());
+    }
+
     /**
      * @return true if this DAG is merged with one or more DAG and hence has parents
      */
@@ -99,14 +142,10 @@ public class DAGraph<DataT, NodeT extends DAGNode<DataT, NodeT>> extends Graph<D
      * @param dependencyGraph the dependency DAG
      */
     public void addDependencyGraph(DAGraph<DataT, NodeT> dependencyGraph) {
+        this.checkNoCircularDependency(dependencyGraph);
         this.rootNode.addDependency(dependencyGraph.rootNode.key());
-        Map<String, NodeT> sourceNodeTable = dependencyGraph.nodeTable;
-        Map<String, NodeT> targetNodeTable = this.nodeTable;
-        this.merge(sourceNodeTable, targetNodeTable);
+        NodeRegistry.union(this.registry, dependencyGraph.registry).changedKeys.add(this.rootNode.key());
         dependencyGraph.parentDAGs.add(this);
-        if (this.hasParents()) {
-            this.bubbleUpNodeTable(this, new LinkedList<String>());
-        }
     }
 
     /**
@@ -244,33 +283,247 @@ public class DAGraph<DataT, NodeT extends DAGNode<DataT, NodeT>> extends Graph<D
     }
 
     /**
-     * Copies entries in the source map to target map.
+     * Checks that making the root of this DAG depend on the root of the given DAG does not introduce
+     * a cycle. A cycle is possible only if the root of this DAG is already reachable from the root
+     * of the given DAG, which requires both to share the same registry, hence the walk is skipped for
+     * the common case of merging disjoint DAGs.
      *
-     * @param source source map
-     * @param target target map
+     * @param dependencyGraph the dependency DAG
+     */
+    private void checkNoCircularDependency(DAGraph<DataT, NodeT> dependencyGraph) {
+        final String key = this.rootNode.key();
+        final String dependencyKey = dependencyGraph.rootNode.key();
+        if (key.equals(dependencyKey)) {
+            throw new IllegalStateException("Detected circular dependency: " + key + " -> " + key);
+        }
+        NodeRegistry<NodeT> root = dependencyGraph.registry.find();
+        if (!root.nodes.containsKey(key)) {
+            return;
+        }
+        Map<String, String> reachedFrom = new HashMap<>();
+        reachedFrom.put(dependencyKey, null);
+        Deque<String> stack = new ArrayDeque<>();
+        stack.push(dependencyKey);
+        while (!stack.isEmpty()) {
+            String currentKey = stack.pop();
+            NodeT current = root.nodes.get(currentKey);
+            if (current == null) {
+                continue;
+            }
+            for (String nextKey : current.dependencyKeys()) {
+                if (reachedFrom.containsKey(nextKey)) {
+                    continue;
+                }
+                reachedFrom.put(nextKey, currentKey);
+                if (nextKey.equals(key)) {
+                    LinkedList<String> path = new LinkedList<>();
+                    for (String k = nextKey; k != null; k = reachedFrom.get(k)) {
+                        path.addFirst(k);
+                    }
+                    path.addFirst(key);
+                    throw new IllegalStateException("Detected circular dependency: " + StringUtils.join(path, " -> "));
+                }
+                stack.push(nextKey);
+            }
+        }
+    }
+
+    /**
+     * Materializes the node table of this DAG from the shared registry if the registry changed since
+     * the last materialization. The table is closed over the dependencies of its nodes, so only the
+     * nodes whose dependencies changed since the last materialization need to be walked, and the walk
+     * stops at the nodes already in the table. The whole table is walked only the first time, or after
+     * the registry it was materialized from got merged into another one.
      */
-    private void merge(Map<String, NodeT> source, Map<String, NodeT> target) {
-        for (Map.Entry<String, NodeT> entry : source.entrySet()) {
-            String key = entry.getKey();
-            if (!target.containsKey(key)) {
-                target.put(key, entry.getValue());
+    private void syncNodeTable() {
+        NodeRegistry<NodeT> root = this.registry.find();
+        if (root == this.syncedRegistry && root.changedKeys.size() == this.syncedChangeCount) {
+            return;
+        }
+        synchronized (this) {
+            root = this.registry.find();
+            int changeCount = root.changedKeys.size();
+            if (root == this.syncedRegistry && changeCount == this.syncedChangeCount) {
+                return;
+            }
+            NodeTable<DataT, NodeT> table = this.materializedNodeTable;
+            Deque<NodeT> stack = new ArrayDeque<>();
+            if (root == this.syncedRegistry) {
+                for (String changedKey : root.changedKeys.subList(this.syncedChangeCount, changeCount)) {
+                    NodeT node = table.rawGet(changedKey);
+                    if (node != null) {
+                        stack.push(node);
+                    }
+                }
+            } else {
+                stack.addAll(table.rawValues());
+            }
+            Set<String> visited = new HashSet<>();
+            while (!stack.isEmpty()) {
+                NodeT node = stack.pop();
+                if (!visited.add(node.key())) {
+                    continue;
+                }
+                this.materializedNodeVisits++;
+                for (String dependencyKey : node.dependencyKeys()) {
+                    if (table.rawGet(dependencyKey) != null) {
+                        continue;
+                    }
+                    NodeT dependency = root.nodes.get(dependencyKey);
+                    if (dependency != null) {
+                        table.put(dependencyKey, dependency);
+                        stack.push(dependency);
+                    }
+                }
             }
+            this.syncedRegistry = root;
+            this.syncedChangeCount = changeCount;
+        }
+    }
+
+    /**
+     * The node table of a DAG, the table gets materialized from the shared registry before
+     * any read.
+     *
+     * @param <DataT> the type of the data stored in the nodes
+     * @param <NodeT> the type of the nodes in the table
+     */
+    private static final class NodeTable<DataT, NodeT extends DAGNode<DataT, NodeT>> extends TreeMap<String, NodeT> {
+        private static final long serialVersionUID = -2512867291826618235L;
+        private final transient DAGraph<DataT, NodeT> owner;
+
+        NodeTable(DAGraph<DataT, NodeT> owner) {
+            this.owner = owner;
+        }
+
+        @Override
+        public NodeT get(Object key) {
+            owner.syncNodeTable();
+            return super.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            owner.syncNodeTable();
+            return super.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            owner.syncNodeTable();
+            return super.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            owner.syncNodeTable();
+            return super.isEmpty();
+        }
+
+        @Override
+        public Set<String> keySet() {
+            owner.syncNodeTable();
+            return super.keySet();
+        }
+
+        @Override
+        public Collection<NodeT> values() {
+            owner.syncNodeTable();
+            return super.values();
+        }
+
+        @Override
+        public Set<Map.Entry<String, NodeT>> entrySet() {
+            owner.syncNodeTable();
+            return super.entrySet();
+        }
+
+        NodeT rawGet(String key) {
+            return super.get(key);
+        }
+
+        /**
+         * @return the nodes in the table without materializing, iterating the returned collection is
+         * the only supported operation
+         */
+        Collection<NodeT> rawValues() {
+            return super.values();
         }
     }
 
     /**
-     * Propagates node table of given DAG to all of it ancestors.
+     * A registry of nodes shared by the DAGs merged together, registries are merged using
+     * union-find with union by size and path compression.
+     *
+     * @param <NodeT> the type of the nodes in the registry
      */
-    private void bubbleUpNodeTable(DAGraph<DataT, NodeT> from, LinkedList<String> path) {
-        if (path.contains(from.rootNode.key())) {
-            path.push(from.rootNode.key()); // For better error message
-            throw new IllegalStateException("Detected circular dependency: " + StringUtils.join(path, " -> "));
+    private static final class NodeRegistry<NodeT extends Node<?, NodeT>> {
+        /**
+         * the nodes in the registry, valid only when this is a root registry.
+         */
+        private Map<String, NodeT> nodes = new HashMap<>();
+        /**
+         * the registry this registry is merged into, null for a root registry.
+         */
+        private NodeRegistry<NodeT> parent;
+        /**
+         * the keys of the nodes added or given new dependencies, in the order of the changes, valid
+         * only when this is a root registry.
+         */
+        private List<String> changedKeys = new ArrayList<>();
+
+        /**
+         * @return the root registry holding the nodes
+         */
+        NodeRegistry<NodeT> find() {
+            NodeRegistry<NodeT> root = this;
+            while (root.parent != null) {
+                root = root.parent;
+            }
+            NodeRegistry<NodeT> current = this;
+            while (current != root) {
+                NodeRegistry<NodeT> next = current.parent;
+                current.parent = root;
+                current = next;
+            }
+            return root;
+        }
+
+        /**
+         * Adds a node to this root registry, if a node with the same key exists it is retained.
+         *
+         * @param node the node
+         */
+        void register(NodeT node) {
+            if (!nodes.containsKey(node.key())) {
+                nodes.put(node.key(), node);
+            }
         }
-        path.push(from.rootNode.key());
-        for (DAGraph<DataT, NodeT> to : from.parentDAGs) {
-            this.merge(from.nodeTable, to.nodeTable);
-            this.bubbleUpNodeTable(to, path);
+
+        /**
+         * Merges two registries.
+         *
+         * @param first the first registry
+         * @param second the second registry
+         * @param <NodeT> the type of the nodes in the registries
+         * @return the root registry of the merged registries
+         */
+        static <NodeT extends Node<?, NodeT>> NodeRegistry<NodeT> union(NodeRegistry<NodeT> first, NodeRegistry<NodeT> second) {
+            NodeRegistry<NodeT> firstRoot = first.find();
+            NodeRegistry<NodeT> secondRoot = second.find();
+            if (firstRoot == secondRoot) {
+                return firstRoot;
+            }
+            NodeRegistry<NodeT> larger = firstRoot.nodes.size() >= secondRoot.nodes.size() ? firstRoot : secondRoot;
+            NodeRegistry<NodeT> smaller = larger == firstRoot ? secondRoot : firstRoot;
+            for (NodeT node : smaller.nodes.values()) {
+                larger.register(node);
+            }
+            larger.changedKeys.addAll(smaller.changedKeys);
+            smaller.nodes = null;
+            smaller.changedKeys = null;
+            smaller.parent = larger;
+            return larger;
         }
-        path.pop();
     }
 }
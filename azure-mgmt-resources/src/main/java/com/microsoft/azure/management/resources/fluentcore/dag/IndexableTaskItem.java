@@ -250,7 +250,7 @@ public abstract class IndexableTaskItem
     @Override
     public Observable<Indexable> invokeAsync(TaskGroup.InvocationContext context) {
         return this.invokeTaskAsync(context)
-                .subscribeOn(SdkContext.getRxScheduler())
+                .subscribeOn(context.scheduler())
                 .map(new Func1<Indexable, Indexable>() {
                     @Override
                     public Indexable call(Indexable result) {
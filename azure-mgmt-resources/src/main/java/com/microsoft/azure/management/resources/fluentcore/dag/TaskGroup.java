@@ -7,16 +7,25 @@
 package com.microsoft.azure.management.resources.fluentcore.dag;
 
 import com.microsoft.azure.management.resources.fluentcore.model.Indexable;
+import com.microsoft.azure.management.resources.fluentcore.utils.SdkContext;
 import rx.Completable;
 import rx.Observable;
+import rx.Scheduler;
+import rx.functions.Action0;
 import rx.functions.Func0;
 import rx.functions.Func1;
 import rx.schedulers.Schedulers;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -39,6 +48,14 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * "K" when K.invokeAsync(cxt) is called. Such special dependents can be added via
  * K.addPostRunDependentTaskGroup(H) and K.addPostRunDependentTaskGroup(I).
  *
+ * {@link TaskGroup#withSchedulingPolicy(TaskGroupSchedulingPolicy)}: by default all tasks that
+ * are ready get invoked at the same time, a {@link TaskGroupSchedulingPolicy} can be used to bound
+ * the number of tasks in flight and to invoke the tasks on the critical path first.
+ *
+ * {@link TaskGroup#withTraceListener(TaskTraceListener)}: an invocation can be traced, the listener
+ * receives the start, end, queue wait and outcome of each task, then the {@link TaskGroupTrace} of
+ * the invocation with its critical path.
+ *
  * The result produced by the tasks in the group are of type {@link Indexable}.
  */
 public class TaskGroup
@@ -70,6 +87,31 @@ public class TaskGroup
      * for post run.
      */
     protected ProxyTaskGroupWrapper proxyTaskGroupWrapper;
+    /**
+     * The default scheduling policy for invocations of this group, null if ready tasks
+     * should be invoked without any limit.
+     */
+    private TaskGroupSchedulingPolicy schedulingPolicy;
+    /**
+     * The scheduler dispatching ready tasks during the current invocation, null if the
+     * invocation is not governed by a scheduling policy.
+     */
+    private ReadyTaskScheduler readyTaskScheduler;
+    /**
+     * The default listener of the traces of the invocations of this group, null if invocations
+     * should not be traced.
+     */
+    private TaskTraceListener traceListener;
+    /**
+     * The default scheduler the tasks run on when this group is invoked, null if tasks should run
+     * on the scheduler of the SDK framework.
+     */
+    private Scheduler scheduler;
+    /**
+     * The tracer recording the tasks during the current invocation, null if the invocation is
+     * not traced.
+     */
+    private TaskGroupTracer tracer;
 
     /**
      * Creates TaskGroup.
@@ -146,6 +188,62 @@ public class TaskGroup
         return this.nodeTable.containsKey(taskGroup.root().key());
     }
 
+    /**
+     * Specifies the default policy to schedule the ready tasks when this group is invoked.
+     *
+     * @param schedulingPolicy the scheduling policy, null to invoke ready tasks without any limit
+     * @return the task group
+     */
+    public TaskGroup withSchedulingPolicy(TaskGroupSchedulingPolicy schedulingPolicy) {
+        this.schedulingPolicy = schedulingPolicy;
+        return this;
+    }
+
+    /**
+     * @return the default policy to schedule the ready tasks, null if not set
+     */
+    public TaskGroupSchedulingPolicy schedulingPolicy() {
+        return this.schedulingPolicy;
+    }
+
+    /**
+     * Sets the default listener of the traces of the invocations of this group, an invocation
+     * context can override it.
+     *
+     * @param traceListener the trace listener, null to not trace the invocations
+     * @return this TaskGroup
+     */
+    public TaskGroup withTraceListener(TaskTraceListener traceListener) {
+        this.traceListener = traceListener;
+        return this;
+    }
+
+    /**
+     * @return the default listener of the traces of the invocations of this group, null if none
+     */
+    public TaskTraceListener traceListener() {
+        return this.traceListener;
+    }
+
+    /**
+     * Specifies the default scheduler the tasks run on when this group is invoked, an invocation
+     * context can override it.
+     *
+     * @param scheduler the scheduler, null to run the tasks on the scheduler of the SDK framework
+     * @return this TaskGroup
+     */
+    public TaskGroup withScheduler(Scheduler scheduler) {
+        this.scheduler = scheduler;
+        return this;
+    }
+
+    /**
+     * @return the default scheduler the tasks run on, null if not set
+     */
+    public Scheduler scheduler() {
+        return this.scheduler;
+    }
+
     /**
      * @return the root task entry in the group.
      */
@@ -282,9 +380,29 @@ public class TaskGroup
             //
             this.runBeforeGroupInvoke(skipBeforeGroupInvoke);
         }
+        TaskTraceListener listener = context.traceListener();
+        final TaskGroupTracer invocationTracer = listener == null ? null : new TaskGroupTracer(listener);
+        this.tracer = invocationTracer;
+        TaskGroupSchedulingPolicy policy = context.schedulingPolicy();
+        if (policy == null) {
+            this.readyTaskScheduler = null;
+        } else {
+            this.readyTaskScheduler = new ReadyTaskScheduler(policy, policy.isCriticalPathFirst()
+                    ? this.remainingChainLengths()
+                    : Collections.<String, Integer>emptyMap(), invocationTracer);
+        }
         // Runs the ready tasks concurrently
         //
-        return this.invokeReadyTasksAsync(context);
+        Observable<Indexable> invocation = this.invokeReadyTasksAsync(context);
+        if (invocationTracer == null) {
+            return invocation;
+        }
+        return invocation.doOnTerminate(new Action0() {
+            @Override
+            public void call() {
+                invocationTracer.onGroupCompleted();
+            }
+        });
     }
 
     /**
@@ -300,26 +418,22 @@ public class TaskGroup
             processedEntryKeys.addAll(skip);
         }
         List<TaskGroupEntry<TaskItem>> entries = this.entriesSnapshot();
-        boolean hasMoreToProcess;
         // Invokes 'beforeGroupInvoke' on a subset of non-processed tasks in the group.
         // Initially processing is pending on all task items.
-        do {
-            hasMoreToProcess = false;
+        while (true) {
             for (TaskGroupEntry<TaskItem> entry : entries) {
                 if (!processedEntryKeys.contains(entry.key())) {
                     entry.data().beforeGroupInvoke();
                     processedEntryKeys.add(entry.key());
                 }
             }
-            int prevSize = entries.size();
-            entries = this.entriesSnapshot();
-            if (entries.size() > prevSize) {
-                // If new task dependencies/dependents added in 'beforeGroupInvoke' then
-                // set the flag which indicates another pass is required to 'prepare' new
-                // task items
-                hasMoreToProcess = true;
+            // The group is enumerated again only if new task dependencies/dependents were added in
+            // 'beforeGroupInvoke', so that the new task items are 'prepared' in dependency order too.
+            if (this.nodeTable.size() == entries.size()) {
+                break;
             }
-        } while (hasMoreToProcess);  // Run another pass if new dependencies/dependents were added in this pass
+            entries = this.entriesSnapshot();
+        }
         super.prepareForEnumeration();
         return processedEntryKeys;
     }
@@ -347,23 +461,79 @@ public class TaskGroup
      * @return an observable that emits the result of tasks in the order they finishes.
      */
     private Observable<Indexable> invokeReadyTasksAsync(final InvocationContext context) {
-        TaskGroupEntry<TaskItem> readyTaskEntry = super.getNext();
         final List<Observable<Indexable>> observables = new ArrayList<>();
         // Enumerate the ready tasks (those with dependencies resolved) and kickoff them concurrently
         //
-        while (readyTaskEntry != null) {
-            final TaskGroupEntry<TaskItem> currentEntry = readyTaskEntry;
+        for (TaskGroupEntry<TaskItem> currentEntry : this.nextReadyEntries()) {
             final TaskItem currentTaskItem = currentEntry.data();
             if (currentTaskItem instanceof ProxyTaskItem) {
                 observables.add(invokeAfterPostRunAsync(currentEntry, context));
             } else {
                 observables.add(invokeTaskAsync(currentEntry, context));
             }
-            readyTaskEntry = super.getNext();
         }
         return Observable.mergeDelayError(observables);
     }
 
+    /**
+     * Gets the ready entries to be invoked now. Without a scheduling policy these are all the entries
+     * whose dependencies are resolved, with a policy these are the entries the policy allows to start.
+     *
+     * @return the entries to invoke
+     */
+    private List<TaskGroupEntry<TaskItem>> nextReadyEntries() {
+        ReadyTaskScheduler scheduler = this.readyTaskScheduler;
+        if (scheduler != null) {
+            return scheduler.schedule(this);
+        }
+        TaskGroupTracer currentTracer = this.tracer;
+        List<TaskGroupEntry<TaskItem>> entries = new ArrayList<>();
+        for (TaskGroupEntry<TaskItem> entry = super.getNext(); entry != null; entry = super.getNext()) {
+            if (currentTracer != null) {
+                currentTracer.onReady(entry);
+            }
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    /**
+     * Computes, for each entry, the number of entries on the longest dependency chain from the entry
+     * up to the root entry, the entries on the longest chains are the ones on the critical path.
+     *
+     * @return map of entry key to the length of the longest remaining chain
+     */
+    private Map<String, Integer> remainingChainLengths() {
+        Map<String, Integer> lengths = new HashMap<>();
+        Deque<String> stack = new ArrayDeque<>();
+        for (String key : nodeTable.keySet()) {
+            stack.push(key);
+            while (!stack.isEmpty()) {
+                String current = stack.peek();
+                if (lengths.containsKey(current)) {
+                    stack.pop();
+                    continue;
+                }
+                int longest = 0;
+                boolean resolved = true;
+                for (String dependentKey : nodeTable.get(current).dependentKeys()) {
+                    Integer length = lengths.get(dependentKey);
+                    if (length == null) {
+                        resolved = false;
+                        stack.push(dependentKey);
+                    } else if (length > longest) {
+                        longest = length;
+                    }
+                }
+                if (resolved) {
+                    stack.pop();
+                    lengths.put(current, longest + 1);
+                }
+            }
+        }
+        return lengths;
+    }
+
     /**
      * Invokes the task stored in the given entry.
      * <p>
@@ -391,6 +561,7 @@ public class TaskGroup
                     // Any cached result will be ignored for root resource
                     //
                     boolean ignoreCachedResult = isRootEntry(entry) || (entry.proxy() != null && isRootEntry(entry.proxy()));
+                    onTaskStarted(entry);
 
                     Observable<Indexable> taskObservable = entry.invokeTaskAsync(ignoreCachedResult, context);
                     Func1<Indexable, Observable<Indexable>> onResult = new Func1<Indexable, Observable<Indexable>>() {
@@ -440,6 +611,7 @@ public class TaskGroup
                     return Observable.empty();
                 }
                 final boolean isFaulted = entry.hasFaultedDescentDependencyTasks() || isGroupCancelled.get();
+                onTaskStarted(entry);
 
                 Observable<Indexable> postRunObservable = proxyTaskItem.invokeAfterPostRunAsync(isFaulted).toObservable();
                 Func1<Throwable, Observable<Indexable>> onError = new Func1<Throwable, Observable<Indexable>>() {
@@ -482,6 +654,8 @@ public class TaskGroup
      */
     private Observable<Indexable> processCompletedTaskAsync(final TaskGroupEntry<TaskItem> completedEntry,
                                                             final InvocationContext context) {
+        releaseSchedulingSlot(completedEntry);
+        onTaskCompleted(completedEntry, null);
         reportCompletion(completedEntry);
         if (isRootEntry(completedEntry)) {
             return Observable.empty();
@@ -503,6 +677,8 @@ public class TaskGroup
                                                           final Throwable throwable,
                                                           final InvocationContext context) {
         markGroupAsCancelledIfTerminationStrategyIsIPTC();
+        releaseSchedulingSlot(faultedEntry);
+        onTaskCompleted(faultedEntry, throwable);
         reportError(faultedEntry, throwable);
         if (isRootEntry(faultedEntry)) {
             if (shouldPropagateException(throwable)) {
@@ -516,6 +692,43 @@ public class TaskGroup
         }
     }
 
+    /**
+     * Releases the scheduling slot held by an entry that finished its invocation.
+     *
+     * @param entry the entry
+     */
+    private void releaseSchedulingSlot(TaskGroupEntry<TaskItem> entry) {
+        ReadyTaskScheduler scheduler = this.readyTaskScheduler;
+        if (scheduler != null) {
+            scheduler.release(entry);
+        }
+    }
+
+    /**
+     * Records the invocation of an entry in the trace of the current invocation, if traced.
+     *
+     * @param entry the entry
+     */
+    private void onTaskStarted(TaskGroupEntry<TaskItem> entry) {
+        TaskGroupTracer currentTracer = this.tracer;
+        if (currentTracer != null) {
+            currentTracer.onStarted(entry);
+        }
+    }
+
+    /**
+     * Records the completion of an entry in the trace of the current invocation, if traced.
+     *
+     * @param entry the entry
+     * @param throwable the error of the entry, null if it succeeded
+     */
+    private void onTaskCompleted(TaskGroupEntry<TaskItem> entry, Throwable throwable) {
+        TaskGroupTracer currentTracer = this.tracer;
+        if (currentTracer != null) {
+            currentTracer.onCompleted(entry, throwable);
+        }
+    }
+
     /**
      * Mark this TaskGroup as cancelled if the termination strategy associated with the group
      * is {@link TaskGroupTerminateOnErrorStrategy#TERMINATE_ON_IN_PROGRESS_TASKS_COMPLETION}.
@@ -582,6 +795,9 @@ public class TaskGroup
         private final Map<String, Object> properties;
         private final TaskGroup taskGroup;
         private TaskGroupTerminateOnErrorStrategy terminateOnErrorStrategy;
+        private TaskGroupSchedulingPolicy schedulingPolicy;
+        private TaskTraceListener traceListener;
+        private Scheduler scheduler;
 
         /**
          * Creates InvocationContext instance.
@@ -624,6 +840,75 @@ public class TaskGroup
             return this.terminateOnErrorStrategy;
         }
 
+        /**
+         * Sets the policy to schedule the ready tasks during the current invocation of the TaskGroup.
+         *
+         * @param schedulingPolicy the scheduling policy
+         * @return the context
+         */
+        public InvocationContext withSchedulingPolicy(TaskGroupSchedulingPolicy schedulingPolicy) {
+            this.schedulingPolicy = schedulingPolicy;
+            return this;
+        }
+
+        /**
+         * @return the policy to schedule the ready tasks during the current invocation of the TaskGroup,
+         * null if ready tasks are invoked without any limit.
+         */
+        public TaskGroupSchedulingPolicy schedulingPolicy() {
+            if (this.schedulingPolicy == null) {
+                return this.taskGroup.schedulingPolicy();
+            }
+            return this.schedulingPolicy;
+        }
+
+        /**
+         * Sets the listener of the traces of the tasks during the current invocation of the TaskGroup.
+         *
+         * @param traceListener the trace listener
+         * @return the context
+         */
+        public InvocationContext withTraceListener(TaskTraceListener traceListener) {
+            this.traceListener = traceListener;
+            return this;
+        }
+
+        /**
+         * @return the listener of the traces of the tasks during the current invocation of the TaskGroup,
+         * null if the invocation is not traced.
+         */
+        public TaskTraceListener traceListener() {
+            if (this.traceListener == null) {
+                return this.taskGroup.traceListener();
+            }
+            return this.traceListener;
+        }
+
+        /**
+         * Sets the scheduler the tasks run on during the current invocation of the TaskGroup.
+         *
+         * @param scheduler the scheduler
+         * @return the context
+         */
+        public InvocationContext withScheduler(Scheduler scheduler) {
+            this.scheduler = scheduler;
+            return this;
+        }
+
+        /**
+         * @return the scheduler the tasks run on during the current invocation of the TaskGroup,
+         * the scheduler of the SDK framework if neither the context nor the TaskGroup sets one.
+         */
+        public Scheduler scheduler() {
+            if (this.scheduler != null) {
+                return this.scheduler;
+            }
+            if (this.taskGroup.scheduler() != null) {
+                return this.taskGroup.scheduler();
+            }
+            return SdkContext.getRxScheduler();
+        }
+
         /**
          * Put a key-value in the context.
          *
@@ -756,6 +1041,110 @@ public class TaskGroup
         }
     }
 
+    /**
+     * Type that selects the ready tasks to invoke honoring a {@link TaskGroupSchedulingPolicy}.
+     * <p>
+     * Ready entries are moved from the DAG queue to a priority queue ordered by the length of their
+     * longest remaining dependency chain, entries are dispatched from there as long as the limits of
+     * the policy allow it. Entries holding {@link ProxyTaskItem} do not count against the limits.
+     */
+    private static final class ReadyTaskScheduler {
+        private final TaskGroupSchedulingPolicy policy;
+        private final Map<String, Integer> priorities;
+        private final Map<String, Long> readySequence;
+        private final Map<String, Integer> inFlightPerType;
+        private final PriorityQueue<TaskGroupEntry<TaskItem>> pending;
+        private final TaskGroupTracer tracer;
+        private long sequence;
+        private int inFlight;
+
+        /**
+         * Creates ReadyTaskScheduler.
+         *
+         * @param policy the scheduling policy
+         * @param priorities the priority of the entries, higher value is invoked first
+         * @param tracer the tracer of the invocation, null if the invocation is not traced
+         */
+        ReadyTaskScheduler(TaskGroupSchedulingPolicy policy, Map<String, Integer> priorities, TaskGroupTracer tracer) {
+            this.policy = policy;
+            this.priorities = priorities;
+            this.tracer = tracer;
+            this.readySequence = new HashMap<>();
+            this.inFlightPerType = new HashMap<>();
+            this.pending = new PriorityQueue<>(11, new Comparator<TaskGroupEntry<TaskItem>>() {
+                @Override
+                public int compare(TaskGroupEntry<TaskItem> first, TaskGroupEntry<TaskItem> second) {
+                    int result = Integer.compare(priority(second), priority(first));
+                    if (result != 0) {
+                        return result;
+                    }
+                    return Long.compare(readySequence.get(first.key()), readySequence.get(second.key()));
+                }
+            });
+        }
+
+        /**
+         * Moves the ready entries of the graph to the pending queue and selects the entries that
+         * can be invoked now.
+         *
+         * @param graph the graph being invoked
+         * @return the entries to invoke
+         */
+        synchronized List<TaskGroupEntry<TaskItem>> schedule(DAGraph<TaskItem, TaskGroupEntry<TaskItem>> graph) {
+            List<TaskGroupEntry<TaskItem>> dispatched = new ArrayList<>();
+            for (TaskGroupEntry<TaskItem> entry = graph.getNext(); entry != null; entry = graph.getNext()) {
+                if (tracer != null) {
+                    tracer.onReady(entry);
+                }
+                if (entry.data() instanceof ProxyTaskItem) {
+                    dispatched.add(entry);
+                } else {
+                    readySequence.put(entry.key(), sequence++);
+                    pending.add(entry);
+                }
+            }
+            List<TaskGroupEntry<TaskItem>> deferred = new ArrayList<>();
+            while (inFlight < policy.maxInFlight() && !pending.isEmpty()) {
+                TaskGroupEntry<TaskItem> entry = pending.poll();
+                String taskType = policy.taskTypeOf(entry.data());
+                int typeInFlight = inFlightOfType(taskType);
+                if (typeInFlight >= policy.maxInFlight(taskType)) {
+                    deferred.add(entry);
+                } else {
+                    inFlight++;
+                    inFlightPerType.put(taskType, typeInFlight + 1);
+                    dispatched.add(entry);
+                }
+            }
+            pending.addAll(deferred);
+            return dispatched;
+        }
+
+        /**
+         * Releases the slot held by an entry that finished its invocation.
+         *
+         * @param entry the entry
+         */
+        synchronized void release(TaskGroupEntry<TaskItem> entry) {
+            if (entry.data() instanceof ProxyTaskItem) {
+                return;
+            }
+            String taskType = policy.taskTypeOf(entry.data());
+            inFlight--;
+            inFlightPerType.put(taskType, inFlightOfType(taskType) - 1);
+        }
+
+        private int inFlightOfType(String taskType) {
+            Integer count = inFlightPerType.get(taskType);
+            return count == null ? 0 : count;
+        }
+
+        private int priority(TaskGroupEntry<TaskItem> entry) {
+            Integer priority = priorities.get(entry.key());
+            return priority == null ? 0 : priority;
+        }
+    }
+
     /**
      * A {@link TaskItem} type that act as proxy for another {@link TaskItem}.
      */
@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources.fluentcore.dag;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Type representing the policy used by {@link TaskGroup} to schedule ready tasks.
+ * <p>
+ * By default a task group invokes all the tasks that are ready (i.e. whose dependencies are resolved)
+ * at the same time. A scheduling policy bounds the number of tasks in flight, optionally per task type,
+ * and orders ready tasks so that tasks on the longest remaining dependency chain are invoked first.
+ * <p>
+ * The type of a task is resolved by {@link #taskTypeOf(TaskItem)}, which can be overridden to plug a
+ * different classification.
+ */
+public class TaskGroupSchedulingPolicy {
+    /**
+     * Indicates there is no limit on the number of tasks in flight.
+     */
+    public static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    private int maxInFlight;
+    private boolean criticalPathFirst;
+    private final Map<String, Integer> maxInFlightPerType;
+
+    /**
+     * Creates a scheduling policy with no limits that invokes tasks on the critical path first.
+     */
+    public TaskGroupSchedulingPolicy() {
+        this.maxInFlight = UNBOUNDED;
+        this.criticalPathFirst = true;
+        this.maxInFlightPerType = new HashMap<>();
+    }
+
+    /**
+     * Specifies the maximum number of tasks that can be in flight at any time.
+     *
+     * @param maxInFlight the maximum number of tasks in flight
+     * @return the policy
+     */
+    public TaskGroupSchedulingPolicy withMaxInFlight(int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive");
+        }
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    /**
+     * Specifies the maximum number of tasks of the given type that can be in flight at any time.
+     *
+     * @param taskType the task type as returned by {@link #taskTypeOf(TaskItem)}
+     * @param maxInFlight the maximum number of tasks of the type in flight
+     * @return the policy
+     */
+    public TaskGroupSchedulingPolicy withMaxInFlight(String taskType, int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive");
+        }
+        this.maxInFlightPerType.put(taskType, maxInFlight);
+        return this;
+    }
+
+    /**
+     * Specifies that ready tasks are invoked in the order they become ready, instead of invoking
+     * tasks with the longest remaining dependency chain first.
+     *
+     * @return the policy
+     */
+    public TaskGroupSchedulingPolicy withoutCriticalPathFirst() {
+        this.criticalPathFirst = false;
+        return this;
+    }
+
+    /**
+     * @return the maximum number of tasks that can be in flight at any time
+     */
+    public int maxInFlight() {
+        return this.maxInFlight;
+    }
+
+    /**
+     * Gets the maximum number of tasks of a type that can be in flight at any time.
+     *
+     * @param taskType the task type
+     * @return the maximum number of tasks in flight
+     */
+    public int maxInFlight(String taskType) {
+        Integer limit = this.maxInFlightPerType.get(taskType);
+        return limit == null ? UNBOUNDED : limit;
+    }
+
+    /**
+     * @return the per task type limits
+     */
+    public Map<String, Integer> maxInFlightPerType() {
+        return Collections.unmodifiableMap(this.maxInFlightPerType);
+    }
+
+    /**
+     * @return true if ready tasks with the longest remaining dependency chain are invoked first
+     */
+    public boolean isCriticalPathFirst() {
+        return this.criticalPathFirst;
+    }
+
+    /**
+     * Resolves the type of a task, used to apply the per type limits.
+     *
+     * @param taskItem the task item
+     * @return the type of the task
+     */
+    public String taskTypeOf(TaskItem taskItem) {
+        if (taskItem instanceof HasTaskType) {
+            return ((HasTaskType) taskItem).taskType();
+        }
+        return taskItem.getClass().getSimpleName();
+    }
+
+    /**
+     * An interface representing a {@link TaskItem} that can describe its type.
+     */
+    public interface HasTaskType {
+        /**
+         * @return the type of the task, e.g. the type of the resource the task creates
+         */
+        String taskType();
+    }
+}
@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources.fluentcore.dag;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Type representing the trace of an invocation of a {@link TaskGroup}, with the traces of its tasks.
+ * <p>
+ * The critical path is the chain of tasks that determined the duration of the invocation: starting
+ * from the task that completed last, each task on the path is preceded by its dependency that completed
+ * last, i.e. the one that made it ready. Shortening any other task does not shorten the invocation.
+ * <p>
+ * The trace can be exported in the Chrome trace event format through {@link #toChromeTraceJson()},
+ * to be displayed by chrome://tracing or similar trace viewers.
+ */
+public final class TaskGroupTrace {
+    private final long startedAtNanos;
+    private final long endedAtNanos;
+    private final Map<String, TaskTrace> traces;
+    private final List<TaskTrace> criticalPath;
+
+    TaskGroupTrace(long startedAtNanos, long endedAtNanos, List<TaskTrace> traces) {
+        this.startedAtNanos = startedAtNanos;
+        this.endedAtNanos = endedAtNanos;
+        this.traces = new LinkedHashMap<>();
+        for (TaskTrace trace : traces) {
+            this.traces.put(trace.key(), trace);
+        }
+        this.criticalPath = Collections.unmodifiableList(computeCriticalPath());
+    }
+
+    /**
+     * @return the time the invocation started
+     */
+    public long startedAtNanos() {
+        return this.startedAtNanos;
+    }
+
+    /**
+     * @return the time the invocation completed
+     */
+    public long endedAtNanos() {
+        return this.endedAtNanos;
+    }
+
+    /**
+     * @return the duration of the invocation
+     */
+    public long durationInNanos() {
+        return this.endedAtNanos - this.startedAtNanos;
+    }
+
+    /**
+     * @return the traces of the completed tasks, in the order they completed
+     */
+    public List<TaskTrace> taskTraces() {
+        return Collections.unmodifiableList(new ArrayList<>(this.traces.values()));
+    }
+
+    /**
+     * Gets the trace of a task.
+     *
+     * @param key the key of the task
+     * @return the trace, null if the task did not complete
+     */
+    public TaskTrace taskTrace(String key) {
+        return this.traces.get(key);
+    }
+
+    /**
+     * @return the traces of the tasks on the critical path, from the first task invoked to the last
+     */
+    public List<TaskTrace> criticalPath() {
+        return this.criticalPath;
+    }
+
+    /**
+     * Exports the trace in the Chrome trace event format, one complete event per task. Tasks running at the
+     * same time are displayed on different lanes, the tasks on the critical path are flagged in their arguments.
+     *
+     * @return the trace as a JSON string
+     */
+    public String toChromeTraceJson() {
+        List<TaskTrace> byStart = new ArrayList<>(this.traces.values());
+        Collections.sort(byStart, new Comparator<TaskTrace>() {
+            @Override
+            public int compare(TaskTrace first, TaskTrace second) {
+                return Long.compare(first.startedAtNanos(), second.startedAtNanos());
+            }
+        });
+        List<Long> laneEnds = new ArrayList<>();
+        StringBuilder json = new StringBuilder("{\"traceEvents\":[");
+        boolean first = true;
+        for (TaskTrace trace : byStart) {
+            int lane = 0;
+            while (lane < laneEnds.size() && laneEnds.get(lane) > trace.startedAtNanos()) {
+                lane++;
+            }
+            if (lane == laneEnds.size()) {
+                laneEnds.add(trace.endedAtNanos());
+            } else {
+                laneEnds.set(lane, trace.endedAtNanos());
+            }
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            json.append("{\"name\":");
+            appendString(json, trace.key());
+            json.append(",\"cat\":");
+            appendString(json, trace.taskType());
+            json.append(",\"ph\":\"X\",\"pid\":1,\"tid\":").append(lane + 1)
+                    .append(",\"ts\":").append(toMicros(trace.startedAtNanos() - this.startedAtNanos))
+                    .append(",\"dur\":").append(toMicros(trace.durationInNanos()))
+                    .append(",\"args\":{\"outcome\":");
+            appendString(json, trace.outcome().name());
+            json.append(",\"queueWaitMicros\":").append(toMicros(trace.queueWaitInNanos()))
+                    .append(",\"criticalPath\":").append(this.criticalPath.contains(trace));
+            if (trace.error() != null) {
+                json.append(",\"error\":");
+                appendString(json, String.valueOf(trace.error()));
+            }
+            json.append("}}");
+        }
+        return json.append("]}").toString();
+    }
+
+    private List<TaskTrace> computeCriticalPath() {
+        LinkedList<TaskTrace> path = new LinkedList<>();
+        TaskTrace current = latest(this.traces.values());
+        while (current != null) {
+            path.addFirst(current);
+            List<TaskTrace> dependencies = new ArrayList<>();
+            for (String dependencyKey : current.dependencyKeys()) {
+                TaskTrace dependency = this.traces.get(dependencyKey);
+                if (dependency != null) {
+                    dependencies.add(dependency);
+                }
+            }
+            current = latest(dependencies);
+        }
+        return path;
+    }
+
+    private static TaskTrace latest(Iterable<TaskTrace> traces) {
+        TaskTrace latest = null;
+        for (TaskTrace trace : traces) {
+            if (latest == null || trace.endedAtNanos() > latest.endedAtNanos()) {
+                latest = trace;
+            }
+        }
+        return latest;
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources.fluentcore.dag;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Type recording the traces of the tasks during an invocation of a {@link TaskGroup}.
+ */
+final class TaskGroupTracer {
+    private final TaskTraceListener listener;
+    private final long startedAtNanos;
+    private final Map<String, TaskTrace> pending;
+    private final List<TaskTrace> completed;
+
+    /**
+     * Creates TaskGroupTracer.
+     *
+     * @param listener the listener of the traces
+     */
+    TaskGroupTracer(TaskTraceListener listener) {
+        this.listener = listener;
+        this.startedAtNanos = System.nanoTime();
+        this.pending = new ConcurrentHashMap<>();
+        this.completed = new ArrayList<>();
+    }
+
+    /**
+     * Records that the dependencies of an entry are resolved.
+     *
+     * @param entry the entry
+     */
+    void onReady(TaskGroupEntry<TaskItem> entry) {
+        TaskItem taskItem = entry.data();
+        String taskType = taskItem instanceof TaskGroupSchedulingPolicy.HasTaskType
+                ? ((TaskGroupSchedulingPolicy.HasTaskType) taskItem).taskType()
+                : taskItem.getClass().getSimpleName();
+        this.pending.put(entry.key(), new TaskTrace(entry.key(), taskType,
+                new ArrayList<>(entry.dependencyKeys()), System.nanoTime()));
+    }
+
+    /**
+     * Records that the task of an entry is invoked.
+     *
+     * @param entry the entry
+     */
+    void onStarted(TaskGroupEntry<TaskItem> entry) {
+        TaskTrace trace = this.pending.get(entry.key());
+        if (trace != null) {
+            trace.onStarted(System.nanoTime());
+        }
+    }
+
+    /**
+     * Records that the task of an entry completed.
+     *
+     * @param entry the entry
+     * @param throwable the error of the task, null if it succeeded
+     */
+    void onCompleted(TaskGroupEntry<TaskItem> entry, Throwable throwable) {
+        TaskTrace trace = this.pending.remove(entry.key());
+        if (trace == null) {
+            return;
+        }
+        trace.onEnded(System.nanoTime(), throwable);
+        synchronized (this.completed) {
+            this.completed.add(trace);
+        }
+        this.listener.onTaskCompleted(trace);
+    }
+
+    /**
+     * Records that the invocation of the group completed, and reports the trace of the group.
+     */
+    void onGroupCompleted() {
+        List<TaskTrace> traces;
+        synchronized (this.completed) {
+            traces = new ArrayList<>(this.completed);
+        }
+        this.listener.onGroupCompleted(new TaskGroupTrace(this.startedAtNanos, System.nanoTime(), traces));
+    }
+}
@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources.fluentcore.dag;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Type representing the trace of the invocation of a task in a {@link TaskGroup}.
+ * <p>
+ * Times are values of {@link System#nanoTime()}, they can only be compared with each other.
+ */
+public final class TaskTrace {
+    /**
+     * The outcome of a task invocation.
+     */
+    public enum Outcome {
+        /** The task completed successfully. */
+        SUCCEEDED,
+        /** The task failed. */
+        FAILED,
+        /** The task was not invoked because one of its dependencies failed. */
+        SKIPPED,
+        /** The task was not invoked because the group was cancelled. */
+        CANCELLED
+    }
+
+    private final String key;
+    private final String taskType;
+    private final List<String> dependencyKeys;
+    private volatile long readyAtNanos;
+    private volatile long startedAtNanos;
+    private volatile long endedAtNanos;
+    private volatile Outcome outcome;
+    private volatile Throwable error;
+
+    TaskTrace(String key, String taskType, List<String> dependencyKeys, long readyAtNanos) {
+        this.key = key;
+        this.taskType = taskType;
+        this.dependencyKeys = Collections.unmodifiableList(dependencyKeys);
+        this.readyAtNanos = readyAtNanos;
+        this.startedAtNanos = -1;
+    }
+
+    /**
+     * @return the key of the task
+     */
+    public String key() {
+        return this.key;
+    }
+
+    /**
+     * @return the type of the task
+     */
+    public String taskType() {
+        return this.taskType;
+    }
+
+    /**
+     * @return the keys of the tasks this task depends on
+     */
+    public List<String> dependencyKeys() {
+        return this.dependencyKeys;
+    }
+
+    /**
+     * @return the time the dependencies of the task were resolved
+     */
+    public long readyAtNanos() {
+        return this.readyAtNanos;
+    }
+
+    /**
+     * @return the time the task was invoked, the end time if it was not invoked
+     */
+    public long startedAtNanos() {
+        return this.startedAtNanos;
+    }
+
+    /**
+     * @return the time the task completed
+     */
+    public long endedAtNanos() {
+        return this.endedAtNanos;
+    }
+
+    /**
+     * @return the time the task waited between its dependencies being resolved and its invocation
+     */
+    public long queueWaitInNanos() {
+        return this.startedAtNanos - this.readyAtNanos;
+    }
+
+    /**
+     * @return the time the task ran
+     */
+    public long durationInNanos() {
+        return this.endedAtNanos - this.startedAtNanos;
+    }
+
+    /**
+     * @return the outcome of the task
+     */
+    public Outcome outcome() {
+        return this.outcome;
+    }
+
+    /**
+     * @return the error of a failed task, null otherwise
+     */
+    public Throwable error() {
+        return this.error;
+    }
+
+    void onStarted(long startedAtNanos) {
+        this.startedAtNanos = startedAtNanos;
+    }
+
+    void onEnded(long endedAtNanos, Throwable throwable) {
+        if (this.startedAtNanos < 0) {
+            this.startedAtNanos = endedAtNanos;
+        }
+        this.endedAtNanos = endedAtNanos;
+        if (throwable == null) {
+            this.outcome = Outcome.SUCCEEDED;
+        } else if (throwable instanceof ErroredDependencyTaskException) {
+            this.outcome = Outcome.SKIPPED;
+        } else if (throwable instanceof TaskCancelledException) {
+            this.outcome = Outcome.CANCELLED;
+        } else {
+            this.outcome = Outcome.FAILED;
+            this.error = throwable;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources.fluentcore.dag;
+
+/**
+ * The listener of the traces of a {@link TaskGroup} invocation.
+ * <p>
+ * The listener is called on the threads completing the tasks, it should not block.
+ */
+public interface TaskTraceListener {
+    /**
+     * Called when a task of the group completed.
+     *
+     * @param trace the trace of the task
+     */
+    void onTaskCompleted(TaskTrace trace);
+
+    /**
+     * Called when the invocation of the group completed.
+     *
+     * @param trace the trace of the group
+     */
+    void onGroupCompleted(TaskGroupTrace trace);
+}
@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources.fluentcore.model;
+
+import com.microsoft.azure.management.apigeneration.Beta;
+
+/**
+ * Represents the result of one create operation of a failure isolated batch.
+ * <p>
+ * (Note: this interface is not intended to be implemented by user code)
+ * @param <ResourceT> the type of the resource in the batch
+ */
+@Beta(Beta.SinceVersion.V1_23_0)
+public interface BatchCreationResult<ResourceT extends Indexable> {
+    /**
+     * @return the key of the creatable
+     */
+    String key();
+
+    /**
+     * @return true if the resource was created
+     */
+    boolean isCreated();
+
+    /**
+     * @return the created resource, null if the creation failed
+     */
+    ResourceT resource();
+
+    /**
+     * @return the error of the creation, or an error indicating that one of its dependencies failed, null if the
+     * resource was created
+     */
+    Throwable error();
+}
@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources.fluentcore.model;
+
+import com.microsoft.azure.management.apigeneration.Beta;
+import com.microsoft.azure.management.apigeneration.LangDefinition;
+import com.microsoft.azure.management.apigeneration.Method;
+import rx.Observable;
+
+/**
+ * Base interface for resources with an etag that can be refreshed only if they changed in Azure.
+ * <p>
+ * The refresh sends the etag of the current state in the "If-None-Match" header, when the resource did
+ * not change Azure answers without a body and the current state is kept as is. The
+ * {@link com.microsoft.azure.management.resources.fluentcore.utils.ConditionalRequestInterceptor} of the
+ * REST client counts the conditional refreshes answered with and without a body.
+ */
+@LangDefinition(ContainerName = "ResourceActions")
+@Beta(Beta.SinceVersion.V1_23_0)
+public interface ConditionallyRefreshable {
+    /**
+     * Refreshes the resource if it changed in Azure.
+     *
+     * @return true if the resource changed and was refreshed, false if it did not change
+     */
+    @Method
+    boolean refreshIfChanged();
+
+    /**
+     * Refreshes the resource if it changed in Azure.
+     *
+     * @return an observable emitting true if the resource changed and was refreshed, false if it did not change
+     */
+    @Method
+    Observable<Boolean> refreshIfChangedAsync();
+}
@@ -19,9 +19,12 @@ import com.microsoft.rest.ServiceFuture;
 import com.microsoft.rest.ServiceCallback;
 import rx.Completable;
 import rx.Observable;
+import rx.Scheduler;
+import rx.functions.Action0;
 import rx.functions.Func1;
 
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * The base class for all creatable and updatable model.
@@ -48,6 +51,10 @@ public abstract class CreatableUpdatableImpl<
      * The group of tasks to create or update this model and it's dependencies.
      */
     private final TaskGroup taskGroup;
+    /**
+     * The tracker of the inner model changes made since update() was called.
+     */
+    private InnerChangeTracker<InnerModelT> changeTracker;
 
     /**
      * Creates CreatableUpdatableImpl.
@@ -212,20 +219,36 @@ public abstract class CreatableUpdatableImpl<
         // delayed dependencies and/or post-run dependents.
     }
 
+    /**
+     * Gets the scheduler the tasks run on when this model is created or updated, the types extending
+     * from this type can override it to run on the scheduler of their manager.
+     *
+     * @return the scheduler, null to use the scheduler of the task group
+     */
+    protected Scheduler rxScheduler() {
+        return null;
+    }
+
     @Override
     public Observable<Indexable> createAsync() {
-        return taskGroup.invokeAsync(this.taskGroup.newInvocationContext());
+        return taskGroup.invokeAsync(this.taskGroup.newInvocationContext().withScheduler(rxScheduler()));
     }
 
     @Override
     public Observable<FluentModelT> applyAsync() {
-        return taskGroup.invokeAsync(this.taskGroup.newInvocationContext())
+        return taskGroup.invokeAsync(this.taskGroup.newInvocationContext().withScheduler(rxScheduler()))
                 .last()
                 .map(new Func1<Indexable, FluentModelT>() {
                     @Override
                     public FluentModelT call(Indexable indexable) {
                         return (FluentModelT) indexable;
                     }
+                })
+                .doOnCompleted(new Action0() {
+                    @Override
+                    public void call() {
+                        changeTracker = null;
+                    }
                 });
     }
 
@@ -263,9 +286,43 @@ public abstract class CreatableUpdatableImpl<
      */
     @SuppressWarnings("unchecked")
     public FluentModelImplT update() {
+        this.changeTracker = null;
+        if (this.tracksInnerChanges()) {
+            try {
+                this.changeTracker = new InnerChangeTracker<>(this.inner());
+            } catch (IllegalArgumentException e) {
+                // The inner model cannot be serialized, the update sends the whole model.
+            }
+        }
         return (FluentModelImplT) this;
     }
 
+    /**
+     * Specifies whether {@link #update()} snapshots the inner model to track its changes, which costs a
+     * serialization of the inner model per update. Only the models reading {@link #changedInnerProperties()}
+     * should opt in.
+     *
+     * @return true if the changes of the inner model are tracked, false by default
+     */
+    protected boolean tracksInnerChanges() {
+        return false;
+    }
+
+    /**
+     * Gets the properties of the inner model changed by the update stages, so that the update can send
+     * only those properties and skip the request when nothing changed.
+     *
+     * @return the paths of the changed inner properties, null if the changes are not tracked because
+     * the model does not opt in through {@link #tracksInnerChanges()} or the update did not start with
+     * {@link #update()}
+     */
+    protected Set<String> changedInnerProperties() {
+        if (this.changeTracker == null) {
+            return null;
+        }
+        return this.changeTracker.changedProperties(this.inner());
+    }
+
     @Override
     public Observable<FluentModelT> updateResourceAsync() {
         return this.createResourceAsync();
@@ -7,9 +7,9 @@
 package com.microsoft.azure.management.resources.fluentcore.model.implementation;
 
 import com.microsoft.azure.management.resources.fluentcore.dag.TaskGroup;
+import com.microsoft.azure.management.resources.fluentcore.dag.TaskGroupSchedulingPolicy;
 import com.microsoft.azure.management.resources.fluentcore.dag.TaskItem;
 import com.microsoft.azure.management.resources.fluentcore.model.Indexable;
-import com.microsoft.azure.management.resources.fluentcore.utils.SdkContext;
 import rx.Completable;
 import rx.Observable;
 import rx.functions.Action1;
@@ -21,7 +21,8 @@ import rx.functions.Func1;
  *
  * @param <ResourceT> the type of the resource that this task creates or update
  */
-public class CreateUpdateTask<ResourceT extends Indexable> implements TaskItem {
+public class CreateUpdateTask<ResourceT extends Indexable>
+        implements TaskItem, TaskGroupSchedulingPolicy.HasTaskType {
     /**
      * the underlying instance that can create and update the resource.
      */
@@ -55,7 +56,7 @@ public class CreateUpdateTask<ResourceT extends Indexable> implements TaskItem {
     public Observable<Indexable> invokeAsync(TaskGroup.InvocationContext context) {
         if (this.resourceCreatorUpdater.isInCreateMode()) {
             return this.resourceCreatorUpdater.createResourceAsync()
-                    .subscribeOn(SdkContext.getRxScheduler())
+                    .subscribeOn(context.scheduler())
                     .doOnNext(new Action1<ResourceT>() {
                         @Override
                         public void call(ResourceT resourceT) {
@@ -69,7 +70,7 @@ public class CreateUpdateTask<ResourceT extends Indexable> implements TaskItem {
                     });
         } else {
             return this.resourceCreatorUpdater.updateResourceAsync()
-                    .subscribeOn(SdkContext.getRxScheduler())
+                    .subscribeOn(context.scheduler())
                     .doOnNext(new Action1<ResourceT>() {
                         @Override
                         public void call(ResourceT resourceT) {
@@ -95,6 +96,15 @@ public class CreateUpdateTask<ResourceT extends Indexable> implements TaskItem {
         return this.resourceCreatorUpdater.isHot();
     }
 
+    @Override
+    public String taskType() {
+        String typeName = this.resourceCreatorUpdater.getClass().getSimpleName();
+        if (typeName.endsWith("Impl")) {
+            return typeName.substring(0, typeName.length() - "Impl".length());
+        }
+        return typeName;
+    }
+
 
     /**
      * Represents a type that know how to create or update a resource of type {@link T}.
@@ -9,7 +9,6 @@ package com.microsoft.azure.management.resources.fluentcore.model.implementation
 import com.microsoft.azure.management.resources.fluentcore.dag.TaskGroup;
 import com.microsoft.azure.management.resources.fluentcore.dag.TaskItem;
 import com.microsoft.azure.management.resources.fluentcore.model.Indexable;
-import com.microsoft.azure.management.resources.fluentcore.utils.SdkContext;
 import rx.Completable;
 import rx.Observable;
 import rx.functions.Action1;
@@ -58,7 +57,7 @@ public class ExecuteTask<ResultT extends Indexable> implements TaskItem {
     @Override
     public Observable<Indexable> invokeAsync(TaskGroup.InvocationContext context) {
         return this.executor.executeWorkAsync()
-                .subscribeOn(SdkContext.getRxScheduler())
+                .subscribeOn(context.scheduler())
                 .doOnNext(new Action1<ResultT>() {
                     @Override
                     public void call(ResultT resultT) {
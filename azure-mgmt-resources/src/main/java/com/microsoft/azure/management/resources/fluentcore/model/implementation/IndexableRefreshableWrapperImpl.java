@@ -9,6 +9,7 @@ package com.microsoft.azure.management.resources.fluentcore.model.implementation
 import com.microsoft.azure.management.resources.fluentcore.model.HasInner;
 import com.microsoft.azure.management.resources.fluentcore.model.Indexable;
 import com.microsoft.azure.management.resources.fluentcore.model.Refreshable;
+import com.microsoft.azure.management.resources.fluentcore.utils.ConditionalRequestInterceptor;
 import rx.Observable;
 import rx.functions.Func1;
 
@@ -64,5 +65,55 @@ public abstract class IndexableRefreshableWrapperImpl<FluentModelT, InnerModelT>
         });
     }
 
+    /**
+     * Refreshes the resource if it changed in Azure, based on the etag of the wrapped inner model.
+     * Models without etag, or without a conditional get, are always refreshed.
+     *
+     * @return true if the resource changed and was refreshed, false if it did not change
+     */
+    public boolean refreshIfChanged() {
+        return refreshIfChangedAsync().toBlocking().last();
+    }
+
+    /**
+     * Refreshes the resource if it changed in Azure, based on the etag of the wrapped inner model.
+     * Models without etag, or without a conditional get, are always refreshed.
+     *
+     * @return an observable emitting true if the resource changed and was refreshed, false if it did not change
+     */
+    public Observable<Boolean> refreshIfChangedAsync() {
+        final IndexableRefreshableWrapperImpl<FluentModelT, InnerModelT> self = this;
+        String etag = ConditionalRequestInterceptor.etagOf(this.inner());
+        Observable<InnerModelT> innerObservable = etag == null
+                ? getInnerAsync()
+                : this.getInnerIfChangedAsync(etag);
+        return innerObservable.map(new Func1<InnerModelT, Boolean>() {
+            @Override
+            public Boolean call(InnerModelT innerModelT) {
+                self.setInner(innerModelT);
+                return true;
+            }
+        }).onErrorResumeNext(new Func1<Throwable, Observable<Boolean>>() {
+            @Override
+            public Observable<Boolean> call(Throwable throwable) {
+                if (ConditionalRequestInterceptor.isNotModified(throwable)) {
+                    return Observable.just(false);
+                }
+                return Observable.error(throwable);
+            }
+        });
+    }
+
     protected abstract Observable<InnerModelT> getInnerAsync();
+
+    /**
+     * Gets the inner model if it does not match the given etag, sending it in the "If-None-Match" header.
+     * The default implementation does not send the etag, so that the resource is always refreshed.
+     *
+     * @param etag the etag of the current inner model
+     * @return the observable emitting the inner model, failing with a 304 error if it did not change
+     */
+    protected Observable<InnerModelT> getInnerIfChangedAsync(String etag) {
+        return getInnerAsync();
+    }
 }
@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources.fluentcore.model.implementation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.microsoft.azure.serializer.AzureJacksonAdapter;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tracks the properties of an inner model changed by the setters of an update.
+ * <p>
+ * The tracker takes a snapshot of the wire representation of the inner model when the update begins,
+ * and compares it with the current model to find the changed properties. A property is a top level
+ * property of the resource, e.g. "sku" or "tags", or a property of its "properties" bag, e.g.
+ * "properties.siteConfig", which is the granularity of the generated PATCH models. Read only properties
+ * are not serialized, so they are never reported as changed.
+ *
+ * @param <InnerT> the type of the inner model
+ */
+public final class InnerChangeTracker<InnerT> {
+    private static final String PROPERTIES = "properties";
+    private static final ObjectMapper MAPPER = new AzureJacksonAdapter().serializer();
+
+    private final JsonNode snapshot;
+
+    /**
+     * Creates InnerChangeTracker.
+     *
+     * @param inner the inner model to take the snapshot of
+     * @throws IllegalArgumentException if the inner model cannot be serialized
+     */
+    public InnerChangeTracker(InnerT inner) {
+        this.snapshot = MAPPER.valueToTree(inner);
+    }
+
+    /**
+     * Gets the properties of the inner model changed since the snapshot.
+     *
+     * @param inner the current inner model
+     * @return the paths of the changed properties, empty if nothing changed
+     */
+    public Set<String> changedProperties(InnerT inner) {
+        Set<String> changed = new LinkedHashSet<>();
+        JsonNode current = MAPPER.valueToTree(inner);
+        for (String name : fieldNames(snapshot, current)) {
+            JsonNode before = snapshot.get(name);
+            JsonNode after = current.get(name);
+            if (PROPERTIES.equals(name) && before != null && before.isObject() && after != null && after.isObject()) {
+                for (String propertyName : fieldNames(before, after)) {
+                    if (!equal(before.get(propertyName), after.get(propertyName))) {
+                        changed.add(PROPERTIES + "." + propertyName);
+                    }
+                }
+            } else if (!equal(before, after)) {
+                changed.add(name);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Creates a copy of a payload model holding only the given properties.
+     *
+     * @param payload the payload model, e.g. the PATCH model of the resource
+     * @param properties the paths of the properties to keep, as reported by {@link #changedProperties(Object)}
+     * @param <P> the type of the payload model
+     * @return the copy of the payload
+     */
+    @SuppressWarnings("unchecked")
+    public static <P> P retainProperties(P payload, Set<String> properties) {
+        ObjectNode tree = MAPPER.valueToTree(payload);
+        for (Iterator<String> names = tree.fieldNames(); names.hasNext();) {
+            String name = names.next();
+            JsonNode value = tree.get(name);
+            if (PROPERTIES.equals(name) && value.isObject()) {
+                for (Iterator<String> propertyNames = value.fieldNames(); propertyNames.hasNext();) {
+                    if (!properties.contains(PROPERTIES + "." + propertyNames.next())) {
+                        propertyNames.remove();
+                    }
+                }
+                if (value.size() == 0) {
+                    names.remove();
+                }
+            } else if (!properties.contains(name)) {
+                names.remove();
+            }
+        }
+        try {
+            return (P) MAPPER.treeToValue(tree, payload.getClass());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to copy the payload of type " + payload.getClass().getName(), e);
+        }
+    }
+
+    private static List<String> fieldNames(JsonNode first, JsonNode second) {
+        Set<String> names = new LinkedHashSet<>();
+        for (JsonNode node : new JsonNode[] {first, second}) {
+            if (node != null && node.isObject()) {
+                for (Iterator<String> it = node.fieldNames(); it.hasNext();) {
+                    names.add(it.next());
+                }
+            }
+        }
+        return new ArrayList<>(names);
+    }
+
+    private static boolean equal(JsonNode before, JsonNode after) {
+        if (before == null || before.isNull()) {
+            return after == null || after.isNull();
+        }
+        return before.equals(after);
+    }
+}
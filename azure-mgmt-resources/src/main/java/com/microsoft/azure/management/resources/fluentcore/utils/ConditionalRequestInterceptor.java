@@ -0,0 +1,199 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources.fluentcore.utils;
+
+import com.microsoft.azure.AzureServiceClient;
+import com.microsoft.azure.CloudException;
+import com.microsoft.rest.RestClient;
+import com.microsoft.rest.RestException;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import retrofit2.http.GET;
+import retrofit2.http.Header;
+import retrofit2.http.Path;
+import retrofit2.http.Query;
+import rx.Observable;
+import rx.functions.Func1;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The conditional GET requests of the conditional refreshes, sending the etag of a cached resource in the
+ * "If-None-Match" header so that Azure answers 304 without a body if the resource did not change.
+ * <p>
+ * The etag is an explicit header of the request issued by {@link #getIfNoneMatchAsync}, so it does not depend
+ * on the thread the request runs on. As an interceptor, it counts the conditional requests of the clients it
+ * is installed on answered with 304 (hits) and with the resource (misses).
+ */
+public final class ConditionalRequestInterceptor implements Interceptor {
+    private static final int OK = 200;
+    private static final int NOT_MODIFIED = 304;
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final ConcurrentMap<Class<?>, EtagAccessor> ETAG_ACCESSORS = new ConcurrentHashMap<>();
+    private static final Map<RestClient, ConditionalGetService> SERVICES = new WeakHashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        if (request.header(IF_NONE_MATCH) == null || !"GET".equals(request.method())) {
+            return chain.proceed(request);
+        }
+        Response response = chain.proceed(request);
+        if (response.code() == NOT_MODIFIED) {
+            hitCount.incrementAndGet();
+        } else {
+            missCount.incrementAndGet();
+        }
+        return response;
+    }
+
+    /**
+     * Gets a resource by ID if it does not match the given etag.
+     *
+     * @param client the client of the resource provider
+     * @param id the resource ID
+     * @param apiVersion the API version of the resource provider
+     * @param etag the etag of the cached resource, sent in the "If-None-Match" header
+     * @param innerType the type of the inner model of the resource
+     * @param <T> the type of the inner model of the resource
+     * @return the observable emitting the resource, failing with a {@link RestException} of status 304 if the
+     * resource did not change
+     */
+    public static <T> Observable<T> getIfNoneMatchAsync(final AzureServiceClient client,
+                                                        String id,
+                                                        String apiVersion,
+                                                        String etag,
+                                                        final Type innerType) {
+        return serviceOf(client.restClient()).get(id, apiVersion, etag, client.userAgent())
+                .flatMap(new Func1<retrofit2.Response<ResponseBody>, Observable<T>>() {
+                    @Override
+                    public Observable<T> call(retrofit2.Response<ResponseBody> response) {
+                        try {
+                            T body = client.restClient().responseBuilderFactory()
+                                    .<T, CloudException>newInstance(client.serializerAdapter())
+                                    .register(OK, innerType)
+                                    .registerError(CloudException.class)
+                                    .build(response)
+                                    .body();
+                            return Observable.just(body);
+                        } catch (Throwable t) {
+                            return Observable.error(t);
+                        }
+                    }
+                });
+    }
+
+    /**
+     * @param throwable an error of a conditional request
+     * @return true if the error is the 304 response of a resource that did not change
+     */
+    public static boolean isNotModified(Throwable throwable) {
+        return throwable instanceof RestException
+                && ((RestException) throwable).response() != null
+                && ((RestException) throwable).response().code() == NOT_MODIFIED;
+    }
+
+    /**
+     * Gets the etag of an inner model, from its "etag()" method if any.
+     *
+     * @param inner the inner model
+     * @return the etag, or null if the model has none
+     */
+    public static String etagOf(Object inner) {
+        if (inner == null) {
+            return null;
+        }
+        EtagAccessor accessor = ETAG_ACCESSORS.get(inner.getClass());
+        if (accessor == null) {
+            accessor = new EtagAccessor(inner.getClass());
+            ETAG_ACCESSORS.putIfAbsent(inner.getClass(), accessor);
+        }
+        return accessor.etag(inner);
+    }
+
+    /**
+     * @return the number of conditional requests answered with 304, since the interceptor was created or the last reset
+     */
+    public long hitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * @return the number of conditional requests answered with the resource, since the interceptor was created or
+     * the last reset
+     */
+    public long missCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Resets the hit and miss counters.
+     */
+    public void resetCounts() {
+        hitCount.set(0);
+        missCount.set(0);
+    }
+
+    private static ConditionalGetService serviceOf(RestClient restClient) {
+        synchronized (SERVICES) {
+            ConditionalGetService service = SERVICES.get(restClient);
+            if (service == null) {
+                service = restClient.retrofit().create(ConditionalGetService.class);
+                SERVICES.put(restClient, service);
+            }
+            return service;
+        }
+    }
+
+    private interface ConditionalGetService {
+        @GET("{resourceId}")
+        Observable<retrofit2.Response<ResponseBody>> get(@Path(value = "resourceId", encoded = true) String resourceId, @Query("api-version") String apiVersion, @Header(IF_NONE_MATCH) String etag, @Header("User-Agent") String userAgent);
+    }
+
+    /**
+     * The etag getter of an inner model class.
+     */
+    private static final class EtagAccessor {
+        private final Method method;
+
+        EtagAccessor(Class<?> innerClass) {
+            Method etagMethod = null;
+            try {
+                etagMethod = innerClass.getMethod("etag");
+                if (etagMethod.getReturnType() != String.class) {
+                    etagMethod = null;
+                }
+            } catch (NoSuchMethodException e) {
+                // The model has no etag
+            }
+            this.method = etagMethod;
+        }
+
+        String etag(Object inner) {
+            if (method == null) {
+                return null;
+            }
+            try {
+                return (String) method.invoke(inner);
+            } catch (ReflectiveOperationException e) {
+                return null;
+            }
+        }
+    }
+}
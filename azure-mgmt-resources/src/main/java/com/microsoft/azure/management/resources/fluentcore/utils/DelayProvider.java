@@ -8,7 +8,7 @@ package com.microsoft.azure.management.resources.fluentcore.utils;
 
 import org.joda.time.DateTime;
 import rx.Observable;
-import rx.schedulers.Schedulers;
+import rx.functions.Func1;
 
 import java.util.concurrent.TimeUnit;
 
@@ -36,13 +36,24 @@ public class DelayProvider {
 
     /**
      * Creates an observable that emits the given item after the specified time in milliseconds.
+     * The delay is a timer on the SDK Rx scheduler, it does not block the subscribing thread. An item
+     * with no delay is emitted right away on the subscribing thread.
      *
      * @param event the event to emit
      * @param milliseconds the delay in milliseconds
      * @param <T> the type of event
      * @return delayed observable
      */
-    public <T> Observable<T>  delayedEmitAsync(T event, int milliseconds) {
-        return Observable.just(event).delay(milliseconds, TimeUnit.MILLISECONDS, Schedulers.immediate());
+    public <T> Observable<T>  delayedEmitAsync(final T event, int milliseconds) {
+        if (milliseconds <= 0) {
+            return Observable.just(event);
+        }
+        return Observable.timer(milliseconds, TimeUnit.MILLISECONDS, SdkContext.getRxScheduler())
+                .map(new Func1<Long, T>() {
+                    @Override
+                    public T call(Long tick) {
+                        return event;
+                    }
+                });
     }
 }
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources.fluentcore.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A thread safe histogram of latencies with a fixed set of log-linear buckets, recording without allocating.
+ * <p>
+ * Latencies are recorded in microseconds. Values below 64 microseconds are exact, larger values fall in
+ * buckets of 32 per power of two, hence the percentiles are within about 3% of the recorded values.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_SHIFT = 40;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT * (MAX_SHIFT + 2);
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalInMicros = new AtomicLong();
+    private final AtomicLong maxInMicros = new AtomicLong();
+
+    /**
+     * Records a latency.
+     *
+     * @param latency the latency
+     * @param unit the time unit of the latency
+     */
+    public void record(long latency, TimeUnit unit) {
+        long micros = Math.max(0, unit.toMicros(latency));
+        counts.incrementAndGet(bucketOf(micros));
+        count.incrementAndGet();
+        totalInMicros.addAndGet(micros);
+        long max = maxInMicros.get();
+        while (micros > max && !maxInMicros.compareAndSet(max, micros)) {
+            max = maxInMicros.get();
+        }
+    }
+
+    /**
+     * @return the number of recorded latencies
+     */
+    public long count() {
+        return count.get();
+    }
+
+    /**
+     * @return the mean of the recorded latencies in microseconds, 0 if none was recorded
+     */
+    public double meanInMicros() {
+        long n = count.get();
+        return n == 0 ? 0 : (double) totalInMicros.get() / n;
+    }
+
+    /**
+     * @return the maximum recorded latency in microseconds
+     */
+    public long maxInMicros() {
+        return maxInMicros.get();
+    }
+
+    /**
+     * Gets a percentile of the recorded latencies.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the upper bound of the bucket holding the percentile in microseconds, 0 if none was recorded
+     */
+    public long percentileInMicros(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 100.");
+        }
+        long total = 0;
+        long[] snapshot = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), maxInMicros.get());
+            }
+        }
+        return maxInMicros.get();
+    }
+
+    /**
+     * Clears the recorded latencies.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        count.set(0);
+        totalInMicros.set(0);
+        maxInMicros.set(0);
+    }
+
+    private static int bucketOf(long micros) {
+        if (micros < 2 * SUB_BUCKET_COUNT) {
+            return (int) micros;
+        }
+        int shift = Math.min(MAX_SHIFT, 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS);
+        long mantissa = Math.min(2 * SUB_BUCKET_COUNT - 1, micros >>> shift);
+        return SUB_BUCKET_COUNT * shift + (int) mantissa;
+    }
+
+    private static long upperBoundOf(int bucket) {
+        if (bucket < 2 * SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKET_COUNT - 1;
+        long mantissa = bucket % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
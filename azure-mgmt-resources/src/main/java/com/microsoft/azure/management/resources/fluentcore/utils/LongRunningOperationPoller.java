@@ -0,0 +1,452 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources.fluentcore.utils;
+
+import com.microsoft.azure.management.apigeneration.Beta;
+import com.microsoft.rest.ServiceResponse;
+import rx.Observable;
+import rx.Subscriber;
+import rx.Subscription;
+import rx.functions.Action0;
+import rx.functions.Action1;
+import rx.functions.Func0;
+import rx.functions.Func1;
+import rx.subscriptions.Subscriptions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A poller multiplexing the polling of many long running operations over a single timer.
+ * <p>
+ * The pending operations are kept in one queue ordered by the time of their next poll. When polls are due
+ * they are started, at most a bounded number at a time; the others wait in the queue in order. The interval
+ * between two polls of an operation adapts to the durations observed for the operations of the same type,
+ * polling sparsely while an operation is expected to run and more often when it is expected to end, and
+ * never earlier than the "Retry-After" header of a {@link ServiceResponse} poll result. The intervals are
+ * randomized by a jitter, so that operations started together do not keep polling together. An operation
+ * still running after the timeout of the poller fails with a {@link TimeoutException}.
+ * <p>
+ * The timer is from {@link SdkContext#delayedEmitAsync(Object, int)}, hence it follows the delay provider
+ * set in {@link SdkContext}.
+ */
+@Beta(Beta.SinceVersion.V1_23_0)
+public final class LongRunningOperationPoller {
+    private static final int DEFAULT_MAX_CONCURRENT_POLLS = 32;
+    private static final int DEFAULT_MIN_INTERVAL_IN_MILLIS = 1000;
+    private static final int DEFAULT_MAX_INTERVAL_IN_MILLIS = 60 * 1000;
+    private static final int DEFAULT_INITIAL_INTERVAL_IN_MILLIS = 5 * 1000;
+    private static final long DEFAULT_TIMEOUT_IN_MILLIS = 60 * 60 * 1000;
+    private static final double DEFAULT_JITTER_RATIO = 0.2;
+    private static final double BACKOFF_MULTIPLIER = 1.5;
+    private static final double DURATION_SMOOTHING = 0.25;
+    private static final LongRunningOperationPoller SHARED = new LongRunningOperationPoller(DEFAULT_MAX_CONCURRENT_POLLS);
+
+    private final int maxConcurrentPolls;
+    private volatile int minIntervalInMillis = DEFAULT_MIN_INTERVAL_IN_MILLIS;
+    private volatile int maxIntervalInMillis = DEFAULT_MAX_INTERVAL_IN_MILLIS;
+    private volatile long timeoutInMillis = DEFAULT_TIMEOUT_IN_MILLIS;
+    private volatile double jitterRatio = DEFAULT_JITTER_RATIO;
+    private final ConcurrentMap<String, AtomicLong> expectedDurations = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    // Guarded by this
+    private final PriorityQueue<PendingOperation<?>> queue = new PriorityQueue<>();
+    private int pollsInFlight;
+    private long lastFiredDueTime;
+    private boolean timerArmed;
+    private long timerDueTime;
+    private long timerGeneration;
+    private Subscription timer;
+
+    /**
+     * Creates a poller.
+     *
+     * @param maxConcurrentPolls the maximum number of polls in flight
+     */
+    public LongRunningOperationPoller(int maxConcurrentPolls) {
+        if (maxConcurrentPolls < 1) {
+            throw new IllegalArgumentException("The maximum number of concurrent polls must be at least 1.");
+        }
+        this.maxConcurrentPolls = maxConcurrentPolls;
+    }
+
+    /**
+     * @return the poller shared by the managers, with at most 32 polls in flight
+     */
+    public static LongRunningOperationPoller shared() {
+        return SHARED;
+    }
+
+    /**
+     * Specifies the bounds of the interval between two polls of an operation, 1 second to 1 minute by default.
+     * A "Retry-After" header longer than the maximum is still honored.
+     *
+     * @param minIntervalInMillis the minimum interval in milliseconds
+     * @param maxIntervalInMillis the maximum interval in milliseconds
+     * @return the poller itself
+     */
+    public LongRunningOperationPoller withIntervalBounds(int minIntervalInMillis, int maxIntervalInMillis) {
+        if (minIntervalInMillis < 0 || maxIntervalInMillis < minIntervalInMillis) {
+            throw new IllegalArgumentException("The interval bounds must be positive and ordered.");
+        }
+        this.minIntervalInMillis = minIntervalInMillis;
+        this.maxIntervalInMillis = maxIntervalInMillis;
+        return this;
+    }
+
+    /**
+     * Specifies the maximum time to poll an operation for, 1 hour by default. The operations still running
+     * once exceeded fail with a {@link TimeoutException}.
+     *
+     * @param timeout the maximum time to poll an operation for, zero for no limit
+     * @param unit the time unit of the timeout
+     * @return the poller itself
+     */
+    public LongRunningOperationPoller withTimeout(long timeout, TimeUnit unit) {
+        if (timeout < 0) {
+            throw new IllegalArgumentException("The timeout cannot be negative.");
+        }
+        this.timeoutInMillis = unit.toMillis(timeout);
+        return this;
+    }
+
+    /**
+     * Specifies the jitter of the interval between two polls of an operation, each interval is randomly
+     * shortened or lengthened by up to the given ratio, 0.2 by default. A "Retry-After" header is still honored.
+     *
+     * @param jitterRatio the ratio, between 0 and 1, zero for no jitter
+     * @return the poller itself
+     */
+    public LongRunningOperationPoller withJitter(double jitterRatio) {
+        if (jitterRatio < 0 || jitterRatio > 1) {
+            throw new IllegalArgumentException("The jitter ratio must be between 0 and 1.");
+        }
+        this.jitterRatio = jitterRatio;
+        return this;
+    }
+
+    /**
+     * Polls an operation until its result satisfies a condition.
+     *
+     * @param operationType the type of the operation, e.g. "Microsoft.Cache/redis/create", whose observed
+     *                      durations drive the polling intervals
+     * @param pollOperation the factory of the observable polling the operation, called for each poll, emitting
+     *                      a {@link ServiceResponse} for its "Retry-After" header to be honored
+     * @param isDone the condition ending the polling
+     * @param <T> the type of the polled result
+     * @return an observable emitting the first result satisfying the condition, or a {@link TimeoutException}
+     * if the condition is not satisfied within the timeout
+     */
+    public <T> Observable<T> pollUntilAsync(final String operationType,
+                                            final Func0<Observable<T>> pollOperation,
+                                            final Func1<T, Boolean> isDone) {
+        return Observable.create(new Observable.OnSubscribe<T>() {
+            @Override
+            public void call(Subscriber<? super T> subscriber) {
+                final long timeout = timeoutInMillis;
+                final PendingOperation<T> operation = new PendingOperation<>(operationType, pollOperation, isDone,
+                        subscriber, sequence.incrementAndGet(), timeout);
+                subscriber.add(Subscriptions.create(new Action0() {
+                    @Override
+                    public void call() {
+                        cancel(operation);
+                    }
+                }));
+                synchronized (LongRunningOperationPoller.this) {
+                    operation.startTime = now();
+                }
+                int interval = firstInterval(operationType);
+                enqueue(operation, timeout > 0 ? (int) Math.min(interval, timeout) : interval);
+            }
+        });
+    }
+
+    /**
+     * @return the number of operations waiting for their next poll
+     */
+    public synchronized int pendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * @return the number of polls in flight
+     */
+    public synchronized int pollsInFlight() {
+        return pollsInFlight;
+    }
+
+    /**
+     * Gets the smoothed duration of the completed operations of a type.
+     *
+     * @param operationType the type of the operation
+     * @return the expected duration in milliseconds, 0 if no operation of the type completed yet
+     */
+    public long expectedDurationInMillis(String operationType) {
+        AtomicLong expected = expectedDurations.get(operationType);
+        return expected == null ? 0 : expected.get();
+    }
+
+    private int firstInterval(String operationType) {
+        long expected = expectedDurationInMillis(operationType);
+        return jitter(clamp(expected > 0 ? expected / 2 : DEFAULT_INITIAL_INTERVAL_IN_MILLIS));
+    }
+
+    private int nextInterval(PendingOperation<?> operation, long elapsed, long retryAfterInMillis) {
+        long expected = expectedDurationInMillis(operation.operationType);
+        long interval;
+        if (expected > elapsed) {
+            // Polls more often as the operation gets close to its expected end
+            interval = (expected - elapsed) / 2;
+        } else if (operation.lastInterval > 0) {
+            interval = (long) (operation.lastInterval * BACKOFF_MULTIPLIER);
+        } else {
+            interval = DEFAULT_INITIAL_INTERVAL_IN_MILLIS;
+        }
+        return (int) Math.max(jitter(clamp(interval)), Math.min(Integer.MAX_VALUE, retryAfterInMillis));
+    }
+
+    private int jitter(int interval) {
+        double ratio = jitterRatio;
+        if (ratio == 0 || interval == 0) {
+            return interval;
+        }
+        double factor = 1 + ratio * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(0, Math.round(interval * factor)));
+    }
+
+    private int clamp(long interval) {
+        return (int) Math.max(minIntervalInMillis, Math.min(maxIntervalInMillis, interval));
+    }
+
+    private void recordDuration(String operationType, long duration) {
+        AtomicLong expected = expectedDurations.get(operationType);
+        if (expected == null) {
+            expectedDurations.putIfAbsent(operationType, new AtomicLong());
+            expected = expectedDurations.get(operationType);
+        }
+        long previous;
+        long next;
+        do {
+            previous = expected.get();
+            next = previous == 0
+                    ? duration
+                    : Math.round(previous + DURATION_SMOOTHING * (duration - previous));
+        } while (!expected.compareAndSet(previous, next));
+    }
+
+    /**
+     * The time of the poller, which follows the wall clock and the due times of the timers that fired,
+     * so that polls are due when the timer fires even if the delay provider shortens the delays.
+     *
+     * @return the current time in milliseconds
+     */
+    private long now() {
+        lastFiredDueTime = Math.max(lastFiredDueTime, System.currentTimeMillis());
+        return lastFiredDueTime;
+    }
+
+    private void enqueue(PendingOperation<?> operation, int interval) {
+        synchronized (this) {
+            if (operation.isCancelled()) {
+                return;
+            }
+            operation.lastInterval = interval;
+            operation.dueTime = now() + interval;
+            queue.add(operation);
+        }
+        dispatch();
+    }
+
+    private void cancel(PendingOperation<?> operation) {
+        synchronized (this) {
+            queue.remove(operation);
+        }
+    }
+
+    /**
+     * Starts the polls that are due, up to the maximum in flight, then arms the timer for the next due poll.
+     */
+    private void dispatch() {
+        List<PendingOperation<?>> due = new ArrayList<>();
+        long generation;
+        long dueTime = 0;
+        int delay = 0;
+        synchronized (this) {
+            long now = now();
+            while (pollsInFlight < maxConcurrentPolls && !queue.isEmpty() && queue.peek().dueTime <= now) {
+                due.add(queue.poll());
+                pollsInFlight++;
+            }
+            PendingOperation<?> next = queue.peek();
+            if (next == null || pollsInFlight >= maxConcurrentPolls || (timerArmed && timerDueTime <= next.dueTime)) {
+                generation = -1;
+            } else {
+                if (timer != null) {
+                    timer.unsubscribe();
+                }
+                timerArmed = true;
+                timerDueTime = next.dueTime;
+                generation = ++timerGeneration;
+                dueTime = next.dueTime;
+                delay = (int) Math.min(Integer.MAX_VALUE, Math.max(0, next.dueTime - now));
+            }
+        }
+        for (PendingOperation<?> operation : due) {
+            poll(operation);
+        }
+        if (generation >= 0) {
+            armTimer(generation, dueTime, delay);
+        }
+    }
+
+    private void armTimer(final long generation, final long dueTime, int delay) {
+        Subscription subscription = SdkContext.delayedEmitAsync(generation, delay)
+                .subscribe(new Action1<Long>() {
+                    @Override
+                    public void call(Long firedGeneration) {
+                        synchronized (LongRunningOperationPoller.this) {
+                            if (firedGeneration != timerGeneration) {
+                                return;
+                            }
+                            timerArmed = false;
+                            lastFiredDueTime = Math.max(lastFiredDueTime, dueTime);
+                        }
+                        dispatch();
+                    }
+                });
+        synchronized (this) {
+            if (generation == timerGeneration && timerArmed) {
+                timer = subscription;
+            }
+        }
+    }
+
+    private <T> void poll(final PendingOperation<T> operation) {
+        if (operation.isCancelled()) {
+            release();
+            return;
+        }
+        Observable<T> poll;
+        try {
+            poll = operation.pollOperation.call();
+        } catch (RuntimeException e) {
+            poll = Observable.error(e);
+        }
+        poll.last().subscribe(new Action1<T>() {
+            @Override
+            public void call(T result) {
+                if (operation.isCancelled()) {
+                    release();
+                    return;
+                }
+                long elapsed;
+                synchronized (LongRunningOperationPoller.this) {
+                    elapsed = now() - operation.startTime;
+                    pollsInFlight--;
+                }
+                long remaining = operation.timeoutInMillis > 0 ? operation.timeoutInMillis - elapsed : Long.MAX_VALUE;
+                boolean done;
+                try {
+                    done = operation.isDone.call(result);
+                } catch (RuntimeException e) {
+                    operation.subscriber.onError(e);
+                    dispatch();
+                    return;
+                }
+                if (done) {
+                    recordDuration(operation.operationType, elapsed);
+                    operation.subscriber.onNext(result);
+                    operation.subscriber.onCompleted();
+                    dispatch();
+                } else if (remaining <= 0) {
+                    operation.subscriber.onError(new TimeoutException(String.format(
+                            "The operation '%s' did not complete within %d milliseconds.",
+                            operation.operationType, operation.timeoutInMillis)));
+                    dispatch();
+                } else {
+                    int interval = nextInterval(operation, elapsed, retryAfterInMillis(result));
+                    enqueue(operation, (int) Math.min(interval, remaining));
+                }
+            }
+        }, new Action1<Throwable>() {
+            @Override
+            public void call(Throwable throwable) {
+                release();
+                operation.subscriber.onError(throwable);
+            }
+        });
+    }
+
+    private void release() {
+        synchronized (this) {
+            pollsInFlight--;
+        }
+        dispatch();
+    }
+
+    private static long retryAfterInMillis(Object result) {
+        if (!(result instanceof ServiceResponse) || ((ServiceResponse<?>) result).response() == null) {
+            return 0;
+        }
+        String retryAfter = ((ServiceResponse<?>) result).response().headers().get("Retry-After");
+        if (retryAfter == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(retryAfter.trim()) * 1000;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * An operation waiting for its next poll.
+     *
+     * @param <T> the type of the polled result
+     */
+    private static final class PendingOperation<T> implements Comparable<PendingOperation<?>> {
+        private final String operationType;
+        private final Func0<Observable<T>> pollOperation;
+        private final Func1<T, Boolean> isDone;
+        private final Subscriber<? super T> subscriber;
+        private final long sequence;
+        private final long timeoutInMillis;
+        private long startTime;
+        private long dueTime;
+        private int lastInterval;
+
+        PendingOperation(String operationType, Func0<Observable<T>> pollOperation, Func1<T, Boolean> isDone,
+                         Subscriber<? super T> subscriber, long sequence, long timeoutInMillis) {
+            this.operationType = operationType;
+            this.pollOperation = pollOperation;
+            this.isDone = isDone;
+            this.subscriber = subscriber;
+            this.sequence = sequence;
+            this.timeoutInMillis = timeoutInMillis;
+        }
+
+        boolean isCancelled() {
+            return subscriber.isUnsubscribed();
+        }
+
+        @Override
+        public int compareTo(PendingOperation<?> other) {
+            if (dueTime != other.dueTime) {
+                return dueTime < other.dueTime ? -1 : 1;
+            }
+            return sequence < other.sequence ? -1 : (sequence == other.sequence ? 0 : 1);
+        }
+    }
+}
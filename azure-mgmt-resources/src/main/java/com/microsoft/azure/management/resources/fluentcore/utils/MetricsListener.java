@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources.fluentcore.utils;
+
+/**
+ * A listener of the requests recorded by {@link ResourceManagerMetrics}, to bridge them to a metrics library.
+ * <p>
+ * The listener is called on the thread executing the request, it should not block.
+ */
+public interface MetricsListener {
+    /**
+     * Called when a request completed.
+     *
+     * @param operation the operation, from the logging context of the request
+     * @param subscriptionId the subscription of the request, "global" for a request outside of a subscription
+     * @param statusCode the status code of the final response, -1 if the request failed without a response
+     * @param latencyInNanos the latency of the request including its retries by interceptors, in nanoseconds;
+     *                       each attempt of a request retried after throttling completes on its own
+     * @param requestBytes the length of the request body, -1 if unknown
+     * @param responseBytes the length of the response body, -1 if unknown
+     */
+    void onRequestCompleted(String operation, String subscriptionId, int statusCode, long latencyInNanos,
+                            long requestBytes, long responseBytes);
+
+    /**
+     * Called when a request is sent again.
+     *
+     * @param operation the operation, from the logging context of the request
+     * @param subscriptionId the subscription of the request, "global" for a request outside of a subscription
+     * @param throttled true if the request is sent again because Azure Resource Manager throttled it
+     */
+    void onRetry(String operation, String subscriptionId, boolean throttled);
+}
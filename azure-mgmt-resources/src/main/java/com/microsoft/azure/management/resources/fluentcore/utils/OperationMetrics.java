@@ -0,0 +1,142 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources.fluentcore.utils;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The metrics of the requests of a management operation in a subscription.
+ */
+public final class OperationMetrics {
+    private static final int MAX_STATUS_CODE = 600;
+
+    private final ResourceManagerMetrics owner;
+    private final String operation;
+    private final String subscriptionId;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final AtomicLongArray statusCodeCounts = new AtomicLongArray(MAX_STATUS_CODE);
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong throttleCount = new AtomicLong();
+    private final AtomicLong requestBytes = new AtomicLong();
+    private final AtomicLong responseBytes = new AtomicLong();
+
+    OperationMetrics(ResourceManagerMetrics owner, String operation, String subscriptionId) {
+        this.owner = owner;
+        this.operation = operation;
+        this.subscriptionId = subscriptionId;
+    }
+
+    /**
+     * @return the operation, from the logging context of its requests
+     */
+    public String operation() {
+        return operation;
+    }
+
+    /**
+     * @return the subscription of the requests, "global" for the requests outside of a subscription
+     */
+    public String subscriptionId() {
+        return subscriptionId;
+    }
+
+    /**
+     * @return the latencies of the requests, including their retries by interceptors but not their retries
+     * after throttling, which are recorded as requests of their own
+     */
+    public LatencyHistogram latency() {
+        return latency;
+    }
+
+    /**
+     * @return the number of requests, counting each attempt of a request retried after throttling
+     */
+    public long requestCount() {
+        return latency.count();
+    }
+
+    /**
+     * @return the number of requests per status code of their final response
+     */
+    public Map<Integer, Long> statusCodeCounts() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        for (int i = 0; i < MAX_STATUS_CODE; i++) {
+            long count = statusCodeCounts.get(i);
+            if (count > 0) {
+                counts.put(i, count);
+            }
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * @return the number of requests failed without a response
+     */
+    public long failureCount() {
+        return failureCount.get();
+    }
+
+    /**
+     * @return the number of times the requests were sent again, including after throttling
+     */
+    public long retryCount() {
+        return retryCount.get();
+    }
+
+    /**
+     * @return the number of times the requests were sent again because Azure Resource Manager throttled them
+     */
+    public long throttleCount() {
+        return throttleCount.get();
+    }
+
+    /**
+     * @return the number of bytes sent in request bodies, when their length is known
+     */
+    public long requestBytes() {
+        return requestBytes.get();
+    }
+
+    /**
+     * @return the number of bytes received in response bodies, when their length is known
+     */
+    public long responseBytes() {
+        return responseBytes.get();
+    }
+
+    ResourceManagerMetrics owner() {
+        return owner;
+    }
+
+    void recordRequest(int statusCode, long latencyInNanos, long requestBytes, long responseBytes) {
+        latency.record(latencyInNanos, TimeUnit.NANOSECONDS);
+        if (statusCode >= 0 && statusCode < MAX_STATUS_CODE) {
+            statusCodeCounts.incrementAndGet(statusCode);
+        } else {
+            failureCount.incrementAndGet();
+        }
+        if (requestBytes > 0) {
+            this.requestBytes.addAndGet(requestBytes);
+        }
+        if (responseBytes > 0) {
+            this.responseBytes.addAndGet(responseBytes);
+        }
+    }
+
+    void recordRetry(boolean throttled) {
+        retryCount.incrementAndGet();
+        if (throttled) {
+            throttleCount.incrementAndGet();
+        }
+    }
+}
@@ -11,21 +11,54 @@ import com.microsoft.azure.PagedList;
 import com.microsoft.azure.management.resources.implementation.PageImpl;
 import com.microsoft.rest.RestException;
 import rx.Observable;
+import rx.functions.Action1;
 import rx.functions.Func1;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
 
 /**
  * The base class for converting {@link PagedList} of one type of resource to
  * another, without polling down all the items in a list.
  * This converter is useful in converting inner top level resources into fluent
  * top level resources.
+ * <p>
+ * Pages are fetched when the caller iterates past the end of the loaded pages, unless a
+ * prefetch depth is set through {@link #withPrefetchDepth(int)} or
+ * {@link SdkContext#setPagePrefetchDepth(int)}, in which case the following pages are
+ * fetched and converted in the background while the current page is consumed.
  *
  * @param <U> the type of Resource to convert from
  * @param <V> the type of Resource to convert to
  */
 public abstract class PagedListConverter<U, V> {
+    private int prefetchDepth = -1;
+
+    /**
+     * Specifies the number of pages to fetch ahead of the page being consumed, overriding
+     * {@link SdkContext#getPagePrefetchDepth()}.
+     *
+     * @param prefetchDepth the number of pages to fetch ahead, 0 to fetch pages only when needed
+     * @return the converter
+     */
+    public PagedListConverter<U, V> withPrefetchDepth(int prefetchDepth) {
+        if (prefetchDepth < 0) {
+            throw new IllegalArgumentException("prefetchDepth cannot be negative");
+        }
+        this.prefetchDepth = prefetchDepth;
+        return this;
+    }
+
+    /**
+     * @return the number of pages fetched ahead of the page being consumed
+     */
+    public int prefetchDepth() {
+        return this.prefetchDepth >= 0 ? this.prefetchDepth : SdkContext.getPagePrefetchDepth();
+    }
+
     /**
      * Override this method to define how to convert each Resource item
      * individually.
@@ -59,24 +92,34 @@ public abstract class PagedListConverter<U, V> {
                 }
             };
         }
-        Page<U> uPage = uList.currentPage();
-        final PageImpl<V> vPage = new PageImpl<>();
-        vPage.setNextPageLink(uPage.nextPageLink());
-        vPage.setItems(new ArrayList<V>());
-        loadConvertedList(uPage, vPage);
+        final Page<V> vPage = convertPage(uList.currentPage());
+        final int depth = prefetchDepth();
+        if (depth > 0) {
+            final PagePrefetcher prefetcher = new PagePrefetcher(uList, depth);
+            prefetcher.onPageLoaded(vPage);
+            return new PagedList<V>(vPage) {
+                @Override
+                public Page<V> nextPage(String nextPageLink) throws RestException, IOException {
+                    return prefetcher.nextPage(nextPageLink);
+                }
+            };
+        }
         return new PagedList<V>(vPage) {
             @Override
             public Page<V> nextPage(String nextPageLink) throws RestException, IOException {
-                Page<U> uPage = uList.nextPage(nextPageLink);
-                final PageImpl<V> vPage = new PageImpl<>();
-                vPage.setNextPageLink(uPage.nextPageLink());
-                vPage.setItems(new ArrayList<V>());
-                loadConvertedList(uPage, vPage);
-                return vPage;
+                return convertPage(uList.nextPage(nextPageLink));
             }
         };
     }
 
+    private Page<V> convertPage(Page<U> uPage) {
+        final PageImpl<V> vPage = new PageImpl<>();
+        vPage.setNextPageLink(uPage.nextPageLink());
+        vPage.setItems(new ArrayList<V>());
+        loadConvertedList(uPage, vPage);
+        return vPage;
+    }
+
     private void loadConvertedList(final Page<U> uPage, final Page<V> vPage) {
         Observable.from(uPage.items())
                 .filter(new Func1<U, Boolean>() {
@@ -99,4 +142,105 @@ public abstract class PagedListConverter<U, V> {
                     }
                 }).toBlocking().subscribe();
     }
+
+    /**
+     * Fetches and converts the pages following the page being consumed in the background,
+     * keeping at most the prefetch depth of pages in flight or waiting to be consumed.
+     * <p>
+     * The slot of a page is reserved before its fetch starts, so that a scheduler running the fetch
+     * synchronously fetches no more than the prefetch depth of pages.
+     */
+    private final class PagePrefetcher {
+        private final PagedList<U> uList;
+        private final int depth;
+        /**
+         * the pages fetched ahead and not consumed yet, keyed by their link.
+         */
+        private final Map<String, Observable<Page<V>>> pagesAhead = new HashMap<>();
+        /**
+         * the link of the next page that was not fetched since the buffer was full.
+         */
+        private String pendingLink;
+
+        PagePrefetcher(PagedList<U> uList, int depth) {
+            this.uList = uList;
+            this.depth = depth;
+        }
+
+        Page<V> nextPage(String nextPageLink) throws IOException {
+            Observable<Page<V>> page;
+            Observable<Page<V>> pendingPage = null;
+            synchronized (this) {
+                page = pagesAhead.remove(nextPageLink);
+                if (page == null) {
+                    page = fetch(nextPageLink);
+                }
+                if (pendingLink != null && pagesAhead.size() < depth) {
+                    pendingPage = fetch(pendingLink);
+                    pagesAhead.put(pendingLink, pendingPage);
+                    pendingLink = null;
+                }
+            }
+            start(pendingPage);
+            try {
+                return page.toBlocking().single();
+            } catch (RuntimeException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        void onPageLoaded(Page<V> page) {
+            String nextPageLink = page.nextPageLink();
+            Observable<Page<V>> nextPage = null;
+            synchronized (this) {
+                if (nextPageLink == null || pagesAhead.containsKey(nextPageLink)) {
+                    return;
+                }
+                if (pagesAhead.size() < depth) {
+                    nextPage = fetch(nextPageLink);
+                    pagesAhead.put(nextPageLink, nextPage);
+                } else {
+                    pendingLink = nextPageLink;
+                }
+            }
+            start(nextPage);
+        }
+
+        /**
+         * Prepares the fetch and conversion of a page, the returned observable fetches the page once
+         * subscribed and replays the page or the error.
+         */
+        private Observable<Page<V>> fetch(final String nextPageLink) {
+            return Observable.fromCallable(new Callable<Page<V>>() {
+                @Override
+                public Page<V> call() throws Exception {
+                    Page<V> vPage = convertPage(uList.nextPage(nextPageLink));
+                    onPageLoaded(vPage);
+                    return vPage;
+                }
+            }).subscribeOn(SdkContext.getRxScheduler()).cache();
+        }
+
+        /**
+         * Starts fetching a page fetched ahead, its page or error is reported when the page is consumed.
+         */
+        private void start(Observable<Page<V>> page) {
+            if (page == null) {
+                return;
+            }
+            page.subscribe(new Action1<Page<V>>() {
+                @Override
+                public void call(Page<V> vPage) {
+                }
+            }, new Action1<Throwable>() {
+                @Override
+                public void call(Throwable throwable) {
+                    // Reported to the caller when the page is consumed
+                }
+            });
+        }
+    }
 }
@@ -9,25 +9,51 @@ package com.microsoft.azure.management.resources.fluentcore.utils;
 import com.microsoft.azure.AzureResponseBuilder;
 import com.microsoft.azure.CloudError;
 import com.microsoft.azure.credentials.AzureTokenCredentials;
-import com.microsoft.azure.management.resources.Provider;
+import com.microsoft.azure.management.resources.implementation.ProviderInner;
 import com.microsoft.azure.management.resources.implementation.ResourceManager;
 import com.microsoft.azure.serializer.AzureJacksonAdapter;
 import com.microsoft.rest.RestClient;
+import com.microsoft.rest.ServiceResponse;
 import okhttp3.Interceptor;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
 import okio.Buffer;
 import okio.BufferedSource;
+import rx.Observable;
+import rx.functions.Action0;
+import rx.functions.Func0;
+import rx.functions.Func1;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * An interceptor for automatic provider registration in Azure.
+ * <p>
+ * Concurrent requests failing because the same provider is not registered in the same subscription share
+ * a single registration, and the registration state is polled with timers instead of sleeping threads.
+ * Providers registered by the interceptor are remembered for the process, so that requests failing while
+ * the registration propagates are retried without registering again.
  */
 public final class ProviderRegistrationInterceptor implements Interceptor {
+    private static final Pattern SUBSCRIPTION_PATTERN = Pattern.compile("/subscriptions/([\\w-]+)/", Pattern.CASE_INSENSITIVE);
+    private static final Pattern NAMESPACE_PATTERN = Pattern.compile(".*'(.*)'");
+    private static final AzureJacksonAdapter JACKSON_ADAPTER = new AzureJacksonAdapter();
+
+    // The providers known to be registered, keyed by host, subscription and namespace
+    private static final Set<String> REGISTERED_PROVIDERS = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    // The registrations in progress, keyed by host, subscription and namespace
+    private static final ConcurrentMap<String, Observable<ProviderInner>> PENDING_REGISTRATIONS = new ConcurrentHashMap<>();
+
     private final AzureTokenCredentials credentials;
+    private final ConcurrentMap<String, RestClient> restClients = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ResourceManager> resourceManagers = new ConcurrentHashMap<>();
 
     /**
      * Initialize a provider registration interceptor with a credential that's authorized
@@ -43,31 +69,29 @@ public final class ProviderRegistrationInterceptor implements Interceptor {
         Response response = chain.proceed(chain.request());
         if (!response.isSuccessful()) {
             String content = errorBody(response.body());
-            AzureJacksonAdapter jacksonAdapter = new AzureJacksonAdapter();
-            CloudError cloudError = jacksonAdapter.deserialize(content, CloudError.class);
+            CloudError cloudError = JACKSON_ADAPTER.deserialize(content, CloudError.class);
             if (cloudError != null && "MissingSubscriptionRegistration".equals(cloudError.code())) {
-                Pattern pattern = Pattern.compile("/subscriptions/([\\w-]+)/", Pattern.CASE_INSENSITIVE);
-                Matcher matcher = pattern.matcher(chain.request().url().toString());
+                Matcher matcher = SUBSCRIPTION_PATTERN.matcher(chain.request().url().toString());
                 matcher.find();
-                RestClient restClient = new RestClient.Builder()
-                        .withBaseUrl("https://" + chain.request().url().host())
-                        .withCredentials(credentials)
-                        .withSerializerAdapter(jacksonAdapter)
-                        .withResponseBuilderFactory(new AzureResponseBuilder.Factory())
-                        .build();
-                ResourceManager resourceManager = ResourceManager.authenticate(restClient)
-                        .withSubscription(matcher.group(1));
-                pattern = Pattern.compile(".*'(.*)'");
-                matcher = pattern.matcher(cloudError.message());
+                String subscriptionId = matcher.group(1);
+                matcher = NAMESPACE_PATTERN.matcher(cloudError.message());
                 matcher.find();
-                Provider provider = registerProvider(matcher.group(1), resourceManager);
-                while (provider.registrationState().equalsIgnoreCase("Unregistered")
-                        || provider.registrationState().equalsIgnoreCase("Registering")) {
-                    SdkContext.sleep(5 * 1000);
-                    provider = resourceManager.providers().getByName(provider.namespace());
+                String namespace = matcher.group(1);
+                String host = chain.request().url().host();
+                String key = (host + "/" + subscriptionId + "/" + namespace).toLowerCase(Locale.ROOT);
+
+                boolean knownRegistered = REGISTERED_PROVIDERS.contains(key);
+                if (!knownRegistered) {
+                    registerProviderAsync(key, host, subscriptionId, namespace).toBlocking().last();
                 }
                 // Retry
+                response.close();
+                ResourceManagerMetricsInterceptor.recordRetry(false);
                 response = chain.proceed(chain.request());
+                if (knownRegistered && !response.isSuccessful()) {
+                    // The provider may have been unregistered since, register it again on the next failure
+                    REGISTERED_PROVIDERS.remove(key);
+                }
             }
         }
         return response;
@@ -83,7 +107,93 @@ public final class ProviderRegistrationInterceptor implements Interceptor {
         return buffer.clone().readUtf8();
     }
 
-    private Provider registerProvider(String namespace, ResourceManager resourceManager) {
-        return resourceManager.providers().register(namespace);
+    private Observable<ProviderInner> registerProviderAsync(final String key, String host, String subscriptionId, String namespace) {
+        Observable<ProviderInner> registration = PENDING_REGISTRATIONS.get(key);
+        if (registration != null) {
+            return registration;
+        }
+        final ResourceManager resourceManager = resourceManager(host, subscriptionId);
+        registration = resourceManager.inner().providers().registerAsync(namespace)
+                .flatMap(new Func1<ProviderInner, Observable<ProviderInner>>() {
+                    @Override
+                    public Observable<ProviderInner> call(ProviderInner provider) {
+                        return waitForRegistrationAsync(provider, resourceManager);
+                    }
+                })
+                .doOnCompleted(new Action0() {
+                    @Override
+                    public void call() {
+                        REGISTERED_PROVIDERS.add(key);
+                    }
+                })
+                .doOnTerminate(new Action0() {
+                    @Override
+                    public void call() {
+                        PENDING_REGISTRATIONS.remove(key);
+                    }
+                })
+                .cache();
+        Observable<ProviderInner> pending = PENDING_REGISTRATIONS.putIfAbsent(key, registration);
+        return pending != null ? pending : registration;
+    }
+
+    private static Observable<ProviderInner> waitForRegistrationAsync(final ProviderInner provider, final ResourceManager resourceManager) {
+        if (isRegistered(provider)) {
+            return Observable.just(provider);
+        }
+        return LongRunningOperationPoller.shared().pollUntilAsync("Microsoft.Resources/providers/register",
+                new Func0<Observable<ServiceResponse<ProviderInner>>>() {
+                    @Override
+                    public Observable<ServiceResponse<ProviderInner>> call() {
+                        return resourceManager.inner().providers().getWithServiceResponseAsync(provider.namespace());
+                    }
+                },
+                new Func1<ServiceResponse<ProviderInner>, Boolean>() {
+                    @Override
+                    public Boolean call(ServiceResponse<ProviderInner> response) {
+                        return isRegistered(response.body());
+                    }
+                })
+                .map(new Func1<ServiceResponse<ProviderInner>, ProviderInner>() {
+                    @Override
+                    public ProviderInner call(ServiceResponse<ProviderInner> response) {
+                        return response.body();
+                    }
+                });
+    }
+
+    private static boolean isRegistered(ProviderInner provider) {
+        return !provider.registrationState().equalsIgnoreCase("Unregistered")
+                && !provider.registrationState().equalsIgnoreCase("Registering");
+    }
+
+    private ResourceManager resourceManager(final String host, String subscriptionId) {
+        String key = (host + "/" + subscriptionId).toLowerCase(Locale.ROOT);
+        ResourceManager resourceManager = resourceManagers.get(key);
+        if (resourceManager == null) {
+            resourceManager = ResourceManager.authenticate(restClient(host)).withSubscription(subscriptionId);
+            ResourceManager existing = resourceManagers.putIfAbsent(key, resourceManager);
+            if (existing != null) {
+                resourceManager = existing;
+            }
+        }
+        return resourceManager;
+    }
+
+    private RestClient restClient(String host) {
+        RestClient restClient = restClients.get(host);
+        if (restClient == null) {
+            restClient = new RestClient.Builder()
+                    .withBaseUrl("https://" + host)
+                    .withCredentials(credentials)
+                    .withSerializerAdapter(JACKSON_ADAPTER)
+                    .withResponseBuilderFactory(new AzureResponseBuilder.Factory())
+                    .build();
+            RestClient existing = restClients.putIfAbsent(host, restClient);
+            if (existing != null) {
+                restClient = existing;
+            }
+        }
+        return restClient;
     }
 }
@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources.fluentcore.utils;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An interceptor merging identical GET requests in flight at the same time into a single call.
+ * <p>
+ * The first request of a URL is sent, the identical requests issued before its response arrives wait for it
+ * instead of being sent. The response body is then read once and each waiting request gets its own copy of the
+ * response. When no request is waiting the response is returned as is, without being buffered.
+ * <p>
+ * Requests are identical if they have the same URL, "Accept" and "Authorization" headers. The credentials of a
+ * REST client are applied after its application interceptors though, so the interceptor usually cannot tell the
+ * principals of the requests apart: an instance must be installed in a single REST client, whose requests share
+ * the same credentials.
+ * {@link com.microsoft.azure.management.resources.fluentcore.arm.AzureConfigurable#withRequestCoalescing()}
+ * creates one instance per REST client. The conditional requests, with an "If-None-Match" header, are never merged.
+ * <p>
+ * The interceptor is opt-in.
+ */
+public final class RequestCoalescingInterceptor implements Interceptor {
+    private final ConcurrentMap<String, InFlightRequest> inFlightRequests = new ConcurrentHashMap<>();
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        if (!"GET".equals(request.method()) || request.header("If-None-Match") != null) {
+            return chain.proceed(request);
+        }
+        String key = keyOf(request);
+        InFlightRequest inFlight = new InFlightRequest();
+        InFlightRequest existing = inFlightRequests.putIfAbsent(key, inFlight);
+        if (existing != null && existing.join()) {
+            coalescedCount.incrementAndGet();
+            return existing.await(request);
+        }
+        if (existing != null) {
+            // The request completed meanwhile, send this one on its own
+            return chain.proceed(request);
+        }
+
+        Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (Throwable t) {
+            // Release the waiting requests whatever the failure, errors included
+            inFlightRequests.remove(key, inFlight);
+            inFlight.fail(t);
+            throw t;
+        }
+        inFlightRequests.remove(key, inFlight);
+        if (!inFlight.close()) {
+            return response;
+        }
+        try {
+            ResponseBody body = response.body();
+            MediaType contentType = body == null ? null : body.contentType();
+            byte[] content = body == null ? null : body.bytes();
+            inFlight.complete(response, contentType, content);
+            return InFlightRequest.copyOf(response, request, contentType, content);
+        } catch (Throwable t) {
+            inFlight.fail(t);
+            throw t;
+        }
+    }
+
+    /**
+     * @return the number of requests answered with the response of an identical request in flight
+     */
+    public long coalescedCount() {
+        return coalescedCount.get();
+    }
+
+    private static String keyOf(Request request) {
+        StringBuilder key = new StringBuilder(request.url().toString());
+        String accept = request.header("Accept");
+        if (accept != null) {
+            key.append('\n').append(accept);
+        }
+        String authorization = request.header("Authorization");
+        if (authorization != null) {
+            key.append('\n').append(authorization);
+        }
+        return key.toString();
+    }
+
+    /**
+     * A request in flight, and the requests waiting for its response.
+     */
+    private static final class InFlightRequest {
+        private final CountDownLatch done = new CountDownLatch(1);
+        private int waiters;
+        private boolean closed;
+        private Response response;
+        private MediaType contentType;
+        private byte[] content;
+        private Throwable error;
+
+        synchronized boolean join() {
+            if (closed) {
+                return false;
+            }
+            waiters++;
+            return true;
+        }
+
+        synchronized boolean close() {
+            closed = true;
+            return waiters > 0;
+        }
+
+        void complete(Response response, MediaType contentType, byte[] content) {
+            this.response = response;
+            this.contentType = contentType;
+            this.content = content;
+            done.countDown();
+        }
+
+        void fail(Throwable error) {
+            synchronized (this) {
+                closed = true;
+            }
+            this.error = error;
+            done.countDown();
+        }
+
+        Response await(Request request) throws IOException {
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for an identical request in flight.");
+            }
+            if (error != null) {
+                throw new IOException("The identical request in flight failed.", error);
+            }
+            return copyOf(response, request, contentType, content);
+        }
+
+        static Response copyOf(Response response, Request request, MediaType contentType, byte[] content) {
+            return response.newBuilder()
+                    .request(request)
+                    .body(content == null ? null : ResponseBody.create(contentType, content))
+                    .build();
+        }
+    }
+}
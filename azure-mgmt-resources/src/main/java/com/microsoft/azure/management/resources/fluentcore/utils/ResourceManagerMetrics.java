@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources.fluentcore.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The metrics of the management requests, per operation and subscription, recorded by
+ * {@link ResourceManagerMetricsInterceptor}.
+ * <p>
+ * Operations are identified by the "x-ms-logging-context" header the generated clients set on their requests,
+ * for instance "com.microsoft.azure.management.compute.VirtualMachines get". Recorded requests can also be
+ * forwarded to {@link MetricsListener}s, for instance to publish them to a metrics library.
+ */
+public final class ResourceManagerMetrics {
+    private static final ResourceManagerMetrics DEFAULT = new ResourceManagerMetrics();
+
+    private final ConcurrentMap<String, ConcurrentMap<String, OperationMetrics>> operations = new ConcurrentHashMap<>();
+    private final List<MetricsListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * @return the process-wide metrics, recorded by the interceptors installed by the management clients
+     */
+    public static ResourceManagerMetrics defaultMetrics() {
+        return DEFAULT;
+    }
+
+    /**
+     * Adds a listener called for each recorded request.
+     *
+     * @param listener the listener
+     * @return the metrics itself
+     */
+    public ResourceManagerMetrics withListener(MetricsListener listener) {
+        listeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @param listener the listener
+     * @return the metrics itself
+     */
+    public ResourceManagerMetrics withoutListener(MetricsListener listener) {
+        listeners.remove(listener);
+        return this;
+    }
+
+    /**
+     * Gets the metrics of an operation in a subscription.
+     *
+     * @param operation the operation
+     * @param subscriptionId the subscription, "global" for the requests outside of a subscription
+     * @return the metrics, or null if no request of the operation was recorded
+     */
+    public OperationMetrics operationMetrics(String operation, String subscriptionId) {
+        ConcurrentMap<String, OperationMetrics> bySubscription = operations.get(operation);
+        return bySubscription == null ? null : bySubscription.get(subscriptionId);
+    }
+
+    /**
+     * @return the metrics of all the operations with recorded requests
+     */
+    public List<OperationMetrics> operationMetrics() {
+        List<OperationMetrics> result = new ArrayList<>();
+        for (ConcurrentMap<String, OperationMetrics> bySubscription : operations.values()) {
+            result.addAll(bySubscription.values());
+        }
+        return result;
+    }
+
+    /**
+     * Clears the recorded metrics.
+     */
+    public void reset() {
+        operations.clear();
+    }
+
+    OperationMetrics metricsOf(String operation, String subscriptionId) {
+        ConcurrentMap<String, OperationMetrics> bySubscription = operations.get(operation);
+        if (bySubscription == null) {
+            bySubscription = new ConcurrentHashMap<>();
+            ConcurrentMap<String, OperationMetrics> existing = operations.putIfAbsent(operation, bySubscription);
+            if (existing != null) {
+                bySubscription = existing;
+            }
+        }
+        OperationMetrics metrics = bySubscription.get(subscriptionId);
+        if (metrics == null) {
+            metrics = new OperationMetrics(this, operation, subscriptionId);
+            OperationMetrics existing = bySubscription.putIfAbsent(subscriptionId, metrics);
+            if (existing != null) {
+                metrics = existing;
+            }
+        }
+        return metrics;
+    }
+
+    void onRequestCompleted(OperationMetrics metrics, int statusCode, long latencyInNanos, long requestBytes, long responseBytes) {
+        metrics.recordRequest(statusCode, latencyInNanos, requestBytes, responseBytes);
+        for (MetricsListener listener : listeners) {
+            listener.onRequestCompleted(metrics.operation(), metrics.subscriptionId(), statusCode, latencyInNanos,
+                    requestBytes, responseBytes);
+        }
+    }
+
+    void onRetry(OperationMetrics metrics, boolean throttled) {
+        metrics.recordRetry(throttled);
+        for (MetricsListener listener : listeners) {
+            listener.onRetry(metrics.operation(), metrics.subscriptionId(), throttled);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources.fluentcore.utils;
+
+import com.microsoft.azure.management.resources.fluentcore.arm.ResourceUtils;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+
+/**
+ * An interceptor recording the latency, status code and body lengths of the management requests in
+ * {@link ResourceManagerMetrics}.
+ * <p>
+ * It should be installed before the interceptors retrying requests, so that the latency of a request includes
+ * the retries of the provider registration interceptor, and of a throttling interceptor used on its own.
+ * A request rejected with 429 is retried by {@link ResourceManagerThrottlingCallAdapterFactory} above the HTTP
+ * client instead: each attempt is recorded as a request of its own, the rejected one with its 429 status code,
+ * and the pause before the retry is not part of any latency. All these retries are counted as well.
+ */
+public final class ResourceManagerMetricsInterceptor implements Interceptor {
+    private static final String LOGGING_HEADER = "x-ms-logging-context";
+    private static final ThreadLocal<OperationMetrics> CURRENT = new ThreadLocal<>();
+
+    private final ResourceManagerMetrics metrics;
+
+    /**
+     * Creates an interceptor recording in the process-wide metrics.
+     */
+    public ResourceManagerMetricsInterceptor() {
+        this(ResourceManagerMetrics.defaultMetrics());
+    }
+
+    /**
+     * Creates an interceptor recording in the given metrics.
+     *
+     * @param metrics the metrics
+     */
+    public ResourceManagerMetricsInterceptor(ResourceManagerMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return the metrics recorded by this interceptor
+     */
+    public ResourceManagerMetrics metrics() {
+        return metrics;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        OperationMetrics operationMetrics = metricsOf(metrics, request);
+        long requestBytes = request.body() == null ? 0 : request.body().contentLength();
+
+        OperationMetrics previous = CURRENT.get();
+        CURRENT.set(operationMetrics);
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException | RuntimeException e) {
+            metrics.onRequestCompleted(operationMetrics, -1, System.nanoTime() - start, requestBytes, -1);
+            throw e;
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+        long responseBytes = response.body() == null ? 0 : response.body().contentLength();
+        metrics.onRequestCompleted(operationMetrics, response.code(), System.nanoTime() - start, requestBytes, responseBytes);
+        return response;
+    }
+
+    /**
+     * Gets the metrics of the operation of a request.
+     *
+     * @param metrics the metrics
+     * @param request the request
+     * @return the metrics of the operation and subscription of the request
+     */
+    static OperationMetrics metricsOf(ResourceManagerMetrics metrics, Request request) {
+        String operation = request.header(LOGGING_HEADER);
+        if (operation == null) {
+            operation = request.method();
+        }
+        String subscriptionId = ResourceUtils.extractFromResourceId(request.url().encodedPath(), "subscriptions");
+        if (subscriptionId == null) {
+            subscriptionId = "global";
+        }
+        return metrics.metricsOf(operation, subscriptionId);
+    }
+
+    /**
+     * Records that the request being executed on the current thread is sent again.
+     *
+     * @param throttled true if the request is sent again because Azure Resource Manager throttled it
+     */
+    static void recordRetry(boolean throttled) {
+        OperationMetrics operationMetrics = CURRENT.get();
+        if (operationMetrics != null) {
+            operationMetrics.owner().onRetry(operationMetrics, throttled);
+        }
+    }
+}
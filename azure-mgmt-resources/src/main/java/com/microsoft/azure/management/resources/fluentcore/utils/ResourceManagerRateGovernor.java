@@ -0,0 +1,278 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources.fluentcore.utils;
+
+import rx.Observable;
+import rx.functions.Action0;
+import rx.functions.Func1;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A proactive rate governor for Azure Resource Manager requests.
+ * <p>
+ * The governor keeps a token bucket per subscription and per request class (read or write). Buckets are
+ * refilled at the hourly ARM quota and are kept in sync with the remaining quota reported by ARM through
+ * the "x-ms-ratelimit-remaining-subscription-reads" and "x-ms-ratelimit-remaining-subscription-writes"
+ * response headers, so that requests get spaced out before ARM starts rejecting them with 429.
+ * <p>
+ * Each request reserves its own slot; there is no shared lock a request has to wait on, hence a single
+ * throttled subscription paces its callers instead of stalling all of them at once.
+ */
+public class ResourceManagerRateGovernor {
+    /**
+     * The response header carrying the remaining read requests of the subscription.
+     */
+    public static final String REMAINING_READS_HEADER = "x-ms-ratelimit-remaining-subscription-reads";
+    /**
+     * The response header carrying the remaining write requests of the subscription.
+     */
+    public static final String REMAINING_WRITES_HEADER = "x-ms-ratelimit-remaining-subscription-writes";
+
+    private static final int DEFAULT_READS_PER_HOUR = 12000;
+    private static final int DEFAULT_WRITES_PER_HOUR = 1200;
+    private static final ResourceManagerRateGovernor DEFAULT = new ResourceManagerRateGovernor();
+
+    private final int readsPerHour;
+    private final int writesPerHour;
+    private final ConcurrentMap<String, RateBucket> buckets = new ConcurrentHashMap<>();
+
+    private final AtomicInteger queuedRequests = new AtomicInteger();
+    private final AtomicLong delayedRequests = new AtomicLong();
+    private final AtomicLong rejectedRequests = new AtomicLong();
+
+    /**
+     * The class of a request, each class has its own quota in Azure Resource Manager.
+     */
+    public enum RequestClass {
+        /** A GET or HEAD request. */
+        READ,
+        /** Any other request. */
+        WRITE;
+
+        /**
+         * Gets the request class of an HTTP method.
+         *
+         * @param httpMethod the HTTP method
+         * @return the request class
+         */
+        public static RequestClass fromHttpMethod(String httpMethod) {
+            if ("GET".equalsIgnoreCase(httpMethod) || "HEAD".equalsIgnoreCase(httpMethod)) {
+                return READ;
+            }
+            return WRITE;
+        }
+    }
+
+    /**
+     * Creates a rate governor with the default Azure Resource Manager quota.
+     */
+    public ResourceManagerRateGovernor() {
+        this(DEFAULT_READS_PER_HOUR, DEFAULT_WRITES_PER_HOUR);
+    }
+
+    /**
+     * Creates a rate governor.
+     *
+     * @param readsPerHour the read requests allowed per subscription per hour
+     * @param writesPerHour the write requests allowed per subscription per hour
+     */
+    public ResourceManagerRateGovernor(int readsPerHour, int writesPerHour) {
+        if (readsPerHour <= 0 || writesPerHour <= 0) {
+            throw new IllegalArgumentException("The hourly quota must be positive.");
+        }
+        this.readsPerHour = readsPerHour;
+        this.writesPerHour = writesPerHour;
+    }
+
+    /**
+     * @return the process-wide governor shared by the default throttling interceptors
+     */
+    public static ResourceManagerRateGovernor defaultGovernor() {
+        return DEFAULT;
+    }
+
+    /**
+     * Reserves a slot for a request. The call never blocks, the caller is expected to wait the returned
+     * amount of time before sending the request.
+     *
+     * @param subscriptionId the subscription the request targets
+     * @param requestClass the class of the request
+     * @return the time in milliseconds the caller should wait before sending the request
+     */
+    public long reserve(String subscriptionId, RequestClass requestClass) {
+        long delayInMillis = bucket(subscriptionId, requestClass).reserve(System.nanoTime());
+        if (delayInMillis > 0) {
+            delayedRequests.incrementAndGet();
+        }
+        return delayInMillis;
+    }
+
+    /**
+     * Reserves a slot for a request and returns an observable that emits once the slot is available,
+     * without holding a thread while waiting.
+     *
+     * @param subscriptionId the subscription the request targets
+     * @param requestClass the class of the request
+     * @return an observable emitting the applied delay in milliseconds
+     */
+    public Observable<Long> acquireAsync(String subscriptionId, RequestClass requestClass) {
+        final long delayInMillis = reserve(subscriptionId, requestClass);
+        if (delayInMillis <= 0) {
+            return Observable.just(0L);
+        }
+        return Observable.timer(delayInMillis, TimeUnit.MILLISECONDS, SdkContext.getRxScheduler())
+                .map(new Func1<Long, Long>() {
+                    @Override
+                    public Long call(Long ignored) {
+                        return delayInMillis;
+                    }
+                })
+                .doOnSubscribe(new Action0() {
+                    @Override
+                    public void call() {
+                        queuedRequests.incrementAndGet();
+                    }
+                })
+                .doOnUnsubscribe(new Action0() {
+                    @Override
+                    public void call() {
+                        queuedRequests.decrementAndGet();
+                    }
+                });
+    }
+
+    /**
+     * Synchronizes the bucket with the remaining quota reported by Azure Resource Manager.
+     *
+     * @param subscriptionId the subscription of the response
+     * @param requestClass the class of the request
+     * @param remaining the remaining requests reported in the response header
+     */
+    public void onRemainingQuota(String subscriptionId, RequestClass requestClass, long remaining) {
+        bucket(subscriptionId, requestClass).sync(System.nanoTime(), remaining);
+    }
+
+    /**
+     * Records a rejection by Azure Resource Manager, all further requests of the same subscription and
+     * class will be delayed until the retry interval elapses.
+     *
+     * @param subscriptionId the subscription of the rejected request
+     * @param requestClass the class of the rejected request
+     * @param retryAfterInMillis the retry interval suggested by Azure Resource Manager
+     */
+    public void onThrottled(String subscriptionId, RequestClass requestClass, long retryAfterInMillis) {
+        rejectedRequests.incrementAndGet();
+        bucket(subscriptionId, requestClass).pause(System.nanoTime(), TimeUnit.MILLISECONDS.toNanos(Math.max(0, retryAfterInMillis)));
+    }
+
+    /**
+     * Gets the time left before the requests of a subscription and class are no longer paused by a rejection.
+     *
+     * @param subscriptionId the subscription of the requests
+     * @param requestClass the class of the requests
+     * @return the time left in milliseconds, 0 if the requests are not paused
+     */
+    long remainingPauseInMillis(String subscriptionId, RequestClass requestClass) {
+        return TimeUnit.NANOSECONDS.toMillis(bucket(subscriptionId, requestClass).remainingPause(System.nanoTime()));
+    }
+
+    /**
+     * @return the number of requests currently waiting for a slot
+     */
+    public int queuedRequests() {
+        return queuedRequests.get();
+    }
+
+    /**
+     * @return the total number of requests that had to be delayed
+     */
+    public long delayedRequests() {
+        return delayedRequests.get();
+    }
+
+    /**
+     * @return the total number of requests rejected by Azure Resource Manager with 429
+     */
+    public long rejectedRequests() {
+        return rejectedRequests.get();
+    }
+
+    private RateBucket bucket(String subscriptionId, RequestClass requestClass) {
+        String key = (subscriptionId == null ? "global" : subscriptionId.toLowerCase()) + "|" + requestClass;
+        RateBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            int quota = requestClass == RequestClass.READ ? readsPerHour : writesPerHour;
+            RateBucket newBucket = new RateBucket(quota);
+            bucket = buckets.putIfAbsent(key, newBucket);
+            if (bucket == null) {
+                bucket = newBucket;
+            }
+        }
+        return bucket;
+    }
+
+    /**
+     * A token bucket refilled at the hourly quota. Permits may go negative, which represents
+     * requests that already reserved a future slot.
+     */
+    private static final class RateBucket {
+        private final double capacity;
+        private final double permitsPerNano;
+        private double permits;
+        private long lastRefillNanos;
+        private long pausedUntilNanos;
+
+        RateBucket(int quotaPerHour) {
+            this.capacity = quotaPerHour;
+            this.permitsPerNano = quotaPerHour / (double) TimeUnit.HOURS.toNanos(1);
+            this.permits = quotaPerHour;
+            this.lastRefillNanos = System.nanoTime();
+            this.pausedUntilNanos = this.lastRefillNanos;
+        }
+
+        synchronized long reserve(long nowNanos) {
+            refill(nowNanos);
+            long waitNanos = 0;
+            if (permits < 1) {
+                waitNanos = (long) Math.ceil((1 - permits) / permitsPerNano);
+            }
+            waitNanos = Math.max(waitNanos, pausedUntilNanos - nowNanos);
+            permits -= 1;
+            return waitNanos <= 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(waitNanos) + 1;
+        }
+
+        synchronized void sync(long nowNanos, long remaining) {
+            refill(nowNanos);
+            if (remaining < permits) {
+                permits = remaining;
+            }
+        }
+
+        synchronized void pause(long nowNanos, long durationNanos) {
+            refill(nowNanos);
+            permits = Math.min(permits, 0);
+            pausedUntilNanos = Math.max(pausedUntilNanos, nowNanos + durationNanos);
+        }
+
+        synchronized long remainingPause(long nowNanos) {
+            return Math.max(0, pausedUntilNanos - nowNanos);
+        }
+
+        private void refill(long nowNanos) {
+            long elapsed = nowNanos - lastRefillNanos;
+            if (elapsed > 0) {
+                permits = Math.min(capacity, permits + elapsed * permitsPerNano);
+                lastRefillNanos = nowNanos;
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources.fluentcore.utils;
+
+import com.microsoft.azure.management.apigeneration.Beta;
+import okhttp3.Request;
+import retrofit2.Call;
+import retrofit2.CallAdapter;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import rx.Observable;
+import rx.functions.Func0;
+import rx.functions.Func1;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+/**
+ * A Retrofit call adapter factory pacing Azure Resource Manager requests through a {@link ResourceManagerRateGovernor}.
+ * <p>
+ * A request waits for its slot on an Rx timer before it is handed to the HTTP client, so no thread is held
+ * while a throttled subscription is paced. A request rejected with 429 is retried once, after the retry
+ * interval recorded by the {@link ResourceManagerThrottlingInterceptor} returned by {@link #interceptor()},
+ * which must be installed on the HTTP client as well. The retries are recorded in the metrics of the
+ * factory, which should be the metrics of the {@link ResourceManagerMetricsInterceptor} of the client.
+ */
+@Beta(Beta.SinceVersion.V1_23_0)
+public final class ResourceManagerThrottlingCallAdapterFactory extends CallAdapter.Factory {
+    private final ResourceManagerRateGovernor governor;
+    private final ResourceManagerMetrics metrics;
+
+    /**
+     * Creates a factory sharing the process-wide rate governor and metrics.
+     */
+    public ResourceManagerThrottlingCallAdapterFactory() {
+        this(ResourceManagerRateGovernor.defaultGovernor());
+    }
+
+    /**
+     * Creates a factory pacing requests through the given rate governor.
+     *
+     * @param governor the rate governor
+     */
+    public ResourceManagerThrottlingCallAdapterFactory(ResourceManagerRateGovernor governor) {
+        this(governor, ResourceManagerMetrics.defaultMetrics());
+    }
+
+    /**
+     * Creates a factory pacing requests through the given rate governor and recording the retries in the
+     * given metrics.
+     *
+     * @param governor the rate governor
+     * @param metrics the metrics
+     */
+    public ResourceManagerThrottlingCallAdapterFactory(ResourceManagerRateGovernor governor, ResourceManagerMetrics metrics) {
+        this.governor = governor;
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return an interceptor recording the throttling state in the rate governor of this factory and leaving
+     * the retries of the rejected requests to this factory, to be installed on the HTTP client
+     */
+    public ResourceManagerThrottlingInterceptor interceptor() {
+        return new ResourceManagerThrottlingInterceptor(governor, true);
+    }
+
+    @Override
+    public CallAdapter<?, ?> get(Type returnType, Annotation[] annotations, Retrofit retrofit) {
+        if (getRawType(returnType) != Observable.class) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        final CallAdapter<Object, Observable<Object>> delegate =
+                (CallAdapter<Object, Observable<Object>>) retrofit.nextCallAdapter(this, returnType, annotations);
+        return new CallAdapter<Object, Observable<Object>>() {
+            @Override
+            public Type responseType() {
+                return delegate.responseType();
+            }
+
+            @Override
+            public Observable<Object> adapt(final Call<Object> call) {
+                return paced(call, delegate.adapt(call));
+            }
+        };
+    }
+
+    private Observable<Object> paced(final Call<Object> call, final Observable<Object> observable) {
+        return Observable.defer(new Func0<Observable<Object>>() {
+            @Override
+            public Observable<Object> call() {
+                final Request request = call.request();
+                final String subscriptionId = ResourceManagerThrottlingInterceptor.subscriptionIdOf(request);
+                final ResourceManagerRateGovernor.RequestClass requestClass =
+                        ResourceManagerRateGovernor.RequestClass.fromHttpMethod(request.method());
+                return attempt(subscriptionId, requestClass, observable)
+                        .flatMap(new Func1<Object, Observable<Object>>() {
+                            @Override
+                            public Observable<Object> call(Object result) {
+                                if (result instanceof Response && ((Response<?>) result).code() == 429) {
+                                    if (((Response<?>) result).errorBody() != null) {
+                                        ((Response<?>) result).errorBody().close();
+                                    }
+                                    ResourceManagerThrottlingInterceptor.logRetry(request,
+                                            governor.remainingPauseInMillis(subscriptionId, requestClass));
+                                    metrics.onRetry(ResourceManagerMetricsInterceptor.metricsOf(metrics, request), true);
+                                    return attempt(subscriptionId, requestClass, observable);
+                                }
+                                return Observable.just(result);
+                            }
+                        });
+            }
+        });
+    }
+
+    private Observable<Object> attempt(final String subscriptionId,
+                                       final ResourceManagerRateGovernor.RequestClass requestClass,
+                                       final Observable<Object> observable) {
+        return Observable.defer(new Func0<Observable<Long>>() {
+            @Override
+            public Observable<Long> call() {
+                return governor.acquireAsync(subscriptionId, requestClass);
+            }
+        }).flatMap(new Func1<Long, Observable<Object>>() {
+            @Override
+            public Observable<Object> call(Long delayInMillis) {
+                return observable;
+            }
+        });
+    }
+}
@@ -9,123 +9,165 @@ package com.microsoft.azure.management.resources.fluentcore.utils;
 import com.microsoft.azure.management.resources.fluentcore.arm.ResourceUtils;
 import com.microsoft.rest.DateTimeRfc1123;
 import okhttp3.Interceptor;
+import okhttp3.Request;
 import okhttp3.Response;
-import okhttp3.ResponseBody;
-import okio.Buffer;
-import okio.BufferedSource;
 import org.joda.time.DateTime;
 import org.joda.time.Duration;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 /**
  * An interceptor for automatic retry when Azure Resource Manager is throttling because of too many read/write requests.
  * <p>
- * For each subscription and tenant, Azure Resource Manager limits read requests to 15,000 per hour and
+ * For each subscription and tenant, Azure Resource Manager limits read requests to 12,000 per hour and
  *   write requests to 1,200 per hour. These limits apply to each Azure Resource Manager instance.
+ * <p>
+ * The interceptor feeds a {@link ResourceManagerRateGovernor} with the remaining quota reported by
+ *   Azure Resource Manager and with the retry interval of rejected requests. On its own, it retries a rejected
+ *   request once after the retry interval, blocking the thread executing the request meanwhile. The interceptor
+ *   obtained from {@link ResourceManagerThrottlingCallAdapterFactory#interceptor()} never waits: the requests are
+ *   paced and the rejected ones retried by the call adapter factory, without holding a thread.
  */
 public class ResourceManagerThrottlingInterceptor implements Interceptor {
     private static final String LOGGING_HEADER = "x-ms-logging-context";
-    private static final ConcurrentMap<String, ReentrantLock> REENTRANT_LOCK_MAP = new ConcurrentHashMap<>();
+    private static final Pattern RETRY_AFTER_MINUTES = Pattern.compile("try again after '([0-9]*)' minutes", Pattern.CASE_INSENSITIVE);
+    private static final Pattern RETRY_AFTER_SECONDS = Pattern.compile("try again after '([0-9]*)' seconds", Pattern.CASE_INSENSITIVE);
+
+    private final ResourceManagerRateGovernor governor;
+    private final boolean retriedByCallAdapter;
+
+    /**
+     * Creates an interceptor sharing the process-wide rate governor.
+     */
+    public ResourceManagerThrottlingInterceptor() {
+        this(ResourceManagerRateGovernor.defaultGovernor());
+    }
+
+    /**
+     * Creates an interceptor recording the throttling state in the given rate governor.
+     *
+     * @param governor the rate governor
+     */
+    public ResourceManagerThrottlingInterceptor(ResourceManagerRateGovernor governor) {
+        this(governor, false);
+    }
+
+    /**
+     * Creates an interceptor recording the throttling state in the given rate governor.
+     *
+     * @param governor the rate governor
+     * @param retriedByCallAdapter true if the rejected requests are retried by a
+     *                             {@link ResourceManagerThrottlingCallAdapterFactory} sharing the governor
+     */
+    ResourceManagerThrottlingInterceptor(ResourceManagerRateGovernor governor, boolean retriedByCallAdapter) {
+        this.governor = governor;
+        this.retriedByCallAdapter = retriedByCallAdapter;
+    }
+
+    /**
+     * @return the rate governor used by this interceptor
+     */
+    public ResourceManagerRateGovernor governor() {
+        return governor;
+    }
 
     @Override
     public Response intercept(Chain chain) throws IOException {
-        // Gate control
-        String subscriptionId = ResourceUtils.extractFromResourceId(chain.request().url().url().getPath(), "subscriptions");
-        if (subscriptionId == null) {
-            subscriptionId = "global";
-        }
-        REENTRANT_LOCK_MAP.putIfAbsent(subscriptionId, new ReentrantLock());
-        try {
-            synchronized (REENTRANT_LOCK_MAP.get(subscriptionId)) {
-                if (REENTRANT_LOCK_MAP.get(subscriptionId).isLocked()) {
-                    REENTRANT_LOCK_MAP.get(subscriptionId).wait();
-                }
-            }
-        } catch (InterruptedException e) {
-            throw new IOException(e);
-        }
-        Response response = chain.proceed(chain.request());
+        Request request = chain.request();
+        String subscriptionId = subscriptionIdOf(request);
+        ResourceManagerRateGovernor.RequestClass requestClass = ResourceManagerRateGovernor.RequestClass.fromHttpMethod(request.method());
+
+        Response response = chain.proceed(request);
+        updateRemainingQuota(subscriptionId, requestClass, response);
         if (response.code() != 429) {
             return response;
         }
+        long retryAfterInMillis = TimeUnit.SECONDS.toMillis(retryAfterInSeconds(response)) + 100;
+        governor.onThrottled(subscriptionId, requestClass, retryAfterInMillis);
+        if (retriedByCallAdapter) {
+            return response;
+        }
 
-        try {
-            synchronized (REENTRANT_LOCK_MAP.get(subscriptionId)) {
-                if (REENTRANT_LOCK_MAP.get(subscriptionId).isLocked()) {
-                    REENTRANT_LOCK_MAP.get(subscriptionId).wait();
-                    return chain.proceed(chain.request());
-                } else {
-                    REENTRANT_LOCK_MAP.get(subscriptionId).lock();
-                }
+        if (response.body() != null) {
+            response.body().close();
+        }
+        logRetry(request, retryAfterInMillis);
+        ResourceManagerMetricsInterceptor.recordRetry(true);
+        SdkContext.sleep((int) retryAfterInMillis);
+        response = chain.proceed(request);
+        updateRemainingQuota(subscriptionId, requestClass, response);
+        if (response.code() == 429) {
+            governor.onThrottled(subscriptionId, requestClass, TimeUnit.SECONDS.toMillis(retryAfterInSeconds(response)) + 100);
+        }
+        return response;
+    }
+
+    static void logRetry(Request request, long retryAfterInMillis) {
+        String context = request.header(LOGGING_HEADER);
+        if (context == null) {
+            context = "";
+        }
+        LoggerFactory.getLogger(context)
+            .info("Azure Resource Manager read/write per hour limit reached. Will retry in: "
+                    + TimeUnit.MILLISECONDS.toSeconds(retryAfterInMillis) + " seconds");
+    }
+
+    static String subscriptionIdOf(Request request) {
+        String subscriptionId = ResourceUtils.extractFromResourceId(request.url().url().getPath(), "subscriptions");
+        return subscriptionId == null ? "global" : subscriptionId;
+    }
+
+    private void updateRemainingQuota(String subscriptionId, ResourceManagerRateGovernor.RequestClass requestClass, Response response) {
+        String remaining = response.header(requestClass == ResourceManagerRateGovernor.RequestClass.READ
+                ? ResourceManagerRateGovernor.REMAINING_READS_HEADER
+                : ResourceManagerRateGovernor.REMAINING_WRITES_HEADER);
+        if (remaining != null) {
+            try {
+                governor.onRemainingQuota(subscriptionId, requestClass, Long.parseLong(remaining.trim()));
+            } catch (NumberFormatException e) {
+                // A malformed header does not sync the bucket, it keeps refilling at the hourly quota
             }
-        } catch (InterruptedException e) {
-            throw new IOException(e);
         }
+    }
 
-        try {
-            String retryAfterHeader = response.header("Retry-After");
-            int retryAfter = 0;
-            if (retryAfterHeader != null) {
-                DateTime retryWhen = null;
+    private int retryAfterInSeconds(Response response) throws IOException {
+        String retryAfterHeader = response.header("Retry-After");
+        int retryAfter = 0;
+        if (retryAfterHeader != null) {
+            DateTime retryWhen = null;
+            try {
+                retryWhen = new DateTimeRfc1123(retryAfterHeader).dateTime();
+            } catch (Exception e) {
+                // Not an HTTP date, the header is expected to be a number of seconds
+            }
+            if (retryWhen == null) {
                 try {
-                    retryWhen = new DateTimeRfc1123(retryAfterHeader).dateTime();
-                } catch (Exception e) { }
-                if (retryWhen == null) {
-                    retryAfter = Integer.parseInt(retryAfterHeader);
-                } else {
-                    retryAfter = new Duration(null, retryWhen).toStandardSeconds().getSeconds();
+                    retryAfter = Integer.parseInt(retryAfterHeader.trim());
+                } catch (NumberFormatException e) {
+                    // Malformed header, the retry interval is taken from the error message below
+                    retryAfter = 0;
                 }
+            } else {
+                retryAfter = new Duration(null, retryWhen).toStandardSeconds().getSeconds();
             }
-            if (retryAfter <= 0) {
-                Pattern pattern = Pattern.compile("try again after '([0-9]*)' minutes", Pattern.CASE_INSENSITIVE);
-                Matcher matcher = pattern.matcher(content(response.body()));
+        }
+        if (retryAfter <= 0) {
+            String body = response.body() == null ? null : response.peekBody(Long.MAX_VALUE).string();
+            if (body != null) {
+                Matcher matcher = RETRY_AFTER_MINUTES.matcher(body);
                 if (matcher.find()) {
                     retryAfter = (int) TimeUnit.MINUTES.toSeconds(Integer.parseInt(matcher.group(1)));
                 } else {
-                    pattern = Pattern.compile("try again after '([0-9]*)' seconds", Pattern.CASE_INSENSITIVE);
-                    matcher = pattern.matcher(content(response.body()));
+                    matcher = RETRY_AFTER_SECONDS.matcher(body);
                     if (matcher.find()) {
                         retryAfter = Integer.parseInt(matcher.group(1));
                     }
                 }
             }
-            if (retryAfter > 0) {
-                String context = chain.request().header(LOGGING_HEADER);
-                if (context == null) {
-                    context = "";
-                }
-                LoggerFactory.getLogger(context)
-                    .info("Azure Resource Manager read/write per hour limit reached. Will retry in: " + retryAfter + " seconds");
-                SdkContext.sleep((int) (TimeUnit.SECONDS.toMillis(retryAfter) + 100));
-            }
-            return chain.proceed(chain.request());
-        } catch (Throwable t) {
-            throw new IOException(t);
-        } finally {
-            if (response.body() != null) {
-                response.body().close();
-            }
-            synchronized (REENTRANT_LOCK_MAP.get(subscriptionId)) {
-                REENTRANT_LOCK_MAP.get(subscriptionId).unlock();
-                REENTRANT_LOCK_MAP.get(subscriptionId).notifyAll();
-            }
-        }
-    }
-
-    private String content(ResponseBody responseBody) throws IOException {
-        if (responseBody == null) {
-            return null;
         }
-        BufferedSource source = responseBody.source();
-        source.request(Long.MAX_VALUE); // Buffer the entire body.
-        Buffer buffer = source.buffer();
-        return buffer.readUtf8();
+        return Math.max(0, retryAfter);
     }
 }
@@ -18,6 +18,7 @@ public class SdkContext {
     private static ResourceNamerFactory resourceNamerFactory = new ResourceNamerFactory();
     private static DelayProvider delayProvider = new DelayProvider();
     private static Scheduler rxScheduler = Schedulers.io();
+    private static int pagePrefetchDepth = 0;
 
     /**
      * Function to override the ResourceNamerFactory.
@@ -125,4 +126,25 @@ public class SdkContext {
     public static void setRxScheduler(Scheduler rxScheduler) {
         SdkContext.rxScheduler = rxScheduler;
     }
+
+    /**
+     * Gets the number of pages fetched ahead of the page being consumed when listing resources.
+     * @return the page prefetch depth, 0 if pages are fetched only when needed.
+     */
+    public static int getPagePrefetchDepth() {
+        return pagePrefetchDepth;
+    }
+
+    /**
+     * Sets the number of pages fetched ahead of the page being consumed when listing resources, by
+     * default is 0. While a page of a list is consumed, up to this number of following pages are
+     * fetched and converted in the background.
+     * @param pagePrefetchDepth the page prefetch depth, 0 to fetch pages only when needed.
+     */
+    public static void setPagePrefetchDepth(int pagePrefetchDepth) {
+        if (pagePrefetchDepth < 0) {
+            throw new IllegalArgumentException("pagePrefetchDepth cannot be negative");
+        }
+        SdkContext.pagePrefetchDepth = pagePrefetchDepth;
+    }
 }
@@ -0,0 +1,223 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources.fluentcore.utils;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microsoft.azure.AzureResponseBuilder;
+import com.microsoft.azure.Page;
+import com.microsoft.azure.management.apigeneration.Beta;
+import com.microsoft.rest.RestException;
+import com.microsoft.rest.ServiceResponse;
+import com.microsoft.rest.ServiceResponseWithHeaders;
+import com.microsoft.rest.protocol.ResponseBuilder;
+import com.microsoft.rest.protocol.SerializerAdapter;
+import com.microsoft.rest.serializer.JacksonAdapter;
+import okhttp3.ResponseBody;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A response builder deserializing the pages of the list operations straight from the response stream.
+ * <p>
+ * The Azure response builder reads the whole body of a response into a string before deserializing it, so
+ * a large page is held twice in memory, as text and as objects. This builder walks the "value" array of a
+ * page with the Jackson streaming API instead, binding one item at a time as it arrives from the socket and
+ * picking up the link to the next page at the end, so the raw body is never buffered. Every other response,
+ * including the errors, is built by the Azure response builder.
+ *
+ * @param <T> the type of the response body
+ * @param <E> the type of the exception
+ */
+@Beta(Beta.SinceVersion.V1_23_0)
+public final class StreamingPageResponseBuilder<T, E extends RestException> implements ResponseBuilder<T, E> {
+    private static final ConcurrentMap<Class<?>, PageProperties> PAGE_PROPERTIES = new ConcurrentHashMap<>();
+    private static final List<String> NEXT_LINK_NAMES = Arrays.asList("nextLink", "odata.nextLink", "@odata.nextLink");
+
+    private final ResponseBuilder<T, E> inner;
+    private final ObjectMapper mapper;
+    private final Map<Integer, Type> pageTypes = new HashMap<>();
+
+    private StreamingPageResponseBuilder(ResponseBuilder<T, E> inner, ObjectMapper mapper) {
+        this.inner = inner;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public ResponseBuilder<T, E> register(int statusCode, Type type) {
+        inner.register(statusCode, type);
+        if (pageProperties(type) != null) {
+            pageTypes.put(statusCode, type);
+        }
+        return this;
+    }
+
+    @Override
+    public ResponseBuilder<T, E> registerError(Class<? extends RestException> type) {
+        inner.registerError(type);
+        return this;
+    }
+
+    @Override
+    public ServiceResponse<T> build(Response<ResponseBody> response) throws IOException {
+        Type pageType = response == null || !response.isSuccessful() || response.body() == null
+                ? null
+                : pageTypes.get(response.code());
+        if (pageType == null) {
+            return inner.build(response);
+        }
+        return new ServiceResponse<>(this.<T>readPage(response.body(), pageType), response);
+    }
+
+    @Override
+    public ServiceResponse<T> buildEmpty(Response<Void> response) throws IOException {
+        return inner.buildEmpty(response);
+    }
+
+    @Override
+    public <THeader> ServiceResponseWithHeaders<T, THeader> buildWithHeaders(Response<ResponseBody> response,
+                                                                          Class<THeader> headerType) throws IOException {
+        return inner.buildWithHeaders(response, headerType);
+    }
+
+    @Override
+    public <THeader> ServiceResponseWithHeaders<T, THeader> buildEmptyWithHeaders(Response<Void> response,
+                                                                               Class<THeader> headerType) throws IOException {
+        return inner.buildEmptyWithHeaders(response, headerType);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <P> P readPage(ResponseBody body, Type pageType) throws IOException {
+        PageProperties properties = pageProperties(pageType);
+        JavaType itemType = mapper.getTypeFactory().constructType(((ParameterizedType) pageType).getActualTypeArguments()[0]);
+        try (ResponseBody closeable = body;
+             JsonParser parser = mapper.getFactory().createParser(closeable.byteStream())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            List<Object> items = null;
+            String nextLink = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if (name.equals(properties.itemsName) && token == JsonToken.START_ARRAY) {
+                    items = new ArrayList<>();
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        items.add(mapper.readValue(parser, itemType));
+                    }
+                } else if (name.equals(properties.nextLinkName) && token == JsonToken.VALUE_STRING) {
+                    nextLink = parser.getText();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            Object page = properties.pageClass.newInstance();
+            properties.itemsField.set(page, items);
+            if (properties.nextLinkField != null) {
+                properties.nextLinkField.set(page, nextLink);
+            }
+            return (P) page;
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new IOException("Unable to create a page of type " + pageType, e);
+        }
+    }
+
+    private static PageProperties pageProperties(Type type) {
+        if (!(type instanceof ParameterizedType)) {
+            return null;
+        }
+        Type rawType = ((ParameterizedType) type).getRawType();
+        if (!(rawType instanceof Class<?>) || !Page.class.isAssignableFrom((Class<?>) rawType)) {
+            return null;
+        }
+        Class<?> pageClass = (Class<?>) rawType;
+        PageProperties properties = PAGE_PROPERTIES.get(pageClass);
+        if (properties == null) {
+            properties = PageProperties.introspect(pageClass);
+            PAGE_PROPERTIES.putIfAbsent(pageClass, properties);
+        }
+        return properties.itemsField == null ? null : properties;
+    }
+
+    /**
+     * The JSON properties of a page class, the "value" and "nextLink" or "odata.nextLink" properties of the
+     * generated pages.
+     */
+    private static final class PageProperties {
+        private final Class<?> pageClass;
+        private Field itemsField;
+        private String itemsName;
+        private Field nextLinkField;
+        private String nextLinkName;
+
+        private PageProperties(Class<?> pageClass) {
+            this.pageClass = pageClass;
+        }
+
+        private static PageProperties introspect(Class<?> pageClass) {
+            PageProperties properties = new PageProperties(pageClass);
+            for (Class<?> c = pageClass; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    JsonProperty jsonProperty = field.getAnnotation(JsonProperty.class);
+                    if (jsonProperty == null || jsonProperty.value().isEmpty()) {
+                        continue;
+                    }
+                    if (List.class.isAssignableFrom(field.getType()) && properties.itemsField == null) {
+                        field.setAccessible(true);
+                        properties.itemsField = field;
+                        properties.itemsName = jsonProperty.value();
+                    } else if (field.getType() == String.class && NEXT_LINK_NAMES.contains(jsonProperty.value())
+                            && properties.nextLinkField == null) {
+                        field.setAccessible(true);
+                        properties.nextLinkField = field;
+                        properties.nextLinkName = jsonProperty.value();
+                    }
+                }
+            }
+            // The pages without a known next link property are left to the Azure response builder
+            if (properties.nextLinkField == null) {
+                properties.itemsField = null;
+            }
+            try {
+                pageClass.getDeclaredConstructor();
+            } catch (NoSuchMethodException e) {
+                properties.itemsField = null;
+            }
+            return properties;
+        }
+    }
+
+    /**
+     * A factory creating streaming page response builders on top of the Azure response builders.
+     */
+    public static final class Factory implements ResponseBuilder.Factory {
+        private final AzureResponseBuilder.Factory inner = new AzureResponseBuilder.Factory();
+
+        @Override
+        public <T, E extends RestException> ResponseBuilder<T, E> newInstance(SerializerAdapter<?> serializerAdapter) {
+            ResponseBuilder<T, E> builder = inner.newInstance(serializerAdapter);
+            if (!(serializerAdapter instanceof JacksonAdapter)) {
+                return builder;
+            }
+            return new StreamingPageResponseBuilder<>(builder, ((JacksonAdapter) serializerAdapter).serializer());
+        }
+    }
+}
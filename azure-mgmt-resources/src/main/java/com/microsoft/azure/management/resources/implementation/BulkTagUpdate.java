@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources.implementation;
+
+import com.microsoft.azure.management.apigeneration.LangDefinition;
+import com.microsoft.azure.management.resources.ResourceInventory;
+import com.microsoft.azure.management.resources.TagMutationResult;
+import com.microsoft.azure.management.resources.TagMutations;
+import rx.Completable;
+import rx.Observable;
+import rx.functions.Func0;
+import rx.functions.Func1;
+import rx.functions.Func2;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Applies tag mutations to a large number of resources with a bounded number of updates in flight.
+ * <p>
+ * The new tags of a resource are computed from the tags it was listed with, the resources whose tags
+ * already match are reported as unchanged without sending a request. The others are updated with a PATCH
+ * of their tags, one failure does not stop the updates of the other resources.
+ */
+@LangDefinition
+public final class BulkTagUpdate {
+    private static final int DEFAULT_MAX_CONCURRENCY = 10;
+
+    private final TagMutations mutations;
+    private final Func2<ResourceInventory.Item, Map<String, String>, Completable> updateOperation;
+    private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+    /**
+     * Creates a bulk tag update.
+     *
+     * @param mutations the tag mutations to apply
+     * @param updateOperation the operation replacing the tags of one resource
+     */
+    public BulkTagUpdate(TagMutations mutations,
+                         Func2<ResourceInventory.Item, Map<String, String>, Completable> updateOperation) {
+        this.mutations = mutations;
+        this.updateOperation = updateOperation;
+    }
+
+    /**
+     * Specifies the maximum number of updates in flight, 10 by default.
+     *
+     * @param maxConcurrency the maximum number of updates in flight
+     * @return the bulk tag update itself
+     */
+    public BulkTagUpdate withMaxConcurrency(int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The maximum concurrency must be at least 1.");
+        }
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * Applies the tag mutations to resources.
+     *
+     * @param resources the resources, with their current tags
+     * @return an observable emitting the outcome of each resource as it completes
+     */
+    public Observable<TagMutationResult> updateAsync(Observable<ResourceInventory.Item> resources) {
+        return resources.flatMap(new Func1<ResourceInventory.Item, Observable<TagMutationResult>>() {
+            @Override
+            public Observable<TagMutationResult> call(ResourceInventory.Item resource) {
+                return updateAsync(resource);
+            }
+        }, maxConcurrency);
+    }
+
+    private Observable<TagMutationResult> updateAsync(final ResourceInventory.Item resource) {
+        final Map<String, String> tags = Collections.unmodifiableMap(mutations.applyTo(resource.tags()));
+        if (tags.equals(resource.tags())) {
+            return Observable.<TagMutationResult>just(new Result(resource.id(), tags, false, null));
+        }
+        return Completable.defer(new Func0<Completable>() {
+            @Override
+            public Completable call() {
+                return updateOperation.call(resource, tags);
+            }
+        })
+                .andThen(Observable.<TagMutationResult>just(new Result(resource.id(), tags, true, null)))
+                .onErrorReturn(new Func1<Throwable, TagMutationResult>() {
+                    @Override
+                    public TagMutationResult call(Throwable throwable) {
+                        return new Result(resource.id(), resource.tags(), false, throwable);
+                    }
+                });
+    }
+
+    /**
+     * The outcome of the tag mutations of a resource.
+     */
+    private static final class Result implements TagMutationResult {
+        private final String id;
+        private final Map<String, String> tags;
+        private final boolean updated;
+        private final Throwable error;
+
+        Result(String id, Map<String, String> tags, boolean updated, Throwable error) {
+            this.id = id;
+            this.tags = tags;
+            this.updated = updated;
+            this.error = error;
+        }
+
+        @Override
+        public String id() {
+            return id;
+        }
+
+        @Override
+        public Map<String, String> tags() {
+            return tags;
+        }
+
+        @Override
+        public boolean isUpdated() {
+            return updated;
+        }
+
+        @Override
+        public boolean isUnchanged() {
+            return !updated && error == null;
+        }
+
+        @Override
+        public Throwable error() {
+            return error;
+        }
+    }
+}
@@ -135,13 +135,20 @@ public class FeatureClientImpl extends AzureServiceClient {
     /**
      * The FeaturesInner object to access its operations.
      */
-    private FeaturesInner features;
+    private volatile FeaturesInner features;
 
     /**
      * Gets the FeaturesInner object to access its operations.
      * @return the FeaturesInner object.
      */
     public FeaturesInner features() {
+        if (this.features == null) {
+            synchronized (this) {
+                if (this.features == null) {
+                    this.features = new FeaturesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.features;
     }
 
@@ -180,7 +187,6 @@ public class FeatureClientImpl extends AzureServiceClient {
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.features = new FeaturesInner(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
     }
 
@@ -139,7 +139,7 @@ final class GenericResourceImpl
         Observable<String> observable = Observable.just(apiVersion);
         if (apiVersion == null) {
             final ResourceManagementClientImpl serviceClient = this.manager().inner();
-            observable = this.manager().providers().getByNameAsync(resourceProviderNamespace)
+            observable = this.manager().providerMetadataCache().getByNameAsync(resourceProviderNamespace)
                     .map(new Func1<Provider, String>() {
                         @Override
                         public String call(Provider provider) {
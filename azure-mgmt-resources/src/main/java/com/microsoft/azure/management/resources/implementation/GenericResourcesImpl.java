@@ -6,21 +6,37 @@
 
 package com.microsoft.azure.management.resources.implementation;
 
+import com.microsoft.azure.Page;
 import com.microsoft.azure.PagedList;
 import com.microsoft.azure.management.resources.GenericResource;
 import com.microsoft.azure.management.resources.GenericResources;
-import com.microsoft.azure.management.resources.Provider;
 import com.microsoft.azure.management.resources.ResourceGroup;
+import com.microsoft.azure.management.resources.ResourceInventory;
+import com.microsoft.azure.management.resources.TagMutationResult;
+import com.microsoft.azure.management.resources.TagMutations;
 import com.microsoft.azure.management.resources.fluentcore.arm.ResourceUtils;
 import com.microsoft.azure.management.resources.fluentcore.arm.collection.implementation.GroupableResourcesImpl;
 import com.microsoft.azure.management.resources.fluentcore.utils.Utils;
 import com.microsoft.rest.ServiceCallback;
 import com.microsoft.rest.ServiceFuture;
+import com.microsoft.rest.ServiceResponse;
+import okhttp3.ResponseBody;
+import retrofit2.Response;
+import retrofit2.http.Body;
+import retrofit2.http.Header;
+import retrofit2.http.Headers;
+import retrofit2.http.PATCH;
+import retrofit2.http.Path;
+import retrofit2.http.Query;
 import rx.Completable;
 import rx.Observable;
+import rx.functions.Func0;
 import rx.functions.Func1;
+import rx.functions.Func2;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Implementation of the {@link GenericResources}.
@@ -34,8 +50,11 @@ final class GenericResourcesImpl
         ResourceManager>
     implements GenericResources {
 
+    private final TagsService tagsService;
+
     GenericResourcesImpl(ResourceManager resourceManager) {
         super(resourceManager.inner().resources(), resourceManager);
+        this.tagsService = resourceManager.inner().restClient().retrofit().create(TagsService.class);
     }
 
     @Override
@@ -87,8 +106,7 @@ final class GenericResourcesImpl
 
     @Override
     public GenericResource getById(String id) {
-        Provider provider = this.manager().providers().getByName(ResourceUtils.resourceProviderFromResourceId(id));
-        String apiVersion = ResourceUtils.defaultApiVersion(id, provider);
+        String apiVersion = getApiVersionFromId(id).toBlocking().single();
         return wrapModel(this.inner().getById(id, apiVersion)).withApiVersion(apiVersion);
     }
 
@@ -222,13 +240,7 @@ final class GenericResourcesImpl
     }
 
     private Observable<String> getApiVersionFromId(final String id) {
-        return this.manager().providers().getByNameAsync(ResourceUtils.resourceProviderFromResourceId(id))
-                .map(new Func1<Provider, String>() {
-                    @Override
-                    public String call(Provider provider) {
-                        return ResourceUtils.defaultApiVersion(id, provider);
-                    }
-                });
+        return this.manager().providerMetadataCache().apiVersionAsync(id);
     }
 
     @Override
@@ -240,4 +252,83 @@ final class GenericResourcesImpl
     public Observable<GenericResource> listByResourceGroupAsync(String resourceGroupName) {
         return wrapPageAsync(this.manager().inner().resources().listByResourceGroupAsync(resourceGroupName));
     }
+
+    @Override
+    public Observable<TagMutationResult> updateTagsAsync(final Func1<GenericResource, Boolean> predicate,
+                                                         TagMutations mutations,
+                                                         int maxConcurrency) {
+        Observable<ResourceInventory.Item> resources = this.inner().listAsync()
+                .concatMapIterable(new Func1<Page<GenericResourceInner>, Iterable<GenericResourceInner>>() {
+                    @Override
+                    public Iterable<GenericResourceInner> call(Page<GenericResourceInner> page) {
+                        return page.items();
+                    }
+                })
+                .filter(new Func1<GenericResourceInner, Boolean>() {
+                    @Override
+                    public Boolean call(GenericResourceInner inner) {
+                        return predicate.call(wrapModel(inner));
+                    }
+                })
+                .map(new Func1<GenericResourceInner, ResourceInventory.Item>() {
+                    @Override
+                    public ResourceInventory.Item call(GenericResourceInner inner) {
+                        return new ResourceInventoryImpl.ItemImpl(inner);
+                    }
+                });
+        return bulkTagUpdate(mutations, maxConcurrency).updateAsync(resources);
+    }
+
+    @Override
+    public List<TagMutationResult> updateTags(Func1<GenericResource, Boolean> predicate, TagMutations mutations, int maxConcurrency) {
+        return updateTagsAsync(predicate, mutations, maxConcurrency).toList().toBlocking().single();
+    }
+
+    @Override
+    public Observable<TagMutationResult> updateTagsAsync(final ResourceInventory.Filter filter,
+                                                         TagMutations mutations,
+                                                         int maxConcurrency) {
+        // The inventory is queried on subscription, not when the observable is built
+        Observable<ResourceInventory.Item> resources = Observable.defer(new Func0<Observable<ResourceInventory.Item>>() {
+            @Override
+            public Observable<ResourceInventory.Item> call() {
+                return Observable.from(filter.list());
+            }
+        });
+        return bulkTagUpdate(mutations, maxConcurrency).updateAsync(resources);
+    }
+
+    @Override
+    public List<TagMutationResult> updateTags(ResourceInventory.Filter filter, TagMutations mutations, int maxConcurrency) {
+        return updateTagsAsync(filter, mutations, maxConcurrency).toList().toBlocking().single();
+    }
+
+    private BulkTagUpdate bulkTagUpdate(TagMutations mutations, int maxConcurrency) {
+        final ResourceManagementClientImpl client = this.manager().inner();
+        final TagsService service = this.tagsService;
+        return new BulkTagUpdate(mutations, new Func2<ResourceInventory.Item, Map<String, String>, Completable>() {
+            @Override
+            public Completable call(final ResourceInventory.Item resource, final Map<String, String> tags) {
+                // The API version of each resource provider is looked up once and cached
+                return getApiVersionFromId(resource.id())
+                        .flatMap(new Func1<String, Observable<ServiceResponse<GenericResourceInner>>>() {
+                            @Override
+                            public Observable<ServiceResponse<GenericResourceInner>> call(String apiVersion) {
+                                // Only the tags are sent, the other properties of the resource are left untouched
+                                Observable<Response<ResponseBody>> observable = service.updateTags(resource.id(),
+                                        apiVersion, Collections.singletonMap("tags", tags),
+                                        client.acceptLanguage(), client.userAgent());
+                                return client.getAzureClient().getPutOrPatchResultAsync(observable,
+                                        GenericResourceInner.class);
+                            }
+                        }).toCompletable();
+            }
+        }).withMaxConcurrency(maxConcurrency);
+    }
+
+    private interface TagsService {
+        @Headers({ "Content-Type: application/json; charset=utf-8", "x-ms-logging-context: com.microsoft.azure.management.resources.Resources updateTags" })
+        @PATCH("{resourceId}")
+        Observable<Response<ResponseBody>> updateTags(@Path(value = "resourceId", encoded = true) String resourceId, @Query("api-version") String apiVersion, @Body Map<String, Map<String, String>> parameters, @Header("accept-language") String acceptLanguage, @Header("User-Agent") String userAgent);
+    }
 }
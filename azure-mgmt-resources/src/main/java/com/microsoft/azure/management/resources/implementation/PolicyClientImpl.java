@@ -123,39 +123,60 @@ public class PolicyClientImpl extends AzureServiceClient {
     /**
      * The PolicyAssignmentsInner object to access its operations.
      */
-    private PolicyAssignmentsInner policyAssignments;
+    private volatile PolicyAssignmentsInner policyAssignments;
 
     /**
      * Gets the PolicyAssignmentsInner object to access its operations.
      * @return the PolicyAssignmentsInner object.
      */
     public PolicyAssignmentsInner policyAssignments() {
+        if (this.policyAssignments == null) {
+            synchronized (this) {
+                if (this.policyAssignments == null) {
+                    this.policyAssignments = new PolicyAssignmentsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.policyAssignments;
     }
 
     /**
      * The PolicySetDefinitionsInner object to access its operations.
      */
-    private PolicySetDefinitionsInner policySetDefinitions;
+    private volatile PolicySetDefinitionsInner policySetDefinitions;
 
     /**
      * Gets the PolicySetDefinitionsInner object to access its operations.
      * @return the PolicySetDefinitionsInner object.
      */
     public PolicySetDefinitionsInner policySetDefinitions() {
+        if (this.policySetDefinitions == null) {
+            synchronized (this) {
+                if (this.policySetDefinitions == null) {
+                    this.policySetDefinitions = new PolicySetDefinitionsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.policySetDefinitions;
     }
 
     /**
      * The PolicyDefinitionsInner object to access its operations.
      */
-    private PolicyDefinitionsInner policyDefinitions;
+    private volatile PolicyDefinitionsInner policyDefinitions;
 
     /**
      * Gets the PolicyDefinitionsInner object to access its operations.
      * @return the PolicyDefinitionsInner object.
      */
     public PolicyDefinitionsInner policyDefinitions() {
+        if (this.policyDefinitions == null) {
+            synchronized (this) {
+                if (this.policyDefinitions == null) {
+                    this.policyDefinitions = new PolicyDefinitionsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.policyDefinitions;
     }
 
@@ -193,9 +214,6 @@ public class PolicyClientImpl extends AzureServiceClient {
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.policyAssignments = new PolicyAssignmentsInner(restClient().retrofit(), this);
-        this.policySetDefinitions = new PolicySetDefinitionsInner(restClient().retrofit(), this);
-        this.policyDefinitions = new PolicyDefinitionsInner(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
     }
 
@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources.implementation;
+
+import com.microsoft.azure.management.apigeneration.LangDefinition;
+import com.microsoft.azure.management.resources.Provider;
+import com.microsoft.azure.management.resources.Providers;
+import com.microsoft.azure.management.resources.fluentcore.arm.ResourceUtils;
+import rx.Completable;
+import rx.Observable;
+import rx.functions.Action1;
+import rx.functions.Func1;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A cache of the resource provider metadata of a subscription, used to pick the API version of
+ * the generic resource operations without fetching the provider on every call.
+ * <p>
+ * Providers are loaded on first use and kept for a time to live, one hour by default. Concurrent
+ * lookups of a provider that is not cached share a single request, a failed request is not cached.
+ * All the providers of the subscription can be loaded upfront with a single list request through
+ * {@link #warmUp()}.
+ */
+@LangDefinition
+public final class ProviderMetadataCache {
+    private static final long DEFAULT_TIME_TO_LIVE_IN_MINUTES = 60;
+
+    private final Providers providers;
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile long timeToLiveInNanos = TimeUnit.MINUTES.toNanos(DEFAULT_TIME_TO_LIVE_IN_MINUTES);
+
+    /**
+     * Creates a provider metadata cache.
+     *
+     * @param providers the providers of the subscription the metadata is loaded from
+     */
+    public ProviderMetadataCache(Providers providers) {
+        this.providers = providers;
+    }
+
+    /**
+     * Sets the time the providers are kept in the cache, it applies to the providers loaded afterwards.
+     *
+     * @param timeToLive the time to live, zero disables caching
+     * @param unit the time unit of the time to live
+     * @return the cache itself
+     */
+    public ProviderMetadataCache withTimeToLive(long timeToLive, TimeUnit unit) {
+        if (timeToLive < 0) {
+            throw new IllegalArgumentException("The time to live cannot be negative.");
+        }
+        this.timeToLiveInNanos = unit.toNanos(timeToLive);
+        return this;
+    }
+
+    /**
+     * Gets a resource provider, from the cache if present.
+     *
+     * @param resourceProviderNamespace the namespace of the resource provider
+     * @return an observable emitting the resource provider
+     */
+    public Observable<Provider> getByNameAsync(final String resourceProviderNamespace) {
+        final String key = resourceProviderNamespace.toLowerCase(Locale.ROOT);
+        while (true) {
+            final long now = System.nanoTime();
+            Entry entry = entries.get(key);
+            if (entry != null && !entry.isExpired(now)) {
+                return entry.provider;
+            }
+            final Entry loading = new Entry(now + timeToLiveInNanos);
+            loading.provider = providers.getByNameAsync(resourceProviderNamespace)
+                    .doOnError(new Action1<Throwable>() {
+                        @Override
+                        public void call(Throwable throwable) {
+                            entries.remove(key, loading);
+                        }
+                    })
+                    .cache();
+            boolean installed = entry == null
+                    ? entries.putIfAbsent(key, loading) == null
+                    : entries.replace(key, entry, loading);
+            if (installed) {
+                return loading.provider;
+            }
+        }
+    }
+
+    /**
+     * Gets the default API version of a resource, based on the cached metadata of its provider.
+     *
+     * @param id the resource ID
+     * @return an observable emitting the API version
+     */
+    public Observable<String> apiVersionAsync(final String id) {
+        return getByNameAsync(ResourceUtils.resourceProviderFromResourceId(id))
+                .map(new Func1<Provider, String>() {
+                    @Override
+                    public String call(Provider provider) {
+                        return ResourceUtils.defaultApiVersion(id, provider);
+                    }
+                });
+    }
+
+    /**
+     * Loads all the resource providers of the subscription with a single list request.
+     *
+     * @return a completable completing once all the providers are cached
+     */
+    public Completable warmUpAsync() {
+        return providers.listAsync()
+                .doOnNext(new Action1<Provider>() {
+                    @Override
+                    public void call(Provider provider) {
+                        Entry entry = new Entry(System.nanoTime() + timeToLiveInNanos);
+                        entry.provider = Observable.just(provider);
+                        entries.put(provider.namespace().toLowerCase(Locale.ROOT), entry);
+                    }
+                })
+                .toCompletable();
+    }
+
+    /**
+     * Loads all the resource providers of the subscription with a single list request.
+     */
+    public void warmUp() {
+        warmUpAsync().await();
+    }
+
+    /**
+     * Removes a resource provider from the cache.
+     *
+     * @param resourceProviderNamespace the namespace of the resource provider
+     */
+    public void invalidate(String resourceProviderNamespace) {
+        entries.remove(resourceProviderNamespace.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Removes all the resource providers from the cache.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * A cached provider, or the shared request loading it.
+     */
+    private static final class Entry {
+        private final long expiresAtInNanos;
+        private Observable<Provider> provider;
+
+        Entry(long expiresAtInNanos) {
+            this.expiresAtInNanos = expiresAtInNanos;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAtInNanos >= 0;
+        }
+    }
+}
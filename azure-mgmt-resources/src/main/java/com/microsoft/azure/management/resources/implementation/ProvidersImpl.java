@@ -13,6 +13,7 @@ import com.microsoft.azure.management.resources.fluentcore.arm.collection.implem
 import com.microsoft.rest.ServiceCallback;
 import com.microsoft.rest.ServiceFuture;
 import rx.Observable;
+import rx.functions.Action1;
 import rx.functions.Func1;
 
 /**
@@ -22,9 +23,18 @@ final class ProvidersImpl
         extends ReadableWrappersImpl<Provider, ProviderImpl, ProviderInner>
         implements Providers {
     private final ProvidersInner client;
+    private final ProviderMetadataCache metadataCache;
 
     ProvidersImpl(final ProvidersInner client) {
         this.client = client;
+        this.metadataCache = new ProviderMetadataCache(this);
+    }
+
+    /**
+     * @return the cache of the provider metadata of the subscription
+     */
+    ProviderMetadataCache metadataCache() {
+        return this.metadataCache;
     }
 
     @Override
@@ -38,12 +48,17 @@ final class ProvidersImpl
     }
 
     @Override
-    public Observable<Provider> unregisterAsync(String resourceProviderNamespace) {
+    public Observable<Provider> unregisterAsync(final String resourceProviderNamespace) {
         return client.unregisterAsync(resourceProviderNamespace).map(new Func1<ProviderInner, Provider>() {
             @Override
             public Provider call(ProviderInner providerInner) {
                 return wrapModel(providerInner);
             }
+        }).doOnNext(new Action1<Provider>() {
+            @Override
+            public void call(Provider provider) {
+                metadataCache.invalidate(resourceProviderNamespace);
+            }
         });
     }
 
@@ -58,12 +73,17 @@ final class ProvidersImpl
     }
 
     @Override
-    public Observable<Provider> registerAsync(String resourceProviderNamespace) {
+    public Observable<Provider> registerAsync(final String resourceProviderNamespace) {
         return client.registerAsync(resourceProviderNamespace).map(new Func1<ProviderInner, Provider>() {
             @Override
             public Provider call(ProviderInner providerInner) {
                 return wrapModel(providerInner);
             }
+        }).doOnNext(new Action1<Provider>() {
+            @Override
+            public void call(Provider provider) {
+                metadataCache.invalidate(resourceProviderNamespace);
+            }
         });
     }
 
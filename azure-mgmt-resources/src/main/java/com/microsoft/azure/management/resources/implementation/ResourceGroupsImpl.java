@@ -10,12 +10,18 @@ import com.microsoft.azure.PagedList;
 import com.microsoft.azure.management.resources.ResourceGroup;
 import com.microsoft.azure.management.resources.ResourceGroups;
 import com.microsoft.azure.management.resources.fluentcore.arm.ResourceUtils;
+import com.microsoft.azure.management.resources.fluentcore.arm.collection.BulkDeletionResult;
+import com.microsoft.azure.management.resources.fluentcore.arm.collection.implementation.BulkDeletion;
 import com.microsoft.azure.management.resources.fluentcore.arm.collection.implementation.CreatableResourcesImpl;
 import com.microsoft.azure.management.resources.fluentcore.utils.Utils;
 import com.microsoft.rest.ServiceFuture;
 import com.microsoft.rest.ServiceCallback;
 import rx.Completable;
 import rx.Observable;
+import rx.functions.Func1;
+
+import java.util.Collection;
+import java.util.List;
 
 /**
  * The implementation for ResourceGroups.
@@ -76,6 +82,21 @@ final class ResourceGroupsImpl
         return wrapModel(name);
     }
 
+    @Override
+    public Observable<BulkDeletionResult> bulkDeleteByNamesAsync(Collection<String> names, int maxConcurrency) {
+        return new BulkDeletion(new Func1<String, Completable>() {
+            @Override
+            public Completable call(String name) {
+                return deleteByNameAsync(name);
+            }
+        }).withMaxConcurrency(maxConcurrency).withoutDependencyOrdering().deleteAsync(names);
+    }
+
+    @Override
+    public List<BulkDeletionResult> bulkDeleteByNames(Collection<String> names, int maxConcurrency) {
+        return bulkDeleteByNamesAsync(names, maxConcurrency).toList().toBlocking().single();
+    }
+
     @Override
     public boolean checkExistence(String name) {
         return this.contain(name);
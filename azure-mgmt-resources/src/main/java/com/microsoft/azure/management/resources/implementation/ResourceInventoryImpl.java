@@ -0,0 +1,492 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources.implementation;
+
+import com.microsoft.azure.CloudException;
+import com.microsoft.azure.Page;
+import com.microsoft.azure.management.apigeneration.LangDefinition;
+import com.microsoft.azure.management.resources.GenericResource;
+import com.microsoft.azure.management.resources.ResourceInventory;
+import com.microsoft.azure.management.resources.fluentcore.arm.Region;
+import com.microsoft.azure.management.resources.fluentcore.arm.ResourceId;
+import rx.Observable;
+import rx.functions.Func1;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Implementation of {@link ResourceInventory}.
+ */
+@LangDefinition
+public final class ResourceInventoryImpl implements ResourceInventory {
+    private static final int DEFAULT_PARALLELISM = 8;
+    private static final int NOT_FOUND = 404;
+
+    private final ResourceManagementClientImpl client;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Index index = new Index();
+    private volatile int parallelism = DEFAULT_PARALLELISM;
+
+    /**
+     * Creates an empty resource inventory.
+     *
+     * @param client the client of the subscription the resources are loaded from
+     */
+    public ResourceInventoryImpl(ResourceManagementClientImpl client) {
+        this.client = client;
+    }
+
+    @Override
+    public ResourceInventory withParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be at least 1.");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    @Override
+    public Observable<ResourceInventory> loadAsync() {
+        final ResourceInventory self = this;
+        return client.resourceGroups().listAsync()
+                .flatMapIterable(new Func1<Page<ResourceGroupInner>, Iterable<ResourceGroupInner>>() {
+                    @Override
+                    public Iterable<ResourceGroupInner> call(Page<ResourceGroupInner> page) {
+                        return page.items();
+                    }
+                })
+                .flatMap(new Func1<ResourceGroupInner, Observable<List<GenericResourceInner>>>() {
+                    @Override
+                    public Observable<List<GenericResourceInner>> call(ResourceGroupInner resourceGroup) {
+                        return listExistingByResourceGroupAsync(resourceGroup.name());
+                    }
+                }, parallelism)
+                .toList()
+                .map(new Func1<List<List<GenericResourceInner>>, ResourceInventory>() {
+                    @Override
+                    public ResourceInventory call(List<List<GenericResourceInner>> resourceGroups) {
+                        Index loaded = new Index();
+                        for (List<GenericResourceInner> resources : resourceGroups) {
+                            for (GenericResourceInner resource : resources) {
+                                loaded.add(new ItemImpl(resource));
+                            }
+                        }
+                        lock.writeLock().lock();
+                        try {
+                            index = loaded;
+                        } finally {
+                            lock.writeLock().unlock();
+                        }
+                        return self;
+                    }
+                });
+    }
+
+    @Override
+    public ResourceInventory load() {
+        return loadAsync().toBlocking().last();
+    }
+
+    @Override
+    public Observable<ResourceInventory> refreshResourceGroupsAsync(final String... resourceGroupNames) {
+        final ResourceInventory self = this;
+        return Observable.from(resourceGroupNames)
+                .flatMap(new Func1<String, Observable<List<GenericResourceInner>>>() {
+                    @Override
+                    public Observable<List<GenericResourceInner>> call(String resourceGroupName) {
+                        return listExistingByResourceGroupAsync(resourceGroupName);
+                    }
+                }, parallelism)
+                .toList()
+                .map(new Func1<List<List<GenericResourceInner>>, ResourceInventory>() {
+                    @Override
+                    public ResourceInventory call(List<List<GenericResourceInner>> resourceGroups) {
+                        List<Item> items = new ArrayList<>();
+                        for (List<GenericResourceInner> resources : resourceGroups) {
+                            for (GenericResourceInner resource : resources) {
+                                items.add(new ItemImpl(resource));
+                            }
+                        }
+                        lock.writeLock().lock();
+                        try {
+                            for (String resourceGroupName : resourceGroupNames) {
+                                index.removeResourceGroup(resourceGroupName);
+                            }
+                            for (Item item : items) {
+                                index.add(item);
+                            }
+                        } finally {
+                            lock.writeLock().unlock();
+                        }
+                        return self;
+                    }
+                });
+    }
+
+    @Override
+    public ResourceInventory refreshResourceGroups(String... resourceGroupNames) {
+        return refreshResourceGroupsAsync(resourceGroupNames).toBlocking().last();
+    }
+
+    @Override
+    public ResourceInventory upsert(GenericResource resource) {
+        Item item = new ItemImpl(resource.inner());
+        lock.writeLock().lock();
+        try {
+            index.remove(item.id());
+            index.add(item);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return this;
+    }
+
+    @Override
+    public boolean remove(String id) {
+        lock.writeLock().lock();
+        try {
+            return index.remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Item getById(String id) {
+        lock.readLock().lock();
+        try {
+            return index.byId.get(key(id));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.byId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Filter filter() {
+        return new FilterImpl();
+    }
+
+    private Observable<List<GenericResourceInner>> listExistingByResourceGroupAsync(String resourceGroupName) {
+        // a resource group deleted since it was listed or named has no resources left
+        return client.resources().listByResourceGroupAsync(resourceGroupName)
+                .flatMapIterable(new Func1<Page<GenericResourceInner>, Iterable<GenericResourceInner>>() {
+                    @Override
+                    public Iterable<GenericResourceInner> call(Page<GenericResourceInner> page) {
+                        return page.items();
+                    }
+                })
+                .toList()
+                .onErrorResumeNext(new Func1<Throwable, Observable<List<GenericResourceInner>>>() {
+                    @Override
+                    public Observable<List<GenericResourceInner>> call(Throwable throwable) {
+                        if (throwable instanceof CloudException
+                                && ((CloudException) throwable).response().code() == NOT_FOUND) {
+                            return Observable.just(Collections.<GenericResourceInner>emptyList());
+                        }
+                        return Observable.error(throwable);
+                    }
+                });
+    }
+
+    private static String key(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static String tagValue(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static String intern(String value) {
+        return value == null ? null : value.intern();
+    }
+
+    /**
+     * A resource of the inventory.
+     */
+    static final class ItemImpl implements Item {
+        private final String id;
+        private final ResourceId resourceId;
+        private final String type;
+        private final String regionName;
+        private final Map<String, String> tags;
+
+        ItemImpl(GenericResourceInner resource) {
+            this.id = resource.id();
+            this.resourceId = ResourceId.fromString(resource.id());
+            this.type = intern(resource.type());
+            this.regionName = intern(resource.location());
+            if (resource.tags() == null || resource.tags().isEmpty()) {
+                this.tags = Collections.emptyMap();
+            } else {
+                Map<String, String> tags = new HashMap<>(resource.tags().size() * 2);
+                for (Map.Entry<String, String> tag : resource.tags().entrySet()) {
+                    tags.put(intern(tag.getKey()), intern(tag.getValue()));
+                }
+                this.tags = Collections.unmodifiableMap(tags);
+            }
+        }
+
+        @Override
+        public String id() {
+            return id;
+        }
+
+        @Override
+        public ResourceId resourceId() {
+            return resourceId;
+        }
+
+        @Override
+        public String name() {
+            return resourceId.name();
+        }
+
+        @Override
+        public String type() {
+            return type;
+        }
+
+        @Override
+        public String resourceGroupName() {
+            return resourceId.resourceGroupName();
+        }
+
+        @Override
+        public String regionName() {
+            return regionName;
+        }
+
+        @Override
+        public Map<String, String> tags() {
+            return tags;
+        }
+    }
+
+    /**
+     * A filter of the resources of the inventory.
+     */
+    private final class FilterImpl implements Filter {
+        private String type;
+        private String regionName;
+        private Set<String> resourceGroupNames;
+        private final Map<String, String> tags = new HashMap<>();
+        private final Set<String> tagNames = new HashSet<>();
+
+        private FilterImpl() {
+        }
+
+        @Override
+        public Filter withType(String type) {
+            this.type = key(type);
+            return this;
+        }
+
+        @Override
+        public Filter withRegion(Region region) {
+            return withRegion(region.name());
+        }
+
+        @Override
+        public Filter withRegion(String regionName) {
+            this.regionName = key(regionName);
+            return this;
+        }
+
+        @Override
+        public Filter withResourceGroups(String... resourceGroupNames) {
+            return withResourceGroups(Arrays.asList(resourceGroupNames));
+        }
+
+        @Override
+        public Filter withResourceGroups(Collection<String> resourceGroupNames) {
+            this.resourceGroupNames = new HashSet<>();
+            for (String resourceGroupName : resourceGroupNames) {
+                this.resourceGroupNames.add(key(resourceGroupName));
+            }
+            return this;
+        }
+
+        @Override
+        public Filter withTag(String name) {
+            this.tagNames.add(key(name));
+            return this;
+        }
+
+        @Override
+        public Filter withTag(String name, String value) {
+            this.tags.put(key(name), tagValue(value));
+            return this;
+        }
+
+        @Override
+        public List<Item> list() {
+            lock.readLock().lock();
+            try {
+                return index.filter(this);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public int count() {
+            return list().size();
+        }
+    }
+
+    /**
+     * The resources and their indexes, guarded by the lock of the inventory.
+     */
+    private static final class Index {
+        private final Map<String, Item> byId = new HashMap<>();
+        private final Map<String, Set<Item>> byType = new HashMap<>();
+        private final Map<String, Set<Item>> byResourceGroup = new HashMap<>();
+        private final Map<String, Set<Item>> byRegion = new HashMap<>();
+        private final Map<String, Map<String, Set<Item>>> byTag = new HashMap<>();
+
+        void add(Item item) {
+            byId.put(key(item.id()), item);
+            addTo(byType, key(item.type()), item);
+            addTo(byResourceGroup, key(item.resourceGroupName()), item);
+            addTo(byRegion, key(item.regionName()), item);
+            for (Map.Entry<String, String> tag : item.tags().entrySet()) {
+                Map<String, Set<Item>> byValue = byTag.get(key(tag.getKey()));
+                if (byValue == null) {
+                    byValue = new HashMap<>();
+                    byTag.put(key(tag.getKey()), byValue);
+                }
+                addTo(byValue, tagValue(tag.getValue()), item);
+            }
+        }
+
+        boolean remove(String id) {
+            Item item = byId.remove(key(id));
+            if (item == null) {
+                return false;
+            }
+            removeFrom(byType, key(item.type()), item);
+            removeFrom(byResourceGroup, key(item.resourceGroupName()), item);
+            removeFrom(byRegion, key(item.regionName()), item);
+            for (Map.Entry<String, String> tag : item.tags().entrySet()) {
+                Map<String, Set<Item>> byValue = byTag.get(key(tag.getKey()));
+                removeFrom(byValue, tagValue(tag.getValue()), item);
+                if (byValue.isEmpty()) {
+                    byTag.remove(key(tag.getKey()));
+                }
+            }
+            return true;
+        }
+
+        void removeResourceGroup(String resourceGroupName) {
+            Set<Item> items = byResourceGroup.get(key(resourceGroupName));
+            if (items != null) {
+                for (Item item : new ArrayList<>(items)) {
+                    remove(item.id());
+                }
+            }
+        }
+
+        List<Item> filter(FilterImpl filter) {
+            List<Set<Item>> candidates = new ArrayList<>();
+            if (filter.type != null) {
+                candidates.add(lookup(byType, filter.type));
+            }
+            if (filter.regionName != null) {
+                candidates.add(lookup(byRegion, filter.regionName));
+            }
+            if (filter.resourceGroupNames != null) {
+                Set<Item> inResourceGroups = new HashSet<>();
+                for (String resourceGroupName : filter.resourceGroupNames) {
+                    inResourceGroups.addAll(lookup(byResourceGroup, resourceGroupName));
+                }
+                candidates.add(inResourceGroups);
+            }
+            for (String tagName : filter.tagNames) {
+                Set<Item> tagged = new HashSet<>();
+                Map<String, Set<Item>> byValue = byTag.get(tagName);
+                if (byValue != null) {
+                    for (Set<Item> items : byValue.values()) {
+                        tagged.addAll(items);
+                    }
+                }
+                candidates.add(tagged);
+            }
+            for (Map.Entry<String, String> tag : filter.tags.entrySet()) {
+                Map<String, Set<Item>> byValue = byTag.get(tag.getKey());
+                candidates.add(byValue == null ? Collections.<Item>emptySet() : lookup(byValue, tag.getValue()));
+            }
+            if (candidates.isEmpty()) {
+                return new ArrayList<>(byId.values());
+            }
+            Set<Item> smallest = candidates.get(0);
+            for (Set<Item> candidate : candidates) {
+                if (candidate.size() < smallest.size()) {
+                    smallest = candidate;
+                }
+            }
+            List<Item> result = new ArrayList<>();
+            for (Item item : smallest) {
+                boolean matches = true;
+                for (Set<Item> candidate : candidates) {
+                    if (candidate != smallest && !candidate.contains(item)) {
+                        matches = false;
+                        break;
+                    }
+                }
+                if (matches) {
+                    result.add(item);
+                }
+            }
+            return result;
+        }
+
+        private static Set<Item> lookup(Map<String, Set<Item>> index, String key) {
+            Set<Item> items = index.get(key);
+            return items == null ? Collections.<Item>emptySet() : items;
+        }
+
+        private static void addTo(Map<String, Set<Item>> index, String key, Item item) {
+            Set<Item> items = index.get(key);
+            if (items == null) {
+                items = new HashSet<>();
+                index.put(key, items);
+            }
+            items.add(item);
+        }
+
+        private static void removeFrom(Map<String, Set<Item>> index, String key, Item item) {
+            Set<Item> items = index.get(key);
+            if (items != null) {
+                items.remove(item);
+                if (items.isEmpty()) {
+                    index.remove(key);
+                }
+            }
+        }
+    }
+}
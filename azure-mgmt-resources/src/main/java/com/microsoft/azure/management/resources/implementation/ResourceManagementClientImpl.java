@@ -135,78 +135,120 @@ public class ResourceManagementClientImpl extends AzureServiceClient {
     /**
      * The DeploymentsInner object to access its operations.
      */
-    private DeploymentsInner deployments;
+    private volatile DeploymentsInner deployments;
 
     /**
      * Gets the DeploymentsInner object to access its operations.
      * @return the DeploymentsInner object.
      */
     public DeploymentsInner deployments() {
+        if (this.deployments == null) {
+            synchronized (this) {
+                if (this.deployments == null) {
+                    this.deployments = new DeploymentsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.deployments;
     }
 
     /**
      * The ProvidersInner object to access its operations.
      */
-    private ProvidersInner providers;
+    private volatile ProvidersInner providers;
 
     /**
      * Gets the ProvidersInner object to access its operations.
      * @return the ProvidersInner object.
      */
     public ProvidersInner providers() {
+        if (this.providers == null) {
+            synchronized (this) {
+                if (this.providers == null) {
+                    this.providers = new ProvidersInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.providers;
     }
 
     /**
      * The ResourcesInner object to access its operations.
      */
-    private ResourcesInner resources;
+    private volatile ResourcesInner resources;
 
     /**
      * Gets the ResourcesInner object to access its operations.
      * @return the ResourcesInner object.
      */
     public ResourcesInner resources() {
+        if (this.resources == null) {
+            synchronized (this) {
+                if (this.resources == null) {
+                    this.resources = new ResourcesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.resources;
     }
 
     /**
      * The ResourceGroupsInner object to access its operations.
      */
-    private ResourceGroupsInner resourceGroups;
+    private volatile ResourceGroupsInner resourceGroups;
 
     /**
      * Gets the ResourceGroupsInner object to access its operations.
      * @return the ResourceGroupsInner object.
      */
     public ResourceGroupsInner resourceGroups() {
+        if (this.resourceGroups == null) {
+            synchronized (this) {
+                if (this.resourceGroups == null) {
+                    this.resourceGroups = new ResourceGroupsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.resourceGroups;
     }
 
     /**
      * The TagsInner object to access its operations.
      */
-    private TagsInner tags;
+    private volatile TagsInner tags;
 
     /**
      * Gets the TagsInner object to access its operations.
      * @return the TagsInner object.
      */
     public TagsInner tags() {
+        if (this.tags == null) {
+            synchronized (this) {
+                if (this.tags == null) {
+                    this.tags = new TagsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.tags;
     }
 
     /**
      * The DeploymentOperationsInner object to access its operations.
      */
-    private DeploymentOperationsInner deploymentOperations;
+    private volatile DeploymentOperationsInner deploymentOperations;
 
     /**
      * Gets the DeploymentOperationsInner object to access its operations.
      * @return the DeploymentOperationsInner object.
      */
     public DeploymentOperationsInner deploymentOperations() {
+        if (this.deploymentOperations == null) {
+            synchronized (this) {
+                if (this.deploymentOperations == null) {
+                    this.deploymentOperations = new DeploymentOperationsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.deploymentOperations;
     }
 
@@ -245,12 +287,6 @@ public class ResourceManagementClientImpl extends AzureServiceClient {
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.deployments = new DeploymentsInner(restClient().retrofit(), this);
-        this.providers = new ProvidersInner(restClient().retrofit(), this);
-        this.resources = new ResourcesInner(restClient().retrofit(), this);
-        this.resourceGroups = new ResourceGroupsInner(restClient().retrofit(), this);
-        this.tags = new TagsInner(restClient().retrofit(), this);
-        this.deploymentOperations = new DeploymentOperationsInner(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
     }
 
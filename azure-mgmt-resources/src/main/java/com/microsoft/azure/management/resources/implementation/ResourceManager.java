@@ -7,8 +7,8 @@
 package com.microsoft.azure.management.resources.implementation;
 
 import com.microsoft.azure.AzureEnvironment;
-import com.microsoft.azure.AzureResponseBuilder;
 import com.microsoft.azure.credentials.AzureTokenCredentials;
+import com.microsoft.azure.management.apigeneration.Beta;
 import com.microsoft.azure.management.resources.Deployments;
 import com.microsoft.azure.management.resources.Features;
 import com.microsoft.azure.management.resources.GenericResources;
@@ -16,33 +16,53 @@ import com.microsoft.azure.management.resources.PolicyAssignments;
 import com.microsoft.azure.management.resources.PolicyDefinitions;
 import com.microsoft.azure.management.resources.Providers;
 import com.microsoft.azure.management.resources.ResourceGroups;
+import com.microsoft.azure.management.resources.ResourceInventory;
 import com.microsoft.azure.management.resources.Subscriptions;
 import com.microsoft.azure.management.resources.Tenants;
 import com.microsoft.azure.management.resources.fluentcore.arm.AzureConfigurable;
 import com.microsoft.azure.management.resources.fluentcore.arm.implementation.AzureConfigurableImpl;
 import com.microsoft.azure.management.resources.fluentcore.arm.implementation.ManagerBase;
 import com.microsoft.azure.management.resources.fluentcore.model.HasInner;
+import com.microsoft.azure.management.resources.fluentcore.utils.ConditionalRequestInterceptor;
 import com.microsoft.azure.management.resources.fluentcore.utils.ProviderRegistrationInterceptor;
-import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerThrottlingInterceptor;
+import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerMetricsInterceptor;
+import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerThrottlingCallAdapterFactory;
+import com.microsoft.azure.management.resources.fluentcore.utils.StreamingPageResponseBuilder;
 import com.microsoft.azure.serializer.AzureJacksonAdapter;
 import com.microsoft.rest.RestClient;
+import okhttp3.OkHttpClient;
+import retrofit2.Retrofit;
+import rx.Scheduler;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * Entry point to Azure resource management.
  */
 public final class ResourceManager extends ManagerBase implements HasInner<ResourceManagementClientImpl> {
+    // The shared instances by REST client and subscription, weakly referenced so that they do not
+    // outlive the managers using them
+    private static final Map<RestClient, Map<List<Object>, WeakReference<ResourceManager>>> SHARED_INSTANCES = new WeakHashMap<>();
+
     // The sdk clients
     private final ResourceManagementClientImpl resourceManagementClient;
     private final FeatureClientImpl featureClient;
     private final PolicyClientImpl policyClient;
-    // The collections
-    private ResourceGroups resourceGroups;
-    private GenericResources genericResources;
-    private Deployments deployments;
-    private Features features;
-    private Providers providers;
-    private PolicyDefinitions policyDefinitions;
-    private PolicyAssignments policyAssignments;
+    // The collections, created on first use; the manager is shared across the managers of a subscription
+    // so they are safely published to concurrent callers
+    private volatile ResourceGroups resourceGroups;
+    private volatile GenericResources genericResources;
+    private volatile Deployments deployments;
+    private volatile Features features;
+    private volatile ProvidersImpl providers;
+    private volatile PolicyDefinitions policyDefinitions;
+    private volatile PolicyAssignments policyAssignments;
+    private volatile ResourceInventory resourceInventory;
 
     /**
      * Creates an instance of ResourceManager that exposes resource management API entry points.
@@ -51,13 +71,17 @@ public final class ResourceManager extends ManagerBase implements HasInner<Resou
      * @return the ResourceManager instance
      */
     public static ResourceManager.Authenticated authenticate(AzureTokenCredentials credentials) {
-        return new AuthenticatedImpl(new RestClient.Builder()
+        ResourceManagerThrottlingCallAdapterFactory throttling = new ResourceManagerThrottlingCallAdapterFactory();
+        return new AuthenticatedImpl(new RestClient.Builder(new OkHttpClient.Builder(), new Retrofit.Builder()
+                        .addCallAdapterFactory(throttling))
                 .withBaseUrl(credentials.environment(), AzureEnvironment.Endpoint.RESOURCE_MANAGER)
                 .withCredentials(credentials)
                 .withSerializerAdapter(new AzureJacksonAdapter())
-                .withResponseBuilderFactory(new AzureResponseBuilder.Factory())
+                .withResponseBuilderFactory(new StreamingPageResponseBuilder.Factory())
+                .withInterceptor(new ResourceManagerMetricsInterceptor())
                 .withInterceptor(new ProviderRegistrationInterceptor(credentials))
-                .withInterceptor(new ResourceManagerThrottlingInterceptor())
+                .withInterceptor(throttling.interceptor())
+                .withInterceptor(new ConditionalRequestInterceptor())
                 .build());
     }
 
@@ -71,6 +95,50 @@ public final class ResourceManager extends ManagerBase implements HasInner<Resou
         return new AuthenticatedImpl(restClient);
     }
 
+    /**
+     * Gets the ResourceManager shared by the managers working with the same REST client and subscription,
+     * and with the Rx Scheduler of the SDK framework, creating it on first use.
+     *
+     * @param restClient the RestClient to be used for API calls
+     * @param subscriptionId the subscription UUID
+     * @return the shared ResourceManager instance
+     */
+    public static ResourceManager sharedInstance(RestClient restClient, String subscriptionId) {
+        return sharedInstance(restClient, subscriptionId, null);
+    }
+
+    /**
+     * Gets the ResourceManager shared by the managers working with the same REST client, subscription and
+     * Rx Scheduler, creating it on first use. The shared instance should not be given another Rx Scheduler,
+     * the managers working with another one share another instance.
+     *
+     * @param restClient the RestClient to be used for API calls
+     * @param subscriptionId the subscription UUID
+     * @param rxScheduler the Rx Scheduler, null to use the Rx Scheduler of the SDK framework
+     * @return the shared ResourceManager instance
+     */
+    @Beta(Beta.SinceVersion.V1_23_0)
+    public static ResourceManager sharedInstance(RestClient restClient, String subscriptionId, Scheduler rxScheduler) {
+        List<Object> key = Arrays.<Object>asList(subscriptionId, rxScheduler);
+        synchronized (SHARED_INSTANCES) {
+            Map<List<Object>, WeakReference<ResourceManager>> instances = SHARED_INSTANCES.get(restClient);
+            if (instances == null) {
+                instances = new HashMap<>();
+                SHARED_INSTANCES.put(restClient, instances);
+            }
+            WeakReference<ResourceManager> reference = instances.get(key);
+            ResourceManager resourceManager = reference == null ? null : reference.get();
+            if (resourceManager == null) {
+                resourceManager = new ResourceManager(restClient, subscriptionId);
+                if (rxScheduler != null) {
+                    resourceManager.setRxScheduler(rxScheduler);
+                }
+                instances.put(key, new WeakReference<>(resourceManager));
+            }
+            return resourceManager;
+        }
+    }
+
     /**
      * Get a Configurable instance that can be used to create ResourceManager with optional configuration.
      *
@@ -98,7 +166,7 @@ public final class ResourceManager extends ManagerBase implements HasInner<Resou
      */
     private static class ConfigurableImpl extends AzureConfigurableImpl<Configurable> implements Configurable {
         public ResourceManager.Authenticated authenticate(AzureTokenCredentials credentials) {
-            return ResourceManager.authenticate(buildRestClient(credentials));
+            return new AuthenticatedImpl(buildRestClient(credentials)).withRxScheduler(scheduler());
         }
     }
 
@@ -130,6 +198,7 @@ public final class ResourceManager extends ManagerBase implements HasInner<Resou
      */
     private static final class AuthenticatedImpl implements Authenticated {
         private RestClient restClient;
+        private Scheduler rxScheduler;
         private SubscriptionClientImpl subscriptionClient;
         // The subscription less collections
         private Subscriptions subscriptions;
@@ -140,6 +209,11 @@ public final class ResourceManager extends ManagerBase implements HasInner<Resou
             this.subscriptionClient = new SubscriptionClientImpl(restClient);
         }
 
+        AuthenticatedImpl withRxScheduler(Scheduler rxScheduler) {
+            this.rxScheduler = rxScheduler;
+            return this;
+        }
+
         public Subscriptions subscriptions() {
             if (subscriptions == null) {
                 subscriptions = new SubscriptionsImpl(subscriptionClient.subscriptions());
@@ -156,12 +230,16 @@ public final class ResourceManager extends ManagerBase implements HasInner<Resou
 
         @Override
         public ResourceManager withSubscription(String subscriptionId) {
-           return new ResourceManager(restClient, subscriptionId);
+            ResourceManager resourceManager = new ResourceManager(restClient, subscriptionId);
+            if (rxScheduler != null) {
+                resourceManager.setRxScheduler(rxScheduler);
+            }
+            return resourceManager;
         }
     }
 
     private ResourceManager(RestClient restClient, String subscriptionId) {
-        super(null, subscriptionId);
+        super(restClient, subscriptionId);
         super.setResourceManager(this);
         this.resourceManagementClient = new ResourceManagementClientImpl(restClient);
         this.resourceManagementClient.withSubscriptionId(subscriptionId);
@@ -175,70 +253,143 @@ public final class ResourceManager extends ManagerBase implements HasInner<Resou
      * @return the resource group management API entry point
      */
     public ResourceGroups resourceGroups() {
-        if (resourceGroups == null) {
-            resourceGroups = new ResourceGroupsImpl(resourceManagementClient);
+        ResourceGroups result = resourceGroups;
+        if (result == null) {
+            synchronized (this) {
+                result = resourceGroups;
+                if (result == null) {
+                    result = new ResourceGroupsImpl(resourceManagementClient);
+                    resourceGroups = result;
+                }
+            }
         }
-        return resourceGroups;
+        return result;
     }
 
     /**
      * @return the generic resource management API entry point
      */
     public GenericResources genericResources() {
-        if (genericResources == null) {
-            genericResources = new GenericResourcesImpl(this);
+        GenericResources result = genericResources;
+        if (result == null) {
+            synchronized (this) {
+                result = genericResources;
+                if (result == null) {
+                    result = new GenericResourcesImpl(this);
+                    genericResources = result;
+                }
+            }
         }
-        return genericResources;
+        return result;
     }
 
     /**
      * @return the deployment management API entry point
      */
     public Deployments deployments() {
-        if (deployments == null) {
-            deployments = new DeploymentsImpl(this);
+        Deployments result = deployments;
+        if (result == null) {
+            synchronized (this) {
+                result = deployments;
+                if (result == null) {
+                    result = new DeploymentsImpl(this);
+                    deployments = result;
+                }
+            }
         }
-        return deployments;
+        return result;
     }
 
     /**
      * @return the feature management API entry point
      */
     public Features features() {
-        if (features == null) {
-            features = new FeaturesImpl(featureClient.features());
+        Features result = features;
+        if (result == null) {
+            synchronized (this) {
+                result = features;
+                if (result == null) {
+                    result = new FeaturesImpl(featureClient.features());
+                    features = result;
+                }
+            }
         }
-        return features;
+        return result;
     }
 
     /**
      * @return the resource provider management API entry point
      */
     public Providers providers() {
-        if (providers == null) {
-            providers = new ProvidersImpl(resourceManagementClient.providers());
+        ProvidersImpl result = providers;
+        if (result == null) {
+            synchronized (this) {
+                result = providers;
+                if (result == null) {
+                    result = new ProvidersImpl(resourceManagementClient.providers());
+                    providers = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the cache of the resource provider metadata used by the generic resource operations
+     */
+    public ProviderMetadataCache providerMetadataCache() {
+        return ((ProvidersImpl) providers()).metadataCache();
+    }
+
+    /**
+     * @return the in-memory inventory of the resources of the subscription, empty until loaded
+     */
+    public ResourceInventory resourceInventory() {
+        ResourceInventory result = resourceInventory;
+        if (result == null) {
+            synchronized (this) {
+                result = resourceInventory;
+                if (result == null) {
+                    result = new ResourceInventoryImpl(resourceManagementClient);
+                    resourceInventory = result;
+                }
+            }
         }
-        return providers;
+        return result;
     }
 
     /**
      * @return the policy definition management API entry point
      */
     public PolicyDefinitions policyDefinitions() {
-        if (policyDefinitions == null) {
-            policyDefinitions = new PolicyDefinitionsImpl(policyClient.policyDefinitions());
+        PolicyDefinitions result = policyDefinitions;
+        if (result == null) {
+            synchronized (this) {
+                result = policyDefinitions;
+                if (result == null) {
+                    result = new PolicyDefinitionsImpl(policyClient.policyDefinitions());
+                    policyDefinitions = result;
+                }
+            }
         }
-        return policyDefinitions;
+        return result;
     }
 
     /**
      * @return the policy assignment management API entry point
      */
     public PolicyAssignments policyAssignments() {
-        if (policyAssignments == null) {
-            policyAssignments = new PolicyAssignmentsImpl(policyClient.policyAssignments());
+        PolicyAssignments result = policyAssignments;
+        if (result == null) {
+            synchronized (this) {
+                result = policyAssignments;
+                if (result == null) {
+                    result = new PolicyAssignmentsImpl(policyClient.policyAssignments());
+                    policyAssignments = result;
+                }
+            }
         }
-        return policyAssignments;
+        return result;
     }
 
     @Override
@@ -112,26 +112,40 @@ public class SubscriptionClientImpl extends AzureServiceClient {
     /**
      * The SubscriptionsInner object to access its operations.
      */
-    private SubscriptionsInner subscriptions;
+    private volatile SubscriptionsInner subscriptions;
 
     /**
      * Gets the SubscriptionsInner object to access its operations.
      * @return the SubscriptionsInner object.
      */
     public SubscriptionsInner subscriptions() {
+        if (this.subscriptions == null) {
+            synchronized (this) {
+                if (this.subscriptions == null) {
+                    this.subscriptions = new SubscriptionsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.subscriptions;
     }
 
     /**
      * The TenantsInner object to access its operations.
      */
-    private TenantsInner tenants;
+    private volatile TenantsInner tenants;
 
     /**
      * Gets the TenantsInner object to access its operations.
      * @return the TenantsInner object.
      */
     public TenantsInner tenants() {
+        if (this.tenants == null) {
+            synchronized (this) {
+                if (this.tenants == null) {
+                    this.tenants = new TenantsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.tenants;
     }
 
@@ -170,8 +184,6 @@ public class SubscriptionClientImpl extends AzureServiceClient {
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.subscriptions = new SubscriptionsInner(restClient().retrofit(), this);
-        this.tenants = new TenantsInner(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
     }
 
@@ -0,0 +1,192 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources;
+
+import com.microsoft.azure.management.resources.fluentcore.arm.collection.implementation.CreatableResourcesImpl;
+import com.microsoft.azure.management.resources.fluentcore.model.BatchCreationResult;
+import com.microsoft.azure.management.resources.fluentcore.model.Creatable;
+import com.microsoft.azure.management.resources.fluentcore.model.Indexable;
+import com.microsoft.azure.management.resources.fluentcore.model.implementation.CreatableUpdatableImpl;
+import org.junit.Assert;
+import org.junit.Test;
+import rx.Completable;
+import rx.Observable;
+import rx.functions.Action0;
+import rx.functions.Func0;
+import rx.functions.Func1;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BatchCreationTests {
+    @Test
+    public void canIsolateFailuresAndCreateSharedDependencyOnce() {
+        final Counters counters = new Counters();
+        ItemImpl network = new ItemImpl("network", false, counters);
+        ItemImpl badNetwork = new ItemImpl("badNetwork", true, counters);
+        List<Creatable<Item>> creatables = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            ItemImpl item = new ItemImpl("item" + i, i % 7 == 3, counters);
+            item.withDependency(i % 5 == 0 ? badNetwork : network);
+            creatables.add(item);
+        }
+
+        List<BatchCreationResult<Item>> results = new Items().createWindowed(creatables, 3);
+
+        Assert.assertEquals(20, results.size());
+        Map<String, BatchCreationResult<Item>> resultsByKey = new HashMap<>();
+        for (BatchCreationResult<Item> result : results) {
+            resultsByKey.put(result.key(), result);
+        }
+        for (int i = 0; i < 20; i++) {
+            BatchCreationResult<Item> result = resultsByKey.get("item" + i);
+            if (i % 5 == 0) {
+                Assert.assertFalse(result.isCreated());
+                Assert.assertNull(result.resource());
+                Assert.assertNotNull(result.error());
+                Assert.assertEquals("badNetwork failed", result.error().getCause().getMessage());
+            } else if (i % 7 == 3) {
+                Assert.assertFalse(result.isCreated());
+                Assert.assertNull(result.resource());
+                Assert.assertEquals("item" + i + " failed", result.error().getMessage());
+            } else {
+                Assert.assertTrue(result.isCreated());
+                Assert.assertEquals("item" + i, result.resource().key());
+            }
+        }
+        Assert.assertEquals(1, counters.creations.get("network").get());
+        Assert.assertEquals(1, counters.creations.get("badNetwork").get());
+        Assert.assertTrue(counters.maxInFlight.get() <= 3);
+    }
+
+    @Test
+    public void canStreamResultsAsCreated() {
+        final Counters counters = new Counters();
+        List<Creatable<Item>> creatables = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            creatables.add(new ItemImpl("item" + i, false, counters));
+        }
+
+        Iterable<BatchCreationResult<Item>> results = new Items().createWindowedAsync(creatables, 2)
+                .toBlocking()
+                .toIterable();
+
+        int count = 0;
+        for (BatchCreationResult<Item> result : results) {
+            Assert.assertTrue(result.isCreated());
+            count++;
+        }
+        Assert.assertEquals(5, count);
+        Assert.assertTrue(counters.maxInFlight.get() <= 2);
+    }
+
+    /**
+     * The creation counters shared by the items of a test.
+     */
+    private static class Counters {
+        final Map<String, AtomicInteger> creations = new HashMap<>();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+
+        synchronized AtomicInteger creations(String name) {
+            if (!creations.containsKey(name)) {
+                creations.put(name, new AtomicInteger());
+            }
+            return creations.get(name);
+        }
+    }
+
+    /**
+     * A creatable item.
+     */
+    interface Item extends Indexable, Creatable<Item> {
+    }
+
+    /**
+     * An item taking a few milliseconds to be created, optionally failing.
+     */
+    private static class ItemImpl extends CreatableUpdatableImpl<Item, Object, ItemImpl> implements Item {
+        private final boolean fails;
+        private final Counters counters;
+
+        ItemImpl(String name, boolean fails, Counters counters) {
+            super(name, name, new Object());
+            this.fails = fails;
+            this.counters = counters;
+        }
+
+        ItemImpl withDependency(Creatable<Item> dependency) {
+            this.addDependency(dependency);
+            return this;
+        }
+
+        @Override
+        public Observable<Item> createResourceAsync() {
+            final ItemImpl self = this;
+            return Observable.defer(new Func0<Observable<Item>>() {
+                @Override
+                public Observable<Item> call() {
+                    counters.creations(name()).incrementAndGet();
+                    int inFlight = counters.inFlight.incrementAndGet();
+                    int max = counters.maxInFlight.get();
+                    while (inFlight > max && !counters.maxInFlight.compareAndSet(max, inFlight)) {
+                        max = counters.maxInFlight.get();
+                    }
+                    return Observable.timer(10, TimeUnit.MILLISECONDS)
+                            .flatMap(new Func1<Long, Observable<Item>>() {
+                                @Override
+                                public Observable<Item> call(Long ignored) {
+                                    return fails
+                                            ? Observable.<Item>error(new IllegalStateException(name() + " failed"))
+                                            : Observable.<Item>just(self);
+                                }
+                            })
+                            .doOnTerminate(new Action0() {
+                                @Override
+                                public void call() {
+                                    counters.inFlight.decrementAndGet();
+                                }
+                            });
+                }
+            });
+        }
+
+        @Override
+        public boolean isInCreateMode() {
+            return true;
+        }
+
+        @Override
+        protected Observable<Object> getInnerAsync() {
+            return Observable.just(this.inner());
+        }
+    }
+
+    /**
+     * A collection of items.
+     */
+    private static class Items extends CreatableResourcesImpl<Item, ItemImpl, Object> {
+        @Override
+        protected ItemImpl wrapModel(String name) {
+            return new ItemImpl(name, false, new Counters());
+        }
+
+        @Override
+        protected ItemImpl wrapModel(Object inner) {
+            return null;
+        }
+
+        @Override
+        public Completable deleteByIdAsync(String id) {
+            return Completable.complete();
+        }
+    }
+}
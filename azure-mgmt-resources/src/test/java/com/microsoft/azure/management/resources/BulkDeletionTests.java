@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources;
+
+import com.microsoft.azure.CloudException;
+import com.microsoft.azure.management.resources.fluentcore.arm.collection.BulkDeletionResult;
+import com.microsoft.azure.management.resources.fluentcore.arm.collection.implementation.BulkDeletion;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import org.junit.Assert;
+import org.junit.Test;
+import rx.Completable;
+import rx.functions.Func1;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BulkDeletionTests {
+    private static final String GROUP_ID = "/subscriptions/0000/resourceGroups/rg1/providers/";
+
+    @Test
+    public void canDeleteInDependencyOrder() {
+        final List<String> deleted = new CopyOnWriteArrayList<>();
+        List<BulkDeletionResult> results = new BulkDeletion(new Func1<String, Completable>() {
+            @Override
+            public Completable call(String id) {
+                deleted.add(id.substring(id.lastIndexOf('/') + 1));
+                return Completable.complete();
+            }
+        }).withMaxConcurrency(2).delete(Arrays.asList(
+                GROUP_ID + "Microsoft.Network/virtualNetworks/vnet1",
+                GROUP_ID + "Microsoft.Network/publicIPAddresses/pip1",
+                GROUP_ID + "Microsoft.Network/networkInterfaces/nic1",
+                GROUP_ID + "Microsoft.Compute/virtualMachines/vm1",
+                GROUP_ID + "Microsoft.Compute/virtualMachines/vm1"));
+
+        Assert.assertEquals(Arrays.asList("vm1", "nic1", "pip1", "vnet1"), deleted);
+        Assert.assertEquals(4, results.size());
+        for (BulkDeletionResult result : results) {
+            Assert.assertTrue(result.isDeleted());
+            Assert.assertEquals(1, result.attempts());
+        }
+    }
+
+    @Test
+    public void canRetryTransientErrors() {
+        final ConcurrentMap<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+        final Map<String, Integer> failures = new HashMap<>();
+        failures.put("throttled", 429);
+        failures.put("gone", 404);
+        failures.put("forbidden", 403);
+        failures.put("busy", 409);
+        List<BulkDeletionResult> results = new BulkDeletion(new Func1<String, Completable>() {
+            @Override
+            public Completable call(String id) {
+                attempts.putIfAbsent(id, new AtomicInteger());
+                int attempt = attempts.get(id).incrementAndGet();
+                if ("throttled".equals(id) && attempt > 2) {
+                    return Completable.complete();
+                }
+                return Completable.error(new CloudException(id, response(failures.get(id))));
+            }
+        }).withRetries(3, 0).withoutDependencyOrdering().delete(failures.keySet());
+
+        Map<String, BulkDeletionResult> resultsById = new HashMap<>();
+        for (BulkDeletionResult result : results) {
+            resultsById.put(result.id(), result);
+        }
+        Assert.assertTrue(resultsById.get("throttled").isDeleted());
+        Assert.assertEquals(3, resultsById.get("throttled").attempts());
+        Assert.assertTrue(resultsById.get("gone").isDeleted());
+        Assert.assertFalse(resultsById.get("forbidden").isDeleted());
+        Assert.assertEquals(1, resultsById.get("forbidden").attempts());
+        Assert.assertFalse(resultsById.get("busy").isDeleted());
+        Assert.assertEquals(4, resultsById.get("busy").attempts());
+        Assert.assertTrue(resultsById.get("busy").error() instanceof CloudException);
+    }
+
+    @Test
+    public void canDeleteNothing() {
+        Assert.assertTrue(new BulkDeletion(new Func1<String, Completable>() {
+            @Override
+            public Completable call(String id) {
+                return Completable.error(new IllegalStateException());
+            }
+        }).delete(Collections.<String>emptyList()).isEmpty());
+    }
+
+    private static retrofit2.Response<ResponseBody> response(int code) {
+        return retrofit2.Response.error(ResponseBody.create(MediaType.parse("application/json"), ""),
+                new okhttp3.Response.Builder()
+                        .code(code)
+                        .message("")
+                        .protocol(Protocol.HTTP_1_1)
+                        .request(new Request.Builder().url("https://management.azure.com/").build())
+                        .build());
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources;
+
+import com.microsoft.azure.management.resources.implementation.BulkTagUpdate;
+import org.junit.Assert;
+import org.junit.Test;
+import rx.Completable;
+import rx.Observable;
+import rx.functions.Func2;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class BulkTagUpdateTests {
+    private static final String STORAGE_ACCOUNTS = "Microsoft.Storage/storageAccounts";
+    private static final String ID_PREFIX = StubResourcesServer.id("rg", STORAGE_ACCOUNTS, "");
+
+    @Test
+    public void canApplyTagMutations() {
+        Map<String, String> tags = new HashMap<>();
+        tags.put("Env", "test");
+        tags.put("owner", "dev");
+        tags.put("costCenter", "42");
+
+        Map<String, String> result = new TagMutations()
+                .withTag("env", "prod")
+                .withTagIfAbsent("owner", "ops")
+                .withTagIfAbsent("team", "storage")
+                .withoutTag("COSTCENTER")
+                .applyTo(tags);
+
+        Map<String, String> expected = new HashMap<>();
+        expected.put("env", "prod");
+        expected.put("owner", "dev");
+        expected.put("team", "storage");
+        Assert.assertEquals(expected, result);
+        Assert.assertEquals(3, tags.size());
+    }
+
+    @Test
+    public void canUpdateOnlyResourcesWithDifferentTags() {
+        ResourceInventory inventory = new StubResourcesServer()
+                .withResource("rg", STORAGE_ACCOUNTS, "sa1", "westus", "{\"costCenter\":\"42\"}")
+                .withResource("rg", STORAGE_ACCOUNTS, "sa2", "westus", "{\"costCenter\":\"7\"}")
+                .withResource("rg", STORAGE_ACCOUNTS, "sa3", "westus", null)
+                .withResource("rg", STORAGE_ACCOUNTS, "sa4", "westus", "{\"costCenter\":\"1\"}")
+                .manager()
+                .resourceInventory()
+                .load();
+        final Map<String, Map<String, String>> updates = new ConcurrentHashMap<>();
+
+        List<TagMutationResult> results = new BulkTagUpdate(new TagMutations().withTag("costCenter", "42"),
+                new Func2<ResourceInventory.Item, Map<String, String>, Completable>() {
+                    @Override
+                    public Completable call(ResourceInventory.Item resource, Map<String, String> tags) {
+                        if (resource.name().equals("sa4")) {
+                            return Completable.error(new IllegalStateException("update failed"));
+                        }
+                        updates.put(resource.name(), tags);
+                        return Completable.complete();
+                    }
+                })
+                .withMaxConcurrency(2)
+                .updateAsync(Observable.from(inventory.filter().list()))
+                .toList().toBlocking().single();
+
+        Assert.assertEquals(4, results.size());
+        Assert.assertEquals(2, updates.size());
+        Assert.assertEquals("42", updates.get("sa2").get("costCenter"));
+        Assert.assertEquals("42", updates.get("sa3").get("costCenter"));
+        for (TagMutationResult result : results) {
+            String name = result.id().substring(ID_PREFIX.length());
+            if (name.equals("sa1")) {
+                Assert.assertTrue(result.isUnchanged());
+            } else if (name.equals("sa4")) {
+                Assert.assertFalse(result.isUpdated());
+                Assert.assertFalse(result.isUnchanged());
+                Assert.assertEquals("update failed", result.error().getMessage());
+                Assert.assertEquals("1", result.tags().get("costCenter"));
+            } else {
+                Assert.assertTrue(result.isUpdated());
+                Assert.assertNull(result.error());
+                Assert.assertEquals("42", result.tags().get("costCenter"));
+            }
+        }
+    }
+}
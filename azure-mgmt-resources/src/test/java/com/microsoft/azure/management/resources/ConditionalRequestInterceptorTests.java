@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources;
+
+import com.microsoft.azure.AzureResponseBuilder;
+import com.microsoft.azure.management.resources.fluentcore.utils.ConditionalRequestInterceptor;
+import com.microsoft.azure.management.resources.implementation.ResourceGroupInner;
+import com.microsoft.azure.management.resources.implementation.ResourceManagementClientImpl;
+import com.microsoft.azure.serializer.AzureJacksonAdapter;
+import com.microsoft.rest.RestClient;
+import com.microsoft.rest.RestException;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import org.junit.Assert;
+import org.junit.Test;
+import rx.Observable;
+import rx.observers.TestSubscriber;
+import rx.schedulers.Schedulers;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class ConditionalRequestInterceptorTests {
+    @Test
+    public void canGetEtagOfInnerModel() {
+        Assert.assertEquals("\"0001\"", ConditionalRequestInterceptor.etagOf(new EtagInner("\"0001\"")));
+        Assert.assertNull(ConditionalRequestInterceptor.etagOf(new EtagInner(null)));
+        Assert.assertNull(ConditionalRequestInterceptor.etagOf(new ResourceGroupInner()));
+        Assert.assertNull(ConditionalRequestInterceptor.etagOf(null));
+    }
+
+    @Test
+    public void canDetectNotModifiedResponse() {
+        Assert.assertTrue(ConditionalRequestInterceptor.isNotModified(new RestException("not modified", response(304))));
+        Assert.assertFalse(ConditionalRequestInterceptor.isNotModified(new RestException("not found", response(404))));
+        Assert.assertFalse(ConditionalRequestInterceptor.isNotModified(new IllegalStateException()));
+    }
+
+    @Test
+    public void canSendEtagAsRequestHeader() {
+        final String id = "/subscriptions/sub/resourceGroups/rg";
+        final List<String> sentEtags = new CopyOnWriteArrayList<>();
+        ConditionalRequestInterceptor interceptor = new ConditionalRequestInterceptor();
+        ResourceManagementClientImpl client = new ResourceManagementClientImpl(new RestClient.Builder()
+                .withBaseUrl("https://management.azure.com/")
+                .withSerializerAdapter(new AzureJacksonAdapter())
+                .withResponseBuilderFactory(new AzureResponseBuilder.Factory())
+                .withInterceptor(interceptor)
+                .withInterceptor(new Interceptor() {
+                    @Override
+                    public okhttp3.Response intercept(Chain chain) throws IOException {
+                        String etag = chain.request().header("If-None-Match");
+                        sentEtags.add(etag);
+                        boolean notModified = "\"0001\"".equals(etag);
+                        return new okhttp3.Response.Builder()
+                                .request(chain.request())
+                                .protocol(Protocol.HTTP_1_1)
+                                .code(notModified ? 304 : 200)
+                                .message("")
+                                .body(ResponseBody.create(MediaType.parse("application/json"),
+                                        notModified ? "" : "{\"id\":\"" + id + "\",\"name\":\"rg\",\"location\":\"westus\"}"))
+                                .build();
+                    }
+                })
+                .build());
+
+        // The etag is carried by the request, whatever the thread the request runs on
+        Observable<ResourceGroupInner> unchanged = ConditionalRequestInterceptor.getIfNoneMatchAsync(client, id,
+                "2018-05-01", "\"0001\"", ResourceGroupInner.class);
+        TestSubscriber<ResourceGroupInner> subscriber = new TestSubscriber<>();
+        unchanged.subscribeOn(Schedulers.io()).subscribe(subscriber);
+        subscriber.awaitTerminalEvent();
+        Assert.assertEquals(1, subscriber.getOnErrorEvents().size());
+        Assert.assertTrue(ConditionalRequestInterceptor.isNotModified(subscriber.getOnErrorEvents().get(0)));
+
+        ResourceGroupInner changed = ConditionalRequestInterceptor.<ResourceGroupInner>getIfNoneMatchAsync(client, id,
+                "2018-05-01", "\"0000\"", ResourceGroupInner.class).toBlocking().single();
+        Assert.assertEquals("westus", changed.location());
+
+        Assert.assertEquals(2, sentEtags.size());
+        Assert.assertEquals("\"0001\"", sentEtags.get(0));
+        Assert.assertEquals("\"0000\"", sentEtags.get(1));
+        Assert.assertEquals(1, interceptor.hitCount());
+        Assert.assertEquals(1, interceptor.missCount());
+        interceptor.resetCounts();
+        Assert.assertEquals(0, interceptor.hitCount());
+    }
+
+    private static retrofit2.Response<ResponseBody> response(int code) {
+        return retrofit2.Response.error(ResponseBody.create(MediaType.parse("application/json"), ""),
+                new okhttp3.Response.Builder()
+                        .code(code)
+                        .message("")
+                        .protocol(Protocol.HTTP_1_1)
+                        .request(new Request.Builder().url("https://management.azure.com/").build())
+                        .build());
+    }
+
+    public static class EtagInner {
+        private final String etag;
+
+        EtagInner(String etag) {
+            this.etag = etag;
+        }
+
+        public String etag() {
+            return etag;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources;
+
+import com.microsoft.azure.management.resources.fluentcore.utils.DelayProvider;
+import com.microsoft.azure.management.resources.fluentcore.utils.SdkContext;
+import org.junit.Assert;
+import org.junit.Test;
+import rx.Scheduler;
+import rx.functions.Func1;
+import rx.schedulers.Schedulers;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+public class DelayProviderTests {
+    @Test
+    public void canDelayOnSdkScheduler() {
+        ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "sdk-scheduler");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        Scheduler previous = SdkContext.getRxScheduler();
+        SdkContext.setRxScheduler(Schedulers.from(executor));
+        try {
+            long start = System.nanoTime();
+            String thread = new DelayProvider().delayedEmitAsync("event", 200)
+                    .map(new Func1<String, String>() {
+                        @Override
+                        public String call(String event) {
+                            return Thread.currentThread().getName();
+                        }
+                    })
+                    .toBlocking().single();
+
+            Assert.assertEquals("sdk-scheduler", thread);
+            Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 200);
+        } finally {
+            SdkContext.setRxScheduler(previous);
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void canEmitWithoutDelayOnSubscribingThread() {
+        final String current = Thread.currentThread().getName();
+        String thread = new DelayProvider().delayedEmitAsync("event", 0)
+                .map(new Func1<String, String>() {
+                    @Override
+                    public String call(String event) {
+                        return Thread.currentThread().getName();
+                    }
+                })
+                .toBlocking().single();
+
+        Assert.assertEquals(current, thread);
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources;
+
+import com.microsoft.azure.management.resources.fluentcore.model.implementation.InnerChangeTracker;
+import com.microsoft.azure.management.resources.implementation.GenericResourceInner;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+public class InnerChangeTrackerTests {
+    @Test
+    public void canDetectNoChanges() {
+        GenericResourceInner inner = resource();
+        InnerChangeTracker<GenericResourceInner> tracker = new InnerChangeTracker<>(inner);
+
+        inner.withKind("storage");
+        inner.getTags().put("env", "test");
+
+        Assert.assertTrue(tracker.changedProperties(inner).isEmpty());
+    }
+
+    @Test
+    public void canDetectChangedProperties() {
+        GenericResourceInner inner = resource();
+        InnerChangeTracker<GenericResourceInner> tracker = new InnerChangeTracker<>(inner);
+
+        inner.getTags().put("owner", "ops");
+        inner.withManagedBy("/subscriptions/sub/resourceGroups/rg");
+        @SuppressWarnings("unchecked")
+        Map<String, Object> properties = (Map<String, Object>) inner.properties();
+        properties.put("httpsOnly", true);
+        properties.remove("accessTier");
+
+        Assert.assertEquals(new HashSet<>(Arrays.asList("tags", "managedBy", "properties.httpsOnly", "properties.accessTier")),
+                tracker.changedProperties(inner));
+    }
+
+    @Test
+    public void canRetainChangedProperties() {
+        GenericResourceInner inner = resource();
+        Set<String> changed = new HashSet<>(Arrays.asList("tags", "properties.httpsOnly"));
+
+        GenericResourceInner payload = InnerChangeTracker.retainProperties(inner, changed);
+
+        Assert.assertNotSame(inner, payload);
+        Assert.assertEquals("test", payload.getTags().get("env"));
+        Assert.assertNull(payload.kind());
+        Assert.assertNull(payload.location());
+        @SuppressWarnings("unchecked")
+        Map<String, Object> properties = (Map<String, Object>) payload.properties();
+        Assert.assertEquals(1, properties.size());
+        Assert.assertEquals(false, properties.get("httpsOnly"));
+    }
+
+    private static GenericResourceInner resource() {
+        Map<String, String> tags = new HashMap<>();
+        tags.put("env", "test");
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("httpsOnly", false);
+        properties.put("accessTier", "Hot");
+        GenericResourceInner inner = new GenericResourceInner()
+                .withKind("storage")
+                .withProperties(properties);
+        inner.withLocation("westus");
+        inner.withTags(tags);
+        return inner;
+    }
+}
@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources;
+
+import com.microsoft.azure.management.resources.fluentcore.utils.LatencyHistogram;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class LatencyHistogramTests {
+    @Test
+    public void canComputePercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i, TimeUnit.MILLISECONDS);
+        }
+
+        Assert.assertEquals(1000, histogram.count());
+        Assert.assertEquals(500500, histogram.meanInMicros(), 0.1);
+        Assert.assertEquals(1000000, histogram.maxInMicros());
+        Assert.assertEquals(500000, histogram.percentileInMicros(50), 500000 * 0.04);
+        Assert.assertEquals(990000, histogram.percentileInMicros(99), 990000 * 0.04);
+        Assert.assertEquals(1000000, histogram.percentileInMicros(100));
+    }
+
+    @Test
+    public void canRecordSmallLatenciesExactly() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(10, TimeUnit.MICROSECONDS);
+        histogram.record(20, TimeUnit.MICROSECONDS);
+
+        Assert.assertEquals(10, histogram.percentileInMicros(50));
+        Assert.assertEquals(20, histogram.percentileInMicros(100));
+
+        histogram.reset();
+        Assert.assertEquals(0, histogram.count());
+        Assert.assertEquals(0, histogram.percentileInMicros(50));
+    }
+}
@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources;
+
+import com.microsoft.azure.management.resources.fluentcore.utils.LongRunningOperationPoller;
+import com.microsoft.rest.ServiceResponse;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import org.junit.Assert;
+import org.junit.Test;
+import rx.Observable;
+import rx.functions.Action0;
+import rx.functions.Func0;
+import rx.functions.Func1;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LongRunningOperationPollerTests {
+    @Test
+    public void canPollManyOperationsWithBoundedConcurrency() {
+        LongRunningOperationPoller poller = new LongRunningOperationPoller(3).withIntervalBounds(1, 10);
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        List<Observable<Integer>> operations = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            final AtomicInteger polls = new AtomicInteger();
+            operations.add(poller.pollUntilAsync("test/operation", new Func0<Observable<Integer>>() {
+                @Override
+                public Observable<Integer> call() {
+                    int current = inFlight.incrementAndGet();
+                    int max = maxInFlight.get();
+                    while (current > max && !maxInFlight.compareAndSet(max, current)) {
+                        max = maxInFlight.get();
+                    }
+                    return Observable.timer(2, TimeUnit.MILLISECONDS)
+                            .map(new Func1<Long, Integer>() {
+                                @Override
+                                public Integer call(Long ignored) {
+                                    return polls.incrementAndGet();
+                                }
+                            })
+                            .doOnTerminate(new Action0() {
+                                @Override
+                                public void call() {
+                                    inFlight.decrementAndGet();
+                                }
+                            });
+                }
+            }, atLeast(3)));
+        }
+
+        List<Integer> results = Observable.merge(operations).toList().toBlocking().single();
+
+        Assert.assertEquals(20, results.size());
+        for (int result : results) {
+            Assert.assertEquals(3, result);
+        }
+        Assert.assertTrue(maxInFlight.get() <= 3);
+        Assert.assertEquals(0, poller.pendingCount());
+        Assert.assertEquals(0, poller.pollsInFlight());
+        Assert.assertTrue(poller.expectedDurationInMillis("test/operation") > 0);
+    }
+
+    @Test
+    public void canHonorRetryAfter() {
+        LongRunningOperationPoller poller = new LongRunningOperationPoller(1).withIntervalBounds(1, 5);
+        final AtomicInteger polls = new AtomicInteger();
+        long start = System.currentTimeMillis();
+        poller.pollUntilAsync("test/retryAfter", new Func0<Observable<ServiceResponse<Integer>>>() {
+            @Override
+            public Observable<ServiceResponse<Integer>> call() {
+                int poll = polls.incrementAndGet();
+                return Observable.just(new ServiceResponse<>(poll, retrofit2.Response.success(poll,
+                        new okhttp3.Response.Builder()
+                                .code(202)
+                                .message("")
+                                .header("Retry-After", "1")
+                                .protocol(Protocol.HTTP_1_1)
+                                .request(new Request.Builder().url("https://management.azure.com/").build())
+                                .build())));
+            }
+        }, new Func1<ServiceResponse<Integer>, Boolean>() {
+            @Override
+            public Boolean call(ServiceResponse<Integer> response) {
+                return response.body() >= 2;
+            }
+        }).toBlocking().single();
+
+        Assert.assertEquals(2, polls.get());
+        Assert.assertTrue(System.currentTimeMillis() - start >= 1000);
+    }
+
+    @Test
+    public void canReportPollFailure() {
+        try {
+            new LongRunningOperationPoller(1).withIntervalBounds(1, 5)
+                    .pollUntilAsync("test/failure", new Func0<Observable<Integer>>() {
+                        @Override
+                        public Observable<Integer> call() {
+                            return Observable.error(new IllegalStateException("poll failed"));
+                        }
+                    }, atLeast(1))
+                    .toBlocking().single();
+            Assert.fail("Expected exception is not thrown");
+        } catch (IllegalStateException e) {
+            Assert.assertEquals("poll failed", e.getMessage());
+        }
+    }
+
+    @Test
+    public void canTimeOutPolling() {
+        LongRunningOperationPoller poller = new LongRunningOperationPoller(1)
+                .withIntervalBounds(1, 5)
+                .withTimeout(50, TimeUnit.MILLISECONDS);
+        final AtomicInteger polls = new AtomicInteger();
+        try {
+            poller.pollUntilAsync("test/timeout", new Func0<Observable<Integer>>() {
+                @Override
+                public Observable<Integer> call() {
+                    return Observable.just(polls.incrementAndGet());
+                }
+            }, atLeast(Integer.MAX_VALUE)).toBlocking().single();
+            Assert.fail("Expected exception is not thrown");
+        } catch (RuntimeException e) {
+            Assert.assertTrue(e.getCause() instanceof TimeoutException);
+        }
+        Assert.assertTrue(polls.get() > 1);
+        Assert.assertEquals(0, poller.pendingCount());
+        Assert.assertEquals(0, poller.pollsInFlight());
+    }
+
+    @Test
+    public void canSpreadPollsWithJitter() {
+        LongRunningOperationPoller poller = new LongRunningOperationPoller(20)
+                .withIntervalBounds(100, 100)
+                .withJitter(1);
+        final List<Long> pollTimes = Collections.synchronizedList(new ArrayList<Long>());
+        List<Observable<Integer>> operations = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            operations.add(poller.pollUntilAsync("test/jitter", new Func0<Observable<Integer>>() {
+                @Override
+                public Observable<Integer> call() {
+                    pollTimes.add(System.currentTimeMillis());
+                    return Observable.just(1);
+                }
+            }, atLeast(1)));
+        }
+
+        Observable.merge(operations).toList().toBlocking().single();
+
+        Assert.assertEquals(20, pollTimes.size());
+        Assert.assertTrue(Collections.max(pollTimes) - Collections.min(pollTimes) >= 20);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotSetJitterAboveOne() {
+        new LongRunningOperationPoller(1).withJitter(1.5);
+    }
+
+    private static Func1<Integer, Boolean> atLeast(final int count) {
+        return new Func1<Integer, Boolean>() {
+            @Override
+            public Boolean call(Integer value) {
+                return value >= count;
+            }
+        };
+    }
+}
@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources;
+
+import com.microsoft.azure.Page;
+import com.microsoft.azure.PagedList;
+import com.microsoft.azure.management.resources.fluentcore.arm.collection.implementation.ReadableWrappersImpl;
+import com.microsoft.azure.management.resources.fluentcore.utils.PagedListConverter;
+import com.microsoft.azure.management.resources.fluentcore.utils.SdkContext;
+import com.microsoft.azure.management.resources.implementation.PageImpl;
+import org.junit.Assert;
+import org.junit.Test;
+import rx.Observable;
+import rx.Scheduler;
+import rx.functions.Func1;
+import rx.observers.TestSubscriber;
+import rx.schedulers.Schedulers;
+import rx.schedulers.TestScheduler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PagedListConverterTests {
+    private static final int PAGE_COUNT = 6;
+
+    @Test
+    public void canConvertPagesOnDemand() {
+        List<String> requestedLinks = Collections.synchronizedList(new ArrayList<String>());
+        PagedList<String> source = sourceList(requestedLinks, -1);
+        requestedLinks.clear();
+        PagedList<String> converted = converter().withPrefetchDepth(0).convert(source);
+
+        assertAllItems(converted);
+        Assert.assertEquals(Arrays.asList("1", "2", "3", "4", "5"), requestedLinks);
+    }
+
+    @Test
+    public void canPrefetchPagesWithSynchronousScheduler() {
+        Scheduler previous = SdkContext.getRxScheduler();
+        SdkContext.setRxScheduler(Schedulers.immediate());
+        try {
+            List<String> requestedLinks = Collections.synchronizedList(new ArrayList<String>());
+            PagedList<String> source = sourceList(requestedLinks, -1);
+            requestedLinks.clear();
+            PagedList<String> converted = converter().withPrefetchDepth(2).convert(source);
+
+            // The pages following the first one are fetched without iterating, bounded by the depth on top
+            // of the one page the paged list itself may cache, even though the scheduler fetches them inline
+            Assert.assertTrue(requestedLinks.contains("2"));
+            Assert.assertFalse(requestedLinks.contains("4"));
+
+            assertAllItems(converted);
+            Assert.assertEquals(Arrays.asList("1", "2", "3", "4", "5"), requestedLinks);
+        } finally {
+            SdkContext.setRxScheduler(previous);
+        }
+    }
+
+    @Test
+    public void canReportPrefetchFailureOnConsumption() {
+        Scheduler previous = SdkContext.getRxScheduler();
+        SdkContext.setRxScheduler(Schedulers.immediate());
+        try {
+            List<String> requestedLinks = Collections.synchronizedList(new ArrayList<String>());
+            PagedList<String> converted = converter().withPrefetchDepth(3).convert(sourceList(requestedLinks, 3));
+
+            int count = 0;
+            try {
+                for (String ignored : converted) {
+                    count++;
+                }
+                Assert.fail("Expected exception is not thrown");
+            } catch (IllegalStateException e) {
+                Assert.assertEquals("page 3", e.getMessage());
+            }
+            // The items of the pages before the failed one are returned
+            Assert.assertTrue(count >= 6 && count <= 9);
+        } finally {
+            SdkContext.setRxScheduler(previous);
+        }
+    }
+
+    @Test
+    public void canPrefetchObservablePages() {
+        TestScheduler scheduler = new TestScheduler();
+        final AtomicInteger fetchedPages = new AtomicInteger();
+        final TestSubscriber<Page<String>> subscriber = new TestSubscriber<>(0);
+        final AtomicInteger maxPagesAhead = new AtomicInteger();
+        Observable<Page<String>> pages = Observable.range(0, PAGE_COUNT)
+                .map(new Func1<Integer, Page<String>>() {
+                    @Override
+                    public Page<String> call(Integer index) {
+                        int ahead = fetchedPages.incrementAndGet() - subscriber.getOnNextEvents().size();
+                        maxPagesAhead.set(Math.max(maxPagesAhead.get(), ahead));
+                        return page(index);
+                    }
+                });
+
+        ReadableWrappersImpl.prefetchPagesAsync(pages, 2, scheduler).subscribe(subscriber);
+
+        // The pages are fetched ahead of the consumer, bounded by the depth
+        Assert.assertEquals(2, fetchedPages.get());
+        subscriber.assertNoValues();
+
+        subscriber.requestMore(1);
+        scheduler.triggerActions();
+        subscriber.assertValueCount(1);
+
+        subscriber.requestMore(Long.MAX_VALUE);
+        scheduler.triggerActions();
+        subscriber.assertValueCount(PAGE_COUNT);
+        subscriber.assertCompleted();
+        Assert.assertTrue(maxPagesAhead.get() <= 2);
+    }
+
+    @Test
+    public void canSkipPrefetchingObservablePages() {
+        Observable<Page<String>> pages = Observable.just(page(0));
+        Assert.assertSame(pages, ReadableWrappersImpl.prefetchPagesAsync(pages, 0));
+    }
+
+    private static PagedListConverter<String, String> converter() {
+        return new PagedListConverter<String, String>() {
+            @Override
+            public Observable<String> typeConvertAsync(String s) {
+                return Observable.just(s.toUpperCase());
+            }
+        };
+    }
+
+    private static void assertAllItems(PagedList<String> converted) {
+        List<String> items = new ArrayList<>();
+        for (String item : converted) {
+            items.add(item);
+        }
+        Assert.assertEquals(PAGE_COUNT * 3, items.size());
+        for (int i = 0; i < items.size(); i++) {
+            Assert.assertEquals("ITEM" + (i / 3) + "-" + (i % 3), items.get(i));
+        }
+    }
+
+    private static PagedList<String> sourceList(final List<String> requestedLinks, final int failingPage) {
+        return new PagedList<String>(page(0)) {
+            @Override
+            public Page<String> nextPage(String nextPageLink) {
+                requestedLinks.add(nextPageLink);
+                int index = Integer.parseInt(nextPageLink);
+                if (index == failingPage) {
+                    throw new IllegalStateException("page " + index);
+                }
+                return page(index);
+            }
+        };
+    }
+
+    private static Page<String> page(int index) {
+        PageImpl<String> page = new PageImpl<>();
+        page.setItems(Arrays.asList("item" + index + "-0", "item" + index + "-1", "item" + index + "-2"));
+        page.setNextPageLink(index + 1 < PAGE_COUNT ? String.valueOf(index + 1) : null);
+        return page;
+    }
+}
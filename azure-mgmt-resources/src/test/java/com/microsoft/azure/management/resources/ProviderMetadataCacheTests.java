@@ -0,0 +1,192 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources;
+
+import com.microsoft.azure.PagedList;
+import com.microsoft.azure.management.resources.implementation.ProviderInner;
+import com.microsoft.azure.management.resources.implementation.ProviderMetadataCache;
+import com.microsoft.rest.ServiceCallback;
+import com.microsoft.rest.ServiceFuture;
+import org.junit.Assert;
+import org.junit.Test;
+import rx.Observable;
+import rx.functions.Func0;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ProviderMetadataCacheTests {
+    @Test
+    public void canLoadProviderOnce() {
+        FakeProviders providers = new FakeProviders();
+        ProviderMetadataCache cache = new ProviderMetadataCache(providers);
+
+        Observable<Provider> first = cache.getByNameAsync("Microsoft.Storage");
+        Observable<Provider> second = cache.getByNameAsync("microsoft.storage");
+        Assert.assertSame(first, second);
+        Assert.assertEquals("Microsoft.Storage", first.toBlocking().single().namespace());
+        Assert.assertEquals("Microsoft.Storage", second.toBlocking().single().namespace());
+        Assert.assertEquals(1, providers.getCount.get());
+    }
+
+    @Test
+    public void canInvalidateProviders() {
+        FakeProviders providers = new FakeProviders();
+        ProviderMetadataCache cache = new ProviderMetadataCache(providers);
+
+        cache.getByNameAsync("Microsoft.Storage").toBlocking().single();
+        cache.invalidate("MICROSOFT.STORAGE");
+        cache.getByNameAsync("Microsoft.Storage").toBlocking().single();
+        Assert.assertEquals(2, providers.getCount.get());
+
+        cache.invalidateAll();
+        cache.getByNameAsync("Microsoft.Storage").toBlocking().single();
+        Assert.assertEquals(3, providers.getCount.get());
+    }
+
+    @Test
+    public void canExpireProviders() {
+        FakeProviders providers = new FakeProviders();
+        ProviderMetadataCache cache = new ProviderMetadataCache(providers).withTimeToLive(0, TimeUnit.SECONDS);
+
+        cache.getByNameAsync("Microsoft.Storage").toBlocking().single();
+        cache.getByNameAsync("Microsoft.Storage").toBlocking().single();
+        Assert.assertEquals(2, providers.getCount.get());
+    }
+
+    @Test
+    public void canWarmUpWithSingleListRequest() {
+        FakeProviders providers = new FakeProviders();
+        ProviderMetadataCache cache = new ProviderMetadataCache(providers);
+
+        cache.warmUp();
+        Assert.assertEquals("Microsoft.Compute", cache.getByNameAsync("Microsoft.Compute").toBlocking().single().namespace());
+        Assert.assertEquals("Microsoft.Network", cache.getByNameAsync("Microsoft.Network").toBlocking().single().namespace());
+        Assert.assertEquals(1, providers.listCount.get());
+        Assert.assertEquals(0, providers.getCount.get());
+    }
+
+    @Test
+    public void canRetryAfterFailure() {
+        FakeProviders providers = new FakeProviders();
+        ProviderMetadataCache cache = new ProviderMetadataCache(providers);
+
+        providers.failing = true;
+        try {
+            cache.getByNameAsync("Microsoft.Storage").toBlocking().single();
+            Assert.fail("Expected exception is not thrown");
+        } catch (IllegalStateException e) {
+            Assert.assertEquals("Microsoft.Storage", e.getMessage());
+        }
+        providers.failing = false;
+        Assert.assertEquals("Microsoft.Storage", cache.getByNameAsync("Microsoft.Storage").toBlocking().single().namespace());
+        Assert.assertEquals(2, providers.getCount.get());
+    }
+
+    private static Provider provider(final String namespace) {
+        return new Provider() {
+            @Override
+            public String namespace() {
+                return namespace;
+            }
+
+            @Override
+            public String registrationState() {
+                return "Registered";
+            }
+
+            @Override
+            public List<ProviderResourceType> resourceTypes() {
+                return new ArrayList<>();
+            }
+
+            @Override
+            public ProviderInner inner() {
+                return new ProviderInner();
+            }
+
+            @Override
+            public String key() {
+                return namespace;
+            }
+        };
+    }
+
+    private static class FakeProviders implements Providers {
+        private final AtomicInteger getCount = new AtomicInteger();
+        private final AtomicInteger listCount = new AtomicInteger();
+        private volatile boolean failing;
+
+        @Override
+        public Observable<Provider> getByNameAsync(final String name) {
+            return Observable.defer(new Func0<Observable<Provider>>() {
+                @Override
+                public Observable<Provider> call() {
+                    getCount.incrementAndGet();
+                    if (failing) {
+                        return Observable.error(new IllegalStateException(name));
+                    }
+                    return Observable.just(provider(name));
+                }
+            });
+        }
+
+        @Override
+        public Observable<Provider> listAsync() {
+            return Observable.defer(new Func0<Observable<Provider>>() {
+                @Override
+                public Observable<Provider> call() {
+                    listCount.incrementAndGet();
+                    return Observable.from(Arrays.asList(provider("Microsoft.Compute"), provider("Microsoft.Network")));
+                }
+            });
+        }
+
+        @Override
+        public Provider getByName(String name) {
+            return getByNameAsync(name).toBlocking().single();
+        }
+
+        @Override
+        public PagedList<Provider> list() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Provider unregister(String resourceProviderNamespace) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Observable<Provider> unregisterAsync(String resourceProviderNamespace) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ServiceFuture<Provider> unregisterAsync(String resourceProviderNamespace, ServiceCallback<Provider> callback) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Provider register(String resourceProviderNamespace) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Observable<Provider> registerAsync(String resourceProviderNamespace) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ServiceFuture<Provider> registerAsync(String resourceProviderNamespace, ServiceCallback<Provider> callback) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources;
+
+import com.microsoft.azure.management.resources.fluentcore.utils.RequestCoalescingInterceptor;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RequestCoalescingInterceptorTests {
+    private static final String URL = "https://management.azure.com/subscriptions/sub1/resourceGroups/rg1";
+
+    @Test
+    public void canCoalesceConcurrentGets() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        RequestCoalescingInterceptor coalescing = new RequestCoalescingInterceptor();
+        // The first request is answered once all the requests were issued
+        final OkHttpClient client = client(coalescing, calls, new CountDownLatch(8), null);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(new Callable<String>() {
+                    @Override
+                    public String call() throws IOException {
+                        try (Response response = client.newCall(new Request.Builder().url(URL).build()).execute()) {
+                            return response.body().string();
+                        }
+                    }
+                }));
+            }
+            for (Future<String> result : results) {
+                Assert.assertEquals("{\"name\":\"rg1\"}", result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertEquals(8, calls.get() + coalescing.coalescedCount());
+        Assert.assertTrue(calls.get() < 8);
+    }
+
+    @Test
+    public void canSendNonGetsIndependently() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        RequestCoalescingInterceptor coalescing = new RequestCoalescingInterceptor();
+        OkHttpClient client = client(coalescing, calls, new CountDownLatch(0), null);
+
+        for (int i = 0; i < 3; i++) {
+            Request request = new Request.Builder().url(URL)
+                    .delete()
+                    .build();
+            client.newCall(request).execute().close();
+        }
+        Assert.assertEquals(3, calls.get());
+        Assert.assertEquals(0, coalescing.coalescedCount());
+    }
+
+    @Test
+    public void canReleaseWaitersWhenRequestFailsWithError() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        RequestCoalescingInterceptor coalescing = new RequestCoalescingInterceptor();
+        final OkHttpClient client = client(coalescing, calls, new CountDownLatch(4), new AssertionError("failed"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(new Callable<String>() {
+                    @Override
+                    public String call() throws IOException {
+                        try (Response response = client.newCall(new Request.Builder().url(URL).build()).execute()) {
+                            return response.body().string();
+                        }
+                    }
+                }));
+            }
+            for (Future<String> result : results) {
+                try {
+                    result.get(30, TimeUnit.SECONDS);
+                    Assert.fail();
+                } catch (ExecutionException e) {
+                    Assert.assertTrue(e.getCause() instanceof AssertionError || e.getCause() instanceof IOException);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertEquals(4, calls.get() + coalescing.coalescedCount());
+    }
+
+    private static OkHttpClient client(RequestCoalescingInterceptor coalescing,
+                                       final AtomicInteger calls,
+                                       final CountDownLatch issued,
+                                       final Error error) {
+        return new OkHttpClient.Builder()
+                .addInterceptor(new Interceptor() {
+                    @Override
+                    public Response intercept(Chain chain) throws IOException {
+                        issued.countDown();
+                        return chain.proceed(chain.request());
+                    }
+                })
+                .addInterceptor(coalescing)
+                .addInterceptor(new Interceptor() {
+                    @Override
+                    public Response intercept(Chain chain) throws IOException {
+                        calls.incrementAndGet();
+                        try {
+                            issued.await();
+                        } catch (InterruptedException e) {
+                            throw new IOException(e);
+                        }
+                        if (error != null) {
+                            throw error;
+                        }
+                        return new Response.Builder()
+                                .request(chain.request())
+                                .protocol(Protocol.HTTP_1_1)
+                                .code(200)
+                                .message("OK")
+                                .body(ResponseBody.create(MediaType.parse("application/json"), "{\"name\":\"rg1\"}"))
+                                .build();
+                    }
+                })
+                .build();
+    }
+}
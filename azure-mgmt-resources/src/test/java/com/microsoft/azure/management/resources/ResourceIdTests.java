@@ -10,6 +10,8 @@ import com.microsoft.azure.management.resources.fluentcore.arm.ResourceId;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.security.InvalidParameterException;
+
 /**
  * Test class to test ResourceId class.
  */
@@ -75,4 +77,44 @@ public class ResourceIdTests {
         Assert.assertEquals(resourceId.parent().parent().resourceType(), "applicationGateways");
         Assert.assertEquals(resourceId.parent().parent().fullResourceType(), "Microsoft.Network/applicationGateways");
     }
+
+    @Test
+    public void resourceIdIsParsedOnceForSameId() {
+        String id = "/subscriptions/9657ab5d-4a4a-4fd2-ae7a-4cd9fbd030ef/resourceGroups/resourceGroupName/providers/Microsoft.Network/applicationGateways/something/someChildType/childName";
+
+        ResourceId resourceId = ResourceId.fromString(id);
+        Assert.assertSame(resourceId, ResourceId.fromString(id));
+        Assert.assertSame(resourceId, ResourceId.fromString(new String(id)));
+        Assert.assertSame(resourceId.parent(), resourceId.parent());
+        Assert.assertEquals("/subscriptions/9657ab5d-4a4a-4fd2-ae7a-4cd9fbd030ef/resourceGroups/resourceGroupName/providers/Microsoft.Network/applicationGateways/something", resourceId.parent().id());
+    }
+
+    @Test
+    public void resourceIdWithoutLeadingOrWithTrailingSlashWorksFine() {
+        ResourceId resourceId = ResourceId.fromString("subscriptions/sub1/resourceGroups/rg1/providers/Microsoft.Foo/foos/foo1/bars/bar1/");
+
+        Assert.assertEquals("bar1", resourceId.name());
+        Assert.assertEquals("bars", resourceId.resourceType());
+        Assert.assertEquals("Microsoft.Foo/foos/bars", resourceId.fullResourceType());
+        Assert.assertEquals("/subscriptions/sub1/resourceGroups/rg1/providers/Microsoft.Foo/foos/foo1", resourceId.parent().id());
+    }
+
+    @Test
+    public void invalidResourceIdIsRejected() {
+        String[] invalidIds = {
+            "",
+            "/subscriptions/sub1/resourceGroups",
+            "/subscription/sub1/resourceGroups/rg1",
+            "/subscriptions/sub1/resourceGroup/rg1",
+            "/subscriptions/sub1/resourceGroups/rg1/provider/Microsoft.Foo/foos/foo1"
+        };
+        for (String invalidId : invalidIds) {
+            try {
+                ResourceId.fromString(invalidId);
+                Assert.fail("Expected exception is not thrown for " + invalidId);
+            } catch (InvalidParameterException e) {
+                Assert.assertTrue(e.getMessage().contains(invalidId));
+            }
+        }
+    }
 }
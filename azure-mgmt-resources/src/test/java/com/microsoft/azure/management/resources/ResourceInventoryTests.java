@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources;
+
+import com.microsoft.azure.management.resources.fluentcore.arm.Region;
+import com.microsoft.azure.management.resources.implementation.ResourceManager;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ResourceInventoryTests {
+    private static final String VIRTUAL_MACHINES = "Microsoft.Compute/virtualMachines";
+    private static final String STORAGE_ACCOUNTS = "Microsoft.Storage/storageAccounts";
+
+    @Test
+    public void canFilterResources() {
+        ResourceManager manager = new StubResourcesServer()
+                .withResource("rg1", VIRTUAL_MACHINES, "vm1", "westus", "{\"env\":\"prod\"}")
+                .withResource("rg1", VIRTUAL_MACHINES, "vm2", "eastus", "{\"env\":\"prod\"}")
+                .withResource("rg2", VIRTUAL_MACHINES, "vm3", "westus", "{\"env\":\"test\"}")
+                .withResource("rg2", STORAGE_ACCOUNTS, "sa1", "westus", "{\"env\":\"prod\"}")
+                .manager();
+        ResourceInventory inventory = manager.resourceInventory();
+        upsertAll(inventory, manager, "rg1", "rg2");
+
+        Assert.assertEquals(4, inventory.size());
+        Assert.assertEquals(4, inventory.filter().count());
+        Assert.assertEquals(1, inventory.filter()
+                .withType("microsoft.compute/virtualmachines")
+                .withRegion(Region.US_WEST)
+                .withTag("ENV", "prod")
+                .count());
+        Assert.assertEquals("vm1", inventory.filter()
+                .withType(VIRTUAL_MACHINES)
+                .withRegion("westus")
+                .withTag("env", "prod")
+                .list().get(0).name());
+        Assert.assertEquals(2, inventory.filter().withResourceGroups("RG2").count());
+        Assert.assertEquals(4, inventory.filter().withResourceGroups("rg1", "rg2").withTag("env").count());
+        Assert.assertEquals(0, inventory.filter().withTag("owner").count());
+        Assert.assertEquals(0, inventory.filter().withTag("env", "dev").count());
+        Assert.assertEquals(0, inventory.filter().withTag("env", "Prod").count());
+    }
+
+    @Test
+    public void canUpdateResources() {
+        StubResourcesServer server = new StubResourcesServer()
+                .withResource("rg1", VIRTUAL_MACHINES, "vm1", "westus", "{\"env\":\"prod\"}");
+        ResourceManager manager = server.manager();
+        ResourceInventory inventory = manager.resourceInventory();
+        String id = StubResourcesServer.id("rg1", VIRTUAL_MACHINES, "vm1");
+        upsertAll(inventory, manager, "rg1");
+        server.withResource("rg1", VIRTUAL_MACHINES, "vm1", "westus", "{\"env\":\"test\"}");
+        upsertAll(inventory, manager, "rg1");
+
+        Assert.assertEquals(1, inventory.size());
+        Assert.assertEquals(0, inventory.filter().withTag("env", "prod").count());
+        Assert.assertEquals(1, inventory.filter().withTag("env", "test").count());
+        Assert.assertEquals("rg1", inventory.getById(id.toUpperCase()).resourceGroupName());
+
+        Assert.assertTrue(inventory.remove(id));
+        Assert.assertFalse(inventory.remove(id));
+        Assert.assertEquals(0, inventory.size());
+        Assert.assertEquals(0, inventory.filter().withTag("env").count());
+        Assert.assertNull(inventory.getById(id));
+    }
+
+    @Test
+    public void canLoadResourcesSkippingDeletedResourceGroups() {
+        ResourceInventory inventory = new StubResourcesServer()
+                .withResource("rg1", VIRTUAL_MACHINES, "vm1", "westus", "{\"env\":\"prod\"}")
+                .withResource("rg1", VIRTUAL_MACHINES, "vm2", "eastus", null)
+                .withResource("rg2", STORAGE_ACCOUNTS, "sa1", "westus", "{\"env\":\"test\"}")
+                .withDeletedResourceGroup("rg3")
+                .manager()
+                .resourceInventory()
+                .withParallelism(2)
+                .load();
+
+        Assert.assertEquals(3, inventory.size());
+        Assert.assertEquals(2, inventory.filter().withResourceGroups("rg1").count());
+        Assert.assertEquals(0, inventory.filter().withResourceGroups("rg3").count());
+        Assert.assertEquals("sa1", inventory.filter().withTag("env", "test").list().get(0).name());
+    }
+
+    @Test
+    public void canRefreshResourceGroups() {
+        StubResourcesServer server = new StubResourcesServer()
+                .withResource("rg1", VIRTUAL_MACHINES, "vm1", "westus", null)
+                .withResource("rg2", STORAGE_ACCOUNTS, "sa1", "westus", null)
+                .withResource("rg3", STORAGE_ACCOUNTS, "sa2", "westus", null);
+        ResourceInventory inventory = server.manager().resourceInventory().load();
+        Assert.assertEquals(3, inventory.size());
+
+        server.withResource("rg1", VIRTUAL_MACHINES, "vm2", "westus", "{\"env\":\"prod\"}")
+                .withDeletedResourceGroup("rg2")
+                .withResource("rg3", STORAGE_ACCOUNTS, "sa3", "westus", null);
+        inventory.refreshResourceGroups("rg1", "rg2");
+
+        Assert.assertEquals(3, inventory.size());
+        Assert.assertEquals(2, inventory.filter().withResourceGroups("rg1").count());
+        Assert.assertEquals(1, inventory.filter().withTag("env", "prod").count());
+        Assert.assertEquals(0, inventory.filter().withResourceGroups("rg2").count());
+        Assert.assertEquals(1, inventory.filter().withResourceGroups("rg3").count());
+    }
+
+    private static void upsertAll(ResourceInventory inventory, ResourceManager manager, String... resourceGroupNames) {
+        for (String resourceGroupName : resourceGroupNames) {
+            for (GenericResource resource : manager.genericResources().listByResourceGroup(resourceGroupName)) {
+                inventory.upsert(resource);
+            }
+        }
+    }
+}
@@ -0,0 +1,245 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources;
+
+import com.microsoft.azure.management.resources.fluentcore.utils.MetricsListener;
+import com.microsoft.azure.management.resources.fluentcore.utils.OperationMetrics;
+import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerMetrics;
+import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerMetricsInterceptor;
+import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerRateGovernor;
+import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerThrottlingCallAdapterFactory;
+import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerThrottlingInterceptor;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import org.junit.Assert;
+import org.junit.Test;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import retrofit2.adapter.rxjava.RxJavaCallAdapterFactory;
+import retrofit2.http.GET;
+import retrofit2.http.Path;
+import rx.Observable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+
+public class ResourceManagerMetricsInterceptorTests {
+    private static final MediaType JSON = MediaType.parse("application/json");
+    private static final String LOGGING_HEADER = "x-ms-logging-context";
+
+    @Test
+    public void canRecordRequestsPerOperationAndSubscription() throws IOException {
+        ResourceManagerMetrics metrics = new ResourceManagerMetrics();
+        OkHttpClient client = new OkHttpClient.Builder()
+                .addInterceptor(new ResourceManagerMetricsInterceptor(metrics))
+                .addInterceptor(new ScriptedServer(200, 404, 200, 200))
+                .build();
+
+        send(client, "subscriptions/sub1/resourceGroups/rg1", "ResourceGroups get");
+        send(client, "subscriptions/sub1/resourceGroups/rg2", "ResourceGroups get");
+        send(client, "subscriptions/sub2/resourceGroups/rg1", "ResourceGroups get");
+        send(client, "tenants", null);
+
+        OperationMetrics sub1 = metrics.operationMetrics("ResourceGroups get", "sub1");
+        Assert.assertEquals(2, sub1.requestCount());
+        Assert.assertEquals(Long.valueOf(1), sub1.statusCodeCounts().get(200));
+        Assert.assertEquals(Long.valueOf(1), sub1.statusCodeCounts().get(404));
+        Assert.assertEquals(1, metrics.operationMetrics("ResourceGroups get", "sub2").requestCount());
+        Assert.assertEquals(1, metrics.operationMetrics("GET", "global").requestCount());
+        Assert.assertNull(metrics.operationMetrics("ResourceGroups get", "global"));
+        Assert.assertEquals(3, metrics.operationMetrics().size());
+        Assert.assertEquals(0, sub1.failureCount());
+        Assert.assertEquals(0, sub1.retryCount());
+    }
+
+    @Test
+    public void canRecordBodyLengths() throws IOException {
+        ResourceManagerMetrics metrics = new ResourceManagerMetrics();
+        OkHttpClient client = new OkHttpClient.Builder()
+                .addInterceptor(new ResourceManagerMetricsInterceptor(metrics))
+                .addInterceptor(new ScriptedServer(200))
+                .build();
+
+        client.newCall(new Request.Builder()
+                .url("https://management.azure.com/subscriptions/sub1/resourceGroups/rg1")
+                .put(RequestBody.create(JSON, "{\"location\":\"westus\"}"))
+                .build()).execute().close();
+
+        OperationMetrics operationMetrics = metrics.operationMetrics("PUT", "sub1");
+        Assert.assertEquals("{\"location\":\"westus\"}".length(), operationMetrics.requestBytes());
+        Assert.assertEquals(ScriptedServer.BODY.length(), operationMetrics.responseBytes());
+    }
+
+    @Test
+    public void canRecordFailedRequests() {
+        ResourceManagerMetrics metrics = new ResourceManagerMetrics();
+        RecordingListener listener = new RecordingListener();
+        metrics.withListener(listener);
+        OkHttpClient client = new OkHttpClient.Builder()
+                .addInterceptor(new ResourceManagerMetricsInterceptor(metrics))
+                .addInterceptor(new ScriptedServer())
+                .build();
+
+        try {
+            send(client, "subscriptions/sub1/resourceGroups/rg1", null);
+            Assert.fail();
+        } catch (IOException e) {
+            // expected, the server has no response left
+        }
+
+        OperationMetrics operationMetrics = metrics.operationMetrics("GET", "sub1");
+        Assert.assertEquals(1, operationMetrics.requestCount());
+        Assert.assertEquals(1, operationMetrics.failureCount());
+        Assert.assertTrue(operationMetrics.statusCodeCounts().isEmpty());
+        Assert.assertEquals(Collections.singletonList("completed GET sub1 -1"), listener.events);
+    }
+
+    @Test
+    public void canCountRetriesOfThrottlingInterceptor() throws IOException {
+        ResourceManagerMetrics metrics = new ResourceManagerMetrics();
+        RecordingListener listener = new RecordingListener();
+        metrics.withListener(listener);
+        OkHttpClient client = new OkHttpClient.Builder()
+                .addInterceptor(new ResourceManagerMetricsInterceptor(metrics))
+                .addInterceptor(new ResourceManagerThrottlingInterceptor(new ResourceManagerRateGovernor()))
+                .addInterceptor(new ScriptedServer(429, 200))
+                .build();
+
+        send(client, "subscriptions/sub1/resources", "Resources list");
+
+        // The retry happens within the request recorded by the metrics interceptor
+        OperationMetrics operationMetrics = metrics.operationMetrics("Resources list", "sub1");
+        Assert.assertEquals(1, operationMetrics.requestCount());
+        Assert.assertEquals(Collections.singletonMap(200, 1L), operationMetrics.statusCodeCounts());
+        Assert.assertEquals(1, operationMetrics.retryCount());
+        Assert.assertEquals(1, operationMetrics.throttleCount());
+        Assert.assertEquals(Arrays.asList("retried Resources list sub1 true", "completed Resources list sub1 200"),
+                listener.events);
+    }
+
+    @Test
+    public void canCountRetriesOfThrottlingCallAdapter() {
+        ResourceManagerMetrics metrics = new ResourceManagerMetrics();
+        RecordingListener listener = new RecordingListener();
+        metrics.withListener(listener);
+        ResourceManagerThrottlingCallAdapterFactory throttling =
+                new ResourceManagerThrottlingCallAdapterFactory(new ResourceManagerRateGovernor(), metrics);
+        ResourcesService service = new Retrofit.Builder()
+                .baseUrl("https://management.azure.com/")
+                .client(new OkHttpClient.Builder()
+                        .addInterceptor(new ResourceManagerMetricsInterceptor(metrics))
+                        .addInterceptor(throttling.interceptor())
+                        .addInterceptor(new ScriptedServer(429, 200))
+                        .build())
+                .addCallAdapterFactory(throttling)
+                .addCallAdapterFactory(RxJavaCallAdapterFactory.create())
+                .build()
+                .create(ResourcesService.class);
+
+        Assert.assertEquals(200, service.list("sub1").toBlocking().single().code());
+
+        // Each attempt is recorded as a request of its own
+        OperationMetrics operationMetrics = metrics.operationMetrics("GET", "sub1");
+        Assert.assertEquals(2, operationMetrics.requestCount());
+        Assert.assertEquals(Long.valueOf(1), operationMetrics.statusCodeCounts().get(429));
+        Assert.assertEquals(Long.valueOf(1), operationMetrics.statusCodeCounts().get(200));
+        Assert.assertEquals(1, operationMetrics.retryCount());
+        Assert.assertEquals(1, operationMetrics.throttleCount());
+        Assert.assertEquals(Arrays.asList("completed GET sub1 429", "retried GET sub1 true", "completed GET sub1 200"),
+                listener.events);
+    }
+
+    @Test
+    public void canRemoveListener() throws IOException {
+        ResourceManagerMetrics metrics = new ResourceManagerMetrics();
+        RecordingListener listener = new RecordingListener();
+        OkHttpClient client = new OkHttpClient.Builder()
+                .addInterceptor(new ResourceManagerMetricsInterceptor(metrics))
+                .addInterceptor(new ScriptedServer(200, 200))
+                .build();
+
+        metrics.withListener(listener);
+        send(client, "subscriptions/sub1/resources", null);
+        metrics.withoutListener(listener);
+        send(client, "subscriptions/sub1/resources", null);
+
+        Assert.assertEquals(Collections.singletonList("completed GET sub1 200"), listener.events);
+        Assert.assertEquals(2, metrics.operationMetrics("GET", "sub1").requestCount());
+        metrics.reset();
+        Assert.assertNull(metrics.operationMetrics("GET", "sub1"));
+    }
+
+    private static void send(OkHttpClient client, String path, String operation) throws IOException {
+        Request.Builder request = new Request.Builder().url("https://management.azure.com/" + path);
+        if (operation != null) {
+            request.header(LOGGING_HEADER, operation);
+        }
+        client.newCall(request.build()).execute().close();
+    }
+
+    /**
+     * A server answering the requests with the given status codes, in order.
+     */
+    private static class ScriptedServer implements Interceptor {
+        static final String BODY = "{\"value\":[]}";
+
+        private final Queue<Integer> statusCodes = new LinkedList<>();
+
+        ScriptedServer(Integer... statusCodes) {
+            this.statusCodes.addAll(Arrays.asList(statusCodes));
+        }
+
+        @Override
+        public synchronized okhttp3.Response intercept(Chain chain) throws IOException {
+            Integer statusCode = statusCodes.poll();
+            if (statusCode == null) {
+                throw new IOException("Connection reset");
+            }
+            okhttp3.Response.Builder response = new okhttp3.Response.Builder()
+                    .request(chain.request())
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(statusCode)
+                    .message("Status " + statusCode)
+                    .body(ResponseBody.create(JSON, BODY));
+            if (statusCode == 429) {
+                response.header("Retry-After", "0");
+            }
+            return response.build();
+        }
+    }
+
+    private static class RecordingListener implements MetricsListener {
+        private final List<String> events = Collections.synchronizedList(new ArrayList<String>());
+
+        @Override
+        public void onRequestCompleted(String operation, String subscriptionId, int statusCode, long latencyInNanos,
+                                       long requestBytes, long responseBytes) {
+            Assert.assertTrue(latencyInNanos >= 0);
+            events.add("completed " + operation + " " + subscriptionId + " " + statusCode);
+        }
+
+        @Override
+        public void onRetry(String operation, String subscriptionId, boolean throttled) {
+            events.add("retried " + operation + " " + subscriptionId + " " + throttled);
+        }
+    }
+
+    private interface ResourcesService {
+        @GET("subscriptions/{subscriptionId}/resources")
+        Observable<Response<ResponseBody>> list(@Path("subscriptionId") String subscriptionId);
+    }
+}
@@ -0,0 +1,201 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources;
+
+import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerMetrics;
+import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerRateGovernor;
+import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerRateGovernor.RequestClass;
+import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerThrottlingCallAdapterFactory;
+import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerThrottlingInterceptor;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.ResponseBody;
+import org.junit.Assert;
+import org.junit.Test;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import retrofit2.adapter.rxjava.RxJavaCallAdapterFactory;
+import retrofit2.http.GET;
+import retrofit2.http.Path;
+import rx.Observable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class ResourceManagerRateGovernorTests {
+    @Test
+    public void canPassRequestsWithinQuota() {
+        ResourceManagerRateGovernor governor = new ResourceManagerRateGovernor(3600, 3600);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(0, governor.reserve("sub1", RequestClass.READ));
+        }
+        Assert.assertEquals(0, governor.delayedRequests());
+    }
+
+    @Test
+    public void canPaceRequestsWhenQuotaIsExhausted() {
+        // 3600 per hour is one request per second
+        ResourceManagerRateGovernor governor = new ResourceManagerRateGovernor(3600, 3600);
+        governor.onRemainingQuota("sub1", RequestClass.WRITE, 0);
+
+        long first = governor.reserve("sub1", RequestClass.WRITE);
+        long second = governor.reserve("sub1", RequestClass.WRITE);
+        Assert.assertTrue(first > 900 && first <= 1001);
+        Assert.assertTrue(second > 1900 && second <= 2001);
+        Assert.assertEquals(2, governor.delayedRequests());
+
+        // Other subscriptions and request classes are not affected
+        Assert.assertEquals(0, governor.reserve("sub1", RequestClass.READ));
+        Assert.assertEquals(0, governor.reserve("sub2", RequestClass.WRITE));
+    }
+
+    @Test
+    public void canPauseOnThrottling() {
+        ResourceManagerRateGovernor governor = new ResourceManagerRateGovernor();
+        governor.onThrottled("sub1", RequestClass.READ, 60 * 1000);
+
+        long delay = governor.reserve("sub1", RequestClass.READ);
+        Assert.assertTrue(delay > 59 * 1000 && delay <= 60 * 1000 + 1);
+        Assert.assertEquals(1, governor.rejectedRequests());
+        Assert.assertEquals(1, governor.delayedRequests());
+    }
+
+    @Test
+    public void canWaitForSlotWithoutBlocking() {
+        ResourceManagerRateGovernor governor = new ResourceManagerRateGovernor();
+        governor.onThrottled("sub1", RequestClass.WRITE, 500);
+
+        long start = System.nanoTime();
+        Observable<Long> slot = governor.acquireAsync("sub1", RequestClass.WRITE);
+        Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 400);
+
+        long delay = slot.toBlocking().single();
+        Assert.assertTrue(delay > 400);
+        Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 400);
+        Assert.assertEquals(0, governor.queuedRequests());
+    }
+
+    @Test
+    public void canRetryThrottledRequestAfterRetryInterval() {
+        ResourceManagerRateGovernor governor = new ResourceManagerRateGovernor();
+        ResourceManagerMetrics metrics = new ResourceManagerMetrics();
+        ResourceManagerThrottlingCallAdapterFactory throttling = new ResourceManagerThrottlingCallAdapterFactory(governor, metrics);
+        List<Long> sentAt = Collections.synchronizedList(new ArrayList<Long>());
+        ResourcesService service = service(new OkHttpClient.Builder()
+                .addInterceptor(throttling.interceptor())
+                .addInterceptor(new ThrottlingServer(sentAt, 1))
+                .build(), throttling);
+
+        Response<ResponseBody> response = service.list("sub1").toBlocking().single();
+
+        Assert.assertEquals(200, response.code());
+        Assert.assertEquals(2, sentAt.size());
+        Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(sentAt.get(1) - sentAt.get(0)) >= 1000);
+        Assert.assertEquals(1, governor.rejectedRequests());
+        Assert.assertEquals(1, governor.delayedRequests());
+        Assert.assertEquals(1, metrics.operationMetrics("GET", "sub1").throttleCount());
+        // Other subscriptions are not held back by the throttled one
+        Assert.assertEquals(0, governor.reserve("sub2", RequestClass.READ));
+    }
+
+    @Test
+    public void canRetryThrottledRequestOnlyOnce() {
+        ResourceManagerRateGovernor governor = new ResourceManagerRateGovernor();
+        ResourceManagerMetrics metrics = new ResourceManagerMetrics();
+        ResourceManagerThrottlingCallAdapterFactory throttling = new ResourceManagerThrottlingCallAdapterFactory(governor, metrics);
+        List<Long> sentAt = Collections.synchronizedList(new ArrayList<Long>());
+        ResourcesService service = service(new OkHttpClient.Builder()
+                .addInterceptor(throttling.interceptor())
+                .addInterceptor(new ThrottlingServer(sentAt, 2))
+                .build(), throttling);
+
+        Response<ResponseBody> response = service.list("sub1").toBlocking().single();
+
+        Assert.assertEquals(429, response.code());
+        Assert.assertEquals(2, sentAt.size());
+        Assert.assertEquals(2, governor.rejectedRequests());
+        Assert.assertEquals(1, metrics.operationMetrics("GET", "sub1").throttleCount());
+    }
+
+    @Test
+    public void canRetryThrottledRequestWithoutCallAdapter() {
+        ResourceManagerRateGovernor governor = new ResourceManagerRateGovernor();
+        List<Long> sentAt = Collections.synchronizedList(new ArrayList<Long>());
+        ResourcesService service = service(new OkHttpClient.Builder()
+                .addInterceptor(new ResourceManagerThrottlingInterceptor(governor))
+                .addInterceptor(new ThrottlingServer(sentAt, 1))
+                .build(), null);
+
+        Response<ResponseBody> response = service.list("sub1").toBlocking().single();
+
+        Assert.assertEquals(200, response.code());
+        Assert.assertEquals(2, sentAt.size());
+        Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(sentAt.get(1) - sentAt.get(0)) >= 1000);
+        Assert.assertEquals(1, governor.rejectedRequests());
+    }
+
+    @Test
+    public void canClassifyHttpMethods() {
+        Assert.assertEquals(RequestClass.READ, RequestClass.fromHttpMethod("GET"));
+        Assert.assertEquals(RequestClass.READ, RequestClass.fromHttpMethod("head"));
+        Assert.assertEquals(RequestClass.WRITE, RequestClass.fromHttpMethod("PUT"));
+        Assert.assertEquals(RequestClass.WRITE, RequestClass.fromHttpMethod("DELETE"));
+    }
+
+    private static ResourcesService service(OkHttpClient client, ResourceManagerThrottlingCallAdapterFactory throttling) {
+        Retrofit.Builder retrofit = new Retrofit.Builder()
+                .baseUrl("https://management.azure.com/")
+                .client(client);
+        if (throttling != null) {
+            retrofit.addCallAdapterFactory(throttling);
+        }
+        return retrofit.addCallAdapterFactory(RxJavaCallAdapterFactory.create())
+                .build()
+                .create(ResourcesService.class);
+    }
+
+    /**
+     * A server rejecting the first requests with 429.
+     */
+    private static class ThrottlingServer implements Interceptor {
+        private final List<Long> sentAt;
+        private final int rejectedRequests;
+
+        ThrottlingServer(List<Long> sentAt, int rejectedRequests) {
+            this.sentAt = sentAt;
+            this.rejectedRequests = rejectedRequests;
+        }
+
+        @Override
+        public okhttp3.Response intercept(Chain chain) throws IOException {
+            sentAt.add(System.nanoTime());
+            okhttp3.Response.Builder response = new okhttp3.Response.Builder()
+                    .request(chain.request())
+                    .protocol(Protocol.HTTP_1_1)
+                    .header(ResourceManagerRateGovernor.REMAINING_READS_HEADER, "11000");
+            if (sentAt.size() <= rejectedRequests) {
+                return response.code(429).message("Too Many Requests")
+                        .header("Retry-After", "1")
+                        .body(ResponseBody.create(MediaType.parse("application/json"), "{}"))
+                        .build();
+            }
+            return response.code(200).message("OK")
+                    .body(ResponseBody.create(MediaType.parse("application/json"), "{\"value\":[]}"))
+                    .build();
+        }
+    }
+
+    private interface ResourcesService {
+        @GET("subscriptions/{subscriptionId}/resources")
+        Observable<Response<ResponseBody>> list(@Path("subscriptionId") String subscriptionId);
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources;
+
+import com.microsoft.azure.AzureResponseBuilder;
+import com.microsoft.azure.management.resources.fluentcore.arm.implementation.ManagerBase;
+import com.microsoft.azure.management.resources.fluentcore.utils.SdkContext;
+import com.microsoft.azure.management.resources.implementation.ResourceManager;
+import com.microsoft.azure.serializer.AzureJacksonAdapter;
+import com.microsoft.rest.RestClient;
+import org.junit.Assert;
+import org.junit.Test;
+import rx.schedulers.Schedulers;
+
+public class SharedResourceManagerTests {
+    @Test
+    public void canShareResourceManagerPerClientAndSubscription() {
+        RestClient restClient = restClient();
+        ResourceManager first = ResourceManager.sharedInstance(restClient, "sub1");
+
+        Assert.assertSame(first, ResourceManager.sharedInstance(restClient, "sub1"));
+        Assert.assertSame(first, first.resourceManager());
+        Assert.assertEquals("sub1", first.subscriptionId());
+        Assert.assertNotSame(first, ResourceManager.sharedInstance(restClient, "sub2"));
+        Assert.assertNotSame(first, ResourceManager.sharedInstance(restClient(), "sub1"));
+    }
+
+    @Test
+    public void canShareResourceManagerPerScheduler() {
+        RestClient restClient = restClient();
+        ResourceManager shared = ResourceManager.sharedInstance(restClient, "sub1");
+        ManagerBase manager = new ManagerBase(restClient, "sub1") { };
+        Assert.assertSame(shared, manager.resourceManager());
+
+        manager.setRxScheduler(Schedulers.immediate());
+        ResourceManager immediate = manager.resourceManager();
+        Assert.assertNotSame(shared, immediate);
+        Assert.assertSame(immediate, ResourceManager.sharedInstance(restClient, "sub1", Schedulers.immediate()));
+        Assert.assertSame(Schedulers.immediate(), immediate.rxScheduler());
+        // The manager sharing the default scheduler is not affected
+        Assert.assertSame(SdkContext.getRxScheduler(), shared.rxScheduler());
+
+        manager.setRxScheduler(null);
+        Assert.assertSame(shared, manager.resourceManager());
+    }
+
+    private static RestClient restClient() {
+        return new RestClient.Builder()
+                .withBaseUrl("https://management.azure.com/")
+                .withSerializerAdapter(new AzureJacksonAdapter())
+                .withResponseBuilderFactory(new AzureResponseBuilder.Factory())
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.reflect.TypeToken;
+import com.microsoft.azure.CloudException;
+import com.microsoft.azure.Page;
+import com.microsoft.azure.management.resources.fluentcore.utils.StreamingPageResponseBuilder;
+import com.microsoft.azure.management.resources.implementation.GenericResourceInner;
+import com.microsoft.azure.management.resources.implementation.PageImpl;
+import com.microsoft.azure.serializer.AzureJacksonAdapter;
+import com.microsoft.rest.ServiceResponse;
+import com.microsoft.rest.protocol.ResponseBuilder;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.ResponseBody;
+import org.junit.Assert;
+import org.junit.Test;
+import retrofit2.Response;
+
+import java.util.List;
+
+public class StreamingPageResponseBuilderTests {
+    private static final MediaType JSON = MediaType.parse("application/json; charset=utf-8");
+
+    @Test
+    public void canReadPageFromStream() throws Exception {
+        String body = "{\"value\":["
+                + "{\"id\":\"/subscriptions/sub/resourceGroups/rg/providers/Microsoft.Storage/storageAccounts/sa1\","
+                + "\"name\":\"sa1\",\"location\":\"westus\",\"tags\":{\"env\":\"test\"}},"
+                + "{\"id\":\"/subscriptions/sub/resourceGroups/rg/providers/Microsoft.Storage/storageAccounts/sa2\","
+                + "\"name\":\"sa2\",\"location\":\"eastus\",\"properties\":{\"nested\":[1,2,{\"a\":null}]}}],"
+                + "\"unknown\":{\"skipped\":[true]},"
+                + "\"nextLink\":\"https://management.azure.com/next\"}";
+
+        ServiceResponse<PageImpl<GenericResourceInner>> response = pageBuilder().build(response(200, body));
+
+        Assert.assertEquals(2, response.body().items().size());
+        Assert.assertEquals("sa1", response.body().items().get(0).name());
+        Assert.assertEquals("test", response.body().items().get(0).getTags().get("env"));
+        Assert.assertEquals("eastus", response.body().items().get(1).location());
+        Assert.assertNotNull(response.body().items().get(1).properties());
+        Assert.assertEquals("https://management.azure.com/next", response.body().nextPageLink());
+    }
+
+    @Test
+    public void canReadLastPage() throws Exception {
+        ServiceResponse<PageImpl<GenericResourceInner>> response = pageBuilder()
+                .build(response(200, "{\"value\":[]}"));
+
+        Assert.assertTrue(response.body().items().isEmpty());
+        Assert.assertNull(response.body().nextPageLink());
+    }
+
+    @Test
+    public void canMatchNextLinkByName() throws Exception {
+        ServiceResponse<KindPage<GenericResourceInner>> response = new StreamingPageResponseBuilder.Factory()
+                .<KindPage<GenericResourceInner>, CloudException>newInstance(new AzureJacksonAdapter())
+                .register(200, new TypeToken<KindPage<GenericResourceInner>>() { }.getType())
+                .registerError(CloudException.class)
+                .build(response(200, "{\"kind\":\"list\",\"value\":[{\"name\":\"sa1\"}],"
+                        + "\"odata.nextLink\":\"https://graph.windows.net/next\"}"));
+
+        Assert.assertEquals("list", response.body().kind);
+        Assert.assertEquals("sa1", response.body().items().get(0).name());
+        Assert.assertEquals("https://graph.windows.net/next", response.body().nextPageLink());
+    }
+
+    @Test
+    public void canDelegateErrors() throws Exception {
+        try {
+            pageBuilder().build(response(404,
+                    "{\"error\":{\"code\":\"ResourceGroupNotFound\",\"message\":\"not found\"}}"));
+            Assert.fail("Expected exception is not thrown");
+        } catch (CloudException e) {
+            Assert.assertEquals(404, e.response().code());
+            Assert.assertEquals("ResourceGroupNotFound", e.body().code());
+        }
+    }
+
+    private static ResponseBuilder<PageImpl<GenericResourceInner>, CloudException> pageBuilder() {
+        return new StreamingPageResponseBuilder.Factory()
+                .<PageImpl<GenericResourceInner>, CloudException>newInstance(new AzureJacksonAdapter())
+                .register(200, new TypeToken<PageImpl<GenericResourceInner>>() { }.getType())
+                .registerError(CloudException.class);
+    }
+
+    private static Response<ResponseBody> response(int code, String body) {
+        okhttp3.Response raw = new okhttp3.Response.Builder()
+                .code(code)
+                .message("")
+                .protocol(Protocol.HTTP_1_1)
+                .request(new Request.Builder().url("https://management.azure.com/subscriptions/sub/resources").build())
+                .build();
+        ResponseBody responseBody = ResponseBody.create(JSON, body);
+        return code < 400 ? Response.success(responseBody, raw) : Response.<ResponseBody>error(responseBody, raw);
+    }
+
+    /**
+     * A page with a string property declared before its next link.
+     *
+     * @param <T> the type of the items
+     */
+    public static class KindPage<T> implements Page<T> {
+        @JsonProperty("kind")
+        private String kind;
+        @JsonProperty("value")
+        private List<T> items;
+        @JsonProperty("odata.nextLink")
+        private String nextPageLink;
+
+        @Override
+        public String nextPageLink() {
+            return nextPageLink;
+        }
+
+        @Override
+        public List<T> items() {
+            return items;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources;
+
+import com.microsoft.azure.AzureResponseBuilder;
+import com.microsoft.azure.management.resources.implementation.ResourceManager;
+import com.microsoft.azure.serializer.AzureJacksonAdapter;
+import com.microsoft.rest.RestClient;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Answers the listings of resource groups and of their resources from memory, in place of Azure Resource Manager.
+ * Resource groups marked as deleted are still listed, but listing their resources fails with 404 Not Found, as
+ * when they are deleted between the two listings.
+ */
+class StubResourcesServer implements Interceptor {
+    static final String SUBSCRIPTION_ID = "00000000-0000-0000-0000-000000000000";
+    private static final MediaType JSON = MediaType.parse("application/json");
+
+    private final Map<String, Map<String, String>> resourceGroups = new LinkedHashMap<>();
+    private final List<String> deletedResourceGroups = new ArrayList<>();
+
+    static String id(String resourceGroupName, String type, String name) {
+        return "/subscriptions/" + SUBSCRIPTION_ID + "/resourceGroups/" + resourceGroupName
+                + "/providers/" + type + "/" + name;
+    }
+
+    synchronized StubResourcesServer withResource(String resourceGroupName, String type, String name,
+                                                  String regionName, String tags) {
+        Map<String, String> resources = resourceGroups.get(resourceGroupName);
+        if (resources == null) {
+            resources = new LinkedHashMap<>();
+            resourceGroups.put(resourceGroupName, resources);
+        }
+        String id = id(resourceGroupName, type, name);
+        resources.put(id, "{\"id\":\"" + id + "\",\"name\":\"" + name + "\",\"type\":\"" + type
+                + "\",\"location\":\"" + regionName + "\"" + (tags == null ? "" : ",\"tags\":" + tags) + "}");
+        return this;
+    }
+
+    synchronized StubResourcesServer withDeletedResourceGroup(String resourceGroupName) {
+        resourceGroups.remove(resourceGroupName);
+        deletedResourceGroups.add(resourceGroupName);
+        return this;
+    }
+
+    ResourceManager manager() {
+        return ResourceManager.authenticate(new RestClient.Builder()
+                .withBaseUrl("https://management.azure.com/")
+                .withSerializerAdapter(new AzureJacksonAdapter())
+                .withResponseBuilderFactory(new AzureResponseBuilder.Factory())
+                .withInterceptor(this)
+                .build())
+                .withSubscription(SUBSCRIPTION_ID);
+    }
+
+    @Override
+    public synchronized Response intercept(Chain chain) throws IOException {
+        List<String> segments = chain.request().url().pathSegments();
+        if (segments.size() == 3 && segments.get(2).equalsIgnoreCase("resourceGroups")) {
+            List<String> values = new ArrayList<>();
+            List<String> names = new ArrayList<>(resourceGroups.keySet());
+            names.addAll(deletedResourceGroups);
+            for (String name : names) {
+                values.add("{\"id\":\"/subscriptions/" + SUBSCRIPTION_ID + "/resourceGroups/" + name
+                        + "\",\"name\":\"" + name + "\",\"location\":\"westus\"}");
+            }
+            return respond(chain, values);
+        }
+        if (segments.size() == 5 && segments.get(4).equals("resources")) {
+            Map<String, String> resources = resourceGroups.get(segments.get(3));
+            if (resources != null) {
+                return respond(chain, new ArrayList<>(resources.values()));
+            }
+        }
+        return new Response.Builder()
+                .request(chain.request())
+                .protocol(Protocol.HTTP_1_1)
+                .code(404)
+                .message("Not Found")
+                .body(ResponseBody.create(JSON,
+                        "{\"error\":{\"code\":\"ResourceGroupNotFound\",\"message\":\"Not found.\"}}"))
+                .build();
+    }
+
+    private static Response respond(Chain chain, List<String> values) {
+        StringBuilder body = new StringBuilder("{\"value\":[");
+        for (int i = 0; i < values.size(); i++) {
+            body.append(i == 0 ? "" : ",").append(values.get(i));
+        }
+        return new Response.Builder()
+                .request(chain.request())
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .body(ResponseBody.create(JSON, body.append("]}").toString()))
+                .build();
+    }
+}
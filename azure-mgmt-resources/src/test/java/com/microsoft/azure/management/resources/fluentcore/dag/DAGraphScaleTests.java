@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources.fluentcore.dag;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public class DAGraphScaleTests {
+    private static final int NODE_COUNT = 10000;
+
+    @Test
+    public void canPrepareWideGraph() {
+        /**
+         * [root] ----> [leaf0]
+         *   |--------> [leaf1]
+         *   ...
+         *   |--------> [leaf9999]
+         */
+        DAGraph<String, ItemHolder> root = createGraph("root");
+        for (int i = 0; i < NODE_COUNT; i++) {
+            root.addDependencyGraph(createGraph("leaf" + i));
+        }
+        root.prepareForEnumeration();
+        // Each node is walked once to materialize the node table
+        Assert.assertEquals(NODE_COUNT + 1, root.materializedNodeVisits);
+
+        assertEnumeratesAll(root, NODE_COUNT + 1);
+    }
+
+    @Test
+    public void canPrepareDeepGraph() {
+        /**
+         * [node9999] ----> [node9998] ----> ... ----> [node0]
+         *
+         * each node is added as dependent of the previous one, so every merge happens
+         * below an already merged graph.
+         */
+        DAGraph<String, ItemHolder> first = createGraph("node0");
+        DAGraph<String, ItemHolder> current = first;
+        for (int i = 1; i < NODE_COUNT; i++) {
+            DAGraph<String, ItemHolder> next = createGraph("node" + i);
+            next.addDependencyGraph(current);
+            current = next;
+        }
+        current.prepareForEnumeration();
+        Assert.assertEquals(NODE_COUNT, current.materializedNodeVisits);
+        // The graphs merged below were never read, hence never materialized
+        Assert.assertEquals(0, first.materializedNodeVisits);
+
+        ItemHolder nextNode = current.getNext();
+        int i = 0;
+        while (nextNode != null) {
+            Assert.assertEquals("node" + i, nextNode.key());
+            current.reportCompletion(nextNode);
+            nextNode = current.getNext();
+            i++;
+        }
+        Assert.assertEquals(NODE_COUNT, i);
+    }
+
+    @Test
+    public void canSeeNodesMergedBelowParent() {
+        // Merging into a graph that already has parents must be visible from the parents
+        DAGraph<String, ItemHolder> root = createGraph("root");
+        DAGraph<String, ItemHolder> middle = createGraph("middle");
+        root.addDependencyGraph(middle);
+        for (int i = 0; i < NODE_COUNT; i++) {
+            middle.addDependencyGraph(createGraph("leaf" + i));
+        }
+        Assert.assertEquals(NODE_COUNT + 2, root.nodeTable.size());
+        Assert.assertEquals(NODE_COUNT + 1, middle.nodeTable.size());
+        Assert.assertNotNull(root.getNode("leaf" + (NODE_COUNT - 1)));
+
+        root.prepareForEnumeration();
+        assertEnumeratesAll(root, NODE_COUNT + 2);
+    }
+
+    @Test
+    public void canMaterializeOnlyNewlyReachableNodes() {
+        DAGraph<String, ItemHolder> root = createGraph("root");
+        for (int i = 0; i < NODE_COUNT; i++) {
+            root.addDependencyGraph(createGraph("leaf" + i));
+        }
+        Assert.assertEquals(NODE_COUNT + 1, root.nodeTable.size());
+        long visits = root.materializedNodeVisits;
+
+        // Adding a dependency walks the root, whose dependencies changed, and the new node only
+        DAGraph<String, ItemHolder> extra = createGraph("extra");
+        extra.addDependencyGraph(createGraph("extraLeaf"));
+        root.addDependencyGraph(extra);
+        Assert.assertEquals(NODE_COUNT + 3, root.nodeTable.size());
+        Assert.assertEquals(3, root.materializedNodeVisits - visits);
+
+        // Reading again without changes does not walk anything
+        Assert.assertNotNull(root.getNode("extraLeaf"));
+        Assert.assertEquals(3, root.materializedNodeVisits - visits);
+    }
+
+    private void assertEnumeratesAll(DAGraph<String, ItemHolder> dag, int expectedCount) {
+        Set<String> seen = new HashSet<>();
+        ItemHolder nextNode = dag.getNext();
+        while (nextNode != null) {
+            for (String dependencyKey : nextNode.dependencyKeys()) {
+                Assert.assertTrue(seen.contains(dependencyKey));
+            }
+            Assert.assertTrue(seen.add(nextNode.key()));
+            dag.reportCompletion(nextNode);
+            nextNode = dag.getNext();
+        }
+        Assert.assertEquals(expectedCount, seen.size());
+    }
+
+    private DAGraph<String, ItemHolder> createGraph(String resourceName) {
+        ItemHolder node = new ItemHolder(resourceName, "data" + resourceName);
+        return new DAGraph<>(node);
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources.fluentcore.dag;
+
+import com.microsoft.azure.management.resources.fluentcore.model.Indexable;
+import org.junit.Assert;
+import org.junit.Test;
+import rx.Observable;
+import rx.Scheduler;
+import rx.functions.Func0;
+import rx.schedulers.Schedulers;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+public class TaskGroupSchedulerTests {
+    @Test
+    public void canRunTasksOnContextScheduler() {
+        ExecutorService executor = Executors.newFixedThreadPool(2, namedThreads("tenant-a"));
+        try {
+            Map<String, String> threads = new ConcurrentHashMap<>();
+            ThreadRecordingTaskItem root = new ThreadRecordingTaskItem("root", threads);
+            root.dependsOn(new ThreadRecordingTaskItem("B", threads));
+            root.dependsOn(new ThreadRecordingTaskItem("C", threads));
+
+            TaskGroup.InvocationContext context = root.taskGroup().newInvocationContext()
+                    .withScheduler(Schedulers.from(executor));
+            root.taskGroup().invokeAsync(context).toBlocking().last();
+
+            Assert.assertEquals(3, threads.size());
+            for (String thread : threads.values()) {
+                Assert.assertTrue(thread, thread.startsWith("tenant-a"));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void canOverrideGroupSchedulerInContext() {
+        ExecutorService groupExecutor = Executors.newSingleThreadExecutor(namedThreads("group"));
+        ExecutorService contextExecutor = Executors.newSingleThreadExecutor(namedThreads("context"));
+        try {
+            Map<String, String> threads = new ConcurrentHashMap<>();
+            Scheduler groupScheduler = Schedulers.from(groupExecutor);
+            Scheduler contextScheduler = Schedulers.from(contextExecutor);
+
+            ThreadRecordingTaskItem first = new ThreadRecordingTaskItem("first", threads);
+            first.taskGroup().withScheduler(groupScheduler);
+            TaskGroup.InvocationContext context = first.taskGroup().newInvocationContext();
+            Assert.assertSame(groupScheduler, context.scheduler());
+            first.taskGroup().invokeAsync(context).toBlocking().last();
+
+            ThreadRecordingTaskItem second = new ThreadRecordingTaskItem("second", threads);
+            second.taskGroup().withScheduler(groupScheduler);
+            context = second.taskGroup().newInvocationContext().withScheduler(contextScheduler);
+            Assert.assertSame(contextScheduler, context.scheduler());
+            second.taskGroup().invokeAsync(context).toBlocking().last();
+
+            Assert.assertTrue(threads.get("first").startsWith("group"));
+            Assert.assertTrue(threads.get("second").startsWith("context"));
+        } finally {
+            groupExecutor.shutdown();
+            contextExecutor.shutdown();
+        }
+    }
+
+    private static ThreadFactory namedThreads(final String prefix) {
+        return new ThreadFactory() {
+            private int count;
+
+            @Override
+            public synchronized Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, prefix + "-" + count++);
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+
+    private static class ThreadRecordingTaskItem extends IndexableTaskItem {
+        private final Map<String, String> threads;
+
+        ThreadRecordingTaskItem(String key, Map<String, String> threads) {
+            super(key);
+            this.threads = threads;
+        }
+
+        void dependsOn(ThreadRecordingTaskItem dependency) {
+            this.addDependency(dependency);
+        }
+
+        @Override
+        protected Observable<Indexable> invokeTaskAsync(TaskGroup.InvocationContext context) {
+            final ThreadRecordingTaskItem self = this;
+            return Observable.defer(new Func0<Observable<Indexable>>() {
+                @Override
+                public Observable<Indexable> call() {
+                    threads.put(self.key(), Thread.currentThread().getName());
+                    return Observable.<Indexable>just(self);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources.fluentcore.dag;
+
+import com.microsoft.azure.management.resources.fluentcore.model.Indexable;
+import org.junit.Assert;
+import org.junit.Test;
+import rx.Observable;
+import rx.functions.Action0;
+import rx.functions.Func0;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TaskGroupSchedulingTests {
+    @Test
+    public void canLimitTasksInFlight() {
+        Tracker tracker = new Tracker();
+        SleepyTaskItem root = new SleepyTaskItem("root", tracker);
+        for (int i = 0; i < 20; i++) {
+            root.dependsOn(new SleepyTaskItem("item" + i, tracker));
+        }
+
+        TaskGroup.InvocationContext context = root.taskGroup().newInvocationContext()
+                .withSchedulingPolicy(new TaskGroupSchedulingPolicy().withMaxInFlight(3));
+        root.taskGroup().invokeAsync(context).toBlocking().last();
+
+        Assert.assertEquals(21, tracker.started.size());
+        Assert.assertTrue(tracker.maxInFlight.get() <= 3);
+        Assert.assertEquals("root", tracker.started.get(20));
+    }
+
+    @Test
+    public void canLimitTasksInFlightPerType() {
+        Tracker tracker = new Tracker();
+        SleepyTaskItem root = new SleepyTaskItem("root", tracker);
+        for (int i = 0; i < 10; i++) {
+            root.dependsOn(new SleepyTaskItem("item" + i, tracker));
+        }
+
+        TaskGroupSchedulingPolicy policy = new TaskGroupSchedulingPolicy()
+                .withMaxInFlight(SleepyTaskItem.class.getSimpleName(), 2);
+        root.taskGroup().withSchedulingPolicy(policy);
+        root.taskGroup().invokeAsync(root.taskGroup().newInvocationContext()).toBlocking().last();
+
+        Assert.assertEquals(11, tracker.started.size());
+        Assert.assertTrue(tracker.maxInFlight.get() <= 2);
+    }
+
+    @Test
+    public void canInvokeCriticalPathFirst() {
+        /**
+         *   [root]---->[B]---->[Z]
+         *     |
+         *     |------->[X]
+         *     |
+         *     |------->[Y]
+         */
+        Tracker tracker = new Tracker();
+        SleepyTaskItem root = new SleepyTaskItem("root", tracker);
+        SleepyTaskItem itemZ = new SleepyTaskItem("Z", tracker);
+        SleepyTaskItem itemB = new SleepyTaskItem("B", tracker);
+        itemB.dependsOn(itemZ);
+        root.dependsOn(new SleepyTaskItem("X", tracker));
+        root.dependsOn(new SleepyTaskItem("Y", tracker));
+        root.dependsOn(itemB);
+
+        TaskGroup.InvocationContext context = root.taskGroup().newInvocationContext()
+                .withSchedulingPolicy(new TaskGroupSchedulingPolicy().withMaxInFlight(1));
+        root.taskGroup().invokeAsync(context).toBlocking().last();
+
+        Assert.assertEquals(5, tracker.started.size());
+        // Z is on the longest chain, so it is invoked before X and Y even though they come first in key order
+        Assert.assertEquals("Z", tracker.started.get(0));
+        Assert.assertEquals(1, tracker.maxInFlight.get());
+    }
+
+    private static class Tracker {
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+        private final List<String> started = Collections.synchronizedList(new ArrayList<String>());
+
+        void onStart(String key) {
+            started.add(key);
+            int current = inFlight.incrementAndGet();
+            while (true) {
+                int max = maxInFlight.get();
+                if (current <= max || maxInFlight.compareAndSet(max, current)) {
+                    break;
+                }
+            }
+        }
+
+        void onEnd() {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static class SleepyTaskItem extends IndexableTaskItem {
+        private final Tracker tracker;
+
+        SleepyTaskItem(String key, Tracker tracker) {
+            super(key);
+            this.tracker = tracker;
+        }
+
+        void dependsOn(SleepyTaskItem dependency) {
+            this.addDependency(dependency);
+        }
+
+        @Override
+        protected Observable<Indexable> invokeTaskAsync(TaskGroup.InvocationContext context) {
+            final SleepyTaskItem self = this;
+            return Observable.defer(new Func0<Observable<Indexable>>() {
+                @Override
+                public Observable<Indexable> call() {
+                    tracker.onStart(self.key());
+                    return Observable.<Indexable>just(self)
+                            .delay(50, TimeUnit.MILLISECONDS)
+                            .doOnCompleted(new Action0() {
+                                @Override
+                                public void call() {
+                                    tracker.onEnd();
+                                }
+                            });
+                }
+            });
+        }
+    }
+}
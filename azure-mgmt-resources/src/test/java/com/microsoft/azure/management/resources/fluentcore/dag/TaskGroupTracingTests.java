@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management.resources.fluentcore.dag;
+
+import com.microsoft.azure.management.resources.fluentcore.model.Indexable;
+import org.junit.Assert;
+import org.junit.Test;
+import rx.Observable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class TaskGroupTracingTests {
+    @Test
+    public void canTraceTasksAndComputeCriticalPath() {
+        /**
+         *   [root]---->[B]---->[Z]
+         *     |
+         *     |------->[X]
+         */
+        DelayedTaskItem root = new DelayedTaskItem("root", 10);
+        DelayedTaskItem itemB = new DelayedTaskItem("B", 100);
+        DelayedTaskItem itemZ = new DelayedTaskItem("Z", 100);
+        DelayedTaskItem itemX = new DelayedTaskItem("X", 10);
+        itemB.dependsOn(itemZ);
+        root.dependsOn(itemB);
+        root.dependsOn(itemX);
+
+        RecordingListener listener = new RecordingListener();
+        TaskGroup.InvocationContext context = root.taskGroup().newInvocationContext()
+                .withTraceListener(listener);
+        root.taskGroup().invokeAsync(context).toBlocking().last();
+
+        Assert.assertEquals(4, listener.tasks.size());
+        Assert.assertNotNull(listener.group);
+        TaskGroupTrace trace = listener.group;
+        Assert.assertEquals(4, trace.taskTraces().size());
+        for (TaskTrace taskTrace : trace.taskTraces()) {
+            Assert.assertEquals(TaskTrace.Outcome.SUCCEEDED, taskTrace.outcome());
+            Assert.assertEquals(DelayedTaskItem.class.getSimpleName(), taskTrace.taskType());
+            Assert.assertTrue(taskTrace.queueWaitInNanos() >= 0);
+            Assert.assertTrue(taskTrace.endedAtNanos() >= taskTrace.startedAtNanos());
+        }
+        Assert.assertTrue(trace.taskTrace("Z").durationInNanos() >= TimeUnit.MILLISECONDS.toNanos(100));
+
+        List<String> criticalPath = new ArrayList<>();
+        for (TaskTrace taskTrace : trace.criticalPath()) {
+            criticalPath.add(taskTrace.key());
+        }
+        Assert.assertEquals(3, criticalPath.size());
+        Assert.assertEquals("Z", criticalPath.get(0));
+        Assert.assertEquals("B", criticalPath.get(1));
+        Assert.assertEquals("root", criticalPath.get(2));
+
+        String json = trace.toChromeTraceJson();
+        Assert.assertTrue(json.startsWith("{\"traceEvents\":["));
+        Assert.assertTrue(json.contains("\"name\":\"Z\""));
+        Assert.assertTrue(json.contains("\"criticalPath\":true"));
+        Assert.assertTrue(json.contains("\"criticalPath\":false"));
+    }
+
+    @Test
+    public void canTraceFailedTasks() {
+        DelayedTaskItem root = new DelayedTaskItem("root", 10);
+        DelayedTaskItem failing = new DelayedTaskItem("F", -1);
+        root.dependsOn(failing);
+
+        RecordingListener listener = new RecordingListener();
+        root.taskGroup().withTraceListener(listener);
+        try {
+            root.taskGroup().invokeAsync(root.taskGroup().newInvocationContext()).toBlocking().last();
+            Assert.fail("Expected exception is not thrown");
+        } catch (RuntimeException e) {
+            // expected
+        }
+
+        Assert.assertNotNull(listener.group);
+        Assert.assertEquals(TaskTrace.Outcome.FAILED, listener.group.taskTrace("F").outcome());
+        Assert.assertNotNull(listener.group.taskTrace("F").error());
+        Assert.assertEquals(TaskTrace.Outcome.SKIPPED, listener.group.taskTrace("root").outcome());
+    }
+
+    private static class RecordingListener implements TaskTraceListener {
+        private final List<TaskTrace> tasks = Collections.synchronizedList(new ArrayList<TaskTrace>());
+        private volatile TaskGroupTrace group;
+
+        @Override
+        public void onTaskCompleted(TaskTrace trace) {
+            tasks.add(trace);
+        }
+
+        @Override
+        public void onGroupCompleted(TaskGroupTrace trace) {
+            group = trace;
+        }
+    }
+
+    private static class DelayedTaskItem extends IndexableTaskItem {
+        private final long delayInMillis;
+
+        DelayedTaskItem(String key, long delayInMillis) {
+            super(key);
+            this.delayInMillis = delayInMillis;
+        }
+
+        void dependsOn(DelayedTaskItem dependency) {
+            this.addDependency(dependency);
+        }
+
+        @Override
+        protected Observable<Indexable> invokeTaskAsync(TaskGroup.InvocationContext context) {
+            if (delayInMillis < 0) {
+                return Observable.error(new IllegalStateException("task failed"));
+            }
+            return Observable.<Indexable>just(this).delay(delayInMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -135,39 +135,60 @@ public class SearchManagementClientImpl extends AzureServiceClient {
     /**
      * The AdminKeysInner object to access its operations.
      */
-    private AdminKeysInner adminKeys;
+    private volatile AdminKeysInner adminKeys;
 
     /**
      * Gets the AdminKeysInner object to access its operations.
      * @return the AdminKeysInner object.
      */
     public AdminKeysInner adminKeys() {
+        if (this.adminKeys == null) {
+            synchronized (this) {
+                if (this.adminKeys == null) {
+                    this.adminKeys = new AdminKeysInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.adminKeys;
     }
 
     /**
      * The QueryKeysInner object to access its operations.
      */
-    private QueryKeysInner queryKeys;
+    private volatile QueryKeysInner queryKeys;
 
     /**
      * Gets the QueryKeysInner object to access its operations.
      * @return the QueryKeysInner object.
      */
     public QueryKeysInner queryKeys() {
+        if (this.queryKeys == null) {
+            synchronized (this) {
+                if (this.queryKeys == null) {
+                    this.queryKeys = new QueryKeysInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.queryKeys;
     }
 
     /**
      * The ServicesInner object to access its operations.
      */
-    private ServicesInner services;
+    private volatile ServicesInner services;
 
     /**
      * Gets the ServicesInner object to access its operations.
      * @return the ServicesInner object.
      */
     public ServicesInner services() {
+        if (this.services == null) {
+            synchronized (this) {
+                if (this.services == null) {
+                    this.services = new ServicesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.services;
     }
 
@@ -206,9 +227,6 @@ public class SearchManagementClientImpl extends AzureServiceClient {
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.adminKeys = new AdminKeysInner(restClient().retrofit(), this);
-        this.queryKeys = new QueryKeysInner(restClient().retrofit(), this);
-        this.services = new ServicesInner(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
     }
 
@@ -135,65 +135,100 @@ public class ServiceBusManagementClientImpl extends AzureServiceClient {
     /**
      * The OperationsInner object to access its operations.
      */
-    private OperationsInner operations;
+    private volatile OperationsInner operations;
 
     /**
      * Gets the OperationsInner object to access its operations.
      * @return the OperationsInner object.
      */
     public OperationsInner operations() {
+        if (this.operations == null) {
+            synchronized (this) {
+                if (this.operations == null) {
+                    this.operations = new OperationsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.operations;
     }
 
     /**
      * The NamespacesInner object to access its operations.
      */
-    private NamespacesInner namespaces;
+    private volatile NamespacesInner namespaces;
 
     /**
      * Gets the NamespacesInner object to access its operations.
      * @return the NamespacesInner object.
      */
     public NamespacesInner namespaces() {
+        if (this.namespaces == null) {
+            synchronized (this) {
+                if (this.namespaces == null) {
+                    this.namespaces = new NamespacesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.namespaces;
     }
 
     /**
      * The QueuesInner object to access its operations.
      */
-    private QueuesInner queues;
+    private volatile QueuesInner queues;
 
     /**
      * Gets the QueuesInner object to access its operations.
      * @return the QueuesInner object.
      */
     public QueuesInner queues() {
+        if (this.queues == null) {
+            synchronized (this) {
+                if (this.queues == null) {
+                    this.queues = new QueuesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.queues;
     }
 
     /**
      * The TopicsInner object to access its operations.
      */
-    private TopicsInner topics;
+    private volatile TopicsInner topics;
 
     /**
      * Gets the TopicsInner object to access its operations.
      * @return the TopicsInner object.
      */
     public TopicsInner topics() {
+        if (this.topics == null) {
+            synchronized (this) {
+                if (this.topics == null) {
+                    this.topics = new TopicsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.topics;
     }
 
     /**
      * The SubscriptionsInner object to access its operations.
      */
-    private SubscriptionsInner subscriptions;
+    private volatile SubscriptionsInner subscriptions;
 
     /**
      * Gets the SubscriptionsInner object to access its operations.
      * @return the SubscriptionsInner object.
      */
     public SubscriptionsInner subscriptions() {
+        if (this.subscriptions == null) {
+            synchronized (this) {
+                if (this.subscriptions == null) {
+                    this.subscriptions = new SubscriptionsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.subscriptions;
     }
 
@@ -232,11 +267,6 @@ public class ServiceBusManagementClientImpl extends AzureServiceClient {
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.operations = new OperationsInner(restClient().retrofit(), this);
-        this.namespaces = new NamespacesInner(restClient().retrofit(), this);
-        this.queues = new QueuesInner(restClient().retrofit(), this);
-        this.topics = new TopicsInner(restClient().retrofit(), this);
-        this.subscriptions = new SubscriptionsInner(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
     }
 
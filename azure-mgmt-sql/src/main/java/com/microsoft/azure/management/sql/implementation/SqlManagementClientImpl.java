@@ -123,845 +123,1300 @@ public class SqlManagementClientImpl extends AzureServiceClient {
     /**
      * The BackupLongTermRetentionPoliciesInner object to access its operations.
      */
-    private BackupLongTermRetentionPoliciesInner backupLongTermRetentionPolicies;
+    private volatile BackupLongTermRetentionPoliciesInner backupLongTermRetentionPolicies;
 
     /**
      * Gets the BackupLongTermRetentionPoliciesInner object to access its operations.
      * @return the BackupLongTermRetentionPoliciesInner object.
      */
     public BackupLongTermRetentionPoliciesInner backupLongTermRetentionPolicies() {
+        if (this.backupLongTermRetentionPolicies == null) {
+            synchronized (this) {
+                if (this.backupLongTermRetentionPolicies == null) {
+                    this.backupLongTermRetentionPolicies = new BackupLongTermRetentionPoliciesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.backupLongTermRetentionPolicies;
     }
 
     /**
      * The BackupLongTermRetentionVaultsInner object to access its operations.
      */
-    private BackupLongTermRetentionVaultsInner backupLongTermRetentionVaults;
+    private volatile BackupLongTermRetentionVaultsInner backupLongTermRetentionVaults;
 
     /**
      * Gets the BackupLongTermRetentionVaultsInner object to access its operations.
      * @return the BackupLongTermRetentionVaultsInner object.
      */
     public BackupLongTermRetentionVaultsInner backupLongTermRetentionVaults() {
+        if (this.backupLongTermRetentionVaults == null) {
+            synchronized (this) {
+                if (this.backupLongTermRetentionVaults == null) {
+                    this.backupLongTermRetentionVaults = new BackupLongTermRetentionVaultsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.backupLongTermRetentionVaults;
     }
 
     /**
      * The RecoverableDatabasesInner object to access its operations.
      */
-    private RecoverableDatabasesInner recoverableDatabases;
+    private volatile RecoverableDatabasesInner recoverableDatabases;
 
     /**
      * Gets the RecoverableDatabasesInner object to access its operations.
      * @return the RecoverableDatabasesInner object.
      */
     public RecoverableDatabasesInner recoverableDatabases() {
+        if (this.recoverableDatabases == null) {
+            synchronized (this) {
+                if (this.recoverableDatabases == null) {
+                    this.recoverableDatabases = new RecoverableDatabasesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.recoverableDatabases;
     }
 
     /**
      * The RestorableDroppedDatabasesInner object to access its operations.
      */
-    private RestorableDroppedDatabasesInner restorableDroppedDatabases;
+    private volatile RestorableDroppedDatabasesInner restorableDroppedDatabases;
 
     /**
      * Gets the RestorableDroppedDatabasesInner object to access its operations.
      * @return the RestorableDroppedDatabasesInner object.
      */
     public RestorableDroppedDatabasesInner restorableDroppedDatabases() {
+        if (this.restorableDroppedDatabases == null) {
+            synchronized (this) {
+                if (this.restorableDroppedDatabases == null) {
+                    this.restorableDroppedDatabases = new RestorableDroppedDatabasesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.restorableDroppedDatabases;
     }
 
     /**
      * The CapabilitiesInner object to access its operations.
      */
-    private CapabilitiesInner capabilities;
+    private volatile CapabilitiesInner capabilities;
 
     /**
      * Gets the CapabilitiesInner object to access its operations.
      * @return the CapabilitiesInner object.
      */
     public CapabilitiesInner capabilities() {
+        if (this.capabilities == null) {
+            synchronized (this) {
+                if (this.capabilities == null) {
+                    this.capabilities = new CapabilitiesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.capabilities;
     }
 
     /**
      * The ServersInner object to access its operations.
      */
-    private ServersInner servers;
+    private volatile ServersInner servers;
 
     /**
      * Gets the ServersInner object to access its operations.
      * @return the ServersInner object.
      */
     public ServersInner servers() {
+        if (this.servers == null) {
+            synchronized (this) {
+                if (this.servers == null) {
+                    this.servers = new ServersInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.servers;
     }
 
     /**
      * The ServerConnectionPoliciesInner object to access its operations.
      */
-    private ServerConnectionPoliciesInner serverConnectionPolicies;
+    private volatile ServerConnectionPoliciesInner serverConnectionPolicies;
 
     /**
      * Gets the ServerConnectionPoliciesInner object to access its operations.
      * @return the ServerConnectionPoliciesInner object.
      */
     public ServerConnectionPoliciesInner serverConnectionPolicies() {
+        if (this.serverConnectionPolicies == null) {
+            synchronized (this) {
+                if (this.serverConnectionPolicies == null) {
+                    this.serverConnectionPolicies = new ServerConnectionPoliciesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.serverConnectionPolicies;
     }
 
     /**
      * The DatabasesInner object to access its operations.
      */
-    private DatabasesInner databases;
+    private volatile DatabasesInner databases;
 
     /**
      * Gets the DatabasesInner object to access its operations.
      * @return the DatabasesInner object.
      */
     public DatabasesInner databases() {
+        if (this.databases == null) {
+            synchronized (this) {
+                if (this.databases == null) {
+                    this.databases = new DatabasesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.databases;
     }
 
     /**
      * The DatabaseThreatDetectionPoliciesInner object to access its operations.
      */
-    private DatabaseThreatDetectionPoliciesInner databaseThreatDetectionPolicies;
+    private volatile DatabaseThreatDetectionPoliciesInner databaseThreatDetectionPolicies;
 
     /**
      * Gets the DatabaseThreatDetectionPoliciesInner object to access its operations.
      * @return the DatabaseThreatDetectionPoliciesInner object.
      */
     public DatabaseThreatDetectionPoliciesInner databaseThreatDetectionPolicies() {
+        if (this.databaseThreatDetectionPolicies == null) {
+            synchronized (this) {
+                if (this.databaseThreatDetectionPolicies == null) {
+                    this.databaseThreatDetectionPolicies = new DatabaseThreatDetectionPoliciesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.databaseThreatDetectionPolicies;
     }
 
     /**
      * The DataMaskingPoliciesInner object to access its operations.
      */
-    private DataMaskingPoliciesInner dataMaskingPolicies;
+    private volatile DataMaskingPoliciesInner dataMaskingPolicies;
 
     /**
      * Gets the DataMaskingPoliciesInner object to access its operations.
      * @return the DataMaskingPoliciesInner object.
      */
     public DataMaskingPoliciesInner dataMaskingPolicies() {
+        if (this.dataMaskingPolicies == null) {
+            synchronized (this) {
+                if (this.dataMaskingPolicies == null) {
+                    this.dataMaskingPolicies = new DataMaskingPoliciesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.dataMaskingPolicies;
     }
 
     /**
      * The DataMaskingRulesInner object to access its operations.
      */
-    private DataMaskingRulesInner dataMaskingRules;
+    private volatile DataMaskingRulesInner dataMaskingRules;
 
     /**
      * Gets the DataMaskingRulesInner object to access its operations.
      * @return the DataMaskingRulesInner object.
      */
     public DataMaskingRulesInner dataMaskingRules() {
+        if (this.dataMaskingRules == null) {
+            synchronized (this) {
+                if (this.dataMaskingRules == null) {
+                    this.dataMaskingRules = new DataMaskingRulesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.dataMaskingRules;
     }
 
     /**
      * The ElasticPoolsInner object to access its operations.
      */
-    private ElasticPoolsInner elasticPools;
+    private volatile ElasticPoolsInner elasticPools;
 
     /**
      * Gets the ElasticPoolsInner object to access its operations.
      * @return the ElasticPoolsInner object.
      */
     public ElasticPoolsInner elasticPools() {
+        if (this.elasticPools == null) {
+            synchronized (this) {
+                if (this.elasticPools == null) {
+                    this.elasticPools = new ElasticPoolsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.elasticPools;
     }
 
     /**
      * The FirewallRulesInner object to access its operations.
      */
-    private FirewallRulesInner firewallRules;
+    private volatile FirewallRulesInner firewallRules;
 
     /**
      * Gets the FirewallRulesInner object to access its operations.
      * @return the FirewallRulesInner object.
      */
     public FirewallRulesInner firewallRules() {
+        if (this.firewallRules == null) {
+            synchronized (this) {
+                if (this.firewallRules == null) {
+                    this.firewallRules = new FirewallRulesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.firewallRules;
     }
 
     /**
      * The GeoBackupPoliciesInner object to access its operations.
      */
-    private GeoBackupPoliciesInner geoBackupPolicies;
+    private volatile GeoBackupPoliciesInner geoBackupPolicies;
 
     /**
      * Gets the GeoBackupPoliciesInner object to access its operations.
      * @return the GeoBackupPoliciesInner object.
      */
     public GeoBackupPoliciesInner geoBackupPolicies() {
+        if (this.geoBackupPolicies == null) {
+            synchronized (this) {
+                if (this.geoBackupPolicies == null) {
+                    this.geoBackupPolicies = new GeoBackupPoliciesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.geoBackupPolicies;
     }
 
     /**
      * The RecommendedElasticPoolsInner object to access its operations.
      */
-    private RecommendedElasticPoolsInner recommendedElasticPools;
+    private volatile RecommendedElasticPoolsInner recommendedElasticPools;
 
     /**
      * Gets the RecommendedElasticPoolsInner object to access its operations.
      * @return the RecommendedElasticPoolsInner object.
      */
     public RecommendedElasticPoolsInner recommendedElasticPools() {
+        if (this.recommendedElasticPools == null) {
+            synchronized (this) {
+                if (this.recommendedElasticPools == null) {
+                    this.recommendedElasticPools = new RecommendedElasticPoolsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.recommendedElasticPools;
     }
 
     /**
      * The ReplicationLinksInner object to access its operations.
      */
-    private ReplicationLinksInner replicationLinks;
+    private volatile ReplicationLinksInner replicationLinks;
 
     /**
      * Gets the ReplicationLinksInner object to access its operations.
      * @return the ReplicationLinksInner object.
      */
     public ReplicationLinksInner replicationLinks() {
+        if (this.replicationLinks == null) {
+            synchronized (this) {
+                if (this.replicationLinks == null) {
+                    this.replicationLinks = new ReplicationLinksInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.replicationLinks;
     }
 
     /**
      * The ServerAzureADAdministratorsInner object to access its operations.
      */
-    private ServerAzureADAdministratorsInner serverAzureADAdministrators;
+    private volatile ServerAzureADAdministratorsInner serverAzureADAdministrators;
 
     /**
      * Gets the ServerAzureADAdministratorsInner object to access its operations.
      * @return the ServerAzureADAdministratorsInner object.
      */
     public ServerAzureADAdministratorsInner serverAzureADAdministrators() {
+        if (this.serverAzureADAdministrators == null) {
+            synchronized (this) {
+                if (this.serverAzureADAdministrators == null) {
+                    this.serverAzureADAdministrators = new ServerAzureADAdministratorsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.serverAzureADAdministrators;
     }
 
     /**
      * The ServerCommunicationLinksInner object to access its operations.
      */
-    private ServerCommunicationLinksInner serverCommunicationLinks;
+    private volatile ServerCommunicationLinksInner serverCommunicationLinks;
 
     /**
      * Gets the ServerCommunicationLinksInner object to access its operations.
      * @return the ServerCommunicationLinksInner object.
      */
     public ServerCommunicationLinksInner serverCommunicationLinks() {
+        if (this.serverCommunicationLinks == null) {
+            synchronized (this) {
+                if (this.serverCommunicationLinks == null) {
+                    this.serverCommunicationLinks = new ServerCommunicationLinksInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.serverCommunicationLinks;
     }
 
     /**
      * The ServiceObjectivesInner object to access its operations.
      */
-    private ServiceObjectivesInner serviceObjectives;
+    private volatile ServiceObjectivesInner serviceObjectives;
 
     /**
      * Gets the ServiceObjectivesInner object to access its operations.
      * @return the ServiceObjectivesInner object.
      */
     public ServiceObjectivesInner serviceObjectives() {
+        if (this.serviceObjectives == null) {
+            synchronized (this) {
+                if (this.serviceObjectives == null) {
+                    this.serviceObjectives = new ServiceObjectivesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.serviceObjectives;
     }
 
     /**
      * The ElasticPoolActivitiesInner object to access its operations.
      */
-    private ElasticPoolActivitiesInner elasticPoolActivities;
+    private volatile ElasticPoolActivitiesInner elasticPoolActivities;
 
     /**
      * Gets the ElasticPoolActivitiesInner object to access its operations.
      * @return the ElasticPoolActivitiesInner object.
      */
     public ElasticPoolActivitiesInner elasticPoolActivities() {
+        if (this.elasticPoolActivities == null) {
+            synchronized (this) {
+                if (this.elasticPoolActivities == null) {
+                    this.elasticPoolActivities = new ElasticPoolActivitiesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.elasticPoolActivities;
     }
 
     /**
      * The ElasticPoolDatabaseActivitiesInner object to access its operations.
      */
-    private ElasticPoolDatabaseActivitiesInner elasticPoolDatabaseActivities;
+    private volatile ElasticPoolDatabaseActivitiesInner elasticPoolDatabaseActivities;
 
     /**
      * Gets the ElasticPoolDatabaseActivitiesInner object to access its operations.
      * @return the ElasticPoolDatabaseActivitiesInner object.
      */
     public ElasticPoolDatabaseActivitiesInner elasticPoolDatabaseActivities() {
+        if (this.elasticPoolDatabaseActivities == null) {
+            synchronized (this) {
+                if (this.elasticPoolDatabaseActivities == null) {
+                    this.elasticPoolDatabaseActivities = new ElasticPoolDatabaseActivitiesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.elasticPoolDatabaseActivities;
     }
 
     /**
      * The ServiceTierAdvisorsInner object to access its operations.
      */
-    private ServiceTierAdvisorsInner serviceTierAdvisors;
+    private volatile ServiceTierAdvisorsInner serviceTierAdvisors;
 
     /**
      * Gets the ServiceTierAdvisorsInner object to access its operations.
      * @return the ServiceTierAdvisorsInner object.
      */
     public ServiceTierAdvisorsInner serviceTierAdvisors() {
+        if (this.serviceTierAdvisors == null) {
+            synchronized (this) {
+                if (this.serviceTierAdvisors == null) {
+                    this.serviceTierAdvisors = new ServiceTierAdvisorsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.serviceTierAdvisors;
     }
 
     /**
      * The TransparentDataEncryptionsInner object to access its operations.
      */
-    private TransparentDataEncryptionsInner transparentDataEncryptions;
+    private volatile TransparentDataEncryptionsInner transparentDataEncryptions;
 
     /**
      * Gets the TransparentDataEncryptionsInner object to access its operations.
      * @return the TransparentDataEncryptionsInner object.
      */
     public TransparentDataEncryptionsInner transparentDataEncryptions() {
+        if (this.transparentDataEncryptions == null) {
+            synchronized (this) {
+                if (this.transparentDataEncryptions == null) {
+                    this.transparentDataEncryptions = new TransparentDataEncryptionsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.transparentDataEncryptions;
     }
 
     /**
      * The TransparentDataEncryptionActivitiesInner object to access its operations.
      */
-    private TransparentDataEncryptionActivitiesInner transparentDataEncryptionActivities;
+    private volatile TransparentDataEncryptionActivitiesInner transparentDataEncryptionActivities;
 
     /**
      * Gets the TransparentDataEncryptionActivitiesInner object to access its operations.
      * @return the TransparentDataEncryptionActivitiesInner object.
      */
     public TransparentDataEncryptionActivitiesInner transparentDataEncryptionActivities() {
+        if (this.transparentDataEncryptionActivities == null) {
+            synchronized (this) {
+                if (this.transparentDataEncryptionActivities == null) {
+                    this.transparentDataEncryptionActivities = new TransparentDataEncryptionActivitiesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.transparentDataEncryptionActivities;
     }
 
     /**
      * The ServerUsagesInner object to access its operations.
      */
-    private ServerUsagesInner serverUsages;
+    private volatile ServerUsagesInner serverUsages;
 
     /**
      * Gets the ServerUsagesInner object to access its operations.
      * @return the ServerUsagesInner object.
      */
     public ServerUsagesInner serverUsages() {
+        if (this.serverUsages == null) {
+            synchronized (this) {
+                if (this.serverUsages == null) {
+                    this.serverUsages = new ServerUsagesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.serverUsages;
     }
 
     /**
      * The DatabaseUsagesInner object to access its operations.
      */
-    private DatabaseUsagesInner databaseUsages;
+    private volatile DatabaseUsagesInner databaseUsages;
 
     /**
      * Gets the DatabaseUsagesInner object to access its operations.
      * @return the DatabaseUsagesInner object.
      */
     public DatabaseUsagesInner databaseUsages() {
+        if (this.databaseUsages == null) {
+            synchronized (this) {
+                if (this.databaseUsages == null) {
+                    this.databaseUsages = new DatabaseUsagesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.databaseUsages;
     }
 
     /**
      * The DatabaseAutomaticTuningsInner object to access its operations.
      */
-    private DatabaseAutomaticTuningsInner databaseAutomaticTunings;
+    private volatile DatabaseAutomaticTuningsInner databaseAutomaticTunings;
 
     /**
      * Gets the DatabaseAutomaticTuningsInner object to access its operations.
      * @return the DatabaseAutomaticTuningsInner object.
      */
     public DatabaseAutomaticTuningsInner databaseAutomaticTunings() {
+        if (this.databaseAutomaticTunings == null) {
+            synchronized (this) {
+                if (this.databaseAutomaticTunings == null) {
+                    this.databaseAutomaticTunings = new DatabaseAutomaticTuningsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.databaseAutomaticTunings;
     }
 
     /**
      * The EncryptionProtectorsInner object to access its operations.
      */
-    private EncryptionProtectorsInner encryptionProtectors;
+    private volatile EncryptionProtectorsInner encryptionProtectors;
 
     /**
      * Gets the EncryptionProtectorsInner object to access its operations.
      * @return the EncryptionProtectorsInner object.
      */
     public EncryptionProtectorsInner encryptionProtectors() {
+        if (this.encryptionProtectors == null) {
+            synchronized (this) {
+                if (this.encryptionProtectors == null) {
+                    this.encryptionProtectors = new EncryptionProtectorsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.encryptionProtectors;
     }
 
     /**
      * The FailoverGroupsInner object to access its operations.
      */
-    private FailoverGroupsInner failoverGroups;
+    private volatile FailoverGroupsInner failoverGroups;
 
     /**
      * Gets the FailoverGroupsInner object to access its operations.
      * @return the FailoverGroupsInner object.
      */
     public FailoverGroupsInner failoverGroups() {
+        if (this.failoverGroups == null) {
+            synchronized (this) {
+                if (this.failoverGroups == null) {
+                    this.failoverGroups = new FailoverGroupsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.failoverGroups;
     }
 
     /**
      * The ManagedInstancesInner object to access its operations.
      */
-    private ManagedInstancesInner managedInstances;
+    private volatile ManagedInstancesInner managedInstances;
 
     /**
      * Gets the ManagedInstancesInner object to access its operations.
      * @return the ManagedInstancesInner object.
      */
     public ManagedInstancesInner managedInstances() {
+        if (this.managedInstances == null) {
+            synchronized (this) {
+                if (this.managedInstances == null) {
+                    this.managedInstances = new ManagedInstancesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.managedInstances;
     }
 
     /**
      * The OperationsInner object to access its operations.
      */
-    private OperationsInner operations;
+    private volatile OperationsInner operations;
 
     /**
      * Gets the OperationsInner object to access its operations.
      * @return the OperationsInner object.
      */
     public OperationsInner operations() {
+        if (this.operations == null) {
+            synchronized (this) {
+                if (this.operations == null) {
+                    this.operations = new OperationsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.operations;
     }
 
     /**
      * The ServerKeysInner object to access its operations.
      */
-    private ServerKeysInner serverKeys;
+    private volatile ServerKeysInner serverKeys;
 
     /**
      * Gets the ServerKeysInner object to access its operations.
      * @return the ServerKeysInner object.
      */
     public ServerKeysInner serverKeys() {
+        if (this.serverKeys == null) {
+            synchronized (this) {
+                if (this.serverKeys == null) {
+                    this.serverKeys = new ServerKeysInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.serverKeys;
     }
 
     /**
      * The SyncAgentsInner object to access its operations.
      */
-    private SyncAgentsInner syncAgents;
+    private volatile SyncAgentsInner syncAgents;
 
     /**
      * Gets the SyncAgentsInner object to access its operations.
      * @return the SyncAgentsInner object.
      */
     public SyncAgentsInner syncAgents() {
+        if (this.syncAgents == null) {
+            synchronized (this) {
+                if (this.syncAgents == null) {
+                    this.syncAgents = new SyncAgentsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.syncAgents;
     }
 
     /**
      * The SyncGroupsInner object to access its operations.
      */
-    private SyncGroupsInner syncGroups;
+    private volatile SyncGroupsInner syncGroups;
 
     /**
      * Gets the SyncGroupsInner object to access its operations.
      * @return the SyncGroupsInner object.
      */
     public SyncGroupsInner syncGroups() {
+        if (this.syncGroups == null) {
+            synchronized (this) {
+                if (this.syncGroups == null) {
+                    this.syncGroups = new SyncGroupsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.syncGroups;
     }
 
     /**
      * The SyncMembersInner object to access its operations.
      */
-    private SyncMembersInner syncMembers;
+    private volatile SyncMembersInner syncMembers;
 
     /**
      * Gets the SyncMembersInner object to access its operations.
      * @return the SyncMembersInner object.
      */
     public SyncMembersInner syncMembers() {
+        if (this.syncMembers == null) {
+            synchronized (this) {
+                if (this.syncMembers == null) {
+                    this.syncMembers = new SyncMembersInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.syncMembers;
     }
 
     /**
      * The SubscriptionUsagesInner object to access its operations.
      */
-    private SubscriptionUsagesInner subscriptionUsages;
+    private volatile SubscriptionUsagesInner subscriptionUsages;
 
     /**
      * Gets the SubscriptionUsagesInner object to access its operations.
      * @return the SubscriptionUsagesInner object.
      */
     public SubscriptionUsagesInner subscriptionUsages() {
+        if (this.subscriptionUsages == null) {
+            synchronized (this) {
+                if (this.subscriptionUsages == null) {
+                    this.subscriptionUsages = new SubscriptionUsagesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.subscriptionUsages;
     }
 
     /**
      * The VirtualNetworkRulesInner object to access its operations.
      */
-    private VirtualNetworkRulesInner virtualNetworkRules;
+    private volatile VirtualNetworkRulesInner virtualNetworkRules;
 
     /**
      * Gets the VirtualNetworkRulesInner object to access its operations.
      * @return the VirtualNetworkRulesInner object.
      */
     public VirtualNetworkRulesInner virtualNetworkRules() {
+        if (this.virtualNetworkRules == null) {
+            synchronized (this) {
+                if (this.virtualNetworkRules == null) {
+                    this.virtualNetworkRules = new VirtualNetworkRulesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.virtualNetworkRules;
     }
 
     /**
      * The ExtendedDatabaseBlobAuditingPoliciesInner object to access its operations.
      */
-    private ExtendedDatabaseBlobAuditingPoliciesInner extendedDatabaseBlobAuditingPolicies;
+    private volatile ExtendedDatabaseBlobAuditingPoliciesInner extendedDatabaseBlobAuditingPolicies;
 
     /**
      * Gets the ExtendedDatabaseBlobAuditingPoliciesInner object to access its operations.
      * @return the ExtendedDatabaseBlobAuditingPoliciesInner object.
      */
     public ExtendedDatabaseBlobAuditingPoliciesInner extendedDatabaseBlobAuditingPolicies() {
+        if (this.extendedDatabaseBlobAuditingPolicies == null) {
+            synchronized (this) {
+                if (this.extendedDatabaseBlobAuditingPolicies == null) {
+                    this.extendedDatabaseBlobAuditingPolicies = new ExtendedDatabaseBlobAuditingPoliciesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.extendedDatabaseBlobAuditingPolicies;
     }
 
     /**
      * The ExtendedServerBlobAuditingPoliciesInner object to access its operations.
      */
-    private ExtendedServerBlobAuditingPoliciesInner extendedServerBlobAuditingPolicies;
+    private volatile ExtendedServerBlobAuditingPoliciesInner extendedServerBlobAuditingPolicies;
 
     /**
      * Gets the ExtendedServerBlobAuditingPoliciesInner object to access its operations.
      * @return the ExtendedServerBlobAuditingPoliciesInner object.
      */
     public ExtendedServerBlobAuditingPoliciesInner extendedServerBlobAuditingPolicies() {
+        if (this.extendedServerBlobAuditingPolicies == null) {
+            synchronized (this) {
+                if (this.extendedServerBlobAuditingPolicies == null) {
+                    this.extendedServerBlobAuditingPolicies = new ExtendedServerBlobAuditingPoliciesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.extendedServerBlobAuditingPolicies;
     }
 
     /**
      * The ServerBlobAuditingPoliciesInner object to access its operations.
      */
-    private ServerBlobAuditingPoliciesInner serverBlobAuditingPolicies;
+    private volatile ServerBlobAuditingPoliciesInner serverBlobAuditingPolicies;
 
     /**
      * Gets the ServerBlobAuditingPoliciesInner object to access its operations.
      * @return the ServerBlobAuditingPoliciesInner object.
      */
     public ServerBlobAuditingPoliciesInner serverBlobAuditingPolicies() {
+        if (this.serverBlobAuditingPolicies == null) {
+            synchronized (this) {
+                if (this.serverBlobAuditingPolicies == null) {
+                    this.serverBlobAuditingPolicies = new ServerBlobAuditingPoliciesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.serverBlobAuditingPolicies;
     }
 
     /**
      * The DatabaseBlobAuditingPoliciesInner object to access its operations.
      */
-    private DatabaseBlobAuditingPoliciesInner databaseBlobAuditingPolicies;
+    private volatile DatabaseBlobAuditingPoliciesInner databaseBlobAuditingPolicies;
 
     /**
      * Gets the DatabaseBlobAuditingPoliciesInner object to access its operations.
      * @return the DatabaseBlobAuditingPoliciesInner object.
      */
     public DatabaseBlobAuditingPoliciesInner databaseBlobAuditingPolicies() {
+        if (this.databaseBlobAuditingPolicies == null) {
+            synchronized (this) {
+                if (this.databaseBlobAuditingPolicies == null) {
+                    this.databaseBlobAuditingPolicies = new DatabaseBlobAuditingPoliciesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.databaseBlobAuditingPolicies;
     }
 
     /**
      * The DatabaseVulnerabilityAssessmentRuleBaselinesInner object to access its operations.
      */
-    private DatabaseVulnerabilityAssessmentRuleBaselinesInner databaseVulnerabilityAssessmentRuleBaselines;
+    private volatile DatabaseVulnerabilityAssessmentRuleBaselinesInner databaseVulnerabilityAssessmentRuleBaselines;
 
     /**
      * Gets the DatabaseVulnerabilityAssessmentRuleBaselinesInner object to access its operations.
      * @return the DatabaseVulnerabilityAssessmentRuleBaselinesInner object.
      */
     public DatabaseVulnerabilityAssessmentRuleBaselinesInner databaseVulnerabilityAssessmentRuleBaselines() {
+        if (this.databaseVulnerabilityAssessmentRuleBaselines == null) {
+            synchronized (this) {
+                if (this.databaseVulnerabilityAssessmentRuleBaselines == null) {
+                    this.databaseVulnerabilityAssessmentRuleBaselines = new DatabaseVulnerabilityAssessmentRuleBaselinesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.databaseVulnerabilityAssessmentRuleBaselines;
     }
 
     /**
      * The DatabaseVulnerabilityAssessmentsInner object to access its operations.
      */
-    private DatabaseVulnerabilityAssessmentsInner databaseVulnerabilityAssessments;
+    private volatile DatabaseVulnerabilityAssessmentsInner databaseVulnerabilityAssessments;
 
     /**
      * Gets the DatabaseVulnerabilityAssessmentsInner object to access its operations.
      * @return the DatabaseVulnerabilityAssessmentsInner object.
      */
     public DatabaseVulnerabilityAssessmentsInner databaseVulnerabilityAssessments() {
+        if (this.databaseVulnerabilityAssessments == null) {
+            synchronized (this) {
+                if (this.databaseVulnerabilityAssessments == null) {
+                    this.databaseVulnerabilityAssessments = new DatabaseVulnerabilityAssessmentsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.databaseVulnerabilityAssessments;
     }
 
     /**
      * The JobAgentsInner object to access its operations.
      */
-    private JobAgentsInner jobAgents;
+    private volatile JobAgentsInner jobAgents;
 
     /**
      * Gets the JobAgentsInner object to access its operations.
      * @return the JobAgentsInner object.
      */
     public JobAgentsInner jobAgents() {
+        if (this.jobAgents == null) {
+            synchronized (this) {
+                if (this.jobAgents == null) {
+                    this.jobAgents = new JobAgentsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.jobAgents;
     }
 
     /**
      * The JobCredentialsInner object to access its operations.
      */
-    private JobCredentialsInner jobCredentials;
+    private volatile JobCredentialsInner jobCredentials;
 
     /**
      * Gets the JobCredentialsInner object to access its operations.
      * @return the JobCredentialsInner object.
      */
     public JobCredentialsInner jobCredentials() {
+        if (this.jobCredentials == null) {
+            synchronized (this) {
+                if (this.jobCredentials == null) {
+                    this.jobCredentials = new JobCredentialsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.jobCredentials;
     }
 
     /**
      * The JobExecutionsInner object to access its operations.
      */
-    private JobExecutionsInner jobExecutions;
+    private volatile JobExecutionsInner jobExecutions;
 
     /**
      * Gets the JobExecutionsInner object to access its operations.
      * @return the JobExecutionsInner object.
      */
     public JobExecutionsInner jobExecutions() {
+        if (this.jobExecutions == null) {
+            synchronized (this) {
+                if (this.jobExecutions == null) {
+                    this.jobExecutions = new JobExecutionsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.jobExecutions;
     }
 
     /**
      * The JobsInner object to access its operations.
      */
-    private JobsInner jobs;
+    private volatile JobsInner jobs;
 
     /**
      * Gets the JobsInner object to access its operations.
      * @return the JobsInner object.
      */
     public JobsInner jobs() {
+        if (this.jobs == null) {
+            synchronized (this) {
+                if (this.jobs == null) {
+                    this.jobs = new JobsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.jobs;
     }
 
     /**
      * The JobStepExecutionsInner object to access its operations.
      */
-    private JobStepExecutionsInner jobStepExecutions;
+    private volatile JobStepExecutionsInner jobStepExecutions;
 
     /**
      * Gets the JobStepExecutionsInner object to access its operations.
      * @return the JobStepExecutionsInner object.
      */
     public JobStepExecutionsInner jobStepExecutions() {
+        if (this.jobStepExecutions == null) {
+            synchronized (this) {
+                if (this.jobStepExecutions == null) {
+                    this.jobStepExecutions = new JobStepExecutionsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.jobStepExecutions;
     }
 
     /**
      * The JobStepsInner object to access its operations.
      */
-    private JobStepsInner jobSteps;
+    private volatile JobStepsInner jobSteps;
 
     /**
      * Gets the JobStepsInner object to access its operations.
      * @return the JobStepsInner object.
      */
     public JobStepsInner jobSteps() {
+        if (this.jobSteps == null) {
+            synchronized (this) {
+                if (this.jobSteps == null) {
+                    this.jobSteps = new JobStepsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.jobSteps;
     }
 
     /**
      * The JobTargetExecutionsInner object to access its operations.
      */
-    private JobTargetExecutionsInner jobTargetExecutions;
+    private volatile JobTargetExecutionsInner jobTargetExecutions;
 
     /**
      * Gets the JobTargetExecutionsInner object to access its operations.
      * @return the JobTargetExecutionsInner object.
      */
     public JobTargetExecutionsInner jobTargetExecutions() {
+        if (this.jobTargetExecutions == null) {
+            synchronized (this) {
+                if (this.jobTargetExecutions == null) {
+                    this.jobTargetExecutions = new JobTargetExecutionsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.jobTargetExecutions;
     }
 
     /**
      * The JobTargetGroupsInner object to access its operations.
      */
-    private JobTargetGroupsInner jobTargetGroups;
+    private volatile JobTargetGroupsInner jobTargetGroups;
 
     /**
      * Gets the JobTargetGroupsInner object to access its operations.
      * @return the JobTargetGroupsInner object.
      */
     public JobTargetGroupsInner jobTargetGroups() {
+        if (this.jobTargetGroups == null) {
+            synchronized (this) {
+                if (this.jobTargetGroups == null) {
+                    this.jobTargetGroups = new JobTargetGroupsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.jobTargetGroups;
     }
 
     /**
      * The JobVersionsInner object to access its operations.
      */
-    private JobVersionsInner jobVersions;
+    private volatile JobVersionsInner jobVersions;
 
     /**
      * Gets the JobVersionsInner object to access its operations.
      * @return the JobVersionsInner object.
      */
     public JobVersionsInner jobVersions() {
+        if (this.jobVersions == null) {
+            synchronized (this) {
+                if (this.jobVersions == null) {
+                    this.jobVersions = new JobVersionsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.jobVersions;
     }
 
     /**
      * The ManagedDatabasesInner object to access its operations.
      */
-    private ManagedDatabasesInner managedDatabases;
+    private volatile ManagedDatabasesInner managedDatabases;
 
     /**
      * Gets the ManagedDatabasesInner object to access its operations.
      * @return the ManagedDatabasesInner object.
      */
     public ManagedDatabasesInner managedDatabases() {
+        if (this.managedDatabases == null) {
+            synchronized (this) {
+                if (this.managedDatabases == null) {
+                    this.managedDatabases = new ManagedDatabasesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.managedDatabases;
     }
 
     /**
      * The SensitivityLabelsInner object to access its operations.
      */
-    private SensitivityLabelsInner sensitivityLabels;
+    private volatile SensitivityLabelsInner sensitivityLabels;
 
     /**
      * Gets the SensitivityLabelsInner object to access its operations.
      * @return the SensitivityLabelsInner object.
      */
     public SensitivityLabelsInner sensitivityLabels() {
+        if (this.sensitivityLabels == null) {
+            synchronized (this) {
+                if (this.sensitivityLabels == null) {
+                    this.sensitivityLabels = new SensitivityLabelsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.sensitivityLabels;
     }
 
     /**
      * The ServerAutomaticTuningsInner object to access its operations.
      */
-    private ServerAutomaticTuningsInner serverAutomaticTunings;
+    private volatile ServerAutomaticTuningsInner serverAutomaticTunings;
 
     /**
      * Gets the ServerAutomaticTuningsInner object to access its operations.
      * @return the ServerAutomaticTuningsInner object.
      */
     public ServerAutomaticTuningsInner serverAutomaticTunings() {
+        if (this.serverAutomaticTunings == null) {
+            synchronized (this) {
+                if (this.serverAutomaticTunings == null) {
+                    this.serverAutomaticTunings = new ServerAutomaticTuningsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.serverAutomaticTunings;
     }
 
     /**
      * The ServerDnsAliasesInner object to access its operations.
      */
-    private ServerDnsAliasesInner serverDnsAliases;
+    private volatile ServerDnsAliasesInner serverDnsAliases;
 
     /**
      * Gets the ServerDnsAliasesInner object to access its operations.
      * @return the ServerDnsAliasesInner object.
      */
     public ServerDnsAliasesInner serverDnsAliases() {
+        if (this.serverDnsAliases == null) {
+            synchronized (this) {
+                if (this.serverDnsAliases == null) {
+                    this.serverDnsAliases = new ServerDnsAliasesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.serverDnsAliases;
     }
 
     /**
      * The ServerSecurityAlertPoliciesInner object to access its operations.
      */
-    private ServerSecurityAlertPoliciesInner serverSecurityAlertPolicies;
+    private volatile ServerSecurityAlertPoliciesInner serverSecurityAlertPolicies;
 
     /**
      * Gets the ServerSecurityAlertPoliciesInner object to access its operations.
      * @return the ServerSecurityAlertPoliciesInner object.
      */
     public ServerSecurityAlertPoliciesInner serverSecurityAlertPolicies() {
+        if (this.serverSecurityAlertPolicies == null) {
+            synchronized (this) {
+                if (this.serverSecurityAlertPolicies == null) {
+                    this.serverSecurityAlertPolicies = new ServerSecurityAlertPoliciesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.serverSecurityAlertPolicies;
     }
 
     /**
      * The RestorePointsInner object to access its operations.
      */
-    private RestorePointsInner restorePoints;
+    private volatile RestorePointsInner restorePoints;
 
     /**
      * Gets the RestorePointsInner object to access its operations.
      * @return the RestorePointsInner object.
      */
     public RestorePointsInner restorePoints() {
+        if (this.restorePoints == null) {
+            synchronized (this) {
+                if (this.restorePoints == null) {
+                    this.restorePoints = new RestorePointsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.restorePoints;
     }
 
     /**
      * The DatabaseOperationsInner object to access its operations.
      */
-    private DatabaseOperationsInner databaseOperations;
+    private volatile DatabaseOperationsInner databaseOperations;
 
     /**
      * Gets the DatabaseOperationsInner object to access its operations.
      * @return the DatabaseOperationsInner object.
      */
     public DatabaseOperationsInner databaseOperations() {
+        if (this.databaseOperations == null) {
+            synchronized (this) {
+                if (this.databaseOperations == null) {
+                    this.databaseOperations = new DatabaseOperationsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.databaseOperations;
     }
 
     /**
      * The ElasticPoolOperationsInner object to access its operations.
      */
-    private ElasticPoolOperationsInner elasticPoolOperations;
+    private volatile ElasticPoolOperationsInner elasticPoolOperations;
 
     /**
      * Gets the ElasticPoolOperationsInner object to access its operations.
      * @return the ElasticPoolOperationsInner object.
      */
     public ElasticPoolOperationsInner elasticPoolOperations() {
+        if (this.elasticPoolOperations == null) {
+            synchronized (this) {
+                if (this.elasticPoolOperations == null) {
+                    this.elasticPoolOperations = new ElasticPoolOperationsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.elasticPoolOperations;
     }
 
     /**
      * The DatabaseVulnerabilityAssessmentScansInner object to access its operations.
      */
-    private DatabaseVulnerabilityAssessmentScansInner databaseVulnerabilityAssessmentScans;
+    private volatile DatabaseVulnerabilityAssessmentScansInner databaseVulnerabilityAssessmentScans;
 
     /**
      * Gets the DatabaseVulnerabilityAssessmentScansInner object to access its operations.
      * @return the DatabaseVulnerabilityAssessmentScansInner object.
      */
     public DatabaseVulnerabilityAssessmentScansInner databaseVulnerabilityAssessmentScans() {
+        if (this.databaseVulnerabilityAssessmentScans == null) {
+            synchronized (this) {
+                if (this.databaseVulnerabilityAssessmentScans == null) {
+                    this.databaseVulnerabilityAssessmentScans = new DatabaseVulnerabilityAssessmentScansInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.databaseVulnerabilityAssessmentScans;
     }
 
     /**
      * The InstanceFailoverGroupsInner object to access its operations.
      */
-    private InstanceFailoverGroupsInner instanceFailoverGroups;
+    private volatile InstanceFailoverGroupsInner instanceFailoverGroups;
 
     /**
      * Gets the InstanceFailoverGroupsInner object to access its operations.
      * @return the InstanceFailoverGroupsInner object.
      */
     public InstanceFailoverGroupsInner instanceFailoverGroups() {
+        if (this.instanceFailoverGroups == null) {
+            synchronized (this) {
+                if (this.instanceFailoverGroups == null) {
+                    this.instanceFailoverGroups = new InstanceFailoverGroupsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.instanceFailoverGroups;
     }
 
     /**
      * The BackupShortTermRetentionPoliciesInner object to access its operations.
      */
-    private BackupShortTermRetentionPoliciesInner backupShortTermRetentionPolicies;
+    private volatile BackupShortTermRetentionPoliciesInner backupShortTermRetentionPolicies;
 
     /**
      * Gets the BackupShortTermRetentionPoliciesInner object to access its operations.
      * @return the BackupShortTermRetentionPoliciesInner object.
      */
     public BackupShortTermRetentionPoliciesInner backupShortTermRetentionPolicies() {
+        if (this.backupShortTermRetentionPolicies == null) {
+            synchronized (this) {
+                if (this.backupShortTermRetentionPolicies == null) {
+                    this.backupShortTermRetentionPolicies = new BackupShortTermRetentionPoliciesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.backupShortTermRetentionPolicies;
     }
 
     /**
      * The TdeCertificatesInner object to access its operations.
      */
-    private TdeCertificatesInner tdeCertificates;
+    private volatile TdeCertificatesInner tdeCertificates;
 
     /**
      * Gets the TdeCertificatesInner object to access its operations.
      * @return the TdeCertificatesInner object.
      */
     public TdeCertificatesInner tdeCertificates() {
+        if (this.tdeCertificates == null) {
+            synchronized (this) {
+                if (this.tdeCertificates == null) {
+                    this.tdeCertificates = new TdeCertificatesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.tdeCertificates;
     }
 
     /**
      * The ManagedInstanceTdeCertificatesInner object to access its operations.
      */
-    private ManagedInstanceTdeCertificatesInner managedInstanceTdeCertificates;
+    private volatile ManagedInstanceTdeCertificatesInner managedInstanceTdeCertificates;
 
     /**
      * Gets the ManagedInstanceTdeCertificatesInner object to access its operations.
      * @return the ManagedInstanceTdeCertificatesInner object.
      */
     public ManagedInstanceTdeCertificatesInner managedInstanceTdeCertificates() {
+        if (this.managedInstanceTdeCertificates == null) {
+            synchronized (this) {
+                if (this.managedInstanceTdeCertificates == null) {
+                    this.managedInstanceTdeCertificates = new ManagedInstanceTdeCertificatesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.managedInstanceTdeCertificates;
     }
 
@@ -999,71 +1454,6 @@ public class SqlManagementClientImpl extends AzureServiceClient {
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.backupLongTermRetentionPolicies = new BackupLongTermRetentionPoliciesInner(restClient().retrofit(), this);
-        this.backupLongTermRetentionVaults = new BackupLongTermRetentionVaultsInner(restClient().retrofit(), this);
-        this.recoverableDatabases = new RecoverableDatabasesInner(restClient().retrofit(), this);
-        this.restorableDroppedDatabases = new RestorableDroppedDatabasesInner(restClient().retrofit(), this);
-        this.capabilities = new CapabilitiesInner(restClient().retrofit(), this);
-        this.servers = new ServersInner(restClient().retrofit(), this);
-        this.serverConnectionPolicies = new ServerConnectionPoliciesInner(restClient().retrofit(), this);
-        this.databases = new DatabasesInner(restClient().retrofit(), this);
-        this.databaseThreatDetectionPolicies = new DatabaseThreatDetectionPoliciesInner(restClient().retrofit(), this);
-        this.dataMaskingPolicies = new DataMaskingPoliciesInner(restClient().retrofit(), this);
-        this.dataMaskingRules = new DataMaskingRulesInner(restClient().retrofit(), this);
-        this.elasticPools = new ElasticPoolsInner(restClient().retrofit(), this);
-        this.firewallRules = new FirewallRulesInner(restClient().retrofit(), this);
-        this.geoBackupPolicies = new GeoBackupPoliciesInner(restClient().retrofit(), this);
-        this.recommendedElasticPools = new RecommendedElasticPoolsInner(restClient().retrofit(), this);
-        this.replicationLinks = new ReplicationLinksInner(restClient().retrofit(), this);
-        this.serverAzureADAdministrators = new ServerAzureADAdministratorsInner(restClient().retrofit(), this);
-        this.serverCommunicationLinks = new ServerCommunicationLinksInner(restClient().retrofit(), this);
-        this.serviceObjectives = new ServiceObjectivesInner(restClient().retrofit(), this);
-        this.elasticPoolActivities = new ElasticPoolActivitiesInner(restClient().retrofit(), this);
-        this.elasticPoolDatabaseActivities = new ElasticPoolDatabaseActivitiesInner(restClient().retrofit(), this);
-        this.serviceTierAdvisors = new ServiceTierAdvisorsInner(restClient().retrofit(), this);
-        this.transparentDataEncryptions = new TransparentDataEncryptionsInner(restClient().retrofit(), this);
-        this.transparentDataEncryptionActivities = new TransparentDataEncryptionActivitiesInner(restClient().retrofit(), this);
-        this.serverUsages = new ServerUsagesInner(restClient().retrofit(), this);
-        this.databaseUsages = new DatabaseUsagesInner(restClient().retrofit(), this);
-        this.databaseAutomaticTunings = new DatabaseAutomaticTuningsInner(restClient().retrofit(), this);
-        this.encryptionProtectors = new EncryptionProtectorsInner(restClient().retrofit(), this);
-        this.failoverGroups = new FailoverGroupsInner(restClient().retrofit(), this);
-        this.managedInstances = new ManagedInstancesInner(restClient().retrofit(), this);
-        this.operations = new OperationsInner(restClient().retrofit(), this);
-        this.serverKeys = new ServerKeysInner(restClient().retrofit(), this);
-        this.syncAgents = new SyncAgentsInner(restClient().retrofit(), this);
-        this.syncGroups = new SyncGroupsInner(restClient().retrofit(), this);
-        this.syncMembers = new SyncMembersInner(restClient().retrofit(), this);
-        this.subscriptionUsages = new SubscriptionUsagesInner(restClient().retrofit(), this);
-        this.virtualNetworkRules = new VirtualNetworkRulesInner(restClient().retrofit(), this);
-        this.extendedDatabaseBlobAuditingPolicies = new ExtendedDatabaseBlobAuditingPoliciesInner(restClient().retrofit(), this);
-        this.extendedServerBlobAuditingPolicies = new ExtendedServerBlobAuditingPoliciesInner(restClient().retrofit(), this);
-        this.serverBlobAuditingPolicies = new ServerBlobAuditingPoliciesInner(restClient().retrofit(), this);
-        this.databaseBlobAuditingPolicies = new DatabaseBlobAuditingPoliciesInner(restClient().retrofit(), this);
-        this.databaseVulnerabilityAssessmentRuleBaselines = new DatabaseVulnerabilityAssessmentRuleBaselinesInner(restClient().retrofit(), this);
-        this.databaseVulnerabilityAssessments = new DatabaseVulnerabilityAssessmentsInner(restClient().retrofit(), this);
-        this.jobAgents = new JobAgentsInner(restClient().retrofit(), this);
-        this.jobCredentials = new JobCredentialsInner(restClient().retrofit(), this);
-        this.jobExecutions = new JobExecutionsInner(restClient().retrofit(), this);
-        this.jobs = new JobsInner(restClient().retrofit(), this);
-        this.jobStepExecutions = new JobStepExecutionsInner(restClient().retrofit(), this);
-        this.jobSteps = new JobStepsInner(restClient().retrofit(), this);
-        this.jobTargetExecutions = new JobTargetExecutionsInner(restClient().retrofit(), this);
-        this.jobTargetGroups = new JobTargetGroupsInner(restClient().retrofit(), this);
-        this.jobVersions = new JobVersionsInner(restClient().retrofit(), this);
-        this.managedDatabases = new ManagedDatabasesInner(restClient().retrofit(), this);
-        this.sensitivityLabels = new SensitivityLabelsInner(restClient().retrofit(), this);
-        this.serverAutomaticTunings = new ServerAutomaticTuningsInner(restClient().retrofit(), this);
-        this.serverDnsAliases = new ServerDnsAliasesInner(restClient().retrofit(), this);
-        this.serverSecurityAlertPolicies = new ServerSecurityAlertPoliciesInner(restClient().retrofit(), this);
-        this.restorePoints = new RestorePointsInner(restClient().retrofit(), this);
-        this.databaseOperations = new DatabaseOperationsInner(restClient().retrofit(), this);
-        this.elasticPoolOperations = new ElasticPoolOperationsInner(restClient().retrofit(), this);
-        this.databaseVulnerabilityAssessmentScans = new DatabaseVulnerabilityAssessmentScansInner(restClient().retrofit(), this);
-        this.instanceFailoverGroups = new InstanceFailoverGroupsInner(restClient().retrofit(), this);
-        this.backupShortTermRetentionPolicies = new BackupShortTermRetentionPoliciesInner(restClient().retrofit(), this);
-        this.tdeCertificates = new TdeCertificatesInner(restClient().retrofit(), this);
-        this.managedInstanceTdeCertificates = new ManagedInstanceTdeCertificatesInner(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
     }
 
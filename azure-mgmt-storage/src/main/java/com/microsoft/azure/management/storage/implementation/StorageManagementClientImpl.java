@@ -135,91 +135,140 @@ public class StorageManagementClientImpl extends AzureServiceClient {
     /**
      * The OperationsInner object to access its operations.
      */
-    private OperationsInner operations;
+    private volatile OperationsInner operations;
 
     /**
      * Gets the OperationsInner object to access its operations.
      * @return the OperationsInner object.
      */
     public OperationsInner operations() {
+        if (this.operations == null) {
+            synchronized (this) {
+                if (this.operations == null) {
+                    this.operations = new OperationsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.operations;
     }
 
     /**
      * The SkusInner object to access its operations.
      */
-    private SkusInner skus;
+    private volatile SkusInner skus;
 
     /**
      * Gets the SkusInner object to access its operations.
      * @return the SkusInner object.
      */
     public SkusInner skus() {
+        if (this.skus == null) {
+            synchronized (this) {
+                if (this.skus == null) {
+                    this.skus = new SkusInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.skus;
     }
 
     /**
      * The StorageAccountsInner object to access its operations.
      */
-    private StorageAccountsInner storageAccounts;
+    private volatile StorageAccountsInner storageAccounts;
 
     /**
      * Gets the StorageAccountsInner object to access its operations.
      * @return the StorageAccountsInner object.
      */
     public StorageAccountsInner storageAccounts() {
+        if (this.storageAccounts == null) {
+            synchronized (this) {
+                if (this.storageAccounts == null) {
+                    this.storageAccounts = new StorageAccountsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.storageAccounts;
     }
 
     /**
      * The UsagesInner object to access its operations.
      */
-    private UsagesInner usages;
+    private volatile UsagesInner usages;
 
     /**
      * Gets the UsagesInner object to access its operations.
      * @return the UsagesInner object.
      */
     public UsagesInner usages() {
+        if (this.usages == null) {
+            synchronized (this) {
+                if (this.usages == null) {
+                    this.usages = new UsagesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.usages;
     }
 
     /**
      * The ManagementPoliciesInner object to access its operations.
      */
-    private ManagementPoliciesInner managementPolicies;
+    private volatile ManagementPoliciesInner managementPolicies;
 
     /**
      * Gets the ManagementPoliciesInner object to access its operations.
      * @return the ManagementPoliciesInner object.
      */
     public ManagementPoliciesInner managementPolicies() {
+        if (this.managementPolicies == null) {
+            synchronized (this) {
+                if (this.managementPolicies == null) {
+                    this.managementPolicies = new ManagementPoliciesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.managementPolicies;
     }
 
     /**
      * The BlobServicesInner object to access its operations.
      */
-    private BlobServicesInner blobServices;
+    private volatile BlobServicesInner blobServices;
 
     /**
      * Gets the BlobServicesInner object to access its operations.
      * @return the BlobServicesInner object.
      */
     public BlobServicesInner blobServices() {
+        if (this.blobServices == null) {
+            synchronized (this) {
+                if (this.blobServices == null) {
+                    this.blobServices = new BlobServicesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.blobServices;
     }
 
     /**
      * The BlobContainersInner object to access its operations.
      */
-    private BlobContainersInner blobContainers;
+    private volatile BlobContainersInner blobContainers;
 
     /**
      * Gets the BlobContainersInner object to access its operations.
      * @return the BlobContainersInner object.
      */
     public BlobContainersInner blobContainers() {
+        if (this.blobContainers == null) {
+            synchronized (this) {
+                if (this.blobContainers == null) {
+                    this.blobContainers = new BlobContainersInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.blobContainers;
     }
 
@@ -258,13 +307,6 @@ public class StorageManagementClientImpl extends AzureServiceClient {
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.operations = new OperationsInner(restClient().retrofit(), this);
-        this.skus = new SkusInner(restClient().retrofit(), this);
-        this.storageAccounts = new StorageAccountsInner(restClient().retrofit(), this);
-        this.usages = new UsagesInner(restClient().retrofit(), this);
-        this.managementPolicies = new ManagementPoliciesInner(restClient().retrofit(), this);
-        this.blobServices = new BlobServicesInner(restClient().retrofit(), this);
-        this.blobContainers = new BlobContainersInner(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
     }
 
@@ -135,65 +135,100 @@ public class TrafficManagerManagementClientImpl extends AzureServiceClient {
     /**
      * The EndpointsInner object to access its operations.
      */
-    private EndpointsInner endpoints;
+    private volatile EndpointsInner endpoints;
 
     /**
      * Gets the EndpointsInner object to access its operations.
      * @return the EndpointsInner object.
      */
     public EndpointsInner endpoints() {
+        if (this.endpoints == null) {
+            synchronized (this) {
+                if (this.endpoints == null) {
+                    this.endpoints = new EndpointsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.endpoints;
     }
 
     /**
      * The ProfilesInner object to access its operations.
      */
-    private ProfilesInner profiles;
+    private volatile ProfilesInner profiles;
 
     /**
      * Gets the ProfilesInner object to access its operations.
      * @return the ProfilesInner object.
      */
     public ProfilesInner profiles() {
+        if (this.profiles == null) {
+            synchronized (this) {
+                if (this.profiles == null) {
+                    this.profiles = new ProfilesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.profiles;
     }
 
     /**
      * The GeographicHierarchiesInner object to access its operations.
      */
-    private GeographicHierarchiesInner geographicHierarchies;
+    private volatile GeographicHierarchiesInner geographicHierarchies;
 
     /**
      * Gets the GeographicHierarchiesInner object to access its operations.
      * @return the GeographicHierarchiesInner object.
      */
     public GeographicHierarchiesInner geographicHierarchies() {
+        if (this.geographicHierarchies == null) {
+            synchronized (this) {
+                if (this.geographicHierarchies == null) {
+                    this.geographicHierarchies = new GeographicHierarchiesInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.geographicHierarchies;
     }
 
     /**
      * The HeatMapsInner object to access its operations.
      */
-    private HeatMapsInner heatMaps;
+    private volatile HeatMapsInner heatMaps;
 
     /**
      * Gets the HeatMapsInner object to access its operations.
      * @return the HeatMapsInner object.
      */
     public HeatMapsInner heatMaps() {
+        if (this.heatMaps == null) {
+            synchronized (this) {
+                if (this.heatMaps == null) {
+                    this.heatMaps = new HeatMapsInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.heatMaps;
     }
 
     /**
      * The TrafficManagerUserMetricsKeysInner object to access its operations.
      */
-    private TrafficManagerUserMetricsKeysInner trafficManagerUserMetricsKeys;
+    private volatile TrafficManagerUserMetricsKeysInner trafficManagerUserMetricsKeys;
 
     /**
      * Gets the TrafficManagerUserMetricsKeysInner object to access its operations.
      * @return the TrafficManagerUserMetricsKeysInner object.
      */
     public TrafficManagerUserMetricsKeysInner trafficManagerUserMetricsKeys() {
+        if (this.trafficManagerUserMetricsKeys == null) {
+            synchronized (this) {
+                if (this.trafficManagerUserMetricsKeys == null) {
+                    this.trafficManagerUserMetricsKeys = new TrafficManagerUserMetricsKeysInner(restClient().retrofit(), this);
+                }
+            }
+        }
         return this.trafficManagerUserMetricsKeys;
     }
 
@@ -232,11 +267,6 @@ public class TrafficManagerManagementClientImpl extends AzureServiceClient {
         this.acceptLanguage = "en-US";
         this.longRunningOperationRetryTimeout = 30;
         this.generateClientRequestId = true;
-        this.endpoints = new EndpointsInner(restClient().retrofit(), this);
-        this.profiles = new ProfilesInner(restClient().retrofit(), this);
-        this.geographicHierarchies = new GeographicHierarchiesInner(restClient().retrofit(), this);
-        this.heatMaps = new HeatMapsInner(restClient().retrofit(), this);
-        this.trafficManagerUserMetricsKeys = new TrafficManagerUserMetricsKeysInner(restClient().retrofit(), this);
         this.azureClient = new AzureClient(this);
     }
 
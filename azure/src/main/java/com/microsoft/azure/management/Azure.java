@@ -7,7 +7,6 @@
 package com.microsoft.azure.management;
 
 import com.microsoft.azure.AzureEnvironment;
-import com.microsoft.azure.AzureResponseBuilder;
 import com.microsoft.azure.CloudException;
 import com.microsoft.azure.PagedList;
 import com.microsoft.azure.credentials.ApplicationTokenCredentials;
@@ -104,8 +103,12 @@ import com.microsoft.azure.management.resources.Subscriptions;
 import com.microsoft.azure.management.resources.Tenants;
 import com.microsoft.azure.management.resources.fluentcore.arm.AzureConfigurable;
 import com.microsoft.azure.management.resources.fluentcore.arm.implementation.AzureConfigurableImpl;
+import com.microsoft.azure.management.resources.fluentcore.arm.implementation.ManagerBase;
+import com.microsoft.azure.management.resources.fluentcore.utils.ConditionalRequestInterceptor;
 import com.microsoft.azure.management.resources.fluentcore.utils.ProviderRegistrationInterceptor;
-import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerThrottlingInterceptor;
+import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerMetricsInterceptor;
+import com.microsoft.azure.management.resources.fluentcore.utils.ResourceManagerThrottlingCallAdapterFactory;
+import com.microsoft.azure.management.resources.fluentcore.utils.StreamingPageResponseBuilder;
 import com.microsoft.azure.management.resources.implementation.ResourceManager;
 import com.microsoft.azure.management.search.SearchServices;
 import com.microsoft.azure.management.search.implementation.SearchServiceManager;
@@ -124,39 +127,185 @@ import com.microsoft.azure.management.trafficmanager.TrafficManagerProfiles;
 import com.microsoft.azure.management.trafficmanager.implementation.TrafficManager;
 import com.microsoft.azure.serializer.AzureJacksonAdapter;
 import com.microsoft.rest.RestClient;
+import okhttp3.OkHttpClient;
+import retrofit2.Retrofit;
+import rx.Scheduler;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collection;
 
 /**
  * The entry point for accessing resource management APIs in Azure.
  */
 public final class Azure {
-    private final ResourceManager resourceManager;
-    private final StorageManager storageManager;
-    private final ComputeManager computeManager;
-    private final NetworkManager networkManager;
-    private final KeyVaultManager keyVaultManager;
-    private final BatchManager batchManager;
-    private final BatchAIManager batchAIManager;
-    private final TrafficManager trafficManager;
-    private final RedisManager redisManager;
-    private final CdnManager cdnManager;
-    private final DnsZoneManager dnsZoneManager;
-    private final AppServiceManager appServiceManager;
-    private final SqlServerManager sqlServerManager;
-    private final ServiceBusManager serviceBusManager;
-    private final ContainerInstanceManager containerInstanceManager;
-    private final ContainerRegistryManager containerRegistryManager;
-    private final ContainerServiceManager containerServiceManager;
-    private final SearchServiceManager searchServiceManager;
-    private final CosmosDBManager cosmosDBManager;
-    private final AuthorizationManager authorizationManager;
-    private final MSIManager msiManager;
-    private final MonitorManager monitorManager;
-    private final EventHubManager eventHubManager;
+    private final RestClient restClient;
     private final String subscriptionId;
+    private final String tenantId;
     private final Authenticated authenticated;
+    private final Scheduler rxScheduler;
+
+    // The managers, created on first access
+    private final LazyManager<ResourceManager> resourceManager = new LazyManager<ResourceManager>() {
+        @Override
+        ResourceManager create() {
+            return ResourceManager.sharedInstance(restClient, subscriptionId, rxScheduler);
+        }
+    };
+
+    private final LazyManager<StorageManager> storageManager = new LazyManager<StorageManager>() {
+        @Override
+        StorageManager create() {
+            return configured(StorageManager.authenticate(restClient, subscriptionId));
+        }
+    };
+
+    private final LazyManager<ComputeManager> computeManager = new LazyManager<ComputeManager>() {
+        @Override
+        ComputeManager create() {
+            return configured(ComputeManager.authenticate(restClient, subscriptionId));
+        }
+    };
+
+    private final LazyManager<NetworkManager> networkManager = new LazyManager<NetworkManager>() {
+        @Override
+        NetworkManager create() {
+            return configured(NetworkManager.authenticate(restClient, subscriptionId));
+        }
+    };
+
+    private final LazyManager<KeyVaultManager> keyVaultManager = new LazyManager<KeyVaultManager>() {
+        @Override
+        KeyVaultManager create() {
+            return configured(KeyVaultManager.authenticate(restClient, tenantId, subscriptionId));
+        }
+    };
+
+    private final LazyManager<BatchManager> batchManager = new LazyManager<BatchManager>() {
+        @Override
+        BatchManager create() {
+            return configured(BatchManager.authenticate(restClient, subscriptionId));
+        }
+    };
+
+    private final LazyManager<BatchAIManager> batchAIManager = new LazyManager<BatchAIManager>() {
+        @Override
+        BatchAIManager create() {
+            return configured(BatchAIManager.authenticate(restClient, subscriptionId));
+        }
+    };
+
+    private final LazyManager<TrafficManager> trafficManager = new LazyManager<TrafficManager>() {
+        @Override
+        TrafficManager create() {
+            return configured(TrafficManager.authenticate(restClient, subscriptionId));
+        }
+    };
+
+    private final LazyManager<RedisManager> redisManager = new LazyManager<RedisManager>() {
+        @Override
+        RedisManager create() {
+            return configured(RedisManager.authenticate(restClient, subscriptionId));
+        }
+    };
+
+    private final LazyManager<CdnManager> cdnManager = new LazyManager<CdnManager>() {
+        @Override
+        CdnManager create() {
+            return configured(CdnManager.authenticate(restClient, subscriptionId));
+        }
+    };
+
+    private final LazyManager<DnsZoneManager> dnsZoneManager = new LazyManager<DnsZoneManager>() {
+        @Override
+        DnsZoneManager create() {
+            return configured(DnsZoneManager.authenticate(restClient, subscriptionId));
+        }
+    };
+
+    private final LazyManager<AppServiceManager> appServiceManager = new LazyManager<AppServiceManager>() {
+        @Override
+        AppServiceManager create() {
+            return configured(AppServiceManager.authenticate(restClient, tenantId, subscriptionId));
+        }
+    };
+
+    private final LazyManager<SqlServerManager> sqlServerManager = new LazyManager<SqlServerManager>() {
+        @Override
+        SqlServerManager create() {
+            return configured(SqlServerManager.authenticate(restClient, tenantId, subscriptionId));
+        }
+    };
+
+    private final LazyManager<ServiceBusManager> serviceBusManager = new LazyManager<ServiceBusManager>() {
+        @Override
+        ServiceBusManager create() {
+            return configured(ServiceBusManager.authenticate(restClient, subscriptionId));
+        }
+    };
+
+    private final LazyManager<ContainerInstanceManager> containerInstanceManager = new LazyManager<ContainerInstanceManager>() {
+        @Override
+        ContainerInstanceManager create() {
+            return configured(ContainerInstanceManager.authenticate(restClient, subscriptionId));
+        }
+    };
+
+    private final LazyManager<ContainerRegistryManager> containerRegistryManager = new LazyManager<ContainerRegistryManager>() {
+        @Override
+        ContainerRegistryManager create() {
+            return configured(ContainerRegistryManager.authenticate(restClient, subscriptionId));
+        }
+    };
+
+    private final LazyManager<ContainerServiceManager> containerServiceManager = new LazyManager<ContainerServiceManager>() {
+        @Override
+        ContainerServiceManager create() {
+            return configured(ContainerServiceManager.authenticate(restClient, subscriptionId));
+        }
+    };
+
+    private final LazyManager<CosmosDBManager> cosmosDBManager = new LazyManager<CosmosDBManager>() {
+        @Override
+        CosmosDBManager create() {
+            return configured(CosmosDBManager.authenticate(restClient, subscriptionId));
+        }
+    };
+
+    private final LazyManager<SearchServiceManager> searchServiceManager = new LazyManager<SearchServiceManager>() {
+        @Override
+        SearchServiceManager create() {
+            return configured(SearchServiceManager.authenticate(restClient, subscriptionId));
+        }
+    };
+
+    private final LazyManager<AuthorizationManager> authorizationManager = new LazyManager<AuthorizationManager>() {
+        @Override
+        AuthorizationManager create() {
+            return configured(AuthorizationManager.authenticate(restClient, subscriptionId));
+        }
+    };
+
+    private final LazyManager<MSIManager> msiManager = new LazyManager<MSIManager>() {
+        @Override
+        MSIManager create() {
+            return configured(MSIManager.authenticate(restClient, subscriptionId));
+        }
+    };
+
+    private final LazyManager<MonitorManager> monitorManager = new LazyManager<MonitorManager>() {
+        @Override
+        MonitorManager create() {
+            return configured(MonitorManager.authenticate(restClient, subscriptionId));
+        }
+    };
+
+    private final LazyManager<EventHubManager> eventHubManager = new LazyManager<EventHubManager>() {
+        @Override
+        EventHubManager create() {
+            return configured(EventHubManager.authenticate(restClient, subscriptionId));
+        }
+    };
 
     /**
      * Authenticate to Azure using an Azure credentials object.
@@ -165,13 +314,17 @@ public final class Azure {
      * @return the authenticated Azure client
      */
     public static Authenticated authenticate(AzureTokenCredentials credentials) {
-        return new AuthenticatedImpl(new RestClient.Builder()
+        ResourceManagerThrottlingCallAdapterFactory throttling = new ResourceManagerThrottlingCallAdapterFactory();
+        return new AuthenticatedImpl(new RestClient.Builder(new OkHttpClient.Builder(), new Retrofit.Builder()
+                        .addCallAdapterFactory(throttling))
                 .withBaseUrl(credentials.environment(), AzureEnvironment.Endpoint.RESOURCE_MANAGER)
                 .withCredentials(credentials)
                 .withSerializerAdapter(new AzureJacksonAdapter())
-                .withResponseBuilderFactory(new AzureResponseBuilder.Factory())
+                .withResponseBuilderFactory(new StreamingPageResponseBuilder.Factory())
+                .withInterceptor(new ResourceManagerMetricsInterceptor())
                 .withInterceptor(new ProviderRegistrationInterceptor(credentials))
-                .withInterceptor(new ResourceManagerThrottlingInterceptor())
+                .withInterceptor(throttling.interceptor())
+                .withInterceptor(new ConditionalRequestInterceptor())
                 .build(), credentials.domain());
     }
 
@@ -193,13 +346,17 @@ public final class Azure {
      */
     public static Authenticated authenticate(File credentialsFile) throws IOException {
         ApplicationTokenCredentials credentials = ApplicationTokenCredentials.fromFile(credentialsFile);
-        return new AuthenticatedImpl(new RestClient.Builder()
+        ResourceManagerThrottlingCallAdapterFactory throttling = new ResourceManagerThrottlingCallAdapterFactory();
+        return new AuthenticatedImpl(new RestClient.Builder(new OkHttpClient.Builder(), new Retrofit.Builder()
+                        .addCallAdapterFactory(throttling))
                 .withBaseUrl(credentials.environment(), AzureEnvironment.Endpoint.RESOURCE_MANAGER)
                 .withCredentials(credentials)
                 .withSerializerAdapter(new AzureJacksonAdapter())
-                .withResponseBuilderFactory(new AzureResponseBuilder.Factory())
+                .withResponseBuilderFactory(new StreamingPageResponseBuilder.Factory())
+                .withInterceptor(new ResourceManagerMetricsInterceptor())
                 .withInterceptor(new ProviderRegistrationInterceptor(credentials))
-                .withInterceptor(new ResourceManagerThrottlingInterceptor())
+                .withInterceptor(throttling.interceptor())
+                .withInterceptor(new ConditionalRequestInterceptor())
                 .build(), credentials.domain()).withDefaultSubscription(credentials.defaultSubscriptionId());
     }
 
@@ -261,16 +418,20 @@ public final class Azure {
         @Override
         public Authenticated authenticate(AzureTokenCredentials credentials) {
             if (credentials.defaultSubscriptionId() != null) {
-                return Azure.authenticate(buildRestClient(credentials), credentials.domain(), credentials.defaultSubscriptionId());
+                return authenticated(credentials).withDefaultSubscription(credentials.defaultSubscriptionId());
             } else {
-                return Azure.authenticate(buildRestClient(credentials), credentials.domain());
+                return authenticated(credentials);
             }
         }
 
         @Override
         public Authenticated authenticate(File credentialsFile) throws IOException {
             ApplicationTokenCredentials credentials = ApplicationTokenCredentials.fromFile(credentialsFile);
-            return Azure.authenticate(buildRestClient(credentials), credentials.domain(), credentials.defaultSubscriptionId());
+            return authenticated(credentials).withDefaultSubscription(credentials.defaultSubscriptionId());
+        }
+
+        private AuthenticatedImpl authenticated(AzureTokenCredentials credentials) {
+            return new AuthenticatedImpl(buildRestClient(credentials), credentials.domain()).withRxScheduler(scheduler());
         }
     }
 
@@ -321,6 +482,16 @@ public final class Azure {
          * @throws IOException exception thrown from serialization/deserialization
          */
         Azure withDefaultSubscription() throws CloudException, IOException;
+
+        /**
+         * Selects several subscriptions to run listings across, with a bounded number of subscriptions
+         * listed concurrently.
+         *
+         * @param subscriptionIds the IDs of the subscriptions
+         * @return the fan-out running listings across the subscriptions
+         */
+        @Beta(SinceVersion.V1_23_0)
+        SubscriptionFanOut forSubscriptions(Collection<String> subscriptionIds);
     }
 
     /**
@@ -329,13 +500,18 @@ public final class Azure {
     private static final class AuthenticatedImpl implements Authenticated {
         private final RestClient restClient;
         private final ResourceManager.Authenticated resourceManagerAuthenticated;
-        private final GraphRbacManager graphRbacManager;
+        private final LazyManager<GraphRbacManager> graphRbacManager = new LazyManager<GraphRbacManager>() {
+            @Override
+            GraphRbacManager create() {
+                return GraphRbacManager.authenticate(restClient, tenantId);
+            }
+        };
         private String defaultSubscription;
         private String tenantId;
+        private Scheduler rxScheduler;
 
         private AuthenticatedImpl(RestClient restClient, String tenantId) {
             this.resourceManagerAuthenticated = ResourceManager.authenticate(restClient);
-            this.graphRbacManager = GraphRbacManager.authenticate(restClient, tenantId);
             this.restClient = restClient;
             this.tenantId = tenantId;
         }
@@ -345,6 +521,11 @@ public final class Azure {
             return this;
         }
 
+        private AuthenticatedImpl withRxScheduler(Scheduler rxScheduler) {
+            this.rxScheduler = rxScheduler;
+            return this;
+        }
+
         @Override
         public String tenantId() {
             return tenantId;
@@ -362,37 +543,37 @@ public final class Azure {
 
         @Override
         public ActiveDirectoryUsers activeDirectoryUsers() {
-            return graphRbacManager.users();
+            return graphRbacManager.get().users();
         }
 
         @Override
         public ActiveDirectoryGroups activeDirectoryGroups() {
-            return graphRbacManager.groups();
+            return graphRbacManager.get().groups();
         }
 
         @Override
         public ServicePrincipals servicePrincipals() {
-            return graphRbacManager.servicePrincipals();
+            return graphRbacManager.get().servicePrincipals();
         }
 
         @Override
         public ActiveDirectoryApplications activeDirectoryApplications() {
-            return graphRbacManager.applications();
+            return graphRbacManager.get().applications();
         }
 
         @Override
         public RoleDefinitions roleDefinitions() {
-            return graphRbacManager.roleDefinitions();
+            return graphRbacManager.get().roleDefinitions();
         }
 
         @Override
         public RoleAssignments roleAssignments() {
-            return graphRbacManager.roleAssignments();
+            return graphRbacManager.get().roleAssignments();
         }
 
         @Override
         public Azure withSubscription(String subscriptionId) {
-            return new Azure(restClient, subscriptionId, tenantId, this);
+            return new Azure(restClient, subscriptionId, tenantId, this, rxScheduler);
         }
 
         @Override
@@ -408,34 +589,34 @@ public final class Azure {
                 }
             }
         }
+
+        @Override
+        public SubscriptionFanOut forSubscriptions(Collection<String> subscriptionIds) {
+            return new SubscriptionFanOut(this, subscriptionIds);
+        }
     }
 
-    private Azure(RestClient restClient, String subscriptionId, String tenantId, Authenticated authenticated) {
-        this.resourceManager = ResourceManager.authenticate(restClient).withSubscription(subscriptionId);
-        this.storageManager = StorageManager.authenticate(restClient, subscriptionId);
-        this.computeManager = ComputeManager.authenticate(restClient, subscriptionId);
-        this.networkManager = NetworkManager.authenticate(restClient, subscriptionId);
-        this.keyVaultManager = KeyVaultManager.authenticate(restClient, tenantId, subscriptionId);
-        this.batchManager = BatchManager.authenticate(restClient, subscriptionId);
-        this.batchAIManager = BatchAIManager.authenticate(restClient, subscriptionId);
-        this.trafficManager = TrafficManager.authenticate(restClient, subscriptionId);
-        this.redisManager = RedisManager.authenticate(restClient, subscriptionId);
-        this.cdnManager = CdnManager.authenticate(restClient, subscriptionId);
-        this.dnsZoneManager = DnsZoneManager.authenticate(restClient, subscriptionId);
-        this.appServiceManager = AppServiceManager.authenticate(restClient, tenantId, subscriptionId);
-        this.sqlServerManager = SqlServerManager.authenticate(restClient, tenantId, subscriptionId);
-        this.serviceBusManager = ServiceBusManager.authenticate(restClient, subscriptionId);
-        this.containerInstanceManager = ContainerInstanceManager.authenticate(restClient, subscriptionId);
-        this.containerRegistryManager = ContainerRegistryManager.authenticate(restClient, subscriptionId);
-        this.containerServiceManager = ContainerServiceManager.authenticate(restClient, subscriptionId);
-        this.cosmosDBManager = CosmosDBManager.authenticate(restClient, subscriptionId);
-        this.searchServiceManager = SearchServiceManager.authenticate(restClient, subscriptionId);
-        this.authorizationManager = AuthorizationManager.authenticate(restClient, subscriptionId);
-        this.msiManager = MSIManager.authenticate(restClient, subscriptionId);
-        this.monitorManager = MonitorManager.authenticate(restClient, subscriptionId);
-        this.eventHubManager = EventHubManager.authenticate(restClient, subscriptionId);
+    private Azure(RestClient restClient, String subscriptionId, String tenantId, Authenticated authenticated,
+                  Scheduler rxScheduler) {
+        this.restClient = restClient;
         this.subscriptionId = subscriptionId;
+        this.tenantId = tenantId;
         this.authenticated = authenticated;
+        this.rxScheduler = rxScheduler;
+    }
+
+    /**
+     * Applies the Rx Scheduler of the client, if any, to a manager created on first access.
+     *
+     * @param manager the manager
+     * @param <T> the type of the manager
+     * @return the manager
+     */
+    private <T extends ManagerBase> T configured(T manager) {
+        if (rxScheduler != null) {
+            manager.setRxScheduler(rxScheduler);
+        }
+        return manager;
     }
 
     /**
@@ -463,147 +644,147 @@ public final class Azure {
      * @return entry point to managing resource groups
      */
     public ResourceGroups resourceGroups() {
-        return this.resourceManager.resourceGroups();
+        return resourceManager.get().resourceGroups();
     }
 
     /**
      * @return entry point to managing deployments
      */
     public Deployments deployments() {
-        return this.resourceManager.deployments();
+        return resourceManager.get().deployments();
     }
 
     /**
      * @return entry point to managing generic resources
      */
     public GenericResources genericResources() {
-        return resourceManager.genericResources();
+        return resourceManager.get().genericResources();
     }
 
     /**
      * @return entry point to managing management locks
      */
     public ManagementLocks managementLocks() {
-        return this.authorizationManager.managementLocks();
+        return authorizationManager.get().managementLocks();
     }
 
     /**
      * @return entry point to managing features
      */
     public Features features() {
-        return resourceManager.features();
+        return resourceManager.get().features();
     }
 
     /**
      * @return entry point to managing resource providers
      */
     public Providers providers() {
-        return resourceManager.providers();
+        return resourceManager.get().providers();
     }
 
     /**
      * @return entry point to managing policy definitions.
      */
     public PolicyDefinitions policyDefinitions() {
-        return resourceManager.policyDefinitions();
+        return resourceManager.get().policyDefinitions();
     }
 
     /**
      * @return entry point to managing policy assignments.
      */
     public PolicyAssignments policyAssignments() {
-        return resourceManager.policyAssignments();
+        return resourceManager.get().policyAssignments();
     }
 
     /**
      * @return entry point to managing storage accounts
      */
     public StorageAccounts storageAccounts() {
-        return storageManager.storageAccounts();
+        return storageManager.get().storageAccounts();
     }
 
     /**
      * @return entry point to managing storage account usages
      */
     public Usages storageUsages() {
-        return storageManager.usages();
+        return storageManager.get().usages();
     }
 
     /**
      * @return entry point to managing storage service SKUs
      */
     public StorageSkus storageSkus() {
-        return storageManager.storageSkus();
+        return storageManager.get().storageSkus();
     }
 
     /**
      * @return entry point to managing availability sets
      */
     public AvailabilitySets availabilitySets() {
-        return computeManager.availabilitySets();
+        return computeManager.get().availabilitySets();
     }
 
     /**
      * @return entry point to managing virtual networks
      */
     public Networks networks() {
-        return networkManager.networks();
+        return networkManager.get().networks();
     }
 
     /**
      * @return entry point to managing route tables
      */
     public RouteTables routeTables() {
-        return networkManager.routeTables();
+        return networkManager.get().routeTables();
     }
 
     /**
      * @return entry point to managing load balancers
      */
     public LoadBalancers loadBalancers() {
-        return networkManager.loadBalancers();
+        return networkManager.get().loadBalancers();
     }
 
     /**
      * @return entry point to managing application gateways
      */
     public ApplicationGateways applicationGateways() {
-        return networkManager.applicationGateways();
+        return networkManager.get().applicationGateways();
     }
 
     /**
      * @return entry point to managing network security groups
      */
     public NetworkSecurityGroups networkSecurityGroups() {
-        return networkManager.networkSecurityGroups();
+        return networkManager.get().networkSecurityGroups();
     }
 
     /**
      * @return entry point to managing network resource usages
      */
     public NetworkUsages networkUsages() {
-        return networkManager.usages();
+        return networkManager.get().usages();
     }
 
     /**
      * @return entry point to managing network watchers
      */
     public NetworkWatchers networkWatchers() {
-        return networkManager.networkWatchers();
+        return networkManager.get().networkWatchers();
     }
 
     /**
      * @return entry point to managing virtual network gateways
      */
     public VirtualNetworkGateways virtualNetworkGateways() {
-        return networkManager.virtualNetworkGateways();
+        return networkManager.get().virtualNetworkGateways();
     }
 
     /**
      * @return entry point to managing local network gateways
      */
     public LocalNetworkGateways localNetworkGateways() {
-        return networkManager.localNetworkGateways();
+        return networkManager.get().localNetworkGateways();
     }
 
     /**
@@ -611,7 +792,7 @@ public final class Azure {
      */
     @Beta(SinceVersion.V1_4_0)
     public ExpressRouteCircuits expressRouteCircuits() {
-        return networkManager.expressRouteCircuits();
+        return networkManager.get().expressRouteCircuits();
     }
 
     /**
@@ -619,7 +800,7 @@ public final class Azure {
      */
     @Beta(SinceVersion.V1_11_0)
     public ExpressRouteCrossConnections expressRouteCrossConnections() {
-        return networkManager.expressRouteCrossConnections();
+        return networkManager.get().expressRouteCrossConnections();
     }
 
     /**
@@ -627,7 +808,7 @@ public final class Azure {
      */
     @Beta(SinceVersion.V1_10_0)
     public ApplicationSecurityGroups applicationSecurityGroups() {
-        return networkManager.applicationSecurityGroups();
+        return networkManager.get().applicationSecurityGroups();
     }
 
     /**
@@ -635,7 +816,7 @@ public final class Azure {
      */
     @Beta(SinceVersion.V1_10_0)
     public RouteFilters routeFilters() {
-        return networkManager.routeFilters();
+        return networkManager.get().routeFilters();
     }
 
     /**
@@ -643,91 +824,91 @@ public final class Azure {
      */
     @Beta(SinceVersion.V1_10_0)
     public DdosProtectionPlans ddosProtectionPlans() {
-        return networkManager.ddosProtectionPlans();
+        return networkManager.get().ddosProtectionPlans();
     }
 
     /**
      * @return entry point to managing virtual machines
      */
     public VirtualMachines virtualMachines() {
-        return computeManager.virtualMachines();
+        return computeManager.get().virtualMachines();
     }
 
     /**
      * @return entry point to managing virtual machine scale sets.
      */
     public VirtualMachineScaleSets virtualMachineScaleSets() {
-        return computeManager.virtualMachineScaleSets();
+        return computeManager.get().virtualMachineScaleSets();
     }
 
     /**
      * @return entry point to managing virtual machine images
      */
     public VirtualMachineImages virtualMachineImages() {
-        return computeManager.virtualMachineImages();
+        return computeManager.get().virtualMachineImages();
     }
 
     /**
      * @return entry point to managing virtual machine custom images
      */
     public VirtualMachineCustomImages virtualMachineCustomImages() {
-        return computeManager.virtualMachineCustomImages();
+        return computeManager.get().virtualMachineCustomImages();
     }
 
     /**
      * @return entry point to managing managed disks
      */
     public Disks disks() {
-        return computeManager.disks();
+        return computeManager.get().disks();
     }
 
     /**
      * @return entry point to managing managed snapshots
      */
     public Snapshots snapshots() {
-        return computeManager.snapshots();
+        return computeManager.get().snapshots();
     }
 
     /**
      * @return the compute service SKU management API entry point
      */
     public ComputeSkus computeSkus() {
-        return computeManager.computeSkus();
+        return computeManager.get().computeSkus();
     }
 
     /**
      * @return entry point to managing public IP addresses
      */
     public PublicIPAddresses publicIPAddresses() {
-        return this.networkManager.publicIPAddresses();
+        return networkManager.get().publicIPAddresses();
     }
 
     /**
      * @return entry point to managing network interfaces
      */
     public NetworkInterfaces networkInterfaces() {
-        return this.networkManager.networkInterfaces();
+        return networkManager.get().networkInterfaces();
     }
 
     /**
      * @return entry point to managing compute resource usages
      */
     public ComputeUsages computeUsages() {
-        return computeManager.usages();
+        return computeManager.get().usages();
     }
 
     /**
      * @return entry point to managing key vaults
      */
     public Vaults vaults() {
-        return this.keyVaultManager.vaults();
+        return keyVaultManager.get().vaults();
     }
 
     /**
      * @return entry point to managing batch accounts.
      */
     public BatchAccounts batchAccounts() {
-        return batchManager.batchAccounts();
+        return batchManager.get().batchAccounts();
     }
 
     /**
@@ -735,7 +916,7 @@ public final class Azure {
      */
     @Beta(SinceVersion.V1_12_0)
     public BatchAIWorkspaces batchAIWorkspaces() {
-        return batchAIManager.workspaces();
+        return batchAIManager.get().workspaces();
     }
 
     /**
@@ -743,35 +924,35 @@ public final class Azure {
      */
     @Beta(SinceVersion.V1_12_0)
     public BatchAIUsages batchAIUsages() {
-        return batchAIManager.usages();
+        return batchAIManager.get().usages();
     }
 
     /**
      * @return entry point to managing traffic manager profiles.
      */
     public TrafficManagerProfiles trafficManagerProfiles() {
-        return trafficManager.profiles();
+        return trafficManager.get().profiles();
     }
 
     /**
      * @return entry point to managing Redis Caches.
      */
     public RedisCaches redisCaches() {
-        return redisManager.redisCaches();
+        return redisManager.get().redisCaches();
     }
 
     /**
      * @return entry point to managing cdn manager profiles.
      */
     public CdnProfiles cdnProfiles() {
-        return cdnManager.profiles();
+        return cdnManager.get().profiles();
     }
 
     /**
      * @return entry point to managing DNS zones.
      */
     public DnsZones dnsZones() {
-        return dnsZoneManager.zones();
+        return dnsZoneManager.get().zones();
     }
 
     /**
@@ -779,7 +960,7 @@ public final class Azure {
      */
     @Beta
     public WebApps webApps() {
-        return appServiceManager.webApps();
+        return appServiceManager.get().webApps();
     }
 
     /**
@@ -787,14 +968,14 @@ public final class Azure {
      */
     @Beta
     public AppServiceManager appServices() {
-        return appServiceManager;
+        return appServiceManager.get();
     }
 
     /**
      * @return entry point to managing Sql server.
      */
     public SqlServers sqlServers() {
-        return sqlServerManager.sqlServers();
+        return sqlServerManager.get().sqlServers();
     }
 
     /**
@@ -802,7 +983,7 @@ public final class Azure {
      */
     @Beta
     public ServiceBusNamespaces serviceBusNamespaces() {
-        return serviceBusManager.namespaces();
+        return serviceBusManager.get().namespaces();
     }
 
     /**
@@ -811,7 +992,7 @@ public final class Azure {
     // TODO: To be revisited in the future
     //@Beta(SinceVersion.V1_1_0)
     //public ServiceBusOperations serviceBusOperations() {
-    //    return serviceBusManager.operations();
+    //    return serviceBusManager.get().operations();
     //}
 
     /**
@@ -819,7 +1000,7 @@ public final class Azure {
      */
     @Beta(SinceVersion.V1_4_0)
     public ContainerServices containerServices() {
-        return containerServiceManager.containerServices();
+        return containerServiceManager.get().containerServices();
     }
 
     /**
@@ -827,7 +1008,7 @@ public final class Azure {
      */
     @Beta(SinceVersion.V1_4_0)
     public KubernetesClusters kubernetesClusters() {
-        return containerServiceManager.kubernetesClusters();
+        return containerServiceManager.get().kubernetesClusters();
     }
 
     /**
@@ -835,7 +1016,7 @@ public final class Azure {
      */
     @Beta(SinceVersion.V1_3_0)
     public ContainerGroups containerGroups() {
-        return containerInstanceManager.containerGroups();
+        return containerInstanceManager.get().containerGroups();
     }
 
     /**
@@ -843,7 +1024,7 @@ public final class Azure {
      */
     @Beta(SinceVersion.V1_1_0)
     public Registries containerRegistries() {
-        return containerRegistryManager.containerRegistries();
+        return containerRegistryManager.get().containerRegistries();
     }
 
     /**
@@ -851,7 +1032,7 @@ public final class Azure {
      */
     @Beta
     public RegistryTasks containerRegistryTasks() {
-        return containerRegistryManager.containerRegistryTasks();
+        return containerRegistryManager.get().containerRegistryTasks();
     }
 
     /**
@@ -859,7 +1040,7 @@ public final class Azure {
      */
     @Beta
     public RegistryTaskRuns containerRegistryTaskRuns() {
-        return containerRegistryManager.registryTaskRuns();
+        return containerRegistryManager.get().registryTaskRuns();
     }
 
     /**
@@ -867,7 +1048,7 @@ public final class Azure {
      */
     @Beta(SinceVersion.V1_2_0)
     public CosmosDBAccounts cosmosDBAccounts() {
-        return cosmosDBManager.databaseAccounts();
+        return cosmosDBManager.get().databaseAccounts();
     }
 
     /**
@@ -875,7 +1056,7 @@ public final class Azure {
      */
     @Beta(SinceVersion.V1_2_0)
     public SearchServices searchServices() {
-        return searchServiceManager.searchServices();
+        return searchServiceManager.get().searchServices();
     }
 
     /**
@@ -883,7 +1064,7 @@ public final class Azure {
      */
     @Beta(Beta.SinceVersion.V1_5_1)
     public Identities identities() {
-        return msiManager.identities();
+        return msiManager.get().identities();
     }
 
     /**
@@ -899,7 +1080,7 @@ public final class Azure {
      */
     @Beta(SinceVersion.V1_6_0)
     public ActivityLogs activityLogs() {
-        return this.monitorManager.activityLogs();
+        return monitorManager.get().activityLogs();
     }
 
     /**
@@ -907,7 +1088,7 @@ public final class Azure {
      */
     @Beta(SinceVersion.V1_6_0)
     public MetricDefinitions metricDefinitions() {
-        return this.monitorManager.metricDefinitions();
+        return monitorManager.get().metricDefinitions();
     }
 
     /**
@@ -915,7 +1096,7 @@ public final class Azure {
      */
     @Beta(SinceVersion.V1_8_0)
     public DiagnosticSettings diagnosticSettings() {
-        return this.monitorManager.diagnosticSettings();
+        return monitorManager.get().diagnosticSettings();
     }
 
     /**
@@ -923,7 +1104,7 @@ public final class Azure {
      */
     @Beta(SinceVersion.V1_9_0)
     public ActionGroups actionGroups() {
-        return this.monitorManager.actionGroups();
+        return monitorManager.get().actionGroups();
     }
 
     /**
@@ -931,7 +1112,7 @@ public final class Azure {
      */
     @Beta(SinceVersion.V1_15_0)
     public AlertRules alertRules() {
-        return this.monitorManager.alertRules();
+        return monitorManager.get().alertRules();
     }
 
 
@@ -940,7 +1121,7 @@ public final class Azure {
      */
     @Beta(SinceVersion.V1_15_0)
     public AutoscaleSettings autoscaleSettings() {
-        return this.monitorManager.autoscaleSettings();
+        return monitorManager.get().autoscaleSettings();
     }
 
     /**
@@ -948,7 +1129,7 @@ public final class Azure {
      */
     @Beta(SinceVersion.V1_7_0)
     public EventHubNamespaces eventHubNamespaces() {
-        return this.eventHubManager.namespaces();
+        return eventHubManager.get().namespaces();
     }
 
     /**
@@ -956,7 +1137,7 @@ public final class Azure {
      */
     @Beta(SinceVersion.V1_7_0)
     public EventHubs eventHubs() {
-        return this.eventHubManager.eventHubs();
+        return eventHubManager.get().eventHubs();
     }
 
     /**
@@ -964,7 +1145,7 @@ public final class Azure {
      */
     @Beta(SinceVersion.V1_7_0)
     public EventHubDisasterRecoveryPairings eventHubDisasterRecoveryPairings() {
-        return this.eventHubManager.eventHubDisasterRecoveryPairings();
+        return eventHubManager.get().eventHubDisasterRecoveryPairings();
     }
 
     /**
@@ -972,7 +1153,7 @@ public final class Azure {
      */
     @Beta(Beta.SinceVersion.V1_15_0)
     public Galleries galleries() {
-        return this.computeManager.galleries();
+        return computeManager.get().galleries();
     }
 
     /**
@@ -980,7 +1161,7 @@ public final class Azure {
      */
     @Beta(Beta.SinceVersion.V1_15_0)
     public GalleryImages galleryImages() {
-        return this.computeManager.galleryImages();
+        return computeManager.get().galleryImages();
     }
 
     /**
@@ -988,27 +1169,52 @@ public final class Azure {
      */
     @Beta(Beta.SinceVersion.V1_15_0)
     public GalleryImageVersions galleryImageVersions() {
-        return this.computeManager.galleryImageVersions();
+        return computeManager.get().galleryImageVersions();
     }
 
     /**
      * @return the blob container management API entry point
      */
     public BlobContainers storageBlobContainers() {
-        return this.storageManager.blobContainers();
+        return storageManager.get().blobContainers();
     }
 
     /**
      * @return the blob service management API entry point
      */
     public BlobServices storageBlobServices() {
-        return this.storageManager.blobServices();
+        return storageManager.get().blobServices();
     }
 
     /**
      * @return the blob service management API entry point
      */
     public ManagementPolicies storageManagementPolicies() {
-        return this.storageManager.managementPolicies();
+        return storageManager.get().managementPolicies();
+    }
+
+    /**
+     * A manager created on first access.
+     *
+     * @param <T> the manager type
+     */
+    private abstract static class LazyManager<T> {
+        private volatile T manager;
+
+        abstract T create();
+
+        T get() {
+            T result = manager;
+            if (result == null) {
+                synchronized (this) {
+                    result = manager;
+                    if (result == null) {
+                        result = create();
+                        manager = result;
+                    }
+                }
+            }
+            return result;
+        }
     }
 }
@@ -0,0 +1,200 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management;
+
+import com.microsoft.azure.management.apigeneration.Beta;
+import com.microsoft.azure.management.apigeneration.Beta.SinceVersion;
+import com.microsoft.azure.management.apigeneration.LangDefinition;
+import com.microsoft.azure.management.compute.VirtualMachine;
+import com.microsoft.azure.management.resources.GenericResource;
+import com.microsoft.azure.management.storage.StorageAccount;
+import rx.Observable;
+import rx.functions.Func0;
+import rx.functions.Func1;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Runs a listing across several subscriptions with a bounded number of subscriptions listed concurrently,
+ * merging the items of all the subscriptions in one stream.
+ * <p>
+ * The subscriptions share the HTTP client of the authenticated entry point, and the client of a subscription
+ * is only created when it is first listed, with its managers created on demand. A subscription failing to
+ * list does not stop the others, its error is emitted once all the subscriptions are listed, wrapped in a
+ * {@link SubscriptionListingException} naming the subscription.
+ */
+@LangDefinition
+@Beta(SinceVersion.V1_23_0)
+public final class SubscriptionFanOut {
+    private static final int DEFAULT_MAX_CONCURRENCY = 8;
+
+    private final Azure.Authenticated authenticated;
+    private final List<String> subscriptionIds;
+    private final ConcurrentMap<String, Azure> clients = new ConcurrentHashMap<>();
+    private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+    SubscriptionFanOut(Azure.Authenticated authenticated, Collection<String> subscriptionIds) {
+        this.authenticated = authenticated;
+        this.subscriptionIds = new ArrayList<>(new LinkedHashSet<>(subscriptionIds));
+    }
+
+    /**
+     * Specifies the maximum number of subscriptions listed concurrently, 8 by default.
+     *
+     * @param maxConcurrency the maximum number of subscriptions listed concurrently
+     * @return the fan-out itself
+     */
+    public SubscriptionFanOut withMaxConcurrency(int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The maximum concurrency must be at least 1.");
+        }
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * @return the IDs of the subscriptions
+     */
+    public List<String> subscriptionIds() {
+        return subscriptionIds;
+    }
+
+    /**
+     * Runs a listing in each subscription.
+     *
+     * @param listing the listing, given the client of one subscription
+     * @param <T> the type of the items
+     * @return an observable emitting the items of all the subscriptions, tagged with their subscription ID, the
+     * errors of the subscriptions being {@link SubscriptionListingException}
+     */
+    public <T> Observable<Item<T>> listAsync(final Func1<Azure, Observable<T>> listing) {
+        return Observable.mergeDelayError(Observable.from(subscriptionIds)
+                .map(new Func1<String, Observable<Item<T>>>() {
+                    @Override
+                    public Observable<Item<T>> call(final String subscriptionId) {
+                        return Observable.defer(new Func0<Observable<T>>() {
+                            @Override
+                            public Observable<T> call() {
+                                return listing.call(client(subscriptionId));
+                            }
+                        }).map(new Func1<T, Item<T>>() {
+                            @Override
+                            public Item<T> call(T value) {
+                                return new Item<>(subscriptionId, value);
+                            }
+                        }).onErrorResumeNext(new Func1<Throwable, Observable<Item<T>>>() {
+                            @Override
+                            public Observable<Item<T>> call(Throwable throwable) {
+                                return Observable.error(new SubscriptionListingException(subscriptionId, throwable));
+                            }
+                        });
+                    }
+                }), maxConcurrency);
+    }
+
+    /**
+     * @return an observable emitting the virtual machines of all the subscriptions
+     */
+    public Observable<Item<VirtualMachine>> listVirtualMachinesAsync() {
+        return listAsync(new Func1<Azure, Observable<VirtualMachine>>() {
+            @Override
+            public Observable<VirtualMachine> call(Azure azure) {
+                return azure.virtualMachines().listAsync();
+            }
+        });
+    }
+
+    /**
+     * @return an observable emitting the storage accounts of all the subscriptions
+     */
+    public Observable<Item<StorageAccount>> listStorageAccountsAsync() {
+        return listAsync(new Func1<Azure, Observable<StorageAccount>>() {
+            @Override
+            public Observable<StorageAccount> call(Azure azure) {
+                return azure.storageAccounts().listAsync();
+            }
+        });
+    }
+
+    /**
+     * @return an observable emitting the resources of all the subscriptions
+     */
+    public Observable<Item<GenericResource>> listGenericResourcesAsync() {
+        return listAsync(new Func1<Azure, Observable<GenericResource>>() {
+            @Override
+            public Observable<GenericResource> call(Azure azure) {
+                return azure.genericResources().listAsync();
+            }
+        });
+    }
+
+    private Azure client(String subscriptionId) {
+        Azure azure = clients.get(subscriptionId);
+        if (azure == null) {
+            azure = authenticated.withSubscription(subscriptionId);
+            Azure existing = clients.putIfAbsent(subscriptionId, azure);
+            if (existing != null) {
+                azure = existing;
+            }
+        }
+        return azure;
+    }
+
+    /**
+     * An item listed in a subscription.
+     *
+     * @param <T> the type of the item
+     */
+    public static final class Item<T> {
+        private final String subscriptionId;
+        private final T value;
+
+        Item(String subscriptionId, T value) {
+            this.subscriptionId = subscriptionId;
+            this.value = value;
+        }
+
+        /**
+         * @return the ID of the subscription the item was listed in
+         */
+        public String subscriptionId() {
+            return subscriptionId;
+        }
+
+        /**
+         * @return the item
+         */
+        public T value() {
+            return value;
+        }
+    }
+
+    /**
+     * The error of the listing of a subscription.
+     */
+    public static final class SubscriptionListingException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        private final String subscriptionId;
+
+        SubscriptionListingException(String subscriptionId, Throwable cause) {
+            super("Listing subscription " + subscriptionId + " failed: " + cause.getMessage(), cause);
+            this.subscriptionId = subscriptionId;
+        }
+
+        /**
+         * @return the ID of the subscription that failed to list
+         */
+        public String subscriptionId() {
+            return subscriptionId;
+        }
+    }
+}
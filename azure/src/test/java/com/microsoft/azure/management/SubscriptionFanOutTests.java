@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See License.txt in the project root for
+ * license information.
+ */
+
+package com.microsoft.azure.management;
+
+import com.microsoft.azure.AzureEnvironment;
+import com.microsoft.azure.AzureResponseBuilder;
+import com.microsoft.azure.credentials.AzureTokenCredentials;
+import com.microsoft.azure.serializer.AzureJacksonAdapter;
+import com.microsoft.rest.RestClient;
+import org.junit.Assert;
+import org.junit.Test;
+import rx.Observable;
+import rx.exceptions.CompositeException;
+import rx.functions.Func1;
+import rx.observers.TestSubscriber;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class SubscriptionFanOutTests {
+    @Test
+    public void canListAcrossSubscriptions() {
+        SubscriptionFanOut fanOut = authenticated()
+                .forSubscriptions(Arrays.asList("sub1", "sub2", "sub3", "sub2"))
+                .withMaxConcurrency(2);
+        final Set<Azure> clients = Collections.synchronizedSet(new HashSet<Azure>());
+        Func1<Azure, Observable<String>> listing = new Func1<Azure, Observable<String>>() {
+            @Override
+            public Observable<String> call(Azure azure) {
+                clients.add(azure);
+                return Observable.just(azure.subscriptionId() + "/a", azure.subscriptionId() + "/b");
+            }
+        };
+
+        List<SubscriptionFanOut.Item<String>> items = fanOut.listAsync(listing).toList().toBlocking().single();
+        fanOut.listAsync(listing).toList().toBlocking().single();
+
+        Assert.assertEquals(Arrays.asList("sub1", "sub2", "sub3"), fanOut.subscriptionIds());
+        Assert.assertEquals(6, items.size());
+        for (SubscriptionFanOut.Item<String> item : items) {
+            Assert.assertTrue(item.value().startsWith(item.subscriptionId() + "/"));
+        }
+        Assert.assertEquals(3, clients.size());
+    }
+
+    @Test
+    public void canListOtherSubscriptionsWhenOneFails() {
+        TestSubscriber<SubscriptionFanOut.Item<String>> subscriber = new TestSubscriber<>();
+
+        authenticated().forSubscriptions(Arrays.asList("sub1", "sub2", "sub3"))
+                .listAsync(new Func1<Azure, Observable<String>>() {
+                    @Override
+                    public Observable<String> call(Azure azure) {
+                        if (azure.subscriptionId().equals("sub2")) {
+                            return Observable.error(new IllegalStateException("subscription disabled"));
+                        }
+                        return Observable.just(azure.subscriptionId());
+                    }
+                })
+                .subscribe(subscriber);
+
+        subscriber.awaitTerminalEvent();
+        Assert.assertEquals(2, subscriber.getOnNextEvents().size());
+        Assert.assertEquals(1, subscriber.getOnErrorEvents().size());
+        Throwable error = subscriber.getOnErrorEvents().get(0);
+        if (error instanceof CompositeException) {
+            error = ((CompositeException) error).getExceptions().get(0);
+        }
+        Assert.assertTrue(error instanceof SubscriptionFanOut.SubscriptionListingException);
+        Assert.assertEquals("sub2", ((SubscriptionFanOut.SubscriptionListingException) error).subscriptionId());
+        Assert.assertEquals("subscription disabled", error.getCause().getMessage());
+    }
+
+    private static Azure.Authenticated authenticated() {
+        AzureTokenCredentials credentials = new AzureTokenCredentials(AzureEnvironment.AZURE, "tenant") {
+            @Override
+            public String getToken(String resource) {
+                return "token";
+            }
+        };
+        return Azure.authenticate(new RestClient.Builder()
+                .withBaseUrl("https://management.azure.com/")
+                .withCredentials(credentials)
+                .withSerializerAdapter(new AzureJacksonAdapter())
+                .withResponseBuilderFactory(new AzureResponseBuilder.Factory())
+                .build(), "tenant");
+    }
+}